@@ -0,0 +1,123 @@
+package com.mk.contractservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.infrastructure.persistence.assembler.ClientAssembler;
+import com.mk.contractservice.infrastructure.persistence.assembler.ContractAssembler;
+import com.mk.contractservice.infrastructure.persistence.entity.ClientJpaEntity;
+import com.mk.contractservice.infrastructure.persistence.entity.ContractJpaEntity;
+import com.mk.contractservice.infrastructure.persistence.entity.PersonJpaEntity;
+import com.mk.contractservice.web.dto.contract.ContractResponse;
+import com.mk.contractservice.web.dto.contract.PagedContractResponse;
+import com.mk.contractservice.web.dto.mapper.contract.ContractMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read path of {@code GET /v1/clients/{clientId}/contracts}, stage by stage:
+ * {@link ContractAssembler#toDomain} → {@link ContractMapper#toDto} → Jackson serialization of the
+ * {@link PagedContractResponse}, plus the whole pipeline. Divide {@code gc.alloc.rate.norm} by
+ * {@code pageSize} to get the allocation per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ReadPipelineBenchmark {
+
+    @Param({"1", "20", "100", "1000"})
+    private int pageSize;
+
+    private ContractAssembler assembler;
+    private ContractMapper mapper;
+    private ObjectMapper objectMapper;
+
+    private List<ContractJpaEntity> entities;
+    private List<Contract> contracts;
+    private List<ContractResponse> responses;
+    private PagedContractResponse page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        assembler = new ContractAssembler(new ClientAssembler(), null);
+        mapper = Mappers.getMapper(ContractMapper.class);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        final ClientJpaEntity client = PersonJpaEntity.create(
+                "Alice Martin", "alice.martin@example.com", "+41791234567", LocalDate.of(1990, 5, 15));
+        client.setId(UUID.randomUUID());
+
+        final LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        entities = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            final ContractJpaEntity entity = new ContractJpaEntity(
+                    client,
+                    start.plusDays(i % 365),
+                    i % 3 == 0 ? null : start.plusYears(5),
+                    BigDecimal.valueOf(10_000 + i, 2));
+            entity.setId(UUID.randomUUID());
+            entities.add(entity);
+        }
+        contracts = assemble();
+        responses = map();
+        page = wrap(responses);
+    }
+
+    @Benchmark
+    public List<Contract> assemble() {
+        final List<Contract> result = new ArrayList<>(entities.size());
+        for (ContractJpaEntity entity : entities) {
+            result.add(assembler.toDomain(entity));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ContractResponse> map() {
+        final List<ContractResponse> result = new ArrayList<>(contracts.size());
+        for (Contract contract : contracts) {
+            result.add(mapper.toDto(contract));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pipeline() throws Exception {
+        final List<ContractResponse> result = new ArrayList<>(entities.size());
+        for (ContractJpaEntity entity : entities) {
+            result.add(mapper.toDto(assembler.toDomain(entity)));
+        }
+        return objectMapper.writeValueAsBytes(wrap(result));
+    }
+
+    private PagedContractResponse wrap(final List<ContractResponse> content) {
+        return new PagedContractResponse(content, 0, pageSize, content.size(), 1, true, true);
+    }
+}
@@ -0,0 +1,137 @@
+package com.mk.contractservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.valueobject.ClientName;
+import com.mk.contractservice.domain.valueobject.ContractCost;
+import com.mk.contractservice.domain.valueobject.ContractPeriod;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.domain.valueobject.PersonBirthDate;
+import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import com.mk.contractservice.web.dto.contract.ContractResponse;
+import com.mk.contractservice.web.dto.contract.PagedContractResponse;
+import com.mk.contractservice.web.dto.mapper.contract.ContractMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cost of each representation of a {@code GET /v1/clients/{clientId}/contracts} page: {@link #serialize} is the
+ * CPU spent writing it as JSON, CBOR or Smile, {@link #serializeAndGzip} adds the gzip compression Tomcat applies
+ * above {@code server.compression.min-response-size}. Each benchmark also reports the {@code ·bytes} and
+ * {@code ·payloads} event counters of {@link PayloadSize}: {@code bytes / payloads} is the size of one page on the wire,
+ * raw for {@link #serialize} and gzipped for {@link #serializeAndGzip}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ResponseFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PagedContractResponse page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final JsonFactory factory = switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+
+        final Person client = Person.builder()
+                .id(UUID.randomUUID())
+                .name(ClientName.of("Alice Martin"))
+                .email(Email.of("alice.martin@example.com"))
+                .phone(PhoneNumber.of("+41791234567"))
+                .birthDate(PersonBirthDate.of(LocalDate.of(1990, 5, 15)))
+                .build();
+        final ContractMapper mapper = Mappers.getMapper(ContractMapper.class);
+        final LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        final List<ContractResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(mapper.toDto(Contract.builder()
+                    .id(UUID.randomUUID())
+                    .client(client)
+                    .period(ContractPeriod.of(start.plusDays(i % 365), i % 3 == 0 ? null : start.plusYears(5)))
+                    .costAmount(ContractCost.of(BigDecimal.valueOf(10_000 + i, 2)))
+                    .build()));
+        }
+        page = new PagedContractResponse(content, 0, pageSize, pageSize, 1, true, true);
+    }
+
+    @Benchmark
+    public byte[] serialize(final PayloadSize size) throws IOException {
+        return size.record(objectMapper.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzip(final PayloadSize size) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, page);
+        }
+        return size.record(out.toByteArray());
+    }
+
+    /**
+     * Bytes written and pages serialized during the iteration; JMH sums event counters rather than averaging them,
+     * so the size of one page is their ratio.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long bytes;
+        public long payloads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            payloads = 0;
+        }
+
+        byte[] record(final byte[] payload) {
+            bytes += payload.length;
+            payloads++;
+            return payload;
+        }
+    }
+}
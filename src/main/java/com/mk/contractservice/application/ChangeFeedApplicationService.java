@@ -0,0 +1,124 @@
+package com.mk.contractservice.application;
+
+import com.mk.contractservice.application.feed.Change;
+import com.mk.contractservice.application.feed.ChangeCursorExpiredException;
+import com.mk.contractservice.application.feed.ChangeFeed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Long-polls the change feed: a poll that finds nothing parks a future, completed when the feed reports an append
+ * or when the wait runs out (with no changes). Parked polls hold no thread. Wakeups are coalesced and served with
+ * one read per distinct cursor, so many pollers waiting at the head of the feed cost one query per append.
+ * <p>
+ * Reads are not transactional on purpose: they go to the primary, which has every change the wakeup announced.
+ */
+@Service
+public class ChangeFeedApplicationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedApplicationService.class);
+
+    private final ChangeFeed changeFeed;
+    private final int maxLimit;
+    private final Duration maxWait;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pendingWakeups = new AtomicInteger();
+
+    public ChangeFeedApplicationService(final ChangeFeed changeFeed,
+                                        @Value("${app.changes.max-limit:1000}") final int maxLimit,
+                                        @Value("${app.changes.max-wait:30s}") final Duration maxWait) {
+        this.changeFeed = changeFeed;
+        this.maxLimit = maxLimit;
+        this.maxWait = maxWait;
+        changeFeed.onAppend(this::wake);
+    }
+
+    /**
+     * Changes after {@code after}, at most {@code limit} (capped at {@code app.changes.max-limit}); waits up to
+     * {@code wait} (capped at {@code app.changes.max-wait}) for the first one if there is none yet.
+     *
+     * @throws ChangeCursorExpiredException if changes after {@code after} were already purged
+     */
+    public CompletableFuture<List<Change>> poll(final long after, final int limit, final Duration wait) {
+        if (after < 0 || limit < 1 || wait.isNegative()) {
+            throw new IllegalArgumentException("after and wait must not be negative and limit must be positive");
+        }
+        final long purgedThrough = changeFeed.purgedThrough();
+        if (after < purgedThrough) {
+            throw new ChangeCursorExpiredException(after, purgedThrough);
+        }
+
+        final int cappedLimit = Math.min(limit, maxLimit);
+        final List<Change> changes = changeFeed.read(after, cappedLimit);
+        if (!changes.isEmpty() || wait.isZero()) {
+            return CompletableFuture.completedFuture(changes);
+        }
+
+        final Waiter waiter = new Waiter(after, cappedLimit, new CompletableFuture<>());
+        waiters.add(waiter);
+        waiter.result()
+                .completeOnTimeout(List.of(), Math.min(wait.toMillis(), maxWait.toMillis()), TimeUnit.MILLISECONDS)
+                .whenComplete((result, failure) -> waiters.remove(waiter));
+        // An append between the read above and the registration would otherwise go unnoticed.
+        wake();
+        return waiter.result();
+    }
+
+    /**
+     * Sequence of the latest change; polling after it waits for the next one.
+     */
+    public long head() {
+        return changeFeed.head();
+    }
+
+    int waiting() {
+        return waiters.size();
+    }
+
+    private void wake() {
+        if (pendingWakeups.getAndIncrement() == 0) {
+            Thread.ofVirtual().name("change-feed-wakeup").start(this::drainWakeups);
+        }
+    }
+
+    private void drainWakeups() {
+        int seen;
+        do {
+            seen = pendingWakeups.get();
+            completeWaiters();
+        } while (pendingWakeups.addAndGet(-seen) > 0);
+    }
+
+    private void completeWaiters() {
+        final Map<Long, List<Waiter>> byCursor = waiters.stream()
+                .filter(waiter -> !waiter.result().isDone())
+                .collect(Collectors.groupingBy(Waiter::after));
+        byCursor.forEach((after, group) -> {
+            final int limit = group.stream().mapToInt(Waiter::limit).max().orElse(1);
+            try {
+                final List<Change> changes = changeFeed.read(after, limit);
+                if (!changes.isEmpty()) {
+                    group.forEach(waiter ->
+                            waiter.result().complete(changes.subList(0, Math.min(waiter.limit(), changes.size()))));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Reading changes after {} for {} waiting polls failed: {}", after, group.size(), e.getMessage());
+            }
+        });
+    }
+
+    private record Waiter(long after, int limit, CompletableFuture<List<Change>> result) {
+    }
+}
@@ -1,9 +1,16 @@
 package com.mk.contractservice.application;
 
+import com.mk.contractservice.application.consistency.ClientWriteRecorder;
+import com.mk.contractservice.application.version.ClientVersionStore;
+import com.mk.contractservice.application.version.ResourceVersion;
 import com.mk.contractservice.domain.client.Client;
 import com.mk.contractservice.domain.client.ClientRepository;
 import com.mk.contractservice.domain.client.Company;
 import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.event.ClientCreated;
+import com.mk.contractservice.domain.event.ClientDeleted;
+import com.mk.contractservice.domain.event.ClientUpdated;
+import com.mk.contractservice.domain.event.DomainEventPublisher;
 import com.mk.contractservice.domain.exception.ClientAlreadyExistsException;
 import com.mk.contractservice.domain.exception.CompanyIdentifierAlreadyExistsException;
 import com.mk.contractservice.domain.valueobject.ClientName;
@@ -11,9 +18,21 @@ import com.mk.contractservice.domain.valueobject.CompanyIdentifier;
 import com.mk.contractservice.domain.valueobject.Email;
 import com.mk.contractservice.domain.valueobject.PersonBirthDate;
 import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,12 +41,22 @@ public class ClientApplicationService {
 
     private final ClientRepository clientRepo;
     private final ContractApplicationService contractService;
+    private final DomainEventPublisher events;
+    private final CacheManager cacheManager;
+    private final ClientVersionStore versions;
+    private final ClientWriteRecorder writes;
 
     private static final String CLIENT_ALREADY_EXISTS_MSG = "Client already exists";
 
-    public ClientApplicationService(ClientRepository clientRepo, ContractApplicationService contractService) {
+    public ClientApplicationService(ClientRepository clientRepo, ContractApplicationService contractService,
+                                    DomainEventPublisher events, CacheManager cacheManager, ClientVersionStore versions,
+                                    ClientWriteRecorder writes) {
         this.clientRepo = clientRepo;
         this.contractService = contractService;
+        this.events = events;
+        this.cacheManager = cacheManager;
+        this.versions = versions;
+        this.writes = writes;
     }
 
     @Transactional
@@ -42,7 +71,11 @@ public class ClientApplicationService {
                 .phone(PhoneNumber.of(phone))
                 .birthDate(PersonBirthDate.of(birthDate))
                 .build();
-        return (Person) clientRepo.save(person);
+        final Person saved = (Person) clientRepo.save(person);
+        versions.bump(saved.getId());
+        writes.recordWrite(saved.getId());
+        events.publish(new ClientCreated(saved.getId(), "PERSON", LocalDateTime.now()));
+        return saved;
     }
 
     @Transactional
@@ -65,14 +98,78 @@ public class ClientApplicationService {
                 .phone(PhoneNumber.of(phone))
                 .companyIdentifier(CompanyIdentifier.of(companyIdentifier))
                 .build();
-        return (Company) clientRepo.save(company);
+        final Company saved = (Company) clientRepo.save(company);
+        versions.bump(saved.getId());
+        writes.recordWrite(saved.getId());
+        events.publish(new ClientCreated(saved.getId(), "COMPANY", LocalDateTime.now()));
+        return saved;
     }
 
+    @Cacheable(value = "clients", key = "#id", unless = "#result == null")
     public Optional<Client> findById(final UUID id) {
         return clientRepo.findById(id);
     }
 
+    /**
+     * Version of a client's representation, derived from the client in the "clients" cache so that a conditional
+     * read of a cached client needs no query. That cache is short-lived, so a change made through another instance
+     * shows within {@code app.clients.cache.ttl}. Empty if the client does not exist.
+     */
+    public Optional<ResourceVersion> version(final UUID id) {
+        final Cache cache = cacheManager.getCache("clients");
+        final Client cached = cache == null ? null : cache.get(id, Client.class);
+        final Optional<Client> client = cached != null ? Optional.of(cached) : clientRepo.findById(id);
+        if (cached == null && cache != null) {
+            client.ifPresent(loaded -> cache.put(id, loaded));
+        }
+        return client.map(ClientApplicationService::versionOf);
+    }
+
+    private static ResourceVersion versionOf(final Client client) {
+        final Object identifier = switch (client) {
+            case Person person -> person.getBirthDate().value();
+            case Company company -> company.getCompanyIdentifier().value();
+        };
+        return ResourceVersion.of(null, client.getClass().getSimpleName(), client.getId(), client.getName().value(),
+                client.getEmail().value(), client.getPhone().value(), identifier);
+    }
+
+    /**
+     * Batch counterpart of {@link #findById(UUID)} sharing its cache: cached clients are reused and all the others
+     * are loaded with a single query, then cached. Unknown clients are left out of the result, which keeps the order
+     * of {@code ids} without duplicates.
+     */
+    public Map<UUID, Client> findAllById(final Collection<UUID> ids) {
+        final Cache cache = cacheManager.getCache("clients");
+        final Map<UUID, Client> clients = new LinkedHashMap<>();
+        final List<UUID> misses = new ArrayList<>();
+        for (final UUID id : new LinkedHashSet<>(ids)) {
+            final Client cached = cache == null ? null : cache.get(id, Client.class);
+            clients.put(id, cached);
+            if (cached == null) {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            final Map<UUID, Client> loaded = new LinkedHashMap<>();
+            clientRepo.findAllById(misses).forEach(client -> loaded.put(client.getId(), client));
+            for (final UUID id : misses) {
+                final Client client = loaded.get(id);
+                if (client == null) {
+                    clients.remove(id);
+                } else {
+                    clients.put(id, client);
+                    if (cache != null) {
+                        cache.put(id, client);
+                    }
+                }
+            }
+        }
+        return clients;
+    }
+
     @Transactional
+    @CacheEvict(value = {"clients", "clientVersions"}, key = "#id")
     public boolean updateCommonFields(final UUID id, final ClientName name, final Email email, final PhoneNumber phone) {
         final Optional<Client> clientOptional = clientRepo.findById(id);
         if (clientOptional.isEmpty()) {
@@ -81,14 +178,27 @@ public class ClientApplicationService {
         final Client client = clientOptional.get();
         client.updateCommonFields(name, email, phone);
         clientRepo.save(client);
+        versions.bump(id);
+        writes.recordWrite(id);
+        events.publish(new ClientUpdated(id, LocalDateTime.now()));
         return true;
     }
 
+    /**
+     * Expired contracts are cached by contract id: all of them are dropped, the client's among them.
+     */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = {"clients", "clientVersions"}, key = "#id"),
+            @CacheEvict(value = "expiredContracts", allEntries = true)
+    })
     public boolean deleteClientAndCloseContracts(final UUID id) {
         if (!clientRepo.existsById(id)) return false;
         contractService.closeActiveContractsByClientId(id);
         clientRepo.deleteById(id);
+        versions.delete(id);
+        writes.recordWrite(id);
+        events.publish(new ClientDeleted(id, LocalDateTime.now()));
         return true;
     }
 
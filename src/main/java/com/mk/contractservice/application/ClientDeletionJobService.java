@@ -0,0 +1,74 @@
+package com.mk.contractservice.application;
+
+import com.mk.contractservice.application.job.Job;
+import com.mk.contractservice.application.job.JobContext;
+import com.mk.contractservice.application.job.JobHandler;
+import com.mk.contractservice.application.job.JobQueue;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.exception.ClientNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Deletes clients with large contract books without one long transaction: active contracts are closed
+ * {@code app.client-deletion.chunk-size} at a time, each chunk in its own transaction, and the client is deleted
+ * once none is left. Runs as a {@value #TYPE} job; a retried job simply resumes closing what is still active.
+ */
+@Service
+public class ClientDeletionJobService implements JobHandler {
+
+    public static final String TYPE = "client-deletion";
+
+    private static final Logger log = LoggerFactory.getLogger(ClientDeletionJobService.class);
+
+    private final ClientRepository clientRepo;
+    private final ClientApplicationService clientService;
+    private final ContractApplicationService contractService;
+    private final JobQueue jobQueue;
+    private final int chunkSize;
+
+    public ClientDeletionJobService(final ClientRepository clientRepo,
+                                    final ClientApplicationService clientService,
+                                    final ContractApplicationService contractService,
+                                    final JobQueue jobQueue,
+                                    @Value("${app.client-deletion.chunk-size:1000}") final int chunkSize) {
+        this.clientRepo = clientRepo;
+        this.clientService = clientService;
+        this.contractService = contractService;
+        this.jobQueue = jobQueue;
+        this.chunkSize = chunkSize;
+    }
+
+    public Job submit(final UUID clientId) {
+        if (!clientRepo.existsById(clientId)) {
+            throw new ClientNotFoundException("Client not found: " + clientId);
+        }
+        return jobQueue.enqueue(TYPE, Map.of("clientId", clientId.toString()));
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(final JobContext context) {
+        final UUID clientId = UUID.fromString(context.payload().get("clientId"));
+        context.progress("contractsTotal", contractService.countActiveContracts(clientId));
+        long total = 0;
+        int closed;
+        do {
+            closed = contractService.closeActiveContractsChunk(clientId, chunkSize);
+            total += closed;
+            context.progress("contractsClosed", total);
+        } while (closed == chunkSize);
+        // Closes whatever was created since the last chunk and deletes the client in one short transaction.
+        clientService.deleteClientAndCloseContracts(clientId);
+        log.info("Deleted client {} after closing {} contracts", clientId, total);
+    }
+}
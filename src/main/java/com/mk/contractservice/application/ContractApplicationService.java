@@ -1,40 +1,94 @@
 package com.mk.contractservice.application;
 
+import com.mk.contractservice.application.batch.ContractOperation;
+import com.mk.contractservice.application.batch.ContractOperationResult;
+import com.mk.contractservice.application.batch.ContractOperationResult.Outcome;
+import com.mk.contractservice.application.consistency.ClientWriteRecorder;
+import com.mk.contractservice.application.version.ActiveContractsVersion;
+import com.mk.contractservice.application.version.ClientVersionStore;
+import com.mk.contractservice.application.version.ResourceVersion;
 import com.mk.contractservice.domain.client.Client;
 import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.contract.ArchivedContract;
 import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.contract.ContractArchive;
+import com.mk.contractservice.domain.contract.ContractField;
+import com.mk.contractservice.domain.contract.ContractProjection;
 import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.domain.event.ContractCostChanged;
+import com.mk.contractservice.domain.event.ContractCreated;
+import com.mk.contractservice.domain.event.ContractsClosed;
+import com.mk.contractservice.domain.event.DomainEvent;
+import com.mk.contractservice.domain.event.DomainEventPublisher;
 import com.mk.contractservice.domain.exception.ClientNotFoundException;
 import com.mk.contractservice.domain.exception.ContractNotFoundException;
 import com.mk.contractservice.domain.exception.ContractNotOwnedByClientException;
+import com.mk.contractservice.domain.exception.DomainValidationException;
 import com.mk.contractservice.domain.exception.ExpiredContractException;
 import com.mk.contractservice.domain.valueobject.ContractCost;
 import com.mk.contractservice.domain.valueobject.ContractPeriod;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ContractApplicationService {
 
     private final ContractRepository contractRepo;
     private final ClientRepository clientRepo;
+    private final ContractArchive contractArchive;
+    private final DomainEventPublisher events;
+    private final CacheManager cacheManager;
+    private final ClientVersionStore versions;
+    private final ClientWriteRecorder writes;
+    private final TransactionTemplate readOnlyTransaction;
 
     public ContractApplicationService(ContractRepository contractRepo,
-                                      ClientRepository clientRepo) {
+                                      ClientRepository clientRepo,
+                                      ContractArchive contractArchive,
+                                      DomainEventPublisher events,
+                                      CacheManager cacheManager,
+                                      ClientVersionStore versions,
+                                      ClientWriteRecorder writes,
+                                      PlatformTransactionManager transactionManager) {
         this.contractRepo = contractRepo;
         this.clientRepo = clientRepo;
+        this.contractArchive = contractArchive;
+        this.events = events;
+        this.cacheManager = cacheManager;
+        this.versions = versions;
+        this.writes = writes;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Transactional
-    @CacheEvict(value = "contractSums", key = "#clientId")
+    @CacheEvict(value = {"contractSums", "clientVersions"}, key = "#clientId")
     public Contract createForClient(final UUID clientId, final LocalDateTime start, final LocalDateTime end, final BigDecimal amount) {
         final Client client = clientRepo.findById(clientId).orElseThrow(() ->
                 new ClientNotFoundException("Client not found: " + clientId));
@@ -47,29 +101,167 @@ public class ContractApplicationService {
                 .costAmount(ContractCost.of(amount))
                 .build();
 
-        return contractRepo.save(contract);
+        final Contract saved = contractRepo.save(contract);
+        versions.bump(clientId);
+        writes.recordWrite(clientId);
+        events.publish(new ContractCreated(clientId, saved.getId(), saved.getPeriod().startDate(),
+                saved.getPeriod().endDate(), saved.getCostAmount().value(), LocalDateTime.now()));
+        return saved;
     }
 
     @Transactional
-    @CacheEvict(value = "contractSums", key = "#clientId")
+    @CacheEvict(value = {"contractSums", "clientVersions"}, key = "#clientId")
     public void updateCost(final UUID clientId, final UUID contractId, BigDecimal newAmount) {
-        final Contract contract = contractRepo.findById(contractId)
-                .orElseThrow(() -> new ContractNotFoundException(contractId));
+        final Contract contract = contractRepo.findByIdAndClientId(contractId, clientId)
+                .orElseThrow(() -> notFoundFor(clientId, contractId));
 
+        if (!contract.isActive()) {
+            throw new ExpiredContractException(contractId);
+        }
+        contract.changeCost(ContractCost.of(newAmount));
+        contractRepo.save(contract);
+        versions.bump(clientId);
+        writes.recordWrite(clientId);
+        events.publish(new ContractCostChanged(clientId, contractId, contract.getCostAmount().value(), LocalDateTime.now()));
+    }
+
+    /**
+     * Applies one chunk of a contract batch in a single transaction: the contracts and clients involved are loaded with
+     * one query each, contracts through the clients of the operations so that only their partitions are read, and all
+     * writes and events go out together at the end. Contracts not found that way are looked up again by id alone, only
+     * to tell another client's contract from a missing one. An operation that fails validation is
+     * reported and skipped without affecting the others. Sums and versions are not evicted here; the caller evicts
+     * those of the clients touched once the chunk has committed.
+     *
+     * @return one result per operation, in order
+     */
+    @Transactional
+    public List<ContractOperationResult> applyOperations(final List<ContractOperation> operations) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<ContractOperation> targeted = operations.stream().filter(operation -> targetOf(operation) != null).toList();
+        final Set<UUID> targets = targeted.stream().map(ContractApplicationService::targetOf).collect(Collectors.toSet());
+        final Map<UUID, Contract> contracts = contractRepo.findAllByIdAndClientId(targets,
+                        targeted.stream().map(ContractOperation::clientId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Contract::getId, Function.identity(), (first, second) -> first, HashMap::new));
+        final List<UUID> misses = targets.stream().filter(id -> !contracts.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            contractRepo.findAllById(misses).forEach(contract -> contracts.put(contract.getId(), contract));
+        }
+        final Map<UUID, Client> clients = clientRepo.findAllById(operations.stream()
+                        .filter(ContractOperation.Create.class::isInstance)
+                        .map(ContractOperation::clientId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+
+        final ContractOperationResult[] results = new ContractOperationResult[operations.size()];
+        final Map<UUID, Contract> changed = new LinkedHashMap<>();
+        final List<Contract> created = new ArrayList<>();
+        final List<Integer> createdAt = new ArrayList<>();
+        final List<DomainEvent> changeEvents = new ArrayList<>();
+        final Map<UUID, Integer> closedByClient = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            final ContractOperation operation = operations.get(i);
+            try {
+                switch (operation) {
+                    case ContractOperation.Create create -> {
+                        final Client client = clients.get(create.clientId());
+                        if (client == null) {
+                            throw new ClientNotFoundException("Client not found: " + create.clientId());
+                        }
+                        created.add(Contract.builder()
+                                .client(client)
+                                .period(ContractPeriod.of(create.startDate(), create.endDate()))
+                                .costAmount(ContractCost.of(create.amount()))
+                                .build());
+                        createdAt.add(i);
+                    }
+                    case ContractOperation.UpdateCost update -> {
+                        final Contract contract = activeContract(contracts, update.clientId(), update.contractId());
+                        contract.changeCost(ContractCost.of(update.amount()));
+                        changed.put(contract.getId(), contract);
+                        changeEvents.add(new ContractCostChanged(update.clientId(), contract.getId(),
+                                contract.getCostAmount().value(), now));
+                        results[i] = ContractOperationResult.applied(Outcome.COST_UPDATED, contract.getId());
+                    }
+                    case ContractOperation.Close close -> {
+                        final Contract contract = activeContract(contracts, close.clientId(), close.contractId());
+                        contract.close(now);
+                        changed.put(contract.getId(), contract);
+                        closedByClient.merge(close.clientId(), 1, Integer::sum);
+                        results[i] = ContractOperationResult.applied(Outcome.CLOSED, contract.getId());
+                    }
+                }
+            } catch (ClientNotFoundException e) {
+                results[i] = ContractOperationResult.failed(Outcome.CLIENT_NOT_FOUND, null, e.getMessage());
+            } catch (ContractNotFoundException e) {
+                results[i] = ContractOperationResult.failed(Outcome.CONTRACT_NOT_FOUND, targetOf(operation), e.getMessage());
+            } catch (ContractNotOwnedByClientException e) {
+                results[i] = ContractOperationResult.failed(Outcome.NOT_OWNED, targetOf(operation), e.getMessage());
+            } catch (ExpiredContractException e) {
+                results[i] = ContractOperationResult.failed(Outcome.EXPIRED, targetOf(operation), e.getMessage());
+            } catch (DomainValidationException e) {
+                results[i] = new ContractOperationResult(Outcome.INVALID, targetOf(operation), e.getCode(), e.getMessage());
+            }
+        }
+
+        final List<Contract> saved = contractRepo.saveAll(
+                Stream.concat(changed.values().stream(), created.stream()).toList());
+        if (!saved.isEmpty()) {
+            final Set<UUID> written = saved.stream().map(contract -> contract.getClient().getId()).collect(Collectors.toSet());
+            versions.bumpAll(written);
+            writes.recordWrites(written);
+        }
+        final List<DomainEvent> published = new ArrayList<>(changeEvents);
+        for (int k = 0; k < created.size(); k++) {
+            final Contract contract = saved.get(changed.size() + k);
+            results[createdAt.get(k)] = ContractOperationResult.applied(Outcome.CREATED, contract.getId());
+            published.add(new ContractCreated(contract.getClient().getId(), contract.getId(), contract.getPeriod().startDate(),
+                    contract.getPeriod().endDate(), contract.getCostAmount().value(), now));
+        }
+        closedByClient.forEach((clientId, count) -> published.add(new ContractsClosed(clientId, count, now)));
+        events.publishAll(published);
+        return List.of(results);
+    }
+
+    private static Contract activeContract(final Map<UUID, Contract> contracts, final UUID clientId, final UUID contractId) {
+        final Contract contract = contracts.get(contractId);
+        if (contract == null) {
+            throw new ContractNotFoundException(contractId);
+        }
         if (!contract.getClient().getId().equals(clientId)) {
             throw new ContractNotOwnedByClientException(contractId, clientId);
         }
         if (!contract.isActive()) {
             throw new ExpiredContractException(contractId);
         }
-        contract.changeCost(ContractCost.of(newAmount));
-        contractRepo.save(contract);
+        return contract;
     }
 
-    @Transactional(readOnly = true)
+    private static UUID targetOf(final ContractOperation operation) {
+        return switch (operation) {
+            case ContractOperation.Create create -> null;
+            case ContractOperation.UpdateCost update -> update.contractId();
+            case ContractOperation.Close close -> close.contractId();
+        };
+    }
+
+    /**
+     * Expired contracts never change again, so once read they are kept in the "expiredContracts" cache and repeat
+     * reads need no connection at all. This is why the method is not {@code @Transactional}: the read-only
+     * transaction, which routes the lookup to a replica when there is one, is only opened on a cache miss.
+     */
     public Contract getContractById(final UUID clientId, final UUID contractId) {
-        final Contract contract = contractRepo.findById(contractId)
-                .orElseThrow(() -> new ContractNotFoundException(contractId));
+        final Cache expired = cacheManager.getCache("expiredContracts");
+        Contract contract = expired == null ? null : expired.get(contractId, Contract.class);
+        if (contract == null) {
+            contract = readOnlyTransaction.execute(status -> contractRepo.findByIdAndClientId(contractId, clientId)
+                    .orElseThrow(() -> notFoundFor(clientId, contractId)));
+            if (!contract.isActive() && expired != null) {
+                expired.put(contractId, contract);
+            }
+        }
 
         if (!contract.getClient().getId().equals(clientId)) {
             throw new ContractNotOwnedByClientException(contractId, clientId);
@@ -78,12 +270,112 @@ public class ContractApplicationService {
         return contract;
     }
 
+    /**
+     * Lookups by id go through the client so that only its partition is read; when they find nothing, the contract
+     * is looked up by id alone to tell another client's contract (403) from a missing one (404).
+     */
+    private RuntimeException notFoundFor(final UUID clientId, final UUID contractId) {
+        return contractRepo.findById(contractId).isPresent()
+                ? new ContractNotOwnedByClientException(contractId, clientId)
+                : new ContractNotFoundException(contractId);
+    }
+
     @Transactional(readOnly = true)
     public Page<Contract> getActiveContractsPageable(final UUID clientId, LocalDateTime updatedSince, Pageable pageable) {
         LocalDateTime now = LocalDateTime.now();
         return contractRepo.findActiveByClientIdPageable(clientId, now, updatedSince, pageable);
     }
 
+    /**
+     * The active contracts of a client narrowed to {@code fields}: only their columns are read.
+     */
+    @Transactional(readOnly = true)
+    public Page<ContractProjection> getActiveContractsPageable(final UUID clientId, final LocalDateTime updatedSince,
+                                                               final Set<ContractField> fields, final Pageable pageable) {
+        return contractRepo.findActiveProjectionsByClientIdPageable(clientId, LocalDateTime.now(), updatedSince, fields, pageable);
+    }
+
+    /**
+     * Version of the active contracts of a client, and so of their pages and sum, without reading them: the client
+     * version and the next expiry among them ({@link ActiveContractsVersion}). It is kept in the
+     * "activeContractsVersions" cache and only looked up again once the client version moved or that expiry passed,
+     * so a repeat read costs no query at all while the client version is cached. Writes through another instance
+     * show once the "clientVersions" entry expires.
+     * <p>
+     * A cached sum is dropped along with a version that no longer holds, as it may predate the change: a sum read
+     * after this call is never older than the version returned.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion activeContractsVersion(final UUID clientId) {
+        final long clientVersion = currentClientVersion(clientId);
+        final LocalDateTime now = LocalDateTime.now();
+        final Cache cache = cacheManager.getCache("activeContractsVersions");
+        ActiveContractsVersion version = cache == null ? null : cache.get(clientId, ActiveContractsVersion.class);
+        if (version == null || !version.holdsAt(clientVersion, now)) {
+            final Cache sums = cacheManager.getCache("contractSums");
+            if (sums != null) {
+                sums.evict(clientId);
+            }
+            version = new ActiveContractsVersion(clientVersion, contractRepo.findNextExpiryByClientId(clientId, now).orElse(null));
+            if (cache != null) {
+                cache.put(clientId, version);
+            }
+        }
+        return ResourceVersion.of(null, clientId, version.clientVersion(), version.nextExpiry());
+    }
+
+    /**
+     * The "clientVersions" entry of {@link #clientVersion}, read directly since calls within this service bypass
+     * the caching proxy. Unknown clients are at version 0 and are not cached.
+     */
+    private long currentClientVersion(final UUID clientId) {
+        final Cache cache = cacheManager.getCache("clientVersions");
+        final Long cached = cache == null ? null : cache.get(clientId, Long.class);
+        if (cached != null) {
+            return cached;
+        }
+        final Optional<Long> stored = versions.find(clientId);
+        if (stored.isPresent() && cache != null) {
+            cache.put(clientId, stored.get());
+        }
+        return stored.orElse(0L);
+    }
+
+    /**
+     * Version of a contract read through {@code clientId}, from a lookup in that client's partition. Empty if the contract does not
+     * exist or belongs to another client, so that the full read reports it. An expired contract is tagged by its end
+     * date alone and marked immutable; when {@link #getContractById} cached it, no query is run, and otherwise the
+     * lookup runs in a read-only transaction as in {@link #getContractById}.
+     */
+    public Optional<ResourceVersion> contractVersion(final UUID clientId, final UUID contractId) {
+        final Cache expired = cacheManager.getCache("expiredContracts");
+        final Contract cached = expired == null ? null : expired.get(contractId, Contract.class);
+        if (cached != null) {
+            return Optional.of(cached)
+                    .filter(contract -> clientId.equals(contract.getClient().getId()))
+                    .map(contract -> expiredVersion(contractId, contract.getPeriod().endDate()));
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        return readOnlyTransaction.execute(status -> contractRepo.findVersionById(contractId, clientId))
+                .map(version -> version.isActiveAt(now)
+                        ? ResourceVersion.of(version.lastModified(), contractId, "active", version.lastModified())
+                        : expiredVersion(contractId, version.endDate()));
+    }
+
+    private static ResourceVersion expiredVersion(final UUID contractId, final LocalDateTime endDate) {
+        return ResourceVersion.of(endDate, contractId, "expired", endDate).asImmutable();
+    }
+
+    /**
+     * Version of everything stored for a client, from {@link ClientVersionStore}, kept in the short-lived
+     * "clientVersions" cache. A client stored without going through this service has none yet and is at version 0.
+     * Empty if the client does not exist.
+     */
+    @Cacheable(value = "clientVersions", key = "#clientId", unless = "#result == null")
+    public Optional<Long> clientVersion(final UUID clientId) {
+        return versions.find(clientId).or(() -> clientRepo.existsById(clientId) ? Optional.of(0L) : Optional.empty());
+    }
+
     @Transactional(readOnly = true)
     @Cacheable(value = "contractSums", key = "#clientId")
     public BigDecimal sumActiveContracts(final UUID clientId) {
@@ -91,10 +383,101 @@ public class ContractApplicationService {
         return contractRepo.sumActiveByClientId(clientId, now);
     }
 
+    /**
+     * Sum of the active contracts of a client read again from the primary, for callers reacting to a change that may
+     * have been made through another instance: the "contractSums" entry of this instance may predate it, so it is
+     * dropped and replaced instead of read. Not read-only on purpose, a replica may not have the change yet.
+     */
+    @Transactional
+    public BigDecimal recomputeActiveContractsSum(final UUID clientId) {
+        final Cache cache = cacheManager.getCache("contractSums");
+        if (cache != null) {
+            cache.evict(clientId);
+        }
+        final BigDecimal sum = contractRepo.sumActiveByClientId(clientId, LocalDateTime.now());
+        if (cache != null) {
+            cache.put(clientId, sum);
+        }
+        return sum;
+    }
+
+    /**
+     * Batch counterpart of {@link #sumActiveContracts(UUID)} sharing its cache: cached sums are reused and all the
+     * others are computed with a single query, then cached. Unknown clients are left out of the result, which keeps
+     * the order of {@code clientIds} without duplicates.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, BigDecimal> sumActiveContractsForClients(final Collection<UUID> clientIds) {
+        final Cache cache = cacheManager.getCache("contractSums");
+        final Map<UUID, BigDecimal> sums = new LinkedHashMap<>();
+        final List<UUID> misses = new ArrayList<>();
+        for (final UUID clientId : new LinkedHashSet<>(clientIds)) {
+            final BigDecimal cached = cache == null ? null : cache.get(clientId, BigDecimal.class);
+            sums.put(clientId, cached);
+            if (cached == null) {
+                misses.add(clientId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            final Map<UUID, BigDecimal> computed = contractRepo.sumActiveByClientIds(misses, LocalDateTime.now());
+            for (final UUID clientId : misses) {
+                final BigDecimal sum = computed.get(clientId);
+                if (sum == null) {
+                    sums.remove(clientId);
+                } else {
+                    sums.put(clientId, sum);
+                    if (cache != null) {
+                        cache.put(clientId, sum);
+                    }
+                }
+            }
+        }
+        return sums;
+    }
+
     @Transactional
-    @CacheEvict(value = "contractSums", key = "#clientId")
+    @CacheEvict(value = {"contractSums", "clientVersions"}, key = "#clientId")
     public void closeActiveContractsByClientId(final UUID clientId) {
         final LocalDateTime now = LocalDateTime.now();
-        contractRepo.closeAllActiveByClientId(clientId, now);
+        final int closed = contractRepo.closeAllActiveByClientId(clientId, now);
+        if (closed > 0) {
+            versions.bump(clientId);
+            writes.recordWrite(clientId);
+            events.publish(new ContractsClosed(clientId, closed, now));
+        }
+    }
+
+    @Transactional
+    @CacheEvict(value = {"contractSums", "clientVersions"}, key = "#clientId")
+    public int closeActiveContractsChunk(final UUID clientId, final int chunkSize) {
+        final LocalDateTime now = LocalDateTime.now();
+        final int closed = contractRepo.closeActiveBatchByClientId(clientId, now, chunkSize);
+        if (closed > 0) {
+            versions.bump(clientId);
+            writes.recordWrite(clientId);
+            events.publish(new ContractsClosed(clientId, closed, now));
+        }
+        return closed;
+    }
+
+    @Transactional(readOnly = true)
+    public long countActiveContracts(final UUID clientId) {
+        return contractRepo.findActiveByClientIdPageable(clientId, LocalDateTime.now(), null, PageRequest.of(0, 1))
+                .getTotalElements();
+    }
+
+    /**
+     * Checked before a streamed response starts, while a 404 can still be sent.
+     */
+    @Transactional(readOnly = true)
+    public void ensureClientExists(final UUID clientId) {
+        if (!clientRepo.existsById(clientId)) {
+            throw new ClientNotFoundException("Client not found: " + clientId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachArchivedContract(final UUID clientId, final Consumer<ArchivedContract> action) {
+        contractArchive.forEachByClientId(clientId, action);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package com.mk.contractservice.application;
+
+import com.mk.contractservice.application.batch.ContractOperation;
+import com.mk.contractservice.application.batch.ContractOperationResult;
+import com.mk.contractservice.application.batch.ContractOperationResult.Outcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies large batches of contract writes (repricing campaigns and the like) in {@code app.contract-batch.chunk-size}
+ * operations per transaction, rather than one request and transaction per contract. A chunk that fails as a whole,
+ * e.g. on a database error, is reported as rolled back and the next chunks still run. The cached sums and versions
+ * of the clients a chunk touched are evicted once, after it commits.
+ */
+@Service
+public class ContractBatchApplicationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractBatchApplicationService.class);
+
+    private final ContractApplicationService contractService;
+    private final CacheManager cacheManager;
+    private final int chunkSize;
+    private final int maxOperations;
+
+    public ContractBatchApplicationService(final ContractApplicationService contractService,
+                                           final CacheManager cacheManager,
+                                           @Value("${app.contract-batch.chunk-size:100}") final int chunkSize,
+                                           @Value("${app.contract-batch.max-operations:5000}") final int maxOperations) {
+        this.contractService = contractService;
+        this.cacheManager = cacheManager;
+        this.chunkSize = chunkSize;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * @return one result per operation, in order
+     * @throws IllegalArgumentException if there are no operations or more than {@code app.contract-batch.max-operations}
+     */
+    public List<ContractOperationResult> apply(final List<ContractOperation> operations) {
+        if (operations.isEmpty() || operations.size() > maxOperations) {
+            throw new IllegalArgumentException("Between 1 and " + maxOperations + " operations are allowed, got "
+                    + operations.size());
+        }
+        final List<ContractOperationResult> results = new ArrayList<>(operations.size());
+        for (int from = 0; from < operations.size(); from += chunkSize) {
+            final List<ContractOperation> chunk = operations.subList(from, Math.min(from + chunkSize, operations.size()));
+            List<ContractOperationResult> chunkResults;
+            try {
+                chunkResults = contractService.applyOperations(chunk);
+            } catch (RuntimeException e) {
+                log.warn("Contract batch chunk of {} operations starting at {} rolled back: {}", chunk.size(), from,
+                        e.getMessage());
+                chunkResults = chunk.stream()
+                        .map(operation -> ContractOperationResult.failed(Outcome.ROLLED_BACK, null,
+                                "The chunk of this operation failed and was rolled back"))
+                        .toList();
+            }
+            evictTouchedClients(chunk, chunkResults);
+            results.addAll(chunkResults);
+        }
+        return results;
+    }
+
+    private void evictTouchedClients(final List<ContractOperation> chunk, final List<ContractOperationResult> chunkResults) {
+        final Set<UUID> touched = new LinkedHashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunkResults.get(i).outcome().applied()) {
+                touched.add(chunk.get(i).clientId());
+            }
+        }
+        for (final String name : List.of("contractSums", "clientVersions")) {
+            final Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                touched.forEach(cache::evict);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.mk.contractservice.application;
+
+import com.mk.contractservice.application.idempotency.IdempotencyKeyInFlightException;
+import com.mk.contractservice.application.idempotency.IdempotencyKeyReusedException;
+import com.mk.contractservice.application.idempotency.IdempotencyRecord;
+import com.mk.contractservice.application.idempotency.IdempotencyStore;
+import com.mk.contractservice.application.idempotency.StoredResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per idempotency key and replays its response to retries. Completed responses are
+ * looked up in the local "idempotency" cache, then in the {@link IdempotencyStore} shared by all instances. Retries
+ * arriving on this instance while the first request runs wait for its response instead of claiming the key again;
+ * on another instance they are rejected until it completes.
+ * <p>
+ * Only successful responses are kept for {@code app.idempotency.ttl}: after a failure the key is released and the
+ * request can be retried with it. A request whose instance died keeps its key for {@code app.idempotency.lease}.
+ */
+@Service
+public class IdempotencyApplicationService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyApplicationService.class);
+
+    private final IdempotencyStore store;
+    private final CacheManager cacheManager;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Map<String, Pending> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyApplicationService(final IdempotencyStore store,
+                                         final CacheManager cacheManager,
+                                         @Value("${app.idempotency.ttl:24h}") final Duration ttl,
+                                         @Value("${app.idempotency.lease:1m}") final Duration lease) {
+        this.store = store;
+        this.cacheManager = cacheManager;
+        this.ttl = ttl;
+        this.lease = lease;
+    }
+
+    /**
+     * Response to the request identified by {@code key} and {@code fingerprint}: the one stored for the key, or the
+     * one {@code action} produces if the key is new.
+     *
+     * @throws IdempotencyKeyReusedException   if the key was used for a request with another fingerprint
+     * @throws IdempotencyKeyInFlightException if the request is still running on another instance
+     */
+    public StoredResponse execute(final String key, final String fingerprint, final Supplier<StoredResponse> action) {
+        final Cache front = cacheManager.getCache("idempotency");
+        final IdempotencyRecord cached = front == null ? null : front.get(key, IdempotencyRecord.class);
+        if (cached != null) {
+            return replay(key, fingerprint, cached);
+        }
+
+        final Pending pending = new Pending(fingerprint, new CompletableFuture<>());
+        final Pending leader = inFlight.putIfAbsent(key, pending);
+        if (leader != null) {
+            return follow(key, fingerprint, leader, action);
+        }
+        final StoredResponse response;
+        try {
+            response = lead(key, fingerprint, action, front);
+        } catch (RuntimeException e) {
+            inFlight.remove(key, pending);
+            pending.response().completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, pending);
+        pending.response().complete(response);
+        return response;
+    }
+
+    private StoredResponse lead(final String key, final String fingerprint, final Supplier<StoredResponse> action,
+                                final Cache front) {
+        final IdempotencyRecord existing = store.claim(key, fingerprint, lease).orElse(null);
+        if (existing != null) {
+            if (existing.completed() && front != null) {
+                front.put(key, existing);
+            }
+            if (!existing.completed() && existing.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyInFlightException(key);
+            }
+            return replay(key, fingerprint, existing);
+        }
+
+        final StoredResponse response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key, fingerprint);
+            throw e;
+        }
+        if (!response.successful()) {
+            release(key, fingerprint);
+            return response;
+        }
+        try {
+            store.complete(key, fingerprint, response, ttl);
+            if (front != null) {
+                front.put(key, new IdempotencyRecord(fingerprint, response));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Storing the response for idempotency key {} failed; it is held until its lease expires: {}",
+                    key, e.getMessage());
+        }
+        return response;
+    }
+
+    private StoredResponse follow(final String key, final String fingerprint, final Pending leader,
+                                  final Supplier<StoredResponse> action) {
+        if (!leader.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        try {
+            return leader.response().get(lease.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // The first request failed without storing anything: this one runs in its place.
+            return execute(key, fingerprint, action);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInFlightException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInFlightException(key);
+        }
+    }
+
+    private void release(final String key, final String fingerprint) {
+        try {
+            store.release(key, fingerprint);
+        } catch (RuntimeException e) {
+            log.warn("Releasing idempotency key {} failed; it is held until its lease expires: {}", key, e.getMessage());
+        }
+    }
+
+    private static StoredResponse replay(final String key, final String fingerprint, final IdempotencyRecord record) {
+        if (!record.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        return record.response();
+    }
+
+    private record Pending(String fingerprint, CompletableFuture<StoredResponse> response) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.mk.contractservice.application;
+
+import com.mk.contractservice.application.job.Job;
+import com.mk.contractservice.application.job.JobQueue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class JobApplicationService {
+
+    private final JobQueue jobQueue;
+
+    public JobApplicationService(final JobQueue jobQueue) {
+        this.jobQueue = jobQueue;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Job> find(final UUID jobId) {
+        return jobQueue.find(jobId);
+    }
+}
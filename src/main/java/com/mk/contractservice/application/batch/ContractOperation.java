@@ -0,0 +1,29 @@
+package com.mk.contractservice.application.batch;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One write of a contract batch, for the client that owns (or will own) the contract.
+ */
+public sealed interface ContractOperation {
+
+    UUID clientId();
+
+    /**
+     * Same as creating a single contract: a null {@code startDate} means now, a null {@code endDate} an open end.
+     */
+    record Create(UUID clientId, LocalDateTime startDate, LocalDateTime endDate, BigDecimal amount)
+            implements ContractOperation {
+    }
+
+    record UpdateCost(UUID clientId, UUID contractId, BigDecimal amount) implements ContractOperation {
+    }
+
+    /**
+     * Ends an active contract now.
+     */
+    record Close(UUID clientId, UUID contractId) implements ContractOperation {
+    }
+}
@@ -0,0 +1,40 @@
+package com.mk.contractservice.application.batch;
+
+import java.util.UUID;
+
+/**
+ * What became of one {@link ContractOperation}.
+ *
+ * @param contractId the contract written, or targeted when the operation failed
+ * @param code       for {@link Outcome#INVALID}, the code of the validation error if it has one
+ * @param detail     why the operation failed; null when it was applied
+ */
+public record ContractOperationResult(Outcome outcome, UUID contractId, String code, String detail) {
+
+    public enum Outcome {
+        CREATED,
+        COST_UPDATED,
+        CLOSED,
+        CLIENT_NOT_FOUND,
+        CONTRACT_NOT_FOUND,
+        NOT_OWNED,
+        EXPIRED,
+        INVALID,
+        /**
+         * Its chunk failed as a whole, so nothing in the chunk was written.
+         */
+        ROLLED_BACK;
+
+        public boolean applied() {
+            return this == CREATED || this == COST_UPDATED || this == CLOSED;
+        }
+    }
+
+    public static ContractOperationResult applied(final Outcome outcome, final UUID contractId) {
+        return new ContractOperationResult(outcome, contractId, null, null);
+    }
+
+    public static ContractOperationResult failed(final Outcome outcome, final UUID contractId, final String detail) {
+        return new ContractOperationResult(outcome, contractId, null, detail);
+    }
+}
@@ -0,0 +1,17 @@
+package com.mk.contractservice.application.consistency;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Told about every write to a client or its contracts, by the service performing it, so that the reads following
+ * it can be kept away from copies of the data that may not have seen it yet.
+ */
+public interface ClientWriteRecorder {
+
+    void recordWrite(UUID clientId);
+
+    default void recordWrites(final Collection<UUID> clientIds) {
+        clientIds.forEach(this::recordWrite);
+    }
+}
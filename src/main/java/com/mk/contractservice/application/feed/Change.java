@@ -0,0 +1,18 @@
+package com.mk.contractservice.application.feed;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One entry of the global change feed: a relayed domain event, numbered in commit order. {@code payload} is the
+ * event as JSON.
+ */
+public record Change(
+        long sequence,
+        UUID eventId,
+        String type,
+        UUID clientId,
+        LocalDateTime occurredAt,
+        String payload
+) {
+}
@@ -0,0 +1,8 @@
+package com.mk.contractservice.application.feed;
+
+public class ChangeCursorExpiredException extends RuntimeException {
+
+    public ChangeCursorExpiredException(final long after, final long purgedThrough) {
+        super("Changes after " + after + " are no longer retained (purged through " + purgedThrough + ")");
+    }
+}
@@ -0,0 +1,30 @@
+package com.mk.contractservice.application.feed;
+
+import java.util.List;
+
+/**
+ * Ordered, retention-bounded log of client and contract changes. Sequences only grow and a change never becomes
+ * visible behind one already read, so a reader resumes with the last sequence it saw.
+ */
+public interface ChangeFeed {
+
+    /**
+     * Up to {@code limit} changes with a sequence above {@code after}, oldest first.
+     */
+    List<Change> read(long after, int limit);
+
+    /**
+     * Sequence of the latest change, 0 if there is none; reading after it returns only changes yet to come.
+     */
+    long head();
+
+    /**
+     * Highest sequence dropped by retention; a reader whose cursor is below it has missed changes.
+     */
+    long purgedThrough();
+
+    /**
+     * Registers a callback run whenever changes may have been appended, possibly by another instance.
+     */
+    void onAppend(Runnable listener);
+}
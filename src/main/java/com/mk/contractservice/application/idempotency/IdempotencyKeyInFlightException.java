@@ -0,0 +1,8 @@
+package com.mk.contractservice.application.idempotency;
+
+public class IdempotencyKeyInFlightException extends RuntimeException {
+
+    public IdempotencyKeyInFlightException(final String key) {
+        super("A request with idempotency key " + key + " is still being processed");
+    }
+}
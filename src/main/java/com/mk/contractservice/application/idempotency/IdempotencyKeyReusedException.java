@@ -0,0 +1,8 @@
+package com.mk.contractservice.application.idempotency;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(final String key) {
+        super("Idempotency key " + key + " was already used for a different request");
+    }
+}
@@ -0,0 +1,15 @@
+package com.mk.contractservice.application.idempotency;
+
+/**
+ * What an idempotency key is bound to: the fingerprint of the first request sent with it and, once that request
+ * completed, its response ({@code null} while it is still running).
+ */
+public record IdempotencyRecord(
+        String fingerprint,
+        StoredResponse response
+) {
+
+    public boolean completed() {
+        return response != null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.mk.contractservice.application.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Shared record of idempotency keys, so that a retry reaching another instance is still recognized. Records expire
+ * on their own; an expired one no longer holds its key.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Binds {@code key} to a request with this fingerprint, in flight for at most {@code lease}, unless an unexpired
+     * record already holds it.
+     *
+     * @return empty if the key was claimed, otherwise the record holding it
+     */
+    Optional<IdempotencyRecord> claim(String key, String fingerprint, Duration lease);
+
+    /**
+     * Stores the response of the request holding {@code key} and keeps it for {@code ttl}. Does nothing unless the key
+     * is still claimed, not completed, by a request with {@code fingerprint}: once a lease expired, the key may be
+     * held by another request, which must not be overwritten.
+     */
+    void complete(String key, String fingerprint, StoredResponse response, Duration ttl);
+
+    /**
+     * Frees {@code key}, so that the request can be sent again with it. Fenced like {@link #complete}.
+     */
+    void release(String key, String fingerprint);
+}
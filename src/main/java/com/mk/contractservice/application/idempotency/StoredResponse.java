@@ -0,0 +1,22 @@
+package com.mk.contractservice.application.idempotency;
+
+import java.util.Map;
+
+/**
+ * HTTP response kept for an idempotency key, replayed as is to retries of the same request. {@code headers} only
+ * holds the headers worth replaying (location, content type and language).
+ */
+public record StoredResponse(
+        int status,
+        Map<String, String> headers,
+        byte[] body
+) {
+
+    public StoredResponse {
+        headers = Map.copyOf(headers);
+    }
+
+    public boolean successful() {
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,22 @@
+package com.mk.contractservice.application.job;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Snapshot of a background job as last persisted by its worker.
+ */
+public record Job(
+        UUID id,
+        String type,
+        JobStatus status,
+        int attempts,
+        Map<String, String> payload,
+        Map<String, Long> progress,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
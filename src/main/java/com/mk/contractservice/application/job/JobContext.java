@@ -0,0 +1,21 @@
+package com.mk.contractservice.application.job;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface JobContext {
+
+    UUID jobId();
+
+    /**
+     * 1 on the first run, incremented on every retry.
+     */
+    int attempt();
+
+    Map<String, String> payload();
+
+    /**
+     * Records a progress counter, visible to pollers of the job.
+     */
+    void progress(String key, long value);
+}
@@ -0,0 +1,12 @@
+package com.mk.contractservice.application.job;
+
+/**
+ * Executes the jobs of one type. A job may run more than once (retries, lost leases), so handlers must be
+ * idempotent; throwing marks the attempt as failed and schedules a retry with backoff until attempts run out.
+ */
+public interface JobHandler {
+
+    String type();
+
+    void handle(JobContext context);
+}
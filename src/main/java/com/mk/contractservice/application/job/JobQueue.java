@@ -0,0 +1,15 @@
+package com.mk.contractservice.application.job;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Durable queue of background work, executed by the {@link JobHandler} registered for each job type.
+ */
+public interface JobQueue {
+
+    Job enqueue(String type, Map<String, String> payload);
+
+    Optional<Job> find(UUID jobId);
+}
@@ -0,0 +1,9 @@
+package com.mk.contractservice.application.job;
+
+public enum JobStatus {
+    PENDING, RUNNING, SUCCEEDED, FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,21 @@
+package com.mk.contractservice.application.version;
+
+import java.time.LocalDateTime;
+
+/**
+ * What the active contracts of a client depend on: the client version, moved by every write, and the next end date
+ * among them, passed when one expires. Both are cheap to read, and as long as neither moved, the active contracts
+ * and their sum are the same as when it was taken.
+ *
+ * @param clientVersion version of the client from {@link ClientVersionStore}
+ * @param nextExpiry    earliest end date after the time it was taken among the active contracts, null if none ends
+ */
+public record ActiveContractsVersion(long clientVersion, LocalDateTime nextExpiry) {
+
+    /**
+     * @return whether the active contracts are still the same at {@code now}, the client being at {@code clientVersion}
+     */
+    public boolean holdsAt(final long clientVersion, final LocalDateTime now) {
+        return this.clientVersion == clientVersion && (nextExpiry == null || now.isBefore(nextExpiry));
+    }
+}
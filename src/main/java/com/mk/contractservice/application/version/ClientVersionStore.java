@@ -0,0 +1,33 @@
+package com.mk.contractservice.application.version;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Per-client counter bumped by every write to a client or its contracts, in the transaction of that write, so that
+ * "has anything of this client changed since version V?" is answered by reading a single number. Contracts reaching
+ * their end date are not writes and leave it as it is.
+ */
+public interface ClientVersionStore {
+
+    /**
+     * Increments the version of {@code clientId}, starting it at 1 if the client has none yet.
+     */
+    void bump(UUID clientId);
+
+    /**
+     * {@link #bump(UUID)} for several clients at once.
+     */
+    void bumpAll(Collection<UUID> clientIds);
+
+    /**
+     * @return the current version of {@code clientId}, empty if it has none
+     */
+    Optional<Long> find(UUID clientId);
+
+    /**
+     * Drops the version of a deleted client.
+     */
+    void delete(UUID clientId);
+}
@@ -0,0 +1,55 @@
+package com.mk.contractservice.application.version;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Validators of a representation for conditional reads: an entity tag, which changes whenever the
+ * representation may have, and the time of its last change when it is known.
+ *
+ * @param tag          opaque entity tag, without quotes
+ * @param lastModified last change, null when unknown
+ * @param immutable    whether the representation can never change again, so that it may be cached for good
+ */
+public record ResourceVersion(String tag, LocalDateTime lastModified, boolean immutable) {
+
+    private static final int TAG_BYTES = 16;
+
+    /**
+     * @return the version whose tag hashes {@code parts}, in order
+     */
+    public static ResourceVersion of(final LocalDateTime lastModified, final Object... parts) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (final Object part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return new ResourceVersion(HexFormat.of().formatHex(Arrays.copyOf(digest.digest(), TAG_BYTES)), lastModified, false);
+    }
+
+    /**
+     * @return this version, with a tag that also covers {@code parts}
+     */
+    public ResourceVersion including(final Object... parts) {
+        final Object[] all = Arrays.copyOf(parts, parts.length + 1);
+        all[parts.length] = tag;
+        final ResourceVersion included = of(lastModified, all);
+        return immutable ? included.asImmutable() : included;
+    }
+
+    /**
+     * @return this version, marked as never changing again
+     */
+    public ResourceVersion asImmutable() {
+        return new ResourceVersion(tag, lastModified, true);
+    }
+}
@@ -0,0 +1,36 @@
+package com.mk.contractservice.domain.client;
+
+/**
+ * Property of a client that a read can be narrowed to, named as in its representations. {@link #BIRTH_DATE} only
+ * exists for persons and {@link #COMPANY_IDENTIFIER} for companies.
+ */
+public enum ClientField {
+    ID("id"),
+    NAME("name"),
+    EMAIL("email"),
+    PHONE("phone"),
+    BIRTH_DATE("birthDate"),
+    COMPANY_IDENTIFIER("companyIdentifier");
+
+    private final String property;
+
+    ClientField(final String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /**
+     * @throws IllegalArgumentException if no field is named {@code property}
+     */
+    public static ClientField of(final String property) {
+        for (final ClientField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown client field: " + property);
+    }
+}
@@ -1,12 +1,21 @@
 package com.mk.contractservice.domain.client;
 
 import com.mk.contractservice.domain.valueobject.Email;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ClientRepository {
     Optional<Client> findById(final UUID id);
 
+    /**
+     * Loads persons and companies together in one round trip.
+     *
+     * @return the existing clients among {@code ids}, in no particular order
+     */
+    List<Client> findAllById(final Collection<UUID> ids);
+
     Client save(Client client);
 
     void deleteById(final UUID id);
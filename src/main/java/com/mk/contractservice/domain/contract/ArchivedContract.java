@@ -0,0 +1,19 @@
+package com.mk.contractservice.domain.contract;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only snapshot of a contract moved out of the live table after its retention period.
+ */
+public record ArchivedContract(
+        UUID id,
+        UUID clientId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        BigDecimal costAmount,
+        LocalDateTime lastModified,
+        LocalDateTime archivedAt
+) {
+}
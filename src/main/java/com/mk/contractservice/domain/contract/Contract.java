@@ -16,7 +16,7 @@ public class Contract {
 
     private final Client client;
 
-    private final ContractPeriod period;
+    private ContractPeriod period;
 
     private ContractCost costAmount;
 
@@ -60,6 +60,14 @@ public class Contract {
         touch();
     }
 
+    /**
+     * Ends the contract at {@code now}, as closing all of a client's contracts does.
+     */
+    public void close(final LocalDateTime now) {
+        this.period = ContractPeriod.of(period.startDate(), now);
+        touch();
+    }
+
     public static class ContractBuilder {
         private UUID id;
         private Client client;
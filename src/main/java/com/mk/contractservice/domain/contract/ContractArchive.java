@@ -0,0 +1,12 @@
+package com.mk.contractservice.domain.contract;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface ContractArchive {
+
+    /**
+     * Feeds every archived contract of the client to {@code action} without materializing the whole history.
+     */
+    void forEachByClientId(UUID clientId, Consumer<ArchivedContract> action);
+}
@@ -0,0 +1,33 @@
+package com.mk.contractservice.domain.contract;
+
+/**
+ * Property of a contract that a read can be narrowed to, named as in its representations.
+ */
+public enum ContractField {
+    ID("id"),
+    CLIENT_ID("clientId"),
+    PERIOD("period"),
+    COST_AMOUNT("costAmount");
+
+    private final String property;
+
+    ContractField(final String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /**
+     * @throws IllegalArgumentException if no field is named {@code property}
+     */
+    public static ContractField of(final String property) {
+        for (final ContractField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown contract field: " + property);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mk.contractservice.domain.contract;
+
+import com.mk.contractservice.domain.valueobject.ContractCost;
+import com.mk.contractservice.domain.valueobject.ContractPeriod;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The requested {@link ContractField}s of a contract, read without loading the rest of it or its client. Fields
+ * that were not requested are null.
+ */
+public record ContractProjection(
+        UUID id,
+        UUID clientId,
+        ContractPeriod period,
+        ContractCost costAmount
+) {
+
+    /**
+     * @return the requested fields of an already loaded contract
+     */
+    public static ContractProjection of(final Contract contract, final Set<ContractField> fields) {
+        return new ContractProjection(
+                fields.contains(ContractField.ID) ? contract.getId() : null,
+                fields.contains(ContractField.CLIENT_ID) ? contract.getClient().getId() : null,
+                fields.contains(ContractField.PERIOD) ? contract.getPeriod() : null,
+                fields.contains(ContractField.COST_AMOUNT) ? contract.getCostAmount() : null);
+    }
+}
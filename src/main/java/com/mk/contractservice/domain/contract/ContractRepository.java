@@ -5,17 +5,88 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ContractRepository {
     Contract save(Contract contract);
 
+    /**
+     * Lookup by id alone. Contracts are stored partitioned by client, so this reads every partition; prefer
+     * {@link #findByIdAndClientId} whenever the owner is known.
+     */
     Optional<Contract> findById(UUID contractId);
 
+    /**
+     * @return the contract if it exists and belongs to {@code clientId}, read from that client's partition only
+     */
+    Optional<Contract> findByIdAndClientId(UUID contractId, UUID clientId);
+
+    /**
+     * Lookup of what a conditional read of the contract depends on, scoped to its owner like
+     * {@link #findByIdAndClientId}.
+     */
+    Optional<ContractVersion> findVersionById(UUID contractId, UUID clientId);
+
+    /**
+     * @return the existing contracts among {@code contractIds}, with their clients, in no particular order
+     */
+    List<Contract> findAllById(Collection<UUID> contractIds);
+
+    /**
+     * Client-scoped counterpart of {@link #findAllById}, reading only the partitions of {@code clientIds}.
+     *
+     * @return the existing contracts among {@code contractIds} that belong to one of {@code clientIds}, with their
+     * clients, in no particular order
+     */
+    List<Contract> findAllByIdAndClientId(Collection<UUID> contractIds, Collection<UUID> clientIds);
+
+    /**
+     * Saves new and changed contracts together, batching the statements where the adapter can. Changed contracts are
+     * updated through their id and client, like {@link #save}.
+     *
+     * @return the saved contracts in the order given, new ones with their assigned id
+     */
+    List<Contract> saveAll(List<Contract> contracts);
+
     Page<Contract> findActiveByClientIdPageable(UUID clientId, LocalDateTime now, LocalDateTime updatedSince, Pageable pageable);
 
-    void closeAllActiveByClientId(UUID clientId, LocalDateTime now);
+    /**
+     * {@link #findActiveByClientIdPageable} reading only the columns behind {@code fields}, without the client.
+     */
+    Page<ContractProjection> findActiveProjectionsByClientIdPageable(UUID clientId, LocalDateTime now, LocalDateTime updatedSince,
+                                                                     Set<ContractField> fields, Pageable pageable);
+
+    /**
+     * @return the number of contracts closed
+     */
+    int closeAllActiveByClientId(UUID clientId, LocalDateTime now);
+
+    /**
+     * Closes at most {@code limit} active contracts of the client, so that large books can be closed over several
+     * short transactions.
+     *
+     * @return the number of contracts closed
+     */
+    int closeActiveBatchByClientId(UUID clientId, LocalDateTime now, int limit);
 
     BigDecimal sumActiveByClientId(UUID clientId, LocalDateTime now);
+
+    /**
+     * @return the earliest end date after {@code now} among the active contracts of the client, that is when the
+     * next of them expires; empty if none of them has an end date
+     */
+    Optional<LocalDateTime> findNextExpiryByClientId(UUID clientId, LocalDateTime now);
+
+    /**
+     * Sums the active contracts of several clients in one round trip.
+     *
+     * @return the sum of every existing client among {@code clientIds}, zero for those without active contracts;
+     * unknown clients are absent
+     */
+    Map<UUID, BigDecimal> sumActiveByClientIds(Collection<UUID> clientIds, LocalDateTime now);
 }
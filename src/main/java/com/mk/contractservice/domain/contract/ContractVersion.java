@@ -0,0 +1,22 @@
+package com.mk.contractservice.domain.contract;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * What a conditional read of one contract needs, read by primary key without loading the contract: its owner, its
+ * last modification and its end date, since an expiry changes the representation without touching the row.
+ */
+public record ContractVersion(
+        UUID clientId,
+        LocalDateTime lastModified,
+        LocalDateTime endDate
+) {
+
+    /**
+     * @return whether the contract is active at {@code now}
+     */
+    public boolean isActiveAt(final LocalDateTime now) {
+        return endDate == null || endDate.isAfter(now);
+    }
+}
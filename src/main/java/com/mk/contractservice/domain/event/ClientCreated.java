@@ -0,0 +1,10 @@
+package com.mk.contractservice.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * @param clientType {@code PERSON} or {@code COMPANY}
+ */
+public record ClientCreated(UUID clientId, String clientType, LocalDateTime occurredAt) implements DomainEvent {
+}
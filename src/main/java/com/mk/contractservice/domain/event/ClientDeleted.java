@@ -0,0 +1,7 @@
+package com.mk.contractservice.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ClientDeleted(UUID clientId, LocalDateTime occurredAt) implements DomainEvent {
+}
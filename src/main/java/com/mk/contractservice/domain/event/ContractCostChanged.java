@@ -0,0 +1,9 @@
+package com.mk.contractservice.domain.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ContractCostChanged(UUID clientId, UUID contractId, BigDecimal costAmount, LocalDateTime occurredAt)
+        implements DomainEvent {
+}
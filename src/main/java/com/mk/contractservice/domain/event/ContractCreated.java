@@ -0,0 +1,15 @@
+package com.mk.contractservice.domain.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ContractCreated(
+        UUID clientId,
+        UUID contractId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        BigDecimal costAmount,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+}
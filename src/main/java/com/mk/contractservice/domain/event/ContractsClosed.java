@@ -0,0 +1,12 @@
+package com.mk.contractservice.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Active contracts of the client were ended at {@code occurredAt}, e.g. because the client is being deleted.
+ *
+ * @param count number of contracts closed by this operation
+ */
+public record ContractsClosed(UUID clientId, int count, LocalDateTime occurredAt) implements DomainEvent {
+}
@@ -0,0 +1,20 @@
+package com.mk.contractservice.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Something that happened to a client or its contracts, published for downstream consumers. Events of one client
+ * are delivered in the order they were published.
+ */
+public sealed interface DomainEvent permits ClientCreated, ClientUpdated, ClientDeleted, ContractCreated,
+        ContractCostChanged, ContractsClosed {
+
+    UUID clientId();
+
+    LocalDateTime occurredAt();
+
+    default String type() {
+        return getClass().getSimpleName();
+    }
+}
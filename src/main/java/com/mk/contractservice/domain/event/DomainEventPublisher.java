@@ -0,0 +1,18 @@
+package com.mk.contractservice.domain.event;
+
+import java.util.List;
+
+public interface DomainEventPublisher {
+
+    /**
+     * Records the event as part of the current transaction: it is delivered if, and only if, the transaction commits.
+     */
+    void publish(DomainEvent event);
+
+    /**
+     * Records several events as {@link #publish(DomainEvent)} does, in order.
+     */
+    default void publishAll(final List<? extends DomainEvent> events) {
+        events.forEach(this::publish);
+    }
+}
@@ -0,0 +1,43 @@
+package com.mk.contractservice.infrastructure.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.archive")
+@Validated
+public record ArchiveProperties(
+        boolean enabled,
+
+        @NotNull
+        Storage storage,
+
+        @NotNull
+        Duration retention,
+
+        @Min(1)
+        @Max(100_000)
+        int batchSize,
+
+        @NotNull
+        Duration pause,
+
+        @NotNull
+        Duration interval,
+
+        @NotNull
+        Path directory
+) {
+
+    public enum Storage {
+        /** {@code contracts.contract_archive} in the same database. */
+        TABLE,
+        /** Gzipped, column-grouped segment files under {@link #directory()}. */
+        FILE
+    }
+}
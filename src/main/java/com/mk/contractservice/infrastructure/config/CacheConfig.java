@@ -1,12 +1,15 @@
 package com.mk.contractservice.infrastructure.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
@@ -14,10 +17,37 @@ import java.util.concurrent.TimeUnit;
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("contractSums");
+    public CacheManager cacheManager(@Value("${app.contracts.expired-cache.max-size:100000}") final long expiredContractsMaxSize,
+                                     @Value("${app.contracts.expired-cache.ttl:24h}") final Duration expiredContractsTtl,
+                                     @Value("${app.clients.version-cache.max-size:100000}") final long clientVersionsMaxSize,
+                                     @Value("${app.clients.version-cache.ttl:2s}") final Duration clientVersionsTtl,
+                                     @Value("${app.clients.cache.max-size:10000}") final long clientsMaxSize,
+                                     @Value("${app.clients.cache.ttl:2s}") final Duration clientsTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("contractSums", "activeContractsVersions", "idempotency");
         cacheManager.setCaffeine(caffeineConfig());
-        return cacheManager;
+        // Expired contracts never change again: they are only dropped for room, or after the ttl so that another
+        // instance does not keep serving the contracts of a client deleted elsewhere.
+        cacheManager.registerCustomCache("expiredContracts", Caffeine.newBuilder()
+                .expireAfterWrite(expiredContractsTtl)
+                .maximumSize(expiredContractsMaxSize)
+                .recordStats()
+                .build());
+        // Local writes evict their client's version; a write through another instance shows after the ttl.
+        cacheManager.registerCustomCache("clientVersions", Caffeine.newBuilder()
+                .expireAfterWrite(clientVersionsTtl)
+                .maximumSize(clientVersionsMaxSize)
+                .recordStats()
+                .build());
+        // Nothing tells this instance about updates and deletions made through another one: like the versions, and
+        // so the ETags derived from them, clients are only kept for a short ttl.
+        cacheManager.registerCustomCache("clients", Caffeine.newBuilder()
+                .expireAfterWrite(clientsTtl)
+                .maximumSize(clientsMaxSize)
+                .recordStats()
+                .build());
+        // Evictions and puts made within a transaction are applied once it commits, so that a reader can neither
+        // refill an evicted entry from the rows the transaction has not committed yet, nor keep one it rolled back.
+        return new TransactionAwareCacheManagerProxy(cacheManager);
     }
 
     @Bean
@@ -28,4 +58,3 @@ public class CacheConfig {
                 .recordStats();
     }
 }
-
@@ -0,0 +1,21 @@
+package com.mk.contractservice.infrastructure.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.changes")
+@Validated
+public record ChangeFeedProperties(
+        @NotNull
+        Duration retention,
+
+        @NotNull
+        Duration purgeInterval,
+
+        @NotNull
+        Duration listenReconnect
+) {
+}
@@ -0,0 +1,23 @@
+package com.mk.contractservice.infrastructure.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.expiry")
+@Validated
+public record ExpiryProperties(
+        boolean enabled,
+
+        @Min(1)
+        @Max(100_000)
+        int batchSize,
+
+        @NotNull
+        Duration interval
+) {
+}
@@ -0,0 +1,64 @@
+package com.mk.contractservice.infrastructure.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Background job workers. {@code lease} is how long a claimed job stays owned without a heartbeat and must stay well
+ * above {@code heartbeatInterval}; {@code concurrency} caps running jobs per type on each instance, falling back to
+ * {@code defaultConcurrency}. Finished jobs stay readable for {@code retention}.
+ */
+@ConfigurationProperties(prefix = "app.jobs")
+@Validated
+public record JobProperties(
+        boolean enabled,
+
+        @NotNull
+        Duration pollInterval,
+
+        @NotNull
+        Duration lease,
+
+        @NotNull
+        Duration heartbeatInterval,
+
+        @Min(1)
+        @Max(100)
+        int maxAttempts,
+
+        @NotNull
+        Duration backoffBase,
+
+        @NotNull
+        Duration backoffMax,
+
+        @Min(1)
+        @Max(1_000)
+        int defaultConcurrency,
+
+        @NotNull
+        Map<String, Integer> concurrency,
+
+        @NotNull
+        Duration retention
+) {
+
+    public int concurrencyOf(final String type) {
+        return concurrency.getOrDefault(type, defaultConcurrency);
+    }
+
+    /**
+     * Exponential backoff before retry number {@code attempt} (1-based), capped at {@link #backoffMax}.
+     */
+    public Duration backoff(final int attempt) {
+        final int exponent = Math.min(Math.max(attempt - 1, 0), 30);
+        final Duration delay = backoffBase.multipliedBy(1L << exponent);
+        return delay.compareTo(backoffMax) > 0 || delay.isNegative() ? backoffMax : delay;
+    }
+}
@@ -0,0 +1,39 @@
+package com.mk.contractservice.infrastructure.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.orphans")
+@Validated
+public record OrphanProperties(
+        boolean enabled,
+
+        @NotNull
+        Mode mode,
+
+        @NotNull
+        Duration retention,
+
+        @Min(1)
+        @Max(100_000)
+        int batchSize,
+
+        @NotNull
+        Duration pause,
+
+        @NotNull
+        Duration interval
+) {
+
+    public enum Mode {
+        /** Move orphans to {@code contracts.contract_archive} (with a NULL client). */
+        ARCHIVE,
+        /** Delete orphans outright. */
+        DELETE
+    }
+}
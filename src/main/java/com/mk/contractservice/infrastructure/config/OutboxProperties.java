@@ -0,0 +1,54 @@
+package com.mk.contractservice.infrastructure.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.outbox")
+@Validated
+public record OutboxProperties(
+        boolean enabled,
+
+        @NotNull
+        Sink sink,
+
+        @Min(1)
+        @Max(100_000)
+        int batchSize,
+
+        @NotNull
+        Duration interval,
+
+        @NotNull
+        Path file,
+
+        @NotNull
+        @Valid
+        Http http
+) {
+
+    public enum Sink {
+        /** NDJSON appended to {@link #file()}. */
+        FILE,
+        /** Spring application events, for subscribers in the same JVM. */
+        IN_JVM,
+        /** JSON array POSTed to {@code http.url}. */
+        HTTP
+    }
+
+    public record Http(
+            @NotNull
+            URI url,
+
+            @NotNull
+            Duration timeout
+    ) {
+    }
+}
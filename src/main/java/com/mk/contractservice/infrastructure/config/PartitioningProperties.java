@@ -0,0 +1,25 @@
+package com.mk.contractservice.infrastructure.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.partitioning")
+@Validated
+public record PartitioningProperties(
+        boolean backfill,
+
+        boolean cutover,
+
+        @Min(1)
+        @Max(100_000)
+        int batchSize,
+
+        @NotNull
+        Duration pause
+) {
+}
@@ -0,0 +1,87 @@
+package com.mk.contractservice.infrastructure.config;
+
+import com.mk.contractservice.infrastructure.persistence.routing.DataSourceRoute;
+import com.mk.contractservice.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import com.mk.contractservice.infrastructure.persistence.routing.ReadYourWritesFilter;
+import com.mk.contractservice.infrastructure.persistence.routing.ReadYourWritesTracker;
+import com.mk.contractservice.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to a streaming replica and everything else to the primary.
+ * <p>
+ * The routing data source is wrapped in a {@link LazyConnectionDataSourceProxy}: transaction managers ask for a
+ * connection before the read-only flag is published, so the physical connection must only be picked on first use.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(final ReplicaProperties replica) {
+        final HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.url())
+                .username(replica.username())
+                .password(replica.password())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                               final ReplicaProperties replica,
+                                               final MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, replica.maxLag(), meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(final ReplicaProperties replica) {
+        return new ReadYourWritesTracker(replica.stickyWindow());
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(final ReadYourWritesTracker tracker) {
+        return new ReadYourWritesFilter(tracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+                                 final ReplicaLagMonitor lagMonitor,
+                                 final ReadYourWritesTracker tracker) {
+        final ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, tracker);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primaryDataSource,
+                DataSourceRoute.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
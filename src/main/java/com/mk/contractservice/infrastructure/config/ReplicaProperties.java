@@ -0,0 +1,34 @@
+package com.mk.contractservice.infrastructure.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Validated
+public record ReplicaProperties(
+        boolean enabled,
+
+        String url,
+
+        String username,
+
+        String password,
+
+        @NotNull
+        Duration maxLag,
+
+        @NotNull
+        Duration lagCheckInterval,
+
+        @NotNull
+        Duration stickyWindow
+) {
+    public ReplicaProperties {
+        if (enabled && (url == null || url.isBlank())) {
+            throw new IllegalArgumentException("app.datasource.replica.url is required when the replica is enabled");
+        }
+    }
+}
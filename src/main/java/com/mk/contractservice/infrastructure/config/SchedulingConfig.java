@@ -0,0 +1,12 @@
+package com.mk.contractservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({ExpiryProperties.class, PartitioningProperties.class, ArchiveProperties.class,
+        OrphanProperties.class, JobProperties.class, OutboxProperties.class, ChangeFeedProperties.class})
+public class SchedulingConfig {
+}
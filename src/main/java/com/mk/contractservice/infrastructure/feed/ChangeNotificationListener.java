@@ -0,0 +1,96 @@
+package com.mk.contractservice.infrastructure.feed;
+
+import com.mk.contractservice.infrastructure.config.ChangeFeedProperties;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Relays {@code NOTIFY contract_changes} from whichever instance ran the outbox relay to the local
+ * {@link PostgresChangeFeed} listeners. Holds one pooled connection (on the primary: it is used outside any
+ * transaction) in {@code LISTEN} for the life of the instance and reconnects after {@code app.changes.listen-reconnect}
+ * if it breaks; after a reconnect it wakes the listeners once, in case a notification was lost meanwhile.
+ */
+@Component
+@ConditionalOnExpression("'${app.persistence.adapter:jpa}' != 'memory'")
+public class ChangeNotificationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeNotificationListener.class);
+
+    private static final int POLL_MILLIS = 1_000;
+
+    private final DataSource dataSource;
+    private final PostgresChangeFeed changeFeed;
+    private final ChangeFeedProperties properties;
+    private volatile boolean running;
+    private Thread listener;
+
+    public ChangeNotificationListener(final DataSource dataSource, final PostgresChangeFeed changeFeed,
+                                      final ChangeFeedProperties properties) {
+        this.dataSource = dataSource;
+        this.changeFeed = changeFeed;
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        listener = Thread.ofVirtual().name("change-feed-listener").start(this::listen);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        listener.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + PostgresChangeFeed.CHANNEL);
+                }
+                changeFeed.appended();
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    final PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        changeFeed.appended();
+                    }
+                }
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("UNLISTEN " + PostgresChangeFeed.CHANNEL);
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Listening for change notifications failed, retrying in {}: {}",
+                            properties.listenReconnect(), e.getMessage());
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.listenReconnect());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
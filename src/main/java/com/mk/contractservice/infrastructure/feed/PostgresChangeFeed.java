@@ -0,0 +1,142 @@
+package com.mk.contractservice.infrastructure.feed;
+
+import com.mk.contractservice.application.feed.Change;
+import com.mk.contractservice.application.feed.ChangeFeed;
+import com.mk.contractservice.infrastructure.config.ChangeFeedProperties;
+import com.mk.contractservice.infrastructure.scheduling.ClusterScheduled;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link ChangeFeed} on {@code contracts.change_feed}. Rows are appended only by the outbox relay, under a lock that
+ * serializes appenders, so identity order is commit order. An append wakes this instance's listeners after commit
+ * and the others through {@code NOTIFY} ({@link ChangeNotificationListener}).
+ */
+@Component
+@ConditionalOnExpression("'${app.persistence.adapter:jpa}' != 'memory'")
+public class PostgresChangeFeed implements ChangeFeed {
+
+    static final String CHANNEL = "contract_changes";
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresChangeFeed.class);
+
+    private static final String READ = """
+            SELECT sequence, event_id, type, client_id, occurred_at, payload
+            FROM contracts.change_feed
+            WHERE sequence > :after
+            ORDER BY sequence
+            LIMIT :limit
+            """;
+
+    private static final String HEAD = "SELECT coalesce(max(sequence), 0) FROM contracts.change_feed";
+
+    private static final String PURGED_THROUGH = "SELECT purged_through FROM contracts.change_feed_horizon";
+
+    private static final String LOCK = "LOCK TABLE contracts.change_feed IN SHARE ROW EXCLUSIVE MODE";
+
+    private static final String APPEND_FROM_OUTBOX = """
+            INSERT INTO contracts.change_feed (event_id, type, client_id, occurred_at, payload)
+            SELECT event_id, type, client_id, occurred_at, payload
+            FROM contracts.outbox
+            WHERE sequence IN (:sequences)
+            ORDER BY sequence
+            """;
+
+    private static final String NOTIFY = "NOTIFY " + CHANNEL;
+
+    private static final String PURGE = """
+            WITH purged AS (
+                DELETE FROM contracts.change_feed
+                WHERE created_at < :cutoff
+                RETURNING sequence
+            )
+            UPDATE contracts.change_feed_horizon
+            SET purged_through = greatest(purged_through, (SELECT coalesce(max(sequence), 0) FROM purged))
+            RETURNING (SELECT count(*) FROM purged)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ChangeFeedProperties properties;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public PostgresChangeFeed(final NamedParameterJdbcTemplate jdbc, final ChangeFeedProperties properties) {
+        this.jdbc = jdbc;
+        this.properties = properties;
+    }
+
+    @Override
+    public List<Change> read(final long after, final int limit) {
+        return jdbc.query(READ, new MapSqlParameterSource().addValue("after", after).addValue("limit", limit),
+                (rs, i) -> new Change(
+                        rs.getLong("sequence"),
+                        rs.getObject("event_id", UUID.class),
+                        rs.getString("type"),
+                        rs.getObject("client_id", UUID.class),
+                        rs.getTimestamp("occurred_at").toLocalDateTime(),
+                        rs.getString("payload")));
+    }
+
+    @Override
+    public long head() {
+        final Long head = jdbc.queryForObject(HEAD, new MapSqlParameterSource(), Long.class);
+        return head == null ? 0 : head;
+    }
+
+    @Override
+    public long purgedThrough() {
+        final Long purged = jdbc.queryForObject(PURGED_THROUGH, new MapSqlParameterSource(), Long.class);
+        return purged == null ? 0 : purged;
+    }
+
+    @Override
+    public void onAppend(final Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Copies the given outbox rows to the feed, in outbox order, as part of the caller's transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendFromOutbox(final List<Long> outboxSequences) {
+        jdbc.getJdbcTemplate().execute(LOCK);
+        jdbc.update(APPEND_FROM_OUTBOX, new MapSqlParameterSource("sequences", outboxSequences));
+        jdbc.getJdbcTemplate().execute(NOTIFY);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                appended();
+            }
+        });
+    }
+
+    void appended() {
+        listeners.forEach(Runnable::run);
+    }
+
+    @ClusterScheduled(name = "change-feed-purge", interval = "${app.changes.purge-interval}")
+    public void purge() {
+        try {
+            final Long purged = jdbc.queryForObject(PURGE,
+                    new MapSqlParameterSource("cutoff", LocalDateTime.now().minus(properties.retention())), Long.class);
+            if (purged != null && purged > 0) {
+                log.info("Purged {} changes older than {}", purged, properties.retention());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Change feed purge failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.mk.contractservice.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mk.contractservice.application.idempotency.IdempotencyRecord;
+import com.mk.contractservice.application.idempotency.IdempotencyStore;
+import com.mk.contractservice.application.idempotency.StoredResponse;
+import com.mk.contractservice.infrastructure.scheduling.ClusterScheduled;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link IdempotencyStore} on the UNLOGGED {@code contracts.idempotency_key} table. Expiry is computed with the
+ * database clock so that instances with drifting clocks agree on it; expired rows are taken over by the next claim
+ * and deleted by a periodic purge.
+ */
+@Repository
+@ConditionalOnExpression("'${app.persistence.adapter:jpa}' != 'memory'")
+public class PostgresIdempotencyStore implements IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresIdempotencyStore.class);
+
+    private static final TypeReference<Map<String, String>> HEADERS = new TypeReference<>() {
+    };
+
+    private static final String CLAIM = """
+            INSERT INTO contracts.idempotency_key (key, fingerprint, expires_at)
+            VALUES (:key, :fingerprint, now() + make_interval(secs => :lease))
+            ON CONFLICT (key) DO UPDATE
+            SET fingerprint = excluded.fingerprint, status = NULL, headers = NULL, body = NULL,
+                expires_at = excluded.expires_at
+            WHERE idempotency_key.expires_at <= now()
+            """;
+
+    private static final String SELECT = """
+            SELECT fingerprint, status, headers, body
+            FROM contracts.idempotency_key
+            WHERE key = :key AND expires_at > now()
+            """;
+
+    private static final String COMPLETE = """
+            UPDATE contracts.idempotency_key
+            SET status = :status, headers = CAST(:headers AS jsonb), body = :body,
+                expires_at = now() + make_interval(secs => :ttl)
+            WHERE key = :key AND fingerprint = :fingerprint AND status IS NULL
+            """;
+
+    private static final String RELEASE = """
+            DELETE FROM contracts.idempotency_key
+            WHERE key = :key AND fingerprint = :fingerprint AND status IS NULL
+            """;
+
+    private static final String PURGE = "DELETE FROM contracts.idempotency_key WHERE expires_at <= now()";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+
+    public PostgresIdempotencyStore(final NamedParameterJdbcTemplate jdbc, final ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(final String key, final String fingerprint, final Duration lease) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("key", key)
+                .addValue("fingerprint", fingerprint)
+                .addValue("lease", seconds(lease));
+        // The holder may expire or be released between the two statements; then the key is free to claim again.
+        while (true) {
+            if (jdbc.update(CLAIM, params) == 1) {
+                return Optional.empty();
+            }
+            final List<IdempotencyRecord> holders = jdbc.query(SELECT, params, (rs, i) -> new IdempotencyRecord(
+                    rs.getString("fingerprint"),
+                    rs.getObject("status") == null ? null : new StoredResponse(
+                            rs.getInt("status"),
+                            fromJson(rs.getString("headers")),
+                            rs.getBytes("body"))));
+            if (!holders.isEmpty()) {
+                return Optional.of(holders.getFirst());
+            }
+        }
+    }
+
+    @Override
+    public void complete(final String key, final String fingerprint, final StoredResponse response, final Duration ttl) {
+        jdbc.update(COMPLETE, new MapSqlParameterSource()
+                .addValue("key", key)
+                .addValue("fingerprint", fingerprint)
+                .addValue("status", response.status())
+                .addValue("headers", toJson(response.headers()))
+                .addValue("body", response.body())
+                .addValue("ttl", seconds(ttl)));
+    }
+
+    @Override
+    public void release(final String key, final String fingerprint) {
+        jdbc.update(RELEASE, new MapSqlParameterSource("key", key).addValue("fingerprint", fingerprint));
+    }
+
+    @ClusterScheduled(name = "idempotency-purge", interval = "${app.idempotency.purge-interval}")
+    public void purge() {
+        try {
+            final int purged = jdbc.update(PURGE, new MapSqlParameterSource());
+            if (purged > 0) {
+                log.info("Purged {} expired idempotency keys", purged);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Idempotency key purge failed: {}", e.getMessage());
+        }
+    }
+
+    private String toJson(final Map<String, String> headers) {
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Response headers are not serializable", e);
+        }
+    }
+
+    private Map<String, String> fromJson(final String json) {
+        try {
+            return objectMapper.readValue(json, HEADERS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable idempotency headers: " + json, e);
+        }
+    }
+
+    private static double seconds(final Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.mk.contractservice.infrastructure.job;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A job this worker holds the lease of. {@code attempt} already counts the current run.
+ */
+record ClaimedJob(UUID id, String type, int attempt, int maxAttempts, Map<String, String> payload) {
+}
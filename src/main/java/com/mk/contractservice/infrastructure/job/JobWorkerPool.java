@@ -0,0 +1,244 @@
+package com.mk.contractservice.infrastructure.job;
+
+import com.mk.contractservice.application.job.JobContext;
+import com.mk.contractservice.application.job.JobHandler;
+import com.mk.contractservice.application.job.JobStatus;
+import com.mk.contractservice.infrastructure.config.JobProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the jobs of {@link PostgresJobQueue} on virtual threads. Each job type has one poller that claims as many due
+ * jobs as it has free slots ({@code app.jobs.concurrency}) and sleeps {@code app.jobs.poll-interval} when the queue
+ * is drained. While jobs run, the leases this instance holds are extended every {@code app.jobs.heartbeat-interval};
+ * leases of an instance that stopped heart-beating expire and its jobs are handed to the next poller, on any replica.
+ * <p>
+ * On shutdown the pollers stop claiming and running jobs get one lease to finish; jobs still running after that keep
+ * their lease until it expires, so no other worker starts them while this one may still be executing.
+ */
+@Component
+@ConditionalOnExpression("${app.jobs.enabled:true} and '${app.persistence.adapter:jpa}' != 'memory'")
+public class JobWorkerPool implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(JobWorkerPool.class);
+
+    private final PostgresJobQueue queue;
+    private final JobProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobHandler> handlers;
+    private final Map<String, Semaphore> slots = new ConcurrentHashMap<>();
+    private final Map<String, Timer> executionTimers = new ConcurrentHashMap<>();
+    private final String workerId;
+    private final List<Thread> pollers = new ArrayList<>();
+    private volatile Map<String, PostgresJobQueue.Depth> depth = Map.of();
+    private volatile ExecutorService executor;
+    private volatile boolean running;
+
+    public JobWorkerPool(final PostgresJobQueue queue, final JobProperties properties, final List<JobHandler> handlers,
+                         final MeterRegistry meterRegistry) {
+        this.queue = queue;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.handlers = handlers.stream().collect(Collectors.toMap(JobHandler::type, Function.identity(), (a, b) -> {
+            throw new IllegalStateException("Two job handlers for type " + a.type());
+        }));
+        this.workerId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+        this.handlers.keySet().forEach(type -> {
+            final Semaphore free = new Semaphore(properties.concurrencyOf(type));
+            slots.put(type, free);
+            executionTimers.put(type, Timer.builder("jobs.execution")
+                    .tag("type", type)
+                    .description("Duration of one job attempt")
+                    .register(meterRegistry));
+            Gauge.builder("jobs.queue.depth", this, pool -> pool.depthOf(type).pending())
+                    .tag("type", type)
+                    .description("Jobs waiting to run, due or backing off, across all instances")
+                    .register(meterRegistry);
+            Gauge.builder("jobs.running", this, pool -> pool.depthOf(type).running())
+                    .tag("type", type)
+                    .description("Jobs running across all instances")
+                    .register(meterRegistry);
+            Gauge.builder("jobs.active", free, s -> properties.concurrencyOf(type) - s.availablePermits())
+                    .tag("type", type)
+                    .description("Jobs running on this instance")
+                    .register(meterRegistry);
+        });
+    }
+
+    String workerId() {
+        return workerId;
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-", 0).factory());
+        running = true;
+        handlers.keySet().forEach(type -> pollers.add(Thread.ofVirtual()
+                .name("job-poller-" + type)
+                .start(() -> poll(type))));
+        log.info("Job workers {} started for {}", workerId, handlers.keySet());
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        pollers.forEach(Thread::interrupt);
+        pollers.clear();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(properties.lease().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Jobs of {} still running at shutdown; their leases will expire", workerId);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Extends the leases held by this instance, hands back jobs whose lease expired elsewhere, refreshes the depth
+     * gauges and purges finished jobs past their retention.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.heartbeat-interval}")
+    public void maintain() {
+        if (!running) {
+            return;
+        }
+        try {
+            queue.heartbeat(workerId);
+            final int released = queue.releaseExpired();
+            if (released > 0) {
+                log.warn("Released {} jobs whose worker lease expired", released);
+            }
+            depth = queue.depth();
+            queue.purgeFinished();
+        } catch (DataAccessException e) {
+            log.warn("Job queue maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private void poll(final String type) {
+        final Semaphore free = slots.get(type);
+        while (running) {
+            try {
+                free.acquire();
+                final int wanted = 1 + free.drainPermits();
+                final List<ClaimedJob> claimed = claim(type, wanted);
+                free.release(wanted - claimed.size());
+                for (final ClaimedJob job : claimed) {
+                    executor.execute(() -> {
+                        try {
+                            execute(job);
+                        } finally {
+                            free.release();
+                        }
+                    });
+                }
+                if (claimed.size() < wanted) {
+                    Thread.sleep(properties.pollInterval());
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private List<ClaimedJob> claim(final String type, final int limit) {
+        try {
+            return queue.claim(type, limit, workerId);
+        } catch (DataAccessException e) {
+            log.warn("Claiming {} jobs failed: {}", type, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void execute(final ClaimedJob job) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome;
+        try {
+            handlers.get(job.type()).handle(new Context(job));
+            outcome = queue.complete(job.id(), workerId) ? "succeeded" : "lost";
+        } catch (RuntimeException e) {
+            log.warn("Job {} ({}) attempt {}/{} failed", job.id(), job.type(), job.attempt(), job.maxAttempts(), e);
+            outcome = fail(job, e);
+        } finally {
+            sample.stop(executionTimers.get(job.type()));
+        }
+        meterRegistry.counter("jobs.completed", "type", job.type(), "outcome", outcome).increment();
+        if ("lost".equals(outcome)) {
+            log.warn("Job {} ({}) lost its lease to another worker before finishing", job.id(), job.type());
+        }
+    }
+
+    private String fail(final ClaimedJob job, final RuntimeException error) {
+        try {
+            return queue.fail(job, workerId, String.valueOf(error.getMessage()))
+                    .map(status -> status == JobStatus.PENDING ? "retried" : "failed")
+                    .orElse("lost");
+        } catch (DataAccessException e) {
+            log.warn("Recording the failure of job {} failed; its lease will expire: {}", job.id(), e.getMessage());
+            return "lost";
+        }
+    }
+
+    private PostgresJobQueue.Depth depthOf(final String type) {
+        return depth.getOrDefault(type, PostgresJobQueue.Depth.EMPTY);
+    }
+
+    private final class Context implements JobContext {
+
+        private final ClaimedJob job;
+
+        private Context(final ClaimedJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public UUID jobId() {
+            return job.id();
+        }
+
+        @Override
+        public int attempt() {
+            return job.attempt();
+        }
+
+        @Override
+        public Map<String, String> payload() {
+            return job.payload();
+        }
+
+        @Override
+        public void progress(final String key, final long value) {
+            queue.progress(job.id(), workerId, key, value);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.mk.contractservice.infrastructure.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mk.contractservice.application.job.Job;
+import com.mk.contractservice.application.job.JobQueue;
+import com.mk.contractservice.application.job.JobStatus;
+import com.mk.contractservice.infrastructure.config.JobProperties;
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link JobQueue} backed by {@code contracts.job}. Lease and retry times are computed with the database clock so
+ * that replicas with drifting clocks agree on them. Every write a worker makes on a job it claimed is fenced on
+ * {@code locked_by}: once its lease has expired and another worker took the job over, those writes match no row.
+ */
+@Repository
+@ConditionalOnExpression("'${app.persistence.adapter:jpa}' != 'memory'")
+public class PostgresJobQueue implements JobQueue {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, Long>> PROGRESS = new TypeReference<>() {
+    };
+    private static final int MAX_ERROR_LENGTH = 2_000;
+
+    private static final String INSERT = """
+            INSERT INTO contracts.job (id, type, payload, max_attempts)
+            VALUES (:id, :type, CAST(:payload AS jsonb), :maxAttempts)
+            RETURNING *
+            """;
+
+    private static final String FIND = "SELECT * FROM contracts.job WHERE id = :id";
+
+    private static final String CLAIM = """
+            WITH next AS (
+                SELECT id
+                FROM contracts.job
+                WHERE type = :type AND status = 'PENDING' AND run_at <= now()
+                ORDER BY run_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE contracts.job j
+            SET status = 'RUNNING',
+                attempts = j.attempts + 1,
+                locked_by = :worker,
+                lease_until = now() + make_interval(secs => :lease),
+                heartbeat_at = now(),
+                started_at = coalesce(j.started_at, now())
+            FROM next
+            WHERE j.id = next.id
+            RETURNING j.id, j.type, j.attempts, j.max_attempts, j.payload
+            """;
+
+    private static final String PROGRESS_UPDATE = """
+            UPDATE contracts.job
+            SET progress = progress || jsonb_build_object(CAST(:key AS text), CAST(:value AS bigint))
+            WHERE id = :id AND locked_by = :worker AND status = 'RUNNING'
+            """;
+
+    private static final String COMPLETE = """
+            UPDATE contracts.job
+            SET status = 'SUCCEEDED', locked_by = NULL, lease_until = NULL, last_error = NULL, finished_at = now()
+            WHERE id = :id AND locked_by = :worker AND status = 'RUNNING'
+            """;
+
+    private static final String FAIL = """
+            UPDATE contracts.job
+            SET status = CASE WHEN attempts >= max_attempts THEN 'FAILED' ELSE 'PENDING' END,
+                run_at = now() + make_interval(secs => :backoff),
+                finished_at = CASE WHEN attempts >= max_attempts THEN now() END,
+                locked_by = NULL,
+                lease_until = NULL,
+                last_error = :error
+            WHERE id = :id AND locked_by = :worker AND status = 'RUNNING'
+            RETURNING status
+            """;
+
+    private static final String HEARTBEAT = """
+            UPDATE contracts.job
+            SET lease_until = now() + make_interval(secs => :lease), heartbeat_at = now()
+            WHERE locked_by = :worker AND status = 'RUNNING'
+            """;
+
+    private static final String RELEASE_EXPIRED = """
+            UPDATE contracts.job
+            SET status = CASE WHEN attempts >= max_attempts THEN 'FAILED' ELSE 'PENDING' END,
+                run_at = now(),
+                finished_at = CASE WHEN attempts >= max_attempts THEN now() END,
+                last_error = 'Lease of worker ' || locked_by || ' expired',
+                locked_by = NULL,
+                lease_until = NULL
+            WHERE status = 'RUNNING' AND lease_until < now()
+            """;
+
+    private static final String DEPTH = """
+            SELECT type,
+                   count(*) FILTER (WHERE status = 'PENDING') AS pending,
+                   count(*) FILTER (WHERE status = 'RUNNING') AS running
+            FROM contracts.job
+            WHERE status IN ('PENDING', 'RUNNING')
+            GROUP BY type
+            """;
+
+    private static final String PURGE = """
+            DELETE FROM contracts.job
+            WHERE status IN ('SUCCEEDED', 'FAILED') AND finished_at < now() - make_interval(secs => :retention)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final JobProperties properties;
+
+    public PostgresJobQueue(final NamedParameterJdbcTemplate jdbc, final ObjectMapper objectMapper,
+                            final JobProperties properties) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public Job enqueue(final String type, final Map<String, String> payload) {
+        return jdbc.queryForObject(INSERT, new MapSqlParameterSource()
+                .addValue("id", UuidV7.next())
+                .addValue("type", type)
+                .addValue("payload", toJson(payload))
+                .addValue("maxAttempts", properties.maxAttempts()), this::mapJob);
+    }
+
+    @Override
+    public Optional<Job> find(final UUID jobId) {
+        return jdbc.query(FIND, new MapSqlParameterSource("id", jobId), this::mapJob).stream().findFirst();
+    }
+
+    List<ClaimedJob> claim(final String type, final int limit, final String worker) {
+        return jdbc.query(CLAIM, new MapSqlParameterSource()
+                .addValue("type", type)
+                .addValue("limit", limit)
+                .addValue("worker", worker)
+                .addValue("lease", seconds(properties.lease())), (rs, i) -> new ClaimedJob(
+                rs.getObject("id", UUID.class),
+                rs.getString("type"),
+                rs.getInt("attempts"),
+                rs.getInt("max_attempts"),
+                fromJson(rs.getString("payload"), PAYLOAD)));
+    }
+
+    boolean progress(final UUID jobId, final String worker, final String key, final long value) {
+        return jdbc.update(PROGRESS_UPDATE, new MapSqlParameterSource()
+                .addValue("id", jobId)
+                .addValue("worker", worker)
+                .addValue("key", key)
+                .addValue("value", value)) == 1;
+    }
+
+    /**
+     * @return false if the lease was lost before completion, in which case another worker owns the job
+     */
+    boolean complete(final UUID jobId, final String worker) {
+        return jdbc.update(COMPLETE, new MapSqlParameterSource()
+                .addValue("id", jobId)
+                .addValue("worker", worker)) == 1;
+    }
+
+    /**
+     * @return the status the job moved to ({@code PENDING} for a retry, {@code FAILED} once attempts are exhausted),
+     * or empty if the lease was lost
+     */
+    Optional<JobStatus> fail(final ClaimedJob job, final String worker, final String error) {
+        final String message = error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error : error.substring(0, MAX_ERROR_LENGTH);
+        return jdbc.queryForList(FAIL, new MapSqlParameterSource()
+                        .addValue("id", job.id())
+                        .addValue("worker", worker)
+                        .addValue("error", message)
+                        .addValue("backoff", seconds(properties.backoff(job.attempt()))), String.class)
+                .stream()
+                .map(JobStatus::valueOf)
+                .findFirst();
+    }
+
+    int heartbeat(final String worker) {
+        return jdbc.update(HEARTBEAT, new MapSqlParameterSource()
+                .addValue("worker", worker)
+                .addValue("lease", seconds(properties.lease())));
+    }
+
+    int releaseExpired() {
+        return jdbc.update(RELEASE_EXPIRED, new MapSqlParameterSource());
+    }
+
+    /**
+     * Pending (due or backing off) and running jobs per type, across all instances.
+     */
+    Map<String, Depth> depth() {
+        final Map<String, Depth> depth = new HashMap<>();
+        jdbc.query(DEPTH, rs -> {
+            depth.put(rs.getString("type"), new Depth(rs.getLong("pending"), rs.getLong("running")));
+        });
+        return depth;
+    }
+
+    int purgeFinished() {
+        return jdbc.update(PURGE, new MapSqlParameterSource("retention", seconds(properties.retention())));
+    }
+
+    private Job mapJob(final ResultSet rs, final int rowNum) throws SQLException {
+        return new Job(
+                rs.getObject("id", UUID.class),
+                rs.getString("type"),
+                JobStatus.valueOf(rs.getString("status")),
+                rs.getInt("attempts"),
+                fromJson(rs.getString("payload"), PAYLOAD),
+                fromJson(rs.getString("progress"), PROGRESS),
+                rs.getString("last_error"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("started_at")),
+                toLocalDateTime(rs.getTimestamp("finished_at")));
+    }
+
+    private String toJson(final Map<String, String> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Job payload is not serializable", e);
+        }
+    }
+
+    private <T> T fromJson(final String json, final TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable job column: " + json, e);
+        }
+    }
+
+    private static double seconds(final Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    record Depth(long pending, long running) {
+
+        static final Depth EMPTY = new Depth(0, 0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.mk.contractservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mk.contractservice.infrastructure.config.OutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each batch to an NDJSON file, one event per line, and syncs it before the batch counts as delivered.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(final OutboxProperties properties, final ObjectMapper objectMapper) {
+        this.file = properties.file();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(final List<OutboxEvent> batch) {
+        try {
+            final ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (final OutboxEvent event : batch) {
+                objectMapper.writeValue(lines, event);
+                lines.write('\n');
+            }
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Writing outbox events to " + file + " failed", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.mk.contractservice.infrastructure.outbox;
+
+import com.mk.contractservice.infrastructure.config.OutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+
+/**
+ * POSTs each batch as a JSON array to {@code app.outbox.http.url}; any non-2xx response or timeout fails the batch.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+    private final URI url;
+
+    public HttpOutboxSink(final OutboxProperties properties, final RestClient.Builder restClientBuilder) {
+        final JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                .connectTimeout(properties.http().timeout())
+                .build());
+        requestFactory.setReadTimeout(properties.http().timeout());
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+        this.url = properties.http().url();
+    }
+
+    @Override
+    public void deliver(final List<OutboxEvent> batch) {
+        restClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(batch)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
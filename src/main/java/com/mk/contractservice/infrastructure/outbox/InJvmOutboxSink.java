@@ -0,0 +1,27 @@
+package com.mk.contractservice.infrastructure.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes each event as a Spring application event; subscribers declare an {@code @EventListener} for
+ * {@link OutboxEvent}. Listeners run synchronously on the relay thread, so one that throws fails the batch.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "in-jvm", matchIfMissing = true)
+public class InJvmOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher publisher;
+
+    public InJvmOutboxSink(final ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void deliver(final List<OutboxEvent> batch) {
+        batch.forEach(publisher::publishEvent);
+    }
+}
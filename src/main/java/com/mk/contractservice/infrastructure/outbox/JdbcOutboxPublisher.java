@@ -0,0 +1,69 @@
+package com.mk.contractservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mk.contractservice.domain.event.DomainEvent;
+import com.mk.contractservice.domain.event.DomainEventPublisher;
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes events to {@code contracts.outbox} on the connection of the caller's transaction, which the JPA and JDBC
+ * transaction managers both expose to {@link NamedParameterJdbcTemplate}; an event without a surrounding
+ * transaction is a programming error.
+ */
+@Component
+@ConditionalOnExpression("'${app.persistence.adapter:jpa}' != 'memory'")
+public class JdbcOutboxPublisher implements DomainEventPublisher {
+
+    private static final String INSERT = """
+            INSERT INTO contracts.outbox (event_id, type, client_id, occurred_at, payload)
+            VALUES (:eventId, :type, :clientId, :occurredAt, CAST(:payload AS jsonb))
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+
+    public JdbcOutboxPublisher(final NamedParameterJdbcTemplate jdbc, final ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(final DomainEvent event) {
+        jdbc.update(INSERT, params(event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(final List<? extends DomainEvent> events) {
+        if (!events.isEmpty()) {
+            jdbc.batchUpdate(INSERT, events.stream().map(this::params).toArray(MapSqlParameterSource[]::new));
+        }
+    }
+
+    private MapSqlParameterSource params(final DomainEvent event) {
+        return new MapSqlParameterSource()
+                .addValue("eventId", UuidV7.next())
+                .addValue("type", event.type())
+                .addValue("clientId", event.clientId())
+                .addValue("occurredAt", event.occurredAt())
+                .addValue("payload", toJson(event));
+    }
+
+    private String toJson(final DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event is not serializable: " + event.type(), e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.mk.contractservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A domain event as delivered to sinks. {@code sequence} grows with publication order, {@code eventId} lets
+ * consumers drop the duplicates that at-least-once delivery may produce, and {@code payload} is the event as JSON.
+ */
+public record OutboxEvent(
+        long sequence,
+        UUID eventId,
+        String type,
+        UUID clientId,
+        LocalDateTime occurredAt,
+        @JsonRawValue
+        String payload
+) {
+}
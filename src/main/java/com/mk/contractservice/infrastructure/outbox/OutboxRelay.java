@@ -0,0 +1,139 @@
+package com.mk.contractservice.infrastructure.outbox;
+
+import com.mk.contractservice.infrastructure.config.OutboxProperties;
+import com.mk.contractservice.infrastructure.feed.PostgresChangeFeed;
+import com.mk.contractservice.infrastructure.scheduling.ClusterScheduled;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Drains {@code contracts.outbox} to the configured {@link OutboxSink} in batches of {@code app.outbox.batch-size},
+ * in sequence order, until the outbox is empty. One instance relays at a time ({@link ClusterScheduled}), which
+ * keeps the order across batches; rows are deleted by sequence only once their batch was delivered, so a failed
+ * delivery is retried on the next run and a crash in between delivers the batch twice (consumers dedupe on
+ * {@code eventId}). The delete commits together with the batch's append to the {@link PostgresChangeFeed}, so the
+ * feed receives each event exactly once, in relay order.
+ */
+@Component
+@ConditionalOnExpression("${app.outbox.enabled:true} and '${app.persistence.adapter:jpa}' != 'memory'")
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String NEXT_BATCH = """
+            SELECT sequence, event_id, type, client_id, occurred_at, payload
+            FROM contracts.outbox
+            ORDER BY sequence
+            LIMIT :batchSize
+            """;
+
+    private static final String DELETE_DELIVERED = "DELETE FROM contracts.outbox WHERE sequence IN (:sequences)";
+
+    private static final String LAG = """
+            SELECT coalesce(extract(epoch FROM now() - min(created_at)), 0)
+            FROM contracts.outbox
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final OutboxSink sink;
+    private final PostgresChangeFeed changeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter delivered;
+    private final Counter failures;
+    private final DistributionSummary batchSizes;
+    private final Timer runTimer;
+    private volatile double lagSeconds;
+
+    public OutboxRelay(final NamedParameterJdbcTemplate jdbc, final OutboxSink sink, final PostgresChangeFeed changeFeed,
+                       final PlatformTransactionManager transactionManager, final OutboxProperties properties,
+                       final MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.sink = sink;
+        this.changeFeed = changeFeed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = properties.batchSize();
+        this.delivered = Counter.builder("outbox.relay.delivered")
+                .description("Events delivered to the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("Batches whose delivery failed and will be retried")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("outbox.relay.batch")
+                .description("Events per delivered batch")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("outbox.relay.run")
+                .description("Duration of one relay run, all batches included")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", this, relay -> relay.lagSeconds)
+                .baseUnit("seconds")
+                .description("Age of the oldest event still in the outbox after the last run")
+                .register(meterRegistry);
+    }
+
+    @ClusterScheduled(name = "outbox-relay", interval = "${app.outbox.interval}", jitter = "0s")
+    public void relay() {
+        try {
+            runTimer.record(this::relayAll);
+        } catch (DataAccessException e) {
+            log.warn("Outbox relay failed: {}", e.getMessage());
+        }
+    }
+
+    int relayAll() {
+        final MapSqlParameterSource params = new MapSqlParameterSource("batchSize", batchSize);
+        int total = 0;
+        List<OutboxEvent> batch;
+        do {
+            batch = jdbc.query(NEXT_BATCH, params, (rs, i) -> new OutboxEvent(
+                    rs.getLong("sequence"),
+                    rs.getObject("event_id", UUID.class),
+                    rs.getString("type"),
+                    rs.getObject("client_id", UUID.class),
+                    rs.getTimestamp("occurred_at").toLocalDateTime(),
+                    rs.getString("payload")));
+            if (batch.isEmpty() || !deliver(batch)) {
+                break;
+            }
+            final List<Long> sequences = batch.stream().map(OutboxEvent::sequence).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                changeFeed.appendFromOutbox(sequences);
+                jdbc.update(DELETE_DELIVERED, new MapSqlParameterSource("sequences", sequences));
+            });
+            delivered.increment(batch.size());
+            batchSizes.record(batch.size());
+            total += batch.size();
+        } while (batch.size() == batchSize);
+
+        final Double lag = jdbc.queryForObject(LAG, new MapSqlParameterSource(), Double.class);
+        lagSeconds = lag == null ? 0 : lag;
+        return total;
+    }
+
+    private boolean deliver(final List<OutboxEvent> batch) {
+        try {
+            sink.deliver(batch);
+            return true;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Delivering {} outbox events from sequence {} failed: {}", batch.size(), batch.getFirst().sequence(),
+                    e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.mk.contractservice.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the events drained from the outbox. A batch is in sequence order; throwing makes the relay deliver
+ * the same batch again on its next run.
+ */
+public interface OutboxSink {
+
+    void deliver(List<OutboxEvent> batch);
+}
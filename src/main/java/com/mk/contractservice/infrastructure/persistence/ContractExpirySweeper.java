@@ -0,0 +1,110 @@
+package com.mk.contractservice.infrastructure.persistence;
+
+import com.mk.contractservice.infrastructure.config.ExpiryProperties;
+import com.mk.contractservice.infrastructure.scheduling.ClusterScheduled;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Flips {@code ACTIVE} contracts whose end date has passed to {@code EXPIRED}, in batches claimed with
+ * {@code FOR UPDATE SKIP LOCKED} so that the sweep never blocks the request path. Only one instance of the cluster
+ * sweeps at a time ({@link ClusterScheduled}). Correctness does not depend on it (reads keep the exact end-date check); it only keeps the
+ * active partial index tight.
+ */
+@Component
+@ConditionalOnExpression("${app.expiry.enabled:true} and '${app.persistence.adapter:jpa}' != 'memory'")
+public class ContractExpirySweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractExpirySweeper.class);
+
+    private static final String EXPIRE_BATCH = """
+            WITH due AS (
+                SELECT id
+                FROM contracts.contract
+                WHERE status = 'ACTIVE' AND end_date <= :now
+                ORDER BY end_date
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ), expired AS (
+                UPDATE contracts.contract c
+                SET status = 'EXPIRED'
+                FROM due
+                WHERE c.id = due.id
+                RETURNING c.end_date
+            )
+            SELECT count(*) AS expired, min(end_date) AS oldest_end FROM expired
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final int batchSize;
+    private final Counter expired;
+    private final Timer sweepTimer;
+    private volatile double lagSeconds;
+
+    public ContractExpirySweeper(final NamedParameterJdbcTemplate jdbc, final ExpiryProperties properties,
+                                 final MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.batchSize = properties.batchSize();
+        this.expired = Counter.builder("contracts.expiry.expired")
+                .description("Contracts flipped from ACTIVE to EXPIRED by the sweeper")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("contracts.expiry.sweep")
+                .description("Duration of one expiry sweep, all batches included")
+                .register(meterRegistry);
+        Gauge.builder("contracts.expiry.lag", this, sweeper -> sweeper.lagSeconds)
+                .baseUnit("seconds")
+                .description("How long past its end date the oldest contract expired by the last sweep was")
+                .register(meterRegistry);
+    }
+
+    @ClusterScheduled(name = "contract-expiry", interval = "${app.expiry.interval}")
+    public void sweep() {
+        try {
+            sweepTimer.record(this::sweepAll);
+        } catch (DataAccessException e) {
+            log.warn("Contract expiry sweep failed: {}", e.getMessage());
+        }
+    }
+
+    int sweepAll() {
+        final LocalDateTime now = LocalDateTime.now();
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("batchSize", batchSize);
+        LocalDateTime oldestEnd = null;
+        int total = 0;
+        int batch;
+        do {
+            final Batch result = jdbc.queryForObject(EXPIRE_BATCH, params, (rs, i) ->
+                    new Batch(rs.getInt("expired"), rs.getTimestamp("oldest_end")));
+            batch = result.expired();
+            total += batch;
+            if (oldestEnd == null && result.oldestEnd() != null) {
+                oldestEnd = result.oldestEnd().toLocalDateTime();
+            }
+        } while (batch == batchSize);
+
+        expired.increment(total);
+        lagSeconds = oldestEnd == null ? 0 : Duration.between(oldestEnd, now).toMillis() / 1000.0;
+        if (total > 0) {
+            log.debug("Expired {} contracts, oldest end date {}", total, oldestEnd);
+        }
+        return total;
+    }
+
+    private record Batch(int expired, Timestamp oldestEnd) {
+    }
+}
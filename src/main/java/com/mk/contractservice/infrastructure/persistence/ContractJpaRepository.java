@@ -1,6 +1,7 @@
 package com.mk.contractservice.infrastructure.persistence;
 
 import com.mk.contractservice.infrastructure.persistence.entity.ContractJpaEntity;
+import com.mk.contractservice.infrastructure.persistence.entity.ContractStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +11,8 @@ import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,10 +21,44 @@ public interface ContractJpaRepository extends JpaRepository<ContractJpaEntity,
     @Query("SELECT c FROM ContractJpaEntity c JOIN FETCH c.client WHERE c.id = :id")
     Optional<ContractJpaEntity> findByIdWithClient(@Param("id") UUID id);
 
+    @Query("SELECT c FROM ContractJpaEntity c JOIN FETCH c.client WHERE c.id = :id AND c.client.id = :clientId")
+    Optional<ContractJpaEntity> findByIdAndClientIdWithClient(@Param("id") UUID id, @Param("clientId") UUID clientId);
+
+    @Query("""
+            SELECT c.client.id AS clientId, c.lastModified AS lastModified, c.endDate AS endDate
+            FROM ContractJpaEntity c
+            WHERE c.id = :id AND c.client.id = :clientId
+            """)
+    Optional<Version> findVersionById(@Param("id") UUID id, @Param("clientId") UUID clientId);
+
+    /**
+     * Update of a loaded contract scoped to its owner, which Hibernate's own update by primary key is not, so that
+     * only the client's partition is touched.
+     */
+    @Modifying
+    @Query("""
+            UPDATE ContractJpaEntity c
+            SET c.startDate = :startDate, c.endDate = :endDate, c.costAmount = :costAmount,
+                c.lastModified = :lastModified, c.status = :status
+            WHERE c.id = :id AND c.client.id = :clientId
+            """)
+    int updateOfClient(@Param("id") UUID id, @Param("clientId") UUID clientId,
+                       @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate,
+                       @Param("costAmount") BigDecimal costAmount, @Param("lastModified") LocalDateTime lastModified,
+                       @Param("status") ContractStatus status);
+
+    @Query("SELECT c FROM ContractJpaEntity c JOIN FETCH c.client WHERE c.id IN :ids")
+    List<ContractJpaEntity> findAllByIdWithClient(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT c FROM ContractJpaEntity c JOIN FETCH c.client WHERE c.id IN :ids AND c.client.id IN :clientIds")
+    List<ContractJpaEntity> findAllByIdAndClientIdWithClient(@Param("ids") Collection<UUID> ids,
+                                                             @Param("clientIds") Collection<UUID> clientIds);
+
     @Query("""
             SELECT c FROM ContractJpaEntity c
             JOIN FETCH c.client
             WHERE c.client.id = :clientId
+              AND c.status = com.mk.contractservice.infrastructure.persistence.entity.ContractStatus.ACTIVE
               AND (c.endDate IS NULL OR c.endDate > :now)
             """)
     Page<ContractJpaEntity> findActiveContractsPageable(@Param("clientId") UUID clientId,
@@ -32,6 +69,7 @@ public interface ContractJpaRepository extends JpaRepository<ContractJpaEntity,
             SELECT c FROM ContractJpaEntity c
             JOIN FETCH c.client
             WHERE c.client.id = :clientId
+              AND c.status = com.mk.contractservice.infrastructure.persistence.entity.ContractStatus.ACTIVE
               AND (c.endDate IS NULL OR c.endDate > :now)
               AND c.lastModified >= :updatedSince
             """)
@@ -43,17 +81,73 @@ public interface ContractJpaRepository extends JpaRepository<ContractJpaEntity,
     @Modifying
     @Query("""
             UPDATE ContractJpaEntity c
-            SET c.endDate = :now, c.lastModified = CURRENT_TIMESTAMP
+            SET c.endDate = :now, c.lastModified = CURRENT_TIMESTAMP,
+                c.status = com.mk.contractservice.infrastructure.persistence.entity.ContractStatus.EXPIRED
             WHERE c.client.id = :clientId
+              AND c.status = com.mk.contractservice.infrastructure.persistence.entity.ContractStatus.ACTIVE
               AND (c.endDate IS NULL OR c.endDate > :now)
             """)
-    void closeAllActiveContracts(@Param("clientId") UUID clientId, @Param("now") LocalDateTime now);
+    int closeAllActiveContracts(@Param("clientId") UUID clientId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            WITH batch AS (
+                SELECT id
+                FROM contracts.contract
+                WHERE client_id = :clientId
+                  AND status = 'ACTIVE'
+                  AND (end_date IS NULL OR end_date > :now)
+                LIMIT :limit
+                FOR UPDATE
+            )
+            UPDATE contracts.contract c
+            SET end_date = :now, last_modified = CURRENT_TIMESTAMP, status = 'EXPIRED'
+            FROM batch
+            WHERE c.id = batch.id AND c.client_id = :clientId
+            """, nativeQuery = true)
+    int closeActiveContractsBatch(@Param("clientId") UUID clientId, @Param("now") LocalDateTime now, @Param("limit") int limit);
 
     @Query("""
             SELECT COALESCE(SUM(c.costAmount), 0)
             FROM ContractJpaEntity c
             WHERE c.client.id = :clientId
+              AND c.status = com.mk.contractservice.infrastructure.persistence.entity.ContractStatus.ACTIVE
               AND (c.endDate IS NULL OR c.endDate > :now)
             """)
     BigDecimal sumActiveContracts(@Param("clientId") UUID clientId, @Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT MIN(c.endDate)
+            FROM ContractJpaEntity c
+            WHERE c.client.id = :clientId
+              AND c.status = com.mk.contractservice.infrastructure.persistence.entity.ContractStatus.ACTIVE
+              AND c.endDate > :now
+            """)
+    LocalDateTime nextExpiry(@Param("clientId") UUID clientId, @Param("now") LocalDateTime now);
+
+    @Query(value = """
+            SELECT cl.id AS clientId, COALESCE(SUM(c.cost_amount), 0) AS total
+            FROM contracts.client cl
+            LEFT JOIN contracts.contract c
+                   ON c.client_id = cl.id
+                  AND c.status = 'ACTIVE'
+                  AND (c.end_date IS NULL OR c.end_date > :now)
+            WHERE cl.id = ANY(:clientIds)
+            GROUP BY cl.id
+            """, nativeQuery = true)
+    List<ClientSum> sumActiveContractsByClientIds(@Param("clientIds") UUID[] clientIds, @Param("now") LocalDateTime now);
+
+    interface Version {
+        UUID getClientId();
+
+        LocalDateTime getLastModified();
+
+        LocalDateTime getEndDate();
+    }
+
+    interface ClientSum {
+        UUID getClientId();
+
+        BigDecimal getTotal();
+    }
 }
@@ -0,0 +1,151 @@
+package com.mk.contractservice.infrastructure.persistence;
+
+import com.mk.contractservice.infrastructure.config.OrphanProperties;
+import com.mk.contractservice.infrastructure.scheduling.ClusterScheduled;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Removes contracts left without an owner by {@code ON DELETE SET NULL}. A run first stamps
+ * {@code orphaned_at} on orphans it has not seen yet, then archives or deletes ({@code app.orphans.mode}) those
+ * stamped longer than {@code app.orphans.retention} ago. Both steps work in {@code FOR UPDATE SKIP LOCKED} batches
+ * with {@code app.orphans.pause} between them.
+ */
+@Component
+@ConditionalOnExpression("${app.orphans.enabled:true} and '${app.persistence.adapter:jpa}' != 'memory'")
+public class ContractOrphanReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractOrphanReaper.class);
+
+    private static final String STAMP_BATCH = """
+            WITH unseen AS (
+                SELECT id
+                FROM contracts.contract
+                WHERE client_id IS NULL AND orphaned_at IS NULL
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE contracts.contract c
+            SET orphaned_at = :now
+            FROM unseen
+            WHERE c.id = unseen.id AND c.client_id IS NULL
+            """;
+
+    private static final String DUE = """
+            WITH due AS (
+                SELECT id
+                FROM contracts.contract
+                WHERE client_id IS NULL AND orphaned_at < :cutoff
+                ORDER BY orphaned_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private static final String DELETE_BATCH = DUE + """
+            DELETE FROM contracts.contract c
+            USING due
+            WHERE c.id = due.id AND c.client_id IS NULL
+            """;
+
+    private static final String ARCHIVE_BATCH = DUE + """
+            , moved AS (
+                DELETE FROM contracts.contract c
+                USING due
+                WHERE c.id = due.id AND c.client_id IS NULL
+                RETURNING c.id, c.start_date, c.end_date, c.cost_amount, c.last_modified
+            )
+            INSERT INTO contracts.contract_archive (id, client_id, start_date, end_date, cost_amount, last_modified)
+            SELECT id, NULL, start_date, end_date, cost_amount, last_modified FROM moved
+            """;
+
+    private static final String COUNT_PENDING = "SELECT count(*) FROM contracts.contract WHERE client_id IS NULL";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final OrphanProperties properties;
+    private final Counter stamped;
+    private final Counter reaped;
+    private final Timer runTimer;
+    private volatile long pending;
+
+    public ContractOrphanReaper(final NamedParameterJdbcTemplate jdbc, final OrphanProperties properties,
+                                final MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.properties = properties;
+        this.stamped = Counter.builder("contracts.orphans.detected")
+                .description("Contracts found without an owner and stamped with orphaned_at")
+                .register(meterRegistry);
+        this.reaped = Counter.builder("contracts.orphans.reaped")
+                .tag("mode", properties.mode().name().toLowerCase(Locale.ROOT))
+                .description("Orphaned contracts archived or deleted after the retention window")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("contracts.orphans.run")
+                .description("Duration of one orphan reaper run, pauses included")
+                .register(meterRegistry);
+        Gauge.builder("contracts.orphans.pending", this, reaper -> reaper.pending)
+                .description("Orphaned contracts still in the live table after the last run")
+                .register(meterRegistry);
+    }
+
+    @ClusterScheduled(name = "contract-orphans", interval = "${app.orphans.interval}")
+    public void reap() {
+        try {
+            runTimer.record(this::reapAll);
+        } catch (DataAccessException e) {
+            log.warn("Orphaned contract reaper failed: {}", e.getMessage());
+        }
+    }
+
+    int reapAll() {
+        final LocalDateTime now = LocalDateTime.now();
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("cutoff", now.minus(properties.retention()))
+                .addValue("batchSize", properties.batchSize());
+
+        final int detected = inBatches(STAMP_BATCH, params, stamped);
+        final int total = inBatches(properties.mode() == OrphanProperties.Mode.ARCHIVE ? ARCHIVE_BATCH : DELETE_BATCH,
+                params, reaped);
+
+        final Long remaining = jdbc.queryForObject(COUNT_PENDING, params, Long.class);
+        pending = remaining == null ? 0 : remaining;
+        if (detected > 0 || total > 0) {
+            log.info("Orphaned contracts: {} detected, {} {}, {} pending", detected, total,
+                    properties.mode() == OrphanProperties.Mode.ARCHIVE ? "archived" : "deleted", pending);
+        }
+        return total;
+    }
+
+    private int inBatches(final String sql, final MapSqlParameterSource params, final Counter counter) {
+        int total = 0;
+        int batch;
+        do {
+            batch = jdbc.update(sql, params);
+            total += batch;
+            counter.increment(batch);
+        } while (batch == properties.batchSize() && pause());
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.pause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
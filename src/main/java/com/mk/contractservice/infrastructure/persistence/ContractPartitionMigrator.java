@@ -0,0 +1,140 @@
+package com.mk.contractservice.infrastructure.persistence;
+
+import com.mk.contractservice.infrastructure.config.PartitioningProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Online move of {@code contracts.contract} into its hash-partitioned shadow (see migration V1.0.0.5).
+ * <p>
+ * Rows are copied in id order, {@code batch-size} at a time, each batch in its own {@code REPEATABLE READ}
+ * transaction: the copy and the "already mirrored" check then share one snapshot, and a row written concurrently
+ * (already mirrored by the trigger) makes {@code FOR SHARE} fail with a serialization error instead of being copied
+ * twice, in which case the batch is retried. Rows already mirrored are skipped through the {@code (id, client_id)}
+ * unique index, which probes the row's own partition only. Other rows stay writable throughout. Once the backfill is done,
+ * {@code cutover} swaps the tables under a short exclusive lock.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.partitioning", name = "backfill", havingValue = "true")
+public class ContractPartitionMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractPartitionMigrator.class);
+
+    private static final UUID LOWEST_ID = new UUID(0, 0);
+    private static final int MAX_ATTEMPTS = 10;
+
+    private static final String COPY_BATCH = """
+            WITH batch AS (
+                SELECT id, client_id, start_date, end_date, cost_amount, last_modified, status
+                FROM contracts.contract
+                WHERE id > :after
+                ORDER BY id
+                LIMIT :batchSize
+                FOR SHARE
+            ), copied AS (
+                INSERT INTO contracts.contract_p (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+                SELECT b.* FROM batch b
+                ON CONFLICT (id, client_id) DO NOTHING
+            )
+            SELECT id FROM batch ORDER BY id DESC LIMIT 1
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final PartitioningProperties properties;
+
+    public ContractPartitionMigrator(final NamedParameterJdbcTemplate jdbc, final PlatformTransactionManager transactionManager,
+                                     final PartitioningProperties properties) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofVirtual().name("contract-partition-backfill").start(() -> {
+            try {
+                migrate();
+            } catch (RuntimeException e) {
+                log.error("Contract partition migration stopped; rerun resumes from the copied rows", e);
+            }
+        });
+    }
+
+    public void migrate() {
+        if (!pendingMigration()) {
+            log.info("contracts.contract is already partitioned, nothing to migrate");
+            return;
+        }
+        final long batches = backfill();
+        if (properties.cutover()) {
+            final Long caughtUp = transactionTemplate.execute(status -> jdbc.getJdbcTemplate()
+                    .queryForObject("SELECT contracts.cutover_contract_partitioning()", Long.class));
+            log.info("Contract partition cutover done after {} batches ({} rows caught up under lock); "
+                    + "contracts.contract_unpartitioned can be dropped once verified", batches, caughtUp);
+        } else {
+            log.info("Contract partition backfill done after {} batches; cutover left to an operator", batches);
+        }
+    }
+
+    long backfill() {
+        final MapSqlParameterSource params = new MapSqlParameterSource().addValue("batchSize", properties.batchSize());
+        UUID after = LOWEST_ID;
+        long batches = 0;
+        while (true) {
+            params.addValue("after", after);
+            final UUID last = copyBatch(params);
+            if (last == null) {
+                return batches;
+            }
+            after = last;
+            if (++batches % 100 == 0) {
+                log.info("Contract partition backfill: {} batches copied, up to id {}", batches, after);
+            }
+            pause();
+        }
+    }
+
+    private UUID copyBatch(final MapSqlParameterSource params) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return batchTransaction.execute(status ->
+                        jdbc.query(COPY_BATCH, params, rs -> rs.next() ? rs.getObject(1, UUID.class) : null));
+            } catch (ConcurrencyFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Contract partition batch after {} hit a concurrent write, retrying", params.getValue("after"));
+            }
+        }
+    }
+
+    private boolean pendingMigration() {
+        return Boolean.TRUE.equals(jdbc.getJdbcTemplate().queryForObject(
+                "SELECT to_regclass('contracts.contract_p') IS NOT NULL", Boolean.class));
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.pause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Contract partition backfill interrupted", e);
+        }
+    }
+}
@@ -5,12 +5,16 @@ import com.mk.contractservice.domain.client.Client;
 import com.mk.contractservice.domain.client.ClientRepository;
 import com.mk.contractservice.domain.valueobject.Email;
 import com.mk.contractservice.infrastructure.persistence.assembler.ClientAssembler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "jpa", matchIfMissing = true)
 public class JpaClientRepository implements ClientRepository {
     private final ClientJpaRepository jpa;
     private final ClientAssembler assembler;
@@ -25,6 +29,11 @@ public class JpaClientRepository implements ClientRepository {
         return jpa.findById(id).map(assembler::toDomain);
     }
 
+    @Override
+    public List<Client> findAllById(final Collection<UUID> ids) {
+        return jpa.findAllById(ids).stream().map(assembler::toDomain).toList();
+    }
+
     @Override
     public Client save(final Client c) {
         var entity = assembler.toJpaEntity(c);
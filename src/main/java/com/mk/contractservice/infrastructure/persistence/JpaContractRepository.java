@@ -1,52 +1,151 @@
 package com.mk.contractservice.infrastructure.persistence;
 
 import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.contract.ContractField;
+import com.mk.contractservice.domain.contract.ContractProjection;
 import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.domain.contract.ContractVersion;
+import com.mk.contractservice.domain.valueobject.ContractCost;
+import com.mk.contractservice.domain.valueobject.ContractPeriod;
 import com.mk.contractservice.infrastructure.persistence.assembler.ContractAssembler;
+import com.mk.contractservice.infrastructure.persistence.entity.ContractJpaEntity;
+import com.mk.contractservice.infrastructure.persistence.entity.ContractStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "jpa", matchIfMissing = true)
 public class JpaContractRepository implements ContractRepository {
 
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "id", "c.id",
+            "startDate", "c.startDate",
+            "endDate", "c.endDate",
+            "costAmount", "c.costAmount",
+            "lastModified", "c.lastModified"
+    );
+
+    private static final Map<ContractField, String> PROJECTED_PATHS = Map.of(
+            ContractField.ID, "c.id AS id",
+            ContractField.CLIENT_ID, "c.client.id AS clientId",
+            ContractField.PERIOD, "c.startDate AS startDate, c.endDate AS endDate",
+            ContractField.COST_AMOUNT, "c.costAmount AS costAmount"
+    );
+
+    private static final String ACTIVE = """
+             FROM ContractJpaEntity c
+            WHERE c.client.id = :clientId
+              AND c.status = com.mk.contractservice.infrastructure.persistence.entity.ContractStatus.ACTIVE
+              AND (c.endDate IS NULL OR c.endDate > :now)""";
+
     private final ContractJpaRepository contractJpaRepository;
     private final ContractAssembler assembler;
+    private final EntityManager entityManager;
 
-    public JpaContractRepository(final ContractJpaRepository contractJpaRepository, final ContractAssembler assembler) {
+    public JpaContractRepository(final ContractJpaRepository contractJpaRepository, final ContractAssembler assembler,
+                                 final EntityManager entityManager) {
         this.contractJpaRepository = contractJpaRepository;
         this.assembler = assembler;
+        this.entityManager = entityManager;
     }
 
+    /**
+     * Existing contracts are updated with a statement scoped to their client and returned as given; a contract that
+     * was loaded earlier in the same persistence context is then stale and must not be read again.
+     */
     @Override
     public Contract save(final Contract contract) {
-        if (contract.getId() != null) {
-            var entityOpt = contractJpaRepository.findById(contract.getId());
-            if (entityOpt.isPresent()) {
-                var entity = entityOpt.get();
-                entity.setStartDate(contract.getPeriod().startDate());
-                entity.setEndDate(contract.getPeriod().endDate());
-                entity.setCostAmount(contract.getCostAmount().value());
-                entity.setLastModified(contract.getLastModified());
-                var savedEntity = contractJpaRepository.save(entity);
-                return assembler.toDomain(contractJpaRepository.findByIdWithClient(savedEntity.getId()).orElseThrow());
-            }
+        if (updateOfClient(contract)) {
+            return contract;
         }
         var entity = assembler.toJpaEntity(contract);
         var savedEntity = contractJpaRepository.save(entity);
         return assembler.toDomain(contractJpaRepository.findByIdWithClient(savedEntity.getId()).orElseThrow());
     }
 
+    /**
+     * Changed contracts are updated one statement each, scoped to their client as in {@link #save}, rather than through
+     * Hibernate's dirty checking, whose updates filter on the id alone and so reach every partition. New contracts are
+     * inserted together; with {@code hibernate.jdbc.batch_size} those statements go out in batches.
+     */
+    @Override
+    public List<Contract> saveAll(final List<Contract> contracts) {
+        final List<ContractJpaEntity> inserted = new ArrayList<>();
+        final List<Integer> insertedAt = new ArrayList<>();
+        for (int i = 0; i < contracts.size(); i++) {
+            if (!updateOfClient(contracts.get(i))) {
+                inserted.add(assembler.toJpaEntity(contracts.get(i)));
+                insertedAt.add(i);
+            }
+        }
+        final List<ContractJpaEntity> saved = contractJpaRepository.saveAll(inserted);
+
+        final List<Contract> result = new ArrayList<>(contracts);
+        for (int k = 0; k < saved.size(); k++) {
+            final Contract contract = contracts.get(insertedAt.get(k));
+            result.set(insertedAt.get(k), contract.getId() != null ? contract : Contract.builder()
+                    .id(saved.get(k).getId())
+                    .client(contract.getClient())
+                    .period(contract.getPeriod())
+                    .costAmount(contract.getCostAmount())
+                    .build());
+        }
+        return result;
+    }
+
+    private boolean updateOfClient(final Contract contract) {
+        return contract.getId() != null && contractJpaRepository.updateOfClient(contract.getId(),
+                contract.getClient().getId(), contract.getPeriod().startDate(), contract.getPeriod().endDate(),
+                contract.getCostAmount().value(), contract.getLastModified(),
+                ContractStatus.of(contract.getPeriod().endDate(), LocalDateTime.now())) > 0;
+    }
+
     @Override
     public Optional<Contract> findById(final UUID id) {
         return contractJpaRepository.findByIdWithClient(id).map(assembler::toDomain);
     }
 
+    @Override
+    public Optional<Contract> findByIdAndClientId(final UUID id, final UUID clientId) {
+        return contractJpaRepository.findByIdAndClientIdWithClient(id, clientId).map(assembler::toDomain);
+    }
+
+    @Override
+    public Optional<ContractVersion> findVersionById(final UUID id, final UUID clientId) {
+        return contractJpaRepository.findVersionById(id, clientId)
+                .map(version -> new ContractVersion(version.getClientId(), version.getLastModified(), version.getEndDate()));
+    }
+
+    @Override
+    public List<Contract> findAllById(final Collection<UUID> ids) {
+        return contractJpaRepository.findAllByIdWithClient(ids).stream().map(assembler::toDomain).toList();
+    }
+
+    @Override
+    public List<Contract> findAllByIdAndClientId(final Collection<UUID> contractIds, final Collection<UUID> clientIds) {
+        return contractJpaRepository.findAllByIdAndClientIdWithClient(contractIds, clientIds).stream()
+                .map(assembler::toDomain)
+                .toList();
+    }
+
     @Override
     public Page<Contract> findActiveByClientIdPageable(final UUID clientId, final LocalDateTime now, final LocalDateTime updatedSince, final Pageable pageable) {
         if (updatedSince == null) {
@@ -57,14 +156,84 @@ public class JpaContractRepository implements ContractRepository {
                 .map(assembler::toDomain);
     }
 
+    /**
+     * Selects only the attributes behind {@code fields} as tuples, so that neither entities nor their client are
+     * loaded; {@code c.client.id} is read from the foreign key, without a join.
+     */
+    @Override
+    public Page<ContractProjection> findActiveProjectionsByClientIdPageable(final UUID clientId, final LocalDateTime now,
+                                                                            final LocalDateTime updatedSince,
+                                                                            final Set<ContractField> fields,
+                                                                            final Pageable pageable) {
+        final String where = ACTIVE + (updatedSince != null ? " AND c.lastModified >= :updatedSince" : "");
+        final String select = fields.isEmpty() ? "c.id AS id" : fields.stream()
+                .map(PROJECTED_PATHS::get)
+                .collect(Collectors.joining(", "));
+
+        final TypedQuery<Tuple> query = bindActive(entityManager.createQuery(
+                "SELECT " + select + where + orderBy(pageable.getSort()), Tuple.class), clientId, now, updatedSince);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        final List<ContractProjection> content = query.getResultList().stream()
+                .map(tuple -> new ContractProjection(
+                        fields.contains(ContractField.ID) ? tuple.get("id", UUID.class) : null,
+                        fields.contains(ContractField.CLIENT_ID) ? tuple.get("clientId", UUID.class) : null,
+                        fields.contains(ContractField.PERIOD) ? ContractPeriod.of(
+                                tuple.get("startDate", LocalDateTime.class), tuple.get("endDate", LocalDateTime.class)) : null,
+                        fields.contains(ContractField.COST_AMOUNT)
+                                ? ContractCost.of(tuple.get("costAmount", BigDecimal.class)) : null))
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> bindActive(
+                entityManager.createQuery("SELECT count(c)" + where, Long.class), clientId, now, updatedSince)
+                .getSingleResult());
+    }
+
+    private static <T> TypedQuery<T> bindActive(final TypedQuery<T> query, final UUID clientId, final LocalDateTime now,
+                                                final LocalDateTime updatedSince) {
+        query.setParameter("clientId", clientId).setParameter("now", now);
+        return updatedSince == null ? query : query.setParameter("updatedSince", updatedSince);
+    }
+
+    private static String orderBy(final Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return sort.stream()
+                .map(order -> {
+                    final String path = SORTABLE_PROPERTIES.get(order.getProperty());
+                    if (path == null) {
+                        throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+                    }
+                    return path + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
 
     @Override
-    public void closeAllActiveByClientId(final UUID clientId, final LocalDateTime now) {
-        contractJpaRepository.closeAllActiveContracts(clientId, now);
+    public int closeAllActiveByClientId(final UUID clientId, final LocalDateTime now) {
+        return contractJpaRepository.closeAllActiveContracts(clientId, now);
+    }
+
+    @Override
+    public int closeActiveBatchByClientId(final UUID clientId, final LocalDateTime now, final int limit) {
+        return contractJpaRepository.closeActiveContractsBatch(clientId, now, limit);
     }
 
     @Override
     public BigDecimal sumActiveByClientId(final UUID clientId, final LocalDateTime now) {
         return contractJpaRepository.sumActiveContracts(clientId, now);
     }
+
+    @Override
+    public Optional<LocalDateTime> findNextExpiryByClientId(final UUID clientId, final LocalDateTime now) {
+        return Optional.ofNullable(contractJpaRepository.nextExpiry(clientId, now));
+    }
+
+    @Override
+    public Map<UUID, BigDecimal> sumActiveByClientIds(final Collection<UUID> clientIds, final LocalDateTime now) {
+        return contractJpaRepository.sumActiveContractsByClientIds(clientIds.toArray(UUID[]::new), now).stream()
+                .collect(Collectors.toMap(ContractJpaRepository.ClientSum::getClientId,
+                        ContractJpaRepository.ClientSum::getTotal));
+    }
 }
@@ -0,0 +1,173 @@
+package com.mk.contractservice.infrastructure.persistence.archive;
+
+import com.mk.contractservice.domain.contract.ArchivedContract;
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzipped segment files of archived contracts. Each file holds one archival batch, rows sorted by client, laid out
+ * column after column (ids, client ids, start dates, ...) so that similar values sit next to each other and compress
+ * well. Date-times are stored as epoch microseconds, amounts as unscaled cents.
+ * <p>
+ * Files are written to a temporary name, forced to disk and renamed, so readers never see a partial segment.
+ */
+final class ArchiveSegments {
+
+    static final String SUFFIX = ".seg.gz";
+
+    private static final int MAGIC = 0x43534547; // "CSEG"
+    private static final byte VERSION = 1;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    private static final UUID NULL_UUID = new UUID(0, 0);
+    private static final int COST_SCALE = 2;
+
+    private ArchiveSegments() {
+    }
+
+    static Path write(final Path directory, final List<ArchivedContract> contracts, final LocalDateTime archivedAt) throws IOException {
+        final List<ArchivedContract> rows = new ArrayList<>(contracts);
+        rows.sort(Comparator.comparing(ArchivedContract::clientId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(ArchivedContract::id));
+
+        Files.createDirectories(directory);
+        final Path target = directory.resolve("contracts-" + UuidV7.next() + SUFFIX);
+        final Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW), 64 * 1024)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeLong(toMicros(archivedAt));
+                out.writeInt(rows.size());
+                for (ArchivedContract row : rows) {
+                    writeUuid(out, row.id());
+                }
+                for (ArchivedContract row : rows) {
+                    writeUuid(out, row.clientId() == null ? NULL_UUID : row.clientId());
+                }
+                for (ArchivedContract row : rows) {
+                    out.writeLong(toMicros(row.startDate()));
+                }
+                for (ArchivedContract row : rows) {
+                    out.writeLong(toMicros(row.endDate()));
+                }
+                for (ArchivedContract row : rows) {
+                    out.writeLong(row.costAmount().setScale(COST_SCALE).unscaledValue().longValueExact());
+                }
+                for (ArchivedContract row : rows) {
+                    out.writeLong(toMicros(row.lastModified()));
+                }
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return target;
+    }
+
+    /**
+     * Streams the rows of {@code clientId} found in one segment. Only the client column is inspected for segments
+     * that hold none of them.
+     */
+    static void read(final Path segment, final UUID clientId, final Consumer<ArchivedContract> action) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(segment), 64 * 1024)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("Not an archive segment: " + segment);
+            }
+            final LocalDateTime archivedAt = fromMicros(in.readLong());
+            final int n = in.readInt();
+            final UUID[] ids = new UUID[n];
+            for (int i = 0; i < n; i++) {
+                ids[i] = readUuid(in);
+            }
+            int first = -1;
+            int last = -1;
+            for (int i = 0; i < n; i++) {
+                if (readUuid(in).equals(clientId)) {
+                    first = first < 0 ? i : first;
+                    last = i;
+                }
+            }
+            if (first < 0) {
+                return;
+            }
+            final long[] start = readColumn(in, n);
+            final long[] end = readColumn(in, n);
+            final long[] cost = readColumn(in, n);
+            final long[] lastModified = readColumn(in, n);
+            for (int i = first; i <= last; i++) {
+                action.accept(new ArchivedContract(ids[i], clientId, fromMicros(start[i]), fromMicros(end[i]),
+                        BigDecimal.valueOf(cost[i], COST_SCALE), fromMicros(lastModified[i]), archivedAt));
+            }
+        }
+    }
+
+    /**
+     * Complete segments in the directory, oldest first.
+     */
+    static List<Path> list(final Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+    }
+
+    private static long[] readColumn(final DataInputStream in, final int n) throws IOException {
+        final long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = in.readLong();
+        }
+        return values;
+    }
+
+    private static void writeUuid(final DataOutputStream out, final UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(final DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static long toMicros(final LocalDateTime value) {
+        if (value == null) {
+            return NULL_TIMESTAMP;
+        }
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(final long micros) {
+        if (micros == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000), (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
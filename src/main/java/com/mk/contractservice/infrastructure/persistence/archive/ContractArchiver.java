@@ -0,0 +1,173 @@
+package com.mk.contractservice.infrastructure.persistence.archive;
+
+import com.mk.contractservice.domain.contract.ArchivedContract;
+import com.mk.contractservice.infrastructure.config.ArchiveProperties;
+import com.mk.contractservice.infrastructure.scheduling.ClusterScheduled;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Moves contracts expired for longer than {@code app.archive.retention} out of the live table, either into
+ * {@code contracts.contract_archive} or into segment files ({@code app.archive.storage}). Batches are claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, so they never wait on a row the request path holds (one instance of the cluster
+ * archives at a time), and the job sleeps {@code app.archive.pause} between batches to leave I/O to the request path.
+ * <p>
+ * In table mode a batch is a single statement (delete and insert commit together). In file mode the segment is
+ * written and synced before the delete commits: a crash in between leaves the rows in both places, never in none, and
+ * the next run writes them to another segment, which {@link SegmentFileContractArchive} reads past.
+ * <p>
+ * Batches are deleted through their client as well as their id, so that only the partitions holding them are touched.
+ * Archived contracts are dropped from this instance's "expiredContracts" cache once their batch commits; other
+ * instances keep serving theirs until the cache ttl.
+ */
+@Component
+@ConditionalOnExpression("${app.archive.enabled:false} and '${app.persistence.adapter:jpa}' != 'memory'")
+public class ContractArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractArchiver.class);
+
+    private static final String DUE = """
+            WITH due AS (
+                SELECT id, client_id
+                FROM contracts.contract
+                WHERE status = 'EXPIRED' AND end_date < :cutoff
+                ORDER BY end_date
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM contracts.contract c
+                USING due
+                WHERE c.id = due.id AND c.client_id = due.client_id
+                RETURNING c.id, c.client_id, c.start_date, c.end_date, c.cost_amount, c.last_modified
+            )
+            """;
+
+    private static final String ARCHIVE_TO_TABLE = DUE + """
+            INSERT INTO contracts.contract_archive (id, client_id, start_date, end_date, cost_amount, last_modified)
+            SELECT id, client_id, start_date, end_date, cost_amount, last_modified FROM moved
+            RETURNING id
+            """;
+
+    private static final String ARCHIVE_TO_FILE = DUE + "SELECT * FROM moved";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveProperties properties;
+    private final CacheManager cacheManager;
+    private final Counter archived;
+    private final Timer runTimer;
+
+    public ContractArchiver(final NamedParameterJdbcTemplate jdbc, final PlatformTransactionManager transactionManager,
+                            final ArchiveProperties properties, final CacheManager cacheManager,
+                            final MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.cacheManager = cacheManager;
+        this.archived = Counter.builder("contracts.archive.archived")
+                .tag("storage", properties.storage().name().toLowerCase(Locale.ROOT))
+                .description("Expired contracts moved out of the live table")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("contracts.archive.run")
+                .description("Duration of one archival run, pauses included")
+                .register(meterRegistry);
+    }
+
+    @ClusterScheduled(name = "contract-archive", interval = "${app.archive.interval}", initialDelay = "${app.archive.interval}")
+    public void archive() {
+        try {
+            runTimer.record(this::archiveAll);
+        } catch (DataAccessException | UncheckedIOException e) {
+            log.warn("Contract archival failed: {}", e.getMessage());
+        }
+    }
+
+    int archiveAll() {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", LocalDateTime.now().minus(properties.retention()))
+                .addValue("batchSize", properties.batchSize());
+        int total = 0;
+        int batch;
+        do {
+            batch = switch (properties.storage()) {
+                case TABLE -> evict(jdbc.queryForList(ARCHIVE_TO_TABLE, params, UUID.class));
+                case FILE -> archiveBatchToFile(params);
+            };
+            total += batch;
+            archived.increment(batch);
+        } while (batch == properties.batchSize() && pause());
+
+        if (total > 0) {
+            log.info("Archived {} contracts expired before {}", total, params.getValue("cutoff"));
+        }
+        return total;
+    }
+
+    private int archiveBatchToFile(final MapSqlParameterSource params) {
+        final Integer moved = transactionTemplate.execute(status -> {
+            final LocalDateTime archivedAt = LocalDateTime.now();
+            final List<ArchivedContract> rows = jdbc.query(ARCHIVE_TO_FILE, params, (rs, i) -> new ArchivedContract(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("client_id", UUID.class),
+                    toLocalDateTime(rs.getTimestamp("start_date")),
+                    toLocalDateTime(rs.getTimestamp("end_date")),
+                    rs.getBigDecimal("cost_amount"),
+                    toLocalDateTime(rs.getTimestamp("last_modified")),
+                    archivedAt));
+            if (!rows.isEmpty()) {
+                try {
+                    ArchiveSegments.write(properties.directory(), rows, archivedAt);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return evict(rows.stream().map(ArchivedContract::id).toList());
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    /**
+     * @return the number of contracts evicted
+     */
+    private int evict(final List<UUID> archivedIds) {
+        final Cache expired = cacheManager.getCache("expiredContracts");
+        if (expired != null) {
+            archivedIds.forEach(expired::evict);
+        }
+        return archivedIds.size();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.pause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
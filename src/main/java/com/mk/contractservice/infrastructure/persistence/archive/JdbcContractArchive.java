@@ -0,0 +1,56 @@
+package com.mk.contractservice.infrastructure.persistence.archive;
+
+import com.mk.contractservice.domain.contract.ArchivedContract;
+import com.mk.contractservice.domain.contract.ContractArchive;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads {@code contracts.contract_archive} through a server-side cursor: rows are fetched {@value #FETCH_SIZE} at a
+ * time, so a client with years of history never sits in memory at once. Needs a surrounding transaction (the
+ * Postgres driver only honours the fetch size with auto-commit off).
+ */
+@Repository
+@ConditionalOnExpression("'${app.persistence.adapter:jpa}' != 'memory' and '${app.archive.storage:table}'.equalsIgnoreCase('table')")
+public class JdbcContractArchive implements ContractArchive {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String SELECT_BY_CLIENT = """
+            SELECT id, client_id, start_date, end_date, cost_amount, last_modified, archived_at
+            FROM contracts.contract_archive
+            WHERE client_id = ?
+            ORDER BY end_date DESC
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    JdbcContractArchive(final DataSource dataSource) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(FETCH_SIZE);
+    }
+
+    @Override
+    public void forEachByClientId(final UUID clientId, final Consumer<ArchivedContract> action) {
+        jdbc.query(SELECT_BY_CLIENT, (RowCallbackHandler) rs -> action.accept(new ArchivedContract(
+                rs.getObject("id", UUID.class),
+                rs.getObject("client_id", UUID.class),
+                toLocalDateTime(rs.getTimestamp("start_date")),
+                toLocalDateTime(rs.getTimestamp("end_date")),
+                rs.getBigDecimal("cost_amount"),
+                toLocalDateTime(rs.getTimestamp("last_modified")),
+                toLocalDateTime(rs.getTimestamp("archived_at")))), clientId);
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
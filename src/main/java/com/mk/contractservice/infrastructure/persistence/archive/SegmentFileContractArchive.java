@@ -0,0 +1,49 @@
+package com.mk.contractservice.infrastructure.persistence.archive;
+
+import com.mk.contractservice.domain.contract.ArchivedContract;
+import com.mk.contractservice.domain.contract.ContractArchive;
+import com.mk.contractservice.infrastructure.config.ArchiveProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads the segment files written by {@link ContractArchiver} in file mode. There is no per-client index: every
+ * segment is opened, but only its client column is decoded unless the client appears in it.
+ * <p>
+ * A batch whose delete did not commit after its segment was written is archived again by the next run, into another
+ * segment: a contract found in several segments is only sent from the first.
+ */
+@Repository
+@ConditionalOnExpression("'${app.persistence.adapter:jpa}' != 'memory' and '${app.archive.storage:table}'.equalsIgnoreCase('file')")
+public class SegmentFileContractArchive implements ContractArchive {
+
+    private final Path directory;
+
+    SegmentFileContractArchive(final ArchiveProperties properties) {
+        this.directory = properties.directory();
+    }
+
+    @Override
+    public void forEachByClientId(final UUID clientId, final Consumer<ArchivedContract> action) {
+        final Set<UUID> seen = new HashSet<>();
+        try {
+            for (Path segment : ArchiveSegments.list(directory)) {
+                ArchiveSegments.read(segment, clientId, contract -> {
+                    if (seen.add(contract.id())) {
+                        action.accept(contract);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
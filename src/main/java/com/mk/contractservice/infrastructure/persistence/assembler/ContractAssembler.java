@@ -6,9 +6,11 @@ import com.mk.contractservice.domain.valueobject.ContractPeriod;
 import com.mk.contractservice.infrastructure.persistence.ClientJpaRepository;
 import com.mk.contractservice.infrastructure.persistence.entity.ClientJpaEntity;
 import com.mk.contractservice.infrastructure.persistence.entity.ContractJpaEntity;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "jpa", matchIfMissing = true)
 public class ContractAssembler {
 
     private final ClientAssembler clientAssembler;
@@ -1,18 +1,23 @@
 package com.mk.contractservice.infrastructure.persistence.entity;
 
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7Generator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -26,7 +31,8 @@ import java.util.UUID;
 public class ContractJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
@@ -46,6 +52,11 @@ public class ContractJpaEntity {
     @Column(name = "last_modified", nullable = false)
     private LocalDateTime lastModified;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    @Setter(AccessLevel.NONE)
+    private ContractStatus status;
+
     public ContractJpaEntity(ClientJpaEntity client, LocalDateTime startDate, LocalDateTime endDate, BigDecimal costAmount) {
         this.client = client;
         this.startDate = startDate;
@@ -53,5 +64,10 @@ public class ContractJpaEntity {
         this.costAmount = costAmount;
         this.lastModified = LocalDateTime.now();
     }
-}
 
+    @PrePersist
+    @PreUpdate
+    void refreshStatus() {
+        this.status = ContractStatus.of(endDate, LocalDateTime.now());
+    }
+}
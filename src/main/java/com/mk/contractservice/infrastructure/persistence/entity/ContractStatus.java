@@ -0,0 +1,16 @@
+package com.mk.contractservice.infrastructure.persistence.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted lifecycle of a contract row. {@code ACTIVE} rows may already be past their end date until the expiry
+ * sweeper flips them, so queries keep the exact end-date check; {@code EXPIRED} is final.
+ */
+public enum ContractStatus {
+    ACTIVE,
+    EXPIRED;
+
+    public static ContractStatus of(final LocalDateTime endDate, final LocalDateTime now) {
+        return endDate == null || endDate.isAfter(now) ? ACTIVE : EXPIRED;
+    }
+}
@@ -0,0 +1,35 @@
+package com.mk.contractservice.infrastructure.persistence.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48-bit Unix millisecond timestamp, then a 12-bit sequence in {@code rand_a} and 62
+ * random bits. New keys always land on the rightmost leaf of a B-tree index instead of a random page, which keeps
+ * primary-key inserts append-only. Values are strictly increasing within the JVM: the sequence restarts every
+ * millisecond and, once exhausted, borrows from the next millisecond rather than going backwards.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        final long now = System.currentTimeMillis() << 12;
+        final long stamp = LAST_STAMP.updateAndGet(last -> Math.max(now, last + 1));
+        final long msb = (stamp >>> 12) << 16 | 0x7000L | (stamp & 0xFFFL);
+        final long lsb = RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    public static long timestampMillis(final UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mk.contractservice.infrastructure.persistence.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Plugs {@link UuidV7} into {@code @UuidGenerator(algorithm = ...)} for the JPA entities.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    @Override
+    public UUID generateUuid(final SharedSessionContractImplementor session) {
+        return UuidV7.next();
+    }
+}
@@ -0,0 +1,64 @@
+package com.mk.contractservice.infrastructure.persistence.jdbc;
+
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.Company;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.valueobject.ClientName;
+import com.mk.contractservice.domain.valueobject.CompanyIdentifier;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.domain.valueobject.PersonBirthDate;
+import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Maps the columns selected by {@link #COLUMNS} (client joined with its person/company subtype) to a domain {@link Client}.
+ */
+final class ClientRowMapper implements RowMapper<Client> {
+
+    static final ClientRowMapper INSTANCE = new ClientRowMapper();
+
+    static final String COLUMNS = """
+            cl.id AS client_id, cl.type AS client_type, cl.name AS client_name, cl.email AS client_email,
+            cl.phone AS client_phone, p.birth_date AS client_birth_date, co.company_identifier AS client_company_identifier
+            """;
+
+    static final String JOINS = """
+            LEFT JOIN contracts.person p ON p.id = cl.id
+            LEFT JOIN contracts.company co ON co.id = cl.id
+            """;
+
+    private ClientRowMapper() {
+    }
+
+    @Override
+    public Client mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+        final UUID id = rs.getObject("client_id", UUID.class);
+        final ClientName name = ClientName.of(rs.getString("client_name"));
+        final Email email = Email.of(rs.getString("client_email"));
+        final PhoneNumber phone = PhoneNumber.of(rs.getString("client_phone"));
+        final String type = rs.getString("client_type");
+
+        return switch (type) {
+            case "PERSON" -> Person.builder()
+                    .id(id)
+                    .name(name)
+                    .email(email)
+                    .phone(phone)
+                    .birthDate(PersonBirthDate.of(rs.getObject("client_birth_date", LocalDate.class)))
+                    .build();
+            case "COMPANY" -> Company.builder()
+                    .id(id)
+                    .name(name)
+                    .email(email)
+                    .phone(phone)
+                    .companyIdentifier(CompanyIdentifier.of(rs.getString("client_company_identifier")))
+                    .build();
+            default -> throw new IllegalStateException("Unknown client type: " + type);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.mk.contractservice.infrastructure.persistence.jdbc;
+
+import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.valueobject.ContractCost;
+import com.mk.contractservice.domain.valueobject.ContractPeriod;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Maps a contract row joined with its owner ({@link #SELECT}) to a domain {@link Contract}.
+ */
+final class ContractRowMapper implements RowMapper<Contract> {
+
+    static final ContractRowMapper INSTANCE = new ContractRowMapper();
+
+    static final String SELECT = "SELECT ct.id, ct.start_date, ct.end_date, ct.cost_amount, " + ClientRowMapper.COLUMNS
+            + " FROM contracts.contract ct JOIN contracts.client cl ON cl.id = ct.client_id " + ClientRowMapper.JOINS;
+
+    private ContractRowMapper() {
+    }
+
+    @Override
+    public Contract mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+        return Contract.builder()
+                .id(rs.getObject("id", UUID.class))
+                .client(ClientRowMapper.INSTANCE.mapRow(rs, rowNum))
+                .period(ContractPeriod.of(toLocalDateTime(rs.getTimestamp("start_date")), toLocalDateTime(rs.getTimestamp("end_date"))))
+                .costAmount(ContractCost.of(rs.getBigDecimal("cost_amount")))
+                .build();
+    }
+
+    static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,124 @@
+package com.mk.contractservice.infrastructure.persistence.jdbc;
+
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.client.Company;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "jdbc")
+public class JdbcClientRepository implements ClientRepository {
+
+    private static final String SELECT_BY_ID = "SELECT " + ClientRowMapper.COLUMNS
+            + " FROM contracts.client cl " + ClientRowMapper.JOINS + " WHERE cl.id = :id";
+
+    private static final String SELECT_BY_IDS = "SELECT " + ClientRowMapper.COLUMNS
+            + " FROM contracts.client cl " + ClientRowMapper.JOINS + " WHERE cl.id = ANY(:ids)";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcClientRepository(final NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Optional<Client> findById(final UUID id) {
+        return jdbc.query(SELECT_BY_ID, new MapSqlParameterSource("id", id), ClientRowMapper.INSTANCE)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Client> findAllById(final Collection<UUID> ids) {
+        return jdbc.query(SELECT_BY_IDS, new MapSqlParameterSource("ids", ids.toArray(UUID[]::new)),
+                ClientRowMapper.INSTANCE);
+    }
+
+    @Override
+    public Client save(final Client client) {
+        final UUID id = client.getId() != null ? client.getId() : UuidV7.next();
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("name", client.getName().value())
+                .addValue("email", client.getEmail().value())
+                .addValue("phone", client.getPhone().value());
+
+        final int updated = client.getId() == null ? 0 : jdbc.update("""
+                UPDATE contracts.client SET name = :name, email = :email, phone = :phone WHERE id = :id
+                """, params);
+        if (updated == 0) {
+            insert(client, params);
+        }
+        return client.getId() != null ? client : withId(client, id);
+    }
+
+    private void insert(final Client client, final MapSqlParameterSource params) {
+        switch (client) {
+            case Person person -> {
+                jdbc.update("""
+                        INSERT INTO contracts.client (id, type, name, email, phone) VALUES (:id, 'PERSON', :name, :email, :phone)
+                        """, params);
+                jdbc.update("INSERT INTO contracts.person (id, birth_date) VALUES (:id, :birthDate)",
+                        params.addValue("birthDate", person.getBirthDate().value()));
+            }
+            case Company company -> {
+                jdbc.update("""
+                        INSERT INTO contracts.client (id, type, name, email, phone) VALUES (:id, 'COMPANY', :name, :email, :phone)
+                        """, params);
+                jdbc.update("INSERT INTO contracts.company (id, company_identifier) VALUES (:id, :companyIdentifier)",
+                        params.addValue("companyIdentifier", company.getCompanyIdentifier().value()));
+            }
+        }
+    }
+
+    private static Client withId(final Client client, final UUID id) {
+        return switch (client) {
+            case Person p -> Person.builder()
+                    .id(id).name(p.getName()).email(p.getEmail()).phone(p.getPhone()).birthDate(p.getBirthDate())
+                    .build();
+            case Company c -> Company.builder()
+                    .id(id).name(c.getName()).email(c.getEmail()).phone(c.getPhone()).companyIdentifier(c.getCompanyIdentifier())
+                    .build();
+        };
+    }
+
+    @Override
+    public void deleteById(final UUID id) {
+        jdbc.update("DELETE FROM contracts.client WHERE id = :id", new MapSqlParameterSource("id", id));
+    }
+
+    @Override
+    public boolean existsById(final UUID id) {
+        return exists("SELECT EXISTS (SELECT 1 FROM contracts.client WHERE id = :value)", id);
+    }
+
+    @Override
+    public boolean existsByEmail(final Email email) {
+        return existsByEmail(email.value());
+    }
+
+    @Override
+    public boolean existsByEmail(final String email) {
+        return exists("SELECT EXISTS (SELECT 1 FROM contracts.client WHERE email = :value)", email);
+    }
+
+    @Override
+    public boolean existsByCompanyIdentifier(final String companyIdentifier) {
+        return exists("SELECT EXISTS (SELECT 1 FROM contracts.company WHERE company_identifier = :value)", companyIdentifier);
+    }
+
+    private boolean exists(final String sql, final Object value) {
+        return Boolean.TRUE.equals(jdbc.queryForObject(sql, new MapSqlParameterSource("value", value), Boolean.class));
+    }
+}
@@ -0,0 +1,283 @@
+package com.mk.contractservice.infrastructure.persistence.jdbc;
+
+import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.contract.ContractField;
+import com.mk.contractservice.domain.contract.ContractProjection;
+import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.domain.contract.ContractVersion;
+import com.mk.contractservice.domain.valueobject.ContractCost;
+import com.mk.contractservice.domain.valueobject.ContractPeriod;
+import com.mk.contractservice.infrastructure.persistence.entity.ContractStatus;
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "jdbc")
+public class JdbcContractRepository implements ContractRepository {
+
+    private static final String ACTIVE = "ct.client_id = :clientId AND ct.status = 'ACTIVE' AND (ct.end_date IS NULL OR ct.end_date > :now)";
+
+    /**
+     * Scoped to the owner as well as the id, so that only the client's partition is touched.
+     */
+    private static final String UPDATE = """
+            UPDATE contracts.contract
+            SET start_date = :startDate, end_date = :endDate, cost_amount = :costAmount, last_modified = :lastModified,
+                status = :status
+            WHERE id = :id AND client_id = :clientId
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO contracts.contract (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+            VALUES (:id, :clientId, :startDate, :endDate, :costAmount, :lastModified, :status)
+            """;
+
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "ct.id",
+            "startDate", "ct.start_date",
+            "endDate", "ct.end_date",
+            "costAmount", "ct.cost_amount",
+            "lastModified", "ct.last_modified"
+    );
+
+    private static final Map<ContractField, String> PROJECTED_COLUMNS = Map.of(
+            ContractField.ID, "ct.id",
+            ContractField.CLIENT_ID, "ct.client_id",
+            ContractField.PERIOD, "ct.start_date, ct.end_date",
+            ContractField.COST_AMOUNT, "ct.cost_amount"
+    );
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcContractRepository(final NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Contract save(final Contract contract) {
+        final UUID id = contract.getId() != null ? contract.getId() : UuidV7.next();
+        final MapSqlParameterSource params = params(contract, id);
+
+        final int updated = contract.getId() == null ? 0 : jdbc.update(UPDATE, params);
+        if (updated == 0) {
+            jdbc.update(INSERT, params);
+        }
+        return withId(contract, id);
+    }
+
+    @Override
+    public List<Contract> saveAll(final List<Contract> contracts) {
+        final List<Contract> saved = new ArrayList<>(contracts.size());
+        final List<MapSqlParameterSource> updates = new ArrayList<>();
+        final List<MapSqlParameterSource> inserts = new ArrayList<>();
+        for (final Contract contract : contracts) {
+            final UUID id = contract.getId() != null ? contract.getId() : UuidV7.next();
+            (contract.getId() != null ? updates : inserts).add(params(contract, id));
+            saved.add(withId(contract, id));
+        }
+        if (!updates.isEmpty()) {
+            final int[] updated = jdbc.batchUpdate(UPDATE, updates.toArray(MapSqlParameterSource[]::new));
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    inserts.add(updates.get(i));
+                }
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbc.batchUpdate(INSERT, inserts.toArray(MapSqlParameterSource[]::new));
+        }
+        return saved;
+    }
+
+    private static MapSqlParameterSource params(final Contract contract, final UUID id) {
+        return new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("clientId", contract.getClient().getId())
+                .addValue("startDate", contract.getPeriod().startDate())
+                .addValue("endDate", contract.getPeriod().endDate())
+                .addValue("costAmount", contract.getCostAmount().value())
+                .addValue("lastModified", contract.getLastModified())
+                .addValue("status", ContractStatus.of(contract.getPeriod().endDate(), LocalDateTime.now()).name());
+    }
+
+    private static Contract withId(final Contract contract, final UUID id) {
+        return contract.getId() != null ? contract : Contract.builder()
+                .id(id)
+                .client(contract.getClient())
+                .period(contract.getPeriod())
+                .costAmount(contract.getCostAmount())
+                .build();
+    }
+
+    @Override
+    public Optional<Contract> findById(final UUID contractId) {
+        return jdbc.query(ContractRowMapper.SELECT + " WHERE ct.id = :id",
+                        new MapSqlParameterSource("id", contractId), ContractRowMapper.INSTANCE)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Contract> findByIdAndClientId(final UUID contractId, final UUID clientId) {
+        return jdbc.query(ContractRowMapper.SELECT + " WHERE ct.id = :id AND ct.client_id = :clientId",
+                        new MapSqlParameterSource("id", contractId).addValue("clientId", clientId), ContractRowMapper.INSTANCE)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<ContractVersion> findVersionById(final UUID contractId, final UUID clientId) {
+        return jdbc.query("SELECT client_id, last_modified, end_date FROM contracts.contract WHERE id = :id AND client_id = :clientId",
+                        new MapSqlParameterSource("id", contractId).addValue("clientId", clientId),
+                        (rs, rowNum) -> new ContractVersion(rs.getObject("client_id", UUID.class),
+                                ContractRowMapper.toLocalDateTime(rs.getTimestamp("last_modified")),
+                                ContractRowMapper.toLocalDateTime(rs.getTimestamp("end_date"))))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Contract> findAllById(final Collection<UUID> contractIds) {
+        return jdbc.query(ContractRowMapper.SELECT + " WHERE ct.id = ANY(:ids)",
+                new MapSqlParameterSource("ids", contractIds.toArray(UUID[]::new)), ContractRowMapper.INSTANCE);
+    }
+
+    @Override
+    public List<Contract> findAllByIdAndClientId(final Collection<UUID> contractIds, final Collection<UUID> clientIds) {
+        return jdbc.query(ContractRowMapper.SELECT + " WHERE ct.id = ANY(:ids) AND ct.client_id = ANY(:clientIds)",
+                new MapSqlParameterSource("ids", contractIds.toArray(UUID[]::new))
+                        .addValue("clientIds", clientIds.toArray(UUID[]::new)),
+                ContractRowMapper.INSTANCE);
+    }
+
+    @Override
+    public Page<Contract> findActiveByClientIdPageable(final UUID clientId, final LocalDateTime now, final LocalDateTime updatedSince, final Pageable pageable) {
+        return findActive(ContractRowMapper.SELECT, ContractRowMapper.INSTANCE, clientId, now, updatedSince, pageable);
+    }
+
+    /**
+     * Reads only the columns behind {@code fields}, from the contract table alone: the client is not joined.
+     */
+    @Override
+    public Page<ContractProjection> findActiveProjectionsByClientIdPageable(final UUID clientId, final LocalDateTime now,
+                                                                            final LocalDateTime updatedSince,
+                                                                            final Set<ContractField> fields,
+                                                                            final Pageable pageable) {
+        final String columns = fields.isEmpty() ? "ct.id" : fields.stream()
+                .map(PROJECTED_COLUMNS::get)
+                .collect(Collectors.joining(", "));
+        final RowMapper<ContractProjection> rowMapper = (rs, rowNum) -> new ContractProjection(
+                fields.contains(ContractField.ID) ? rs.getObject("id", UUID.class) : null,
+                fields.contains(ContractField.CLIENT_ID) ? rs.getObject("client_id", UUID.class) : null,
+                fields.contains(ContractField.PERIOD) ? ContractPeriod.of(
+                        ContractRowMapper.toLocalDateTime(rs.getTimestamp("start_date")),
+                        ContractRowMapper.toLocalDateTime(rs.getTimestamp("end_date"))) : null,
+                fields.contains(ContractField.COST_AMOUNT) ? ContractCost.of(rs.getBigDecimal("cost_amount")) : null);
+        return findActive("SELECT " + columns + " FROM contracts.contract ct", rowMapper, clientId, now, updatedSince, pageable);
+    }
+
+    private <T> Page<T> findActive(final String select, final RowMapper<T> rowMapper, final UUID clientId,
+                                   final LocalDateTime now, final LocalDateTime updatedSince, final Pageable pageable) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("clientId", clientId)
+                .addValue("now", now)
+                .addValue("updatedSince", updatedSince);
+        final String where = " WHERE " + ACTIVE + (updatedSince != null ? " AND ct.last_modified >= :updatedSince" : "");
+
+        final StringBuilder sql = new StringBuilder(select).append(where).append(orderBy(pageable.getSort()));
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT :limit OFFSET :offset");
+            params.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+        }
+
+        final List<T> content = jdbc.query(sql.toString(), params, rowMapper);
+        return PageableExecutionUtils.getPage(content, pageable, () -> jdbc.queryForObject(
+                "SELECT count(*) FROM contracts.contract ct" + where, params, Long.class));
+    }
+
+    private static String orderBy(final Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return sort.stream()
+                .map(order -> {
+                    final String column = SORTABLE_COLUMNS.get(order.getProperty());
+                    if (column == null) {
+                        throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+                    }
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    @Override
+    public int closeAllActiveByClientId(final UUID clientId, final LocalDateTime now) {
+        return jdbc.update("UPDATE contracts.contract ct SET end_date = :now, last_modified = CURRENT_TIMESTAMP, status = 'EXPIRED' WHERE " + ACTIVE,
+                new MapSqlParameterSource().addValue("clientId", clientId).addValue("now", now));
+    }
+
+    @Override
+    public int closeActiveBatchByClientId(final UUID clientId, final LocalDateTime now, final int limit) {
+        return jdbc.update("WITH batch AS (SELECT ct.id FROM contracts.contract ct WHERE " + ACTIVE + " LIMIT :limit FOR UPDATE) "
+                        + "UPDATE contracts.contract c SET end_date = :now, last_modified = CURRENT_TIMESTAMP, status = 'EXPIRED' "
+                        + "FROM batch WHERE c.id = batch.id AND c.client_id = :clientId",
+                new MapSqlParameterSource().addValue("clientId", clientId).addValue("now", now).addValue("limit", limit));
+    }
+
+    @Override
+    public BigDecimal sumActiveByClientId(final UUID clientId, final LocalDateTime now) {
+        return jdbc.queryForObject("SELECT COALESCE(SUM(ct.cost_amount), 0) FROM contracts.contract ct WHERE " + ACTIVE,
+                new MapSqlParameterSource().addValue("clientId", clientId).addValue("now", now), BigDecimal.class);
+    }
+
+    /**
+     * Reads the end dates of the client's active contracts only, from the partial active index.
+     */
+    @Override
+    public Optional<LocalDateTime> findNextExpiryByClientId(final UUID clientId, final LocalDateTime now) {
+        return Optional.ofNullable(ContractRowMapper.toLocalDateTime(jdbc.queryForObject(
+                "SELECT MIN(ct.end_date) FROM contracts.contract ct WHERE " + ACTIVE,
+                new MapSqlParameterSource().addValue("clientId", clientId).addValue("now", now), Timestamp.class)));
+    }
+
+    @Override
+    public Map<UUID, BigDecimal> sumActiveByClientIds(final Collection<UUID> clientIds, final LocalDateTime now) {
+        final Map<UUID, BigDecimal> sums = new HashMap<>();
+        jdbc.query("""
+                        SELECT cl.id, COALESCE(SUM(ct.cost_amount), 0) AS total
+                        FROM contracts.client cl
+                        LEFT JOIN contracts.contract ct
+                               ON ct.client_id = cl.id
+                              AND ct.status = 'ACTIVE'
+                              AND (ct.end_date IS NULL OR ct.end_date > :now)
+                        WHERE cl.id = ANY(:clientIds)
+                        GROUP BY cl.id
+                        """,
+                new MapSqlParameterSource().addValue("clientIds", clientIds.toArray(UUID[]::new)).addValue("now", now),
+                rs -> {
+                    sums.put(rs.getObject("id", UUID.class), rs.getBigDecimal("total"));
+                });
+        return sums;
+    }
+}
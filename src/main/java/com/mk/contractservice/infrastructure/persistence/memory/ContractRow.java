@@ -0,0 +1,34 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Immutable stored form of a contract: updates replace the row (and its index entries) instead of mutating it.
+ */
+record ContractRow(UUID id, UUID clientId, LocalDateTime startDate, LocalDateTime endDate, BigDecimal costAmount,
+                   LocalDateTime lastModified) {
+
+    private static final UUID MAX_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    static final Comparator<ContractRow> BY_LAST_MODIFIED_DESC = Comparator
+            .comparing(ContractRow::lastModified, Comparator.reverseOrder())
+            .thenComparing(ContractRow::id);
+
+    static final Comparator<ContractRow> BY_END_DATE = Comparator
+            .comparing(ContractRow::endDate)
+            .thenComparing(ContractRow::id);
+
+    /**
+     * Upper probe for {@link #BY_END_DATE}: every row ending strictly after {@code instant} sorts after it.
+     */
+    static ContractRow endingAt(final LocalDateTime instant) {
+        return new ContractRow(MAX_ID, null, null, instant, null, null);
+    }
+
+    boolean isActiveAt(final LocalDateTime now) {
+        return endDate == null || endDate.isAfter(now);
+    }
+}
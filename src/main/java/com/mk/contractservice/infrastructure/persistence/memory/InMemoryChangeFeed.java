@@ -0,0 +1,75 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.mk.contractservice.application.feed.Change;
+import com.mk.contractservice.application.feed.ChangeFeed;
+import com.mk.contractservice.infrastructure.config.ChangeFeedProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link ChangeFeed} fed directly by {@link InMemoryDomainEventPublisher}; changes older than
+ * {@code app.changes.retention} are dropped on append.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class InMemoryChangeFeed implements ChangeFeed {
+
+    private final ChangeFeedProperties properties;
+    private final ConcurrentSkipListMap<Long, Entry> changes = new ConcurrentSkipListMap<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private volatile long purgedThrough;
+
+    public InMemoryChangeFeed(final ChangeFeedProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public List<Change> read(final long after, final int limit) {
+        final List<Change> page = new ArrayList<>(Math.min(limit, 64));
+        for (final Entry entry : changes.tailMap(after, false).values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(entry.change());
+        }
+        return page;
+    }
+
+    @Override
+    public long head() {
+        final Map.Entry<Long, Entry> last = changes.lastEntry();
+        return last == null ? purgedThrough : last.getKey();
+    }
+
+    @Override
+    public long purgedThrough() {
+        return purgedThrough;
+    }
+
+    @Override
+    public void onAppend(final Runnable listener) {
+        listeners.add(listener);
+    }
+
+    synchronized void append(final Change change) {
+        final Instant now = Instant.now();
+        changes.put(change.sequence(), new Entry(change, now));
+        final Instant cutoff = now.minus(properties.retention());
+        Map.Entry<Long, Entry> oldest;
+        while ((oldest = changes.firstEntry()) != null && oldest.getValue().appendedAt().isBefore(cutoff)) {
+            changes.remove(oldest.getKey());
+            purgedThrough = oldest.getKey();
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    private record Entry(Change change, Instant appendedAt) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.client.Company;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class InMemoryClientRepository implements ClientRepository {
+
+    private final InMemoryStore store;
+
+    InMemoryClientRepository(final InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Optional<Client> findById(final UUID id) {
+        return Optional.ofNullable(store.clients.get(id)).map(c -> copyOf(c, c.getId()));
+    }
+
+    @Override
+    public List<Client> findAllById(final Collection<UUID> ids) {
+        return ids.stream()
+                .distinct()
+                .map(store.clients::get)
+                .filter(Objects::nonNull)
+                .map(c -> copyOf(c, c.getId()))
+                .toList();
+    }
+
+    @Override
+    public Client save(final Client client) {
+        final UUID id = client.getId() != null ? client.getId() : UuidV7.next();
+        final ReentrantLock lock = store.lockFor(id);
+        lock.lock();
+        try {
+            final Client previous = store.clients.get(id);
+            final String email = client.getEmail().value();
+            reserve(store.clientIdByEmail.putIfAbsent(email, id), id, "email", email);
+
+            if (previous == null && client instanceof Company company) {
+                final String identifier = company.getCompanyIdentifier().value();
+                try {
+                    reserve(store.clientIdByCompanyIdentifier.putIfAbsent(identifier, id), id, "company_identifier", identifier);
+                } catch (DuplicateKeyException e) {
+                    store.clientIdByEmail.remove(email, id);
+                    throw e;
+                }
+            }
+            if (previous != null && !previous.getEmail().value().equals(email)) {
+                store.clientIdByEmail.remove(previous.getEmail().value(), id);
+            }
+
+            final Client stored = copyOf(client, id);
+            store.clients.put(id, stored);
+            return copyOf(stored, id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void reserve(final UUID owner, final UUID id, final String key, final String value) {
+        if (owner != null && !owner.equals(id)) {
+            throw new DuplicateKeyException("Duplicate " + key + ": " + value);
+        }
+    }
+
+    @Override
+    public void deleteById(final UUID id) {
+        final ReentrantLock lock = store.lockFor(id);
+        lock.lock();
+        try {
+            final Client removed = store.clients.remove(id);
+            if (removed == null) {
+                return;
+            }
+            store.clientIdByEmail.remove(removed.getEmail().value(), id);
+            if (removed instanceof Company company) {
+                store.clientIdByCompanyIdentifier.remove(company.getCompanyIdentifier().value(), id);
+            }
+            // Same outcome as ON DELETE SET NULL followed by inner joins: the contracts become unreachable.
+            final InMemoryStore.ClientContracts owned = store.contractsByClient.remove(id);
+            if (owned != null) {
+                owned.byLastModified.forEach(row -> store.contracts.remove(row.id()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(final UUID id) {
+        return store.clients.containsKey(id);
+    }
+
+    @Override
+    public boolean existsByEmail(final Email email) {
+        return existsByEmail(email.value());
+    }
+
+    @Override
+    public boolean existsByEmail(final String email) {
+        return store.clientIdByEmail.containsKey(email);
+    }
+
+    @Override
+    public boolean existsByCompanyIdentifier(final String companyIdentifier) {
+        return store.clientIdByCompanyIdentifier.containsKey(companyIdentifier);
+    }
+
+    static Client copyOf(final Client client, final UUID id) {
+        return switch (client) {
+            case Person p -> Person.builder()
+                    .id(id).name(p.getName()).email(p.getEmail()).phone(p.getPhone()).birthDate(p.getBirthDate())
+                    .build();
+            case Company c -> Company.builder()
+                    .id(id).name(c.getName()).email(c.getEmail()).phone(c.getPhone()).companyIdentifier(c.getCompanyIdentifier())
+                    .build();
+        };
+    }
+}
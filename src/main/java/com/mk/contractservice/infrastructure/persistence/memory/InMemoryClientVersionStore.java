@@ -0,0 +1,41 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.mk.contractservice.application.version.ClientVersionStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ClientVersionStore} of this JVM.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class InMemoryClientVersionStore implements ClientVersionStore {
+
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public void bump(final UUID clientId) {
+        versions.merge(clientId, 1L, Long::sum);
+    }
+
+    @Override
+    public void bumpAll(final Collection<UUID> clientIds) {
+        clientIds.stream().distinct().forEach(this::bump);
+    }
+
+    @Override
+    public Optional<Long> find(final UUID clientId) {
+        return Optional.ofNullable(versions.get(clientId));
+    }
+
+    @Override
+    public void delete(final UUID clientId) {
+        versions.remove(clientId);
+    }
+}
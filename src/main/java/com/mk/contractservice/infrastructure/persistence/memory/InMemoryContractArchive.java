@@ -0,0 +1,22 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.mk.contractservice.domain.contract.ArchivedContract;
+import com.mk.contractservice.domain.contract.ContractArchive;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * The in-memory adapter keeps expired contracts in place and never archives, so its archive is always empty.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class InMemoryContractArchive implements ContractArchive {
+
+    @Override
+    public void forEachByClientId(final UUID clientId, final Consumer<ArchivedContract> action) {
+        // nothing archived
+    }
+}
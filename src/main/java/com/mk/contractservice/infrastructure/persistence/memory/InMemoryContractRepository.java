@@ -0,0 +1,252 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.contract.ContractField;
+import com.mk.contractservice.domain.contract.ContractProjection;
+import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.domain.contract.ContractVersion;
+import com.mk.contractservice.domain.valueobject.ContractCost;
+import com.mk.contractservice.domain.valueobject.ContractPeriod;
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class InMemoryContractRepository implements ContractRepository {
+
+    private static final Map<String, Comparator<ContractRow>> SORTABLE_PROPERTIES = Map.of(
+            "id", Comparator.comparing(ContractRow::id),
+            "startDate", Comparator.comparing(ContractRow::startDate),
+            "endDate", Comparator.comparing(ContractRow::endDate, Comparator.nullsLast(Comparator.naturalOrder())),
+            "costAmount", Comparator.comparing(ContractRow::costAmount),
+            "lastModified", Comparator.comparing(ContractRow::lastModified)
+    );
+
+    private final InMemoryStore store;
+
+    InMemoryContractRepository(final InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Contract save(final Contract contract) {
+        final UUID clientId = contract.getClient().getId();
+        final UUID id = contract.getId() != null ? contract.getId() : UuidV7.next();
+        final ReentrantLock lock = store.lockFor(clientId);
+        lock.lock();
+        try {
+            if (!store.clients.containsKey(clientId)) {
+                throw new DataIntegrityViolationException("Unknown client: " + clientId);
+            }
+            final ContractRow row = new ContractRow(id, clientId, contract.getPeriod().startDate(), contract.getPeriod().endDate(),
+                    contract.getCostAmount().value(), contract.getLastModified());
+            replace(store.contracts.put(id, row), row);
+            return toDomain(row, contract.getClient());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void replace(final ContractRow previous, final ContractRow current) {
+        if (previous != null) {
+            store.contractsOf(previous.clientId()).remove(previous);
+        }
+        store.contractsOf(current.clientId()).add(current);
+    }
+
+    @Override
+    public List<Contract> saveAll(final List<Contract> contracts) {
+        return contracts.stream().map(this::save).toList();
+    }
+
+    @Override
+    public Optional<Contract> findById(final UUID contractId) {
+        return Optional.ofNullable(store.contracts.get(contractId)).flatMap(this::toDomain);
+    }
+
+    @Override
+    public Optional<Contract> findByIdAndClientId(final UUID contractId, final UUID clientId) {
+        return Optional.ofNullable(store.contracts.get(contractId))
+                .filter(row -> clientId.equals(row.clientId()))
+                .flatMap(this::toDomain);
+    }
+
+    @Override
+    public Optional<ContractVersion> findVersionById(final UUID contractId, final UUID clientId) {
+        return Optional.ofNullable(store.contracts.get(contractId))
+                .filter(row -> clientId.equals(row.clientId()))
+                .map(row -> new ContractVersion(row.clientId(), row.lastModified(), row.endDate()));
+    }
+
+    @Override
+    public List<Contract> findAllById(final Collection<UUID> contractIds) {
+        return contractIds.stream().distinct().map(this::findById).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public List<Contract> findAllByIdAndClientId(final Collection<UUID> contractIds, final Collection<UUID> clientIds) {
+        final Set<UUID> owners = Set.copyOf(clientIds);
+        return contractIds.stream().distinct()
+                .map(store.contracts::get)
+                .filter(row -> row != null && owners.contains(row.clientId()))
+                .map(this::toDomain)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public Page<Contract> findActiveByClientIdPageable(final UUID clientId, final LocalDateTime now, final LocalDateTime updatedSince, final Pageable pageable) {
+        final Client client = store.clients.get(clientId);
+        final InMemoryStore.ClientContracts owned = store.contractsByClient.get(clientId);
+        if (client == null || owned == null) {
+            return Page.empty(pageable);
+        }
+        final Client owner = InMemoryClientRepository.copyOf(client, clientId);
+        return findActive(owned, now, updatedSince, pageable, row -> toDomain(row, owner));
+    }
+
+    @Override
+    public Page<ContractProjection> findActiveProjectionsByClientIdPageable(final UUID clientId, final LocalDateTime now,
+                                                                            final LocalDateTime updatedSince,
+                                                                            final Set<ContractField> fields,
+                                                                            final Pageable pageable) {
+        final InMemoryStore.ClientContracts owned = store.contractsByClient.get(clientId);
+        if (!store.clients.containsKey(clientId) || owned == null) {
+            return Page.empty(pageable);
+        }
+        return findActive(owned, now, updatedSince, pageable, row -> new ContractProjection(
+                fields.contains(ContractField.ID) ? row.id() : null,
+                fields.contains(ContractField.CLIENT_ID) ? row.clientId() : null,
+                fields.contains(ContractField.PERIOD) ? ContractPeriod.of(row.startDate(), row.endDate()) : null,
+                fields.contains(ContractField.COST_AMOUNT) ? ContractCost.of(row.costAmount()) : null));
+    }
+
+    private static <T> Page<T> findActive(final InMemoryStore.ClientContracts owned, final LocalDateTime now,
+                                          final LocalDateTime updatedSince, final Pageable pageable,
+                                          final Function<ContractRow, T> toDomain) {
+        final Stream<ContractRow> active = owned.byLastModified.stream()
+                .filter(row -> row.isActiveAt(now))
+                .filter(row -> updatedSince == null || !row.lastModified().isBefore(updatedSince));
+
+        final Sort sort = pageable.getSort();
+        final boolean indexOrder = sort.isUnsorted() || sort.equals(Sort.by(Sort.Direction.DESC, "lastModified"));
+        final List<ContractRow> matching = (indexOrder ? active : active.sorted(comparator(sort))).toList();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matching.stream().map(toDomain).toList(), pageable, matching.size());
+        }
+        final int from = (int) Math.min(pageable.getOffset(), matching.size());
+        final int to = Math.min(from + pageable.getPageSize(), matching.size());
+        return new PageImpl<>(matching.subList(from, to).stream().map(toDomain).toList(), pageable, matching.size());
+    }
+
+    private static Comparator<ContractRow> comparator(final Sort sort) {
+        Comparator<ContractRow> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<ContractRow> next = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (next == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            next = order.isAscending() ? next : next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    @Override
+    public int closeAllActiveByClientId(final UUID clientId, final LocalDateTime now) {
+        return closeActiveBatchByClientId(clientId, now, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int closeActiveBatchByClientId(final UUID clientId, final LocalDateTime now, final int limit) {
+        final ReentrantLock lock = store.lockFor(clientId);
+        lock.lock();
+        try {
+            final InMemoryStore.ClientContracts owned = store.contractsByClient.get(clientId);
+            if (owned == null) {
+                return 0;
+            }
+            final LocalDateTime modified = LocalDateTime.now();
+            final List<ContractRow> active = new ArrayList<>(owned.openEnded);
+            active.addAll(owned.endingAfter(now));
+            final List<ContractRow> batch = active.size() > limit ? active.subList(0, limit) : active;
+            for (ContractRow row : batch) {
+                final ContractRow closed = new ContractRow(row.id(), clientId, row.startDate(), now, row.costAmount(), modified);
+                replace(store.contracts.put(row.id(), closed), closed);
+            }
+            return batch.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal sumActiveByClientId(final UUID clientId, final LocalDateTime now) {
+        final InMemoryStore.ClientContracts owned = store.contractsByClient.get(clientId);
+        if (owned == null) {
+            return BigDecimal.ZERO;
+        }
+        return Stream.concat(owned.openEnded.stream(), owned.endingAfter(now).stream())
+                .map(ContractRow::costAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findNextExpiryByClientId(final UUID clientId, final LocalDateTime now) {
+        final InMemoryStore.ClientContracts owned = store.contractsByClient.get(clientId);
+        if (owned == null) {
+            return Optional.empty();
+        }
+        return owned.endingAfter(now).stream()
+                .map(ContractRow::endDate)
+                .filter(end -> end.isAfter(now))
+                .findFirst();
+    }
+
+    @Override
+    public Map<UUID, BigDecimal> sumActiveByClientIds(final Collection<UUID> clientIds, final LocalDateTime now) {
+        final Map<UUID, BigDecimal> sums = new HashMap<>();
+        for (final UUID clientId : clientIds) {
+            if (store.clients.containsKey(clientId)) {
+                sums.put(clientId, sumActiveByClientId(clientId, now));
+            }
+        }
+        return sums;
+    }
+
+    private Optional<Contract> toDomain(final ContractRow row) {
+        return Optional.ofNullable(store.clients.get(row.clientId()))
+                .map(client -> toDomain(row, InMemoryClientRepository.copyOf(client, row.clientId())));
+    }
+
+    private static Contract toDomain(final ContractRow row, final Client client) {
+        return Contract.builder()
+                .id(row.id())
+                .client(client)
+                .period(ContractPeriod.of(row.startDate(), row.endDate()))
+                .costAmount(ContractCost.of(row.costAmount()))
+                .build();
+    }
+}
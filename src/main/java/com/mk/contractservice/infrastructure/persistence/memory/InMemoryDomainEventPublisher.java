@@ -0,0 +1,53 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mk.contractservice.application.feed.Change;
+import com.mk.contractservice.domain.event.DomainEvent;
+import com.mk.contractservice.domain.event.DomainEventPublisher;
+import com.mk.contractservice.infrastructure.outbox.OutboxEvent;
+import com.mk.contractservice.infrastructure.outbox.OutboxSink;
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Without a database there is no outbox to write to: events go straight to the change feed and the sink, and one
+ * that cannot be delivered is logged and dropped.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class InMemoryDomainEventPublisher implements DomainEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryDomainEventPublisher.class);
+
+    private final OutboxSink sink;
+    private final InMemoryChangeFeed changeFeed;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public InMemoryDomainEventPublisher(final OutboxSink sink, final InMemoryChangeFeed changeFeed,
+                                        final ObjectMapper objectMapper) {
+        this.sink = sink;
+        this.changeFeed = changeFeed;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(final DomainEvent event) {
+        try {
+            final OutboxEvent outboxEvent = new OutboxEvent(sequence.incrementAndGet(), UuidV7.next(), event.type(),
+                    event.clientId(), event.occurredAt(), objectMapper.writeValueAsString(event));
+            changeFeed.append(new Change(outboxEvent.sequence(), outboxEvent.eventId(), outboxEvent.type(),
+                    outboxEvent.clientId(), outboxEvent.occurredAt(), outboxEvent.payload()));
+            sink.deliver(List.of(outboxEvent));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Dropping {} event of client {}: {}", event.type(), event.clientId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.mk.contractservice.application.idempotency.IdempotencyRecord;
+import com.mk.contractservice.application.idempotency.IdempotencyStore;
+import com.mk.contractservice.application.idempotency.StoredResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link IdempotencyStore} of this JVM; expired keys are dropped when claimed again.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<IdempotencyRecord> claim(final String key, final String fingerprint, final Duration lease) {
+        final Instant now = Instant.now();
+        final Entry claimed = new Entry(new IdempotencyRecord(fingerprint, null), now.plus(lease));
+        final Entry holder = entries.compute(key, (k, existing) ->
+                existing == null || !existing.expiresAt().isAfter(now) ? claimed : existing);
+        return holder == claimed ? Optional.empty() : Optional.of(holder.record());
+    }
+
+    @Override
+    public void complete(final String key, final String fingerprint, final StoredResponse response, final Duration ttl) {
+        entries.computeIfPresent(key, (k, existing) -> heldBy(existing, fingerprint)
+                ? new Entry(new IdempotencyRecord(fingerprint, response), Instant.now().plus(ttl))
+                : existing);
+    }
+
+    @Override
+    public void release(final String key, final String fingerprint) {
+        entries.computeIfPresent(key, (k, existing) -> heldBy(existing, fingerprint) ? null : existing);
+    }
+
+    private static boolean heldBy(final Entry entry, final String fingerprint) {
+        return !entry.record().completed() && entry.record().fingerprint().equals(fingerprint);
+    }
+
+    private record Entry(IdempotencyRecord record, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.mk.contractservice.application.job.Job;
+import com.mk.contractservice.application.job.JobContext;
+import com.mk.contractservice.application.job.JobHandler;
+import com.mk.contractservice.application.job.JobQueue;
+import com.mk.contractservice.application.job.JobStatus;
+import com.mk.contractservice.infrastructure.config.JobProperties;
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runs each job once, right away, on a virtual thread of this JVM. Nothing survives a restart and there is no retry:
+ * the in-memory adapter has no other replica to share work with.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class InMemoryJobQueue implements JobQueue, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryJobQueue.class);
+
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+    private final ObjectProvider<JobHandler> handlers;
+    private final JobProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public InMemoryJobQueue(final ObjectProvider<JobHandler> handlers, final JobProperties properties) {
+        this.handlers = handlers;
+        this.properties = properties;
+    }
+
+    @Override
+    public Job enqueue(final String type, final Map<String, String> payload) {
+        final JobHandler handler = handlers.orderedStream()
+                .filter(candidate -> candidate.type().equals(type))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No handler for job type " + type));
+        purgeFinished();
+        final Job job = new Job(UuidV7.next(), type, JobStatus.PENDING, 0, Map.copyOf(payload), Map.of(), null,
+                LocalDateTime.now(), null, null);
+        jobs.put(job.id(), job);
+        executor.execute(() -> run(job, handler));
+        return job;
+    }
+
+    @Override
+    public Optional<Job> find(final UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void run(final Job job, final JobHandler handler) {
+        update(job.id(), j -> new Job(j.id(), j.type(), JobStatus.RUNNING, 1, j.payload(), j.progress(), null,
+                j.createdAt(), LocalDateTime.now(), null));
+        try {
+            handler.handle(new Context(job));
+            update(job.id(), j -> new Job(j.id(), j.type(), JobStatus.SUCCEEDED, j.attempts(), j.payload(),
+                    j.progress(), null, j.createdAt(), j.startedAt(), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Job {} ({}) failed", job.id(), job.type(), e);
+            update(job.id(), j -> new Job(j.id(), j.type(), JobStatus.FAILED, j.attempts(), j.payload(),
+                    j.progress(), e.getMessage(), j.createdAt(), j.startedAt(), LocalDateTime.now()));
+        }
+    }
+
+    private void update(final UUID jobId, final UnaryOperator<Job> change) {
+        jobs.computeIfPresent(jobId, (id, job) -> change.apply(job));
+    }
+
+    private void purgeFinished() {
+        final LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        jobs.values().removeIf(job -> job.finishedAt() != null && job.finishedAt().isBefore(cutoff));
+    }
+
+    private final class Context implements JobContext {
+
+        private final Job job;
+
+        private Context(final Job job) {
+            this.job = job;
+        }
+
+        @Override
+        public UUID jobId() {
+            return job.id();
+        }
+
+        @Override
+        public int attempt() {
+            return 1;
+        }
+
+        @Override
+        public Map<String, String> payload() {
+            return job.payload();
+        }
+
+        @Override
+        public void progress(final String key, final long value) {
+            update(job.id(), j -> {
+                final Map<String, Long> progress = new HashMap<>(j.progress());
+                progress.put(key, value);
+                return new Job(j.id(), j.type(), j.status(), j.attempts(), j.payload(), Map.copyOf(progress),
+                        j.lastError(), j.createdAt(), j.startedAt(), j.finishedAt());
+            });
+        }
+    }
+}
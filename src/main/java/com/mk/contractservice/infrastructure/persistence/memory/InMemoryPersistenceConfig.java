@@ -0,0 +1,43 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Without a DataSource there is no transaction manager to back the {@code @Transactional} application services;
+ * the in-memory adapters are atomic per call, so a no-op manager is enough to keep the same service code.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class InMemoryPersistenceConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new ResourcelessTransactionManager();
+    }
+
+    static final class ResourcelessTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(final Object transaction, final TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(final DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(final DefaultTransactionStatus status) {
+        }
+    }
+}
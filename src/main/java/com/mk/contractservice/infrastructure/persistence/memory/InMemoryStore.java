@@ -0,0 +1,90 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.mk.contractservice.domain.client.Client;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shared state of the in-memory adapters.
+ * <p>
+ * Reads are lock-free (concurrent maps and skip lists, weakly consistent iteration). Writes that touch
+ * several structures for one client (unique keys, per-client indexes) take that client's stripe lock, so
+ * writers for different clients rarely contend.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+class InMemoryStore {
+
+    private static final int STRIPES = 64;
+
+    final ConcurrentHashMap<UUID, Client> clients = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<String, UUID> clientIdByEmail = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<String, UUID> clientIdByCompanyIdentifier = new ConcurrentHashMap<>();
+
+    final ConcurrentHashMap<UUID, ContractRow> contracts = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<UUID, ClientContracts> contractsByClient = new ConcurrentHashMap<>();
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    InMemoryStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    ReentrantLock lockFor(final UUID clientId) {
+        return locks[(clientId.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    ClientContracts contractsOf(final UUID clientId) {
+        return contractsByClient.computeIfAbsent(clientId, id -> new ClientContracts());
+    }
+
+    void clear() {
+        contracts.clear();
+        contractsByClient.clear();
+        clients.clear();
+        clientIdByEmail.clear();
+        clientIdByCompanyIdentifier.clear();
+    }
+
+    /**
+     * Per-client secondary indexes: every row sorted by {@code lastModified} (the default listing order), plus an
+     * end-date index and the open-ended set that together answer "active at {@code now}" without a full scan.
+     */
+    static final class ClientContracts {
+
+        final ConcurrentSkipListSet<ContractRow> byLastModified = new ConcurrentSkipListSet<>(ContractRow.BY_LAST_MODIFIED_DESC);
+        final ConcurrentSkipListSet<ContractRow> byEndDate = new ConcurrentSkipListSet<>(ContractRow.BY_END_DATE);
+        final Set<ContractRow> openEnded = ConcurrentHashMap.newKeySet();
+
+        void add(final ContractRow row) {
+            byLastModified.add(row);
+            if (row.endDate() == null) {
+                openEnded.add(row);
+            } else {
+                byEndDate.add(row);
+            }
+        }
+
+        void remove(final ContractRow row) {
+            byLastModified.remove(row);
+            if (row.endDate() == null) {
+                openEnded.remove(row);
+            } else {
+                byEndDate.remove(row);
+            }
+        }
+
+        Set<ContractRow> endingAfter(final LocalDateTime now) {
+            return byEndDate.tailSet(ContractRow.endingAt(now), false);
+        }
+    }
+}
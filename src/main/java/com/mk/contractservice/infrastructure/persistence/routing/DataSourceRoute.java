@@ -0,0 +1,6 @@
+package com.mk.contractservice.infrastructure.persistence.routing;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,20 @@
+package com.mk.contractservice.infrastructure.persistence.routing;
+
+import com.mk.contractservice.application.consistency.ClientWriteRecorder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * {@link ClientWriteRecorder} used when every read goes to the primary: there is nothing to stick to.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class NoReadYourWrites implements ClientWriteRecorder {
+
+    @Override
+    public void recordWrite(final UUID clientId) {
+        // reads are not routed
+    }
+}
@@ -0,0 +1,29 @@
+package com.mk.contractservice.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to the replica unless it lags too far behind or the current request's client wrote
+ * recently (read-your-writes). Anything else, including non-transactional access, goes to the primary.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+
+    public ReadWriteRoutingDataSource(final ReplicaLagMonitor lagMonitor, final ReadYourWritesTracker readYourWrites) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && lagMonitor.isFresh()
+                && !readYourWrites.requiresPrimary()) {
+            return DataSourceRoute.REPLICA;
+        }
+        return DataSourceRoute.PRIMARY;
+    }
+}
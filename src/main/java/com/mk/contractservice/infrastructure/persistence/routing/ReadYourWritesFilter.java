@@ -0,0 +1,86 @@
+package com.mk.contractservice.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Binds the request to the thread for {@link ReadYourWritesTracker}: the client addressed by
+ * {@code /v1/clients/{id}/...}, and the time of the caller's last write from the {@value #LAST_WRITE_COOKIE} cookie.
+ * The services record their writes themselves; the first one made while serving a request sets the cookie, which
+ * expires with the stickiness window, so that the caller's next reads reach the primary on any instance.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String LAST_WRITE_COOKIE = "last-write";
+
+    private static final Pattern CLIENT_PATH = Pattern.compile("/clients/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?:/|$)");
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesFilter(final ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain chain) throws ServletException, IOException {
+        final AtomicBoolean cookieSet = new AtomicBoolean();
+        tracker.bind(clientIdIn(request.getRequestURI()), lastWriteIn(request), written -> {
+            if (cookieSet.compareAndSet(false, true)) {
+                response.addHeader(HttpHeaders.SET_COOKIE, lastWriteCookie(written).toString());
+            }
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            tracker.unbind();
+        }
+    }
+
+    static UUID clientIdIn(final String path) {
+        if (path == null) {
+            return null;
+        }
+        final Matcher matcher = CLIENT_PATH.matcher(path);
+        return matcher.find() ? UUID.fromString(matcher.group(1)) : null;
+    }
+
+    static Instant lastWriteIn(final HttpServletRequest request) {
+        final Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (final Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Instant.ofEpochMilli(Long.parseLong(cookie.getValue()));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private ResponseCookie lastWriteCookie(final Instant written) {
+        return ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(written.toEpochMilli()))
+                .path("/")
+                .maxAge(tracker.window())
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+    }
+}
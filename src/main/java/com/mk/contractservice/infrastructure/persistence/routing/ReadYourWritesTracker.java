@@ -0,0 +1,96 @@
+package com.mk.contractservice.infrastructure.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mk.contractservice.application.consistency.ClientWriteRecorder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decides whether the current thread must read from the primary because something it may look at was written during
+ * the last {@code window}. Two signals are combined:
+ * <ul>
+ *     <li>the clients written through this instance, remembered locally. This is the only record of writes made
+ *     outside a request, such as deletion jobs, so those are sticky on the instance that ran them only;</li>
+ *     <li>the time of the caller's own last write, handed over by {@link ReadYourWritesFilter} from a cookie, so the
+ *     caller stays on the primary whichever instance serves the next request. The timestamp is compared with this
+ *     instance's clock, which therefore has to be kept in sync with the others.</li>
+ * </ul>
+ */
+public class ReadYourWritesTracker implements ClientWriteRecorder {
+
+    private final ThreadLocal<Binding> current = new ThreadLocal<>();
+    private final Cache<UUID, Boolean> recentWrites;
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesTracker(final Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWritesTracker(final Duration window, final Clock clock) {
+        this.window = window;
+        this.clock = clock;
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Binds the request being served to the current thread.
+     *
+     * @param clientId  the client the request addresses, if any
+     * @param lastWrite the caller's last write as it reported it, if any
+     * @param onWrite   told the time of every write made while serving the request
+     */
+    public void bind(final UUID clientId, final Instant lastWrite, final Consumer<Instant> onWrite) {
+        current.set(new Binding(clientId, lastWrite, onWrite));
+    }
+
+    public void unbind() {
+        current.remove();
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    @Override
+    public void recordWrite(final UUID clientId) {
+        recentWrites.put(clientId, Boolean.TRUE);
+        final Binding binding = current.get();
+        if (binding != null) {
+            binding.lastWrite = clock.instant();
+            binding.onWrite.accept(binding.lastWrite);
+        }
+    }
+
+    public boolean requiresPrimary() {
+        final Binding binding = current.get();
+        if (binding == null) {
+            return false;
+        }
+        if (binding.lastWrite != null && binding.lastWrite.plus(window).isAfter(clock.instant())) {
+            return true;
+        }
+        return binding.clientId != null && recentWrites.getIfPresent(binding.clientId) != null;
+    }
+
+    private static final class Binding {
+
+        private final UUID clientId;
+        private final Consumer<Instant> onWrite;
+        private Instant lastWrite;
+
+        private Binding(final UUID clientId, final Instant lastWrite, final Consumer<Instant> onWrite) {
+            this.clientId = clientId;
+            this.lastWrite = lastWrite;
+            this.onWrite = onWrite;
+        }
+    }
+}
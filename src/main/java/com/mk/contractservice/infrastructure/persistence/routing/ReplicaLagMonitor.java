@@ -0,0 +1,66 @@
+package com.mk.contractservice.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Polls the replica's replay lag; the replica is only eligible for reads while the lag stays within {@code maxLag}.
+ * An idle primary does not advance {@code pg_last_xact_replay_timestamp()}, so a replica that has replayed everything
+ * it received counts as caught up. A server that is not in recovery has no lag at all.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_SECONDS = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean fresh;
+
+    public ReplicaLagMonitor(final DataSource replicaDataSource, final Duration maxLag, final MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+        Gauge.builder("contracts.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .description("Replay lag of the read replica; NaN while it is unreachable")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval}")
+    public void refresh() {
+        try {
+            final Double lag = replica.queryForObject(LAG_SECONDS, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            final boolean wasFresh = fresh;
+            fresh = lagSeconds * 1000 <= maxLag.toMillis();
+            if (wasFresh && !fresh) {
+                log.warn("Replica lag {}s exceeds {}, routing reads to the primary", lagSeconds, maxLag);
+            }
+        } catch (DataAccessException e) {
+            lagSeconds = Double.NaN;
+            if (fresh) {
+                log.warn("Replica unreachable, routing reads to the primary: {}", e.getMessage());
+            }
+            fresh = false;
+        }
+    }
+
+    public boolean isFresh() {
+        return fresh;
+    }
+}
@@ -0,0 +1,56 @@
+package com.mk.contractservice.infrastructure.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link ClusterLock} on a Postgres session-level advisory lock, keyed by the hash of the lock name. The lock is held
+ * on a dedicated connection for the whole task (the task itself uses other connections), so it is released when the
+ * task ends or, if the instance dies, when the database drops its session.
+ */
+@Component
+@ConditionalOnExpression("'${app.persistence.adapter:jpa}' != 'memory'")
+public class AdvisoryClusterLock implements ClusterLock {
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext('contract-service'), hashtext(?))";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext('contract-service'), hashtext(?))";
+
+    private final DataSource dataSource;
+
+    public AdvisoryClusterLock(final DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public boolean runIfAvailable(final String name, final Runnable task) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!call(connection, TRY_LOCK, name)) {
+                return false;
+            }
+            try {
+                task.run();
+            } finally {
+                call(connection, UNLOCK, name);
+            }
+            return true;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Advisory lock " + name + " failed", e);
+        }
+    }
+
+    private static boolean call(final Connection connection, final String sql, final String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.mk.contractservice.infrastructure.scheduling;
+
+/**
+ * Mutual exclusion across all instances of the service.
+ */
+public interface ClusterLock {
+
+    /**
+     * Runs {@code task} if no other holder has the lock named {@code name}, without waiting.
+     *
+     * @return false if the lock was held elsewhere and the task did not run
+     */
+    boolean runIfAvailable(String name, Runnable task);
+}
@@ -0,0 +1,32 @@
+package com.mk.contractservice.infrastructure.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a no-argument method to be run by {@link ClusterTaskScheduler}: every {@link #interval()} plus a random
+ * delay of up to {@link #jitter()}, by at most one instance of the cluster at a time. Durations accept placeholders
+ * and the {@code 30s} / ISO-8601 formats of Spring Boot properties.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClusterScheduled {
+
+    /**
+     * Name of the task; identifies its cluster lock and tags its metrics.
+     */
+    String name();
+
+    String interval();
+
+    /**
+     * Delay before the first run, on top of the jitter.
+     */
+    String initialDelay() default "0s";
+
+    String jitter() default "${app.scheduling.jitter:0s}";
+}
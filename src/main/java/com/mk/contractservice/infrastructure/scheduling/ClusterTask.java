@@ -0,0 +1,97 @@
+package com.mk.contractservice.infrastructure.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One task of {@link ClusterTaskScheduler} and its meters.
+ */
+final class ClusterTask {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterTask.class);
+
+    private final String name;
+    private final Duration interval;
+    private final Duration initialDelay;
+    private final Duration jitter;
+    private final Runnable action;
+    private final ClusterLock lock;
+    private final AtomicBoolean inProgress = new AtomicBoolean();
+    private final Timer runTimer;
+    private final Counter skippedRunning;
+    private final Counter skippedLocked;
+
+    ClusterTask(final String name, final Duration interval, final Duration initialDelay, final Duration jitter,
+                final Runnable action, final ClusterLock lock, final MeterRegistry meterRegistry) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval of task " + name + " must be positive");
+        }
+        this.name = name;
+        this.interval = interval;
+        this.initialDelay = initialDelay;
+        this.jitter = jitter;
+        this.action = action;
+        this.lock = lock;
+        this.runTimer = Timer.builder("scheduled.task.run")
+                .tag("task", name)
+                .description("Duration of the runs of a cluster-scheduled task that held the lock")
+                .register(meterRegistry);
+        this.skippedRunning = skipped(meterRegistry, "running");
+        this.skippedLocked = skipped(meterRegistry, "locked");
+    }
+
+    private Counter skipped(final MeterRegistry meterRegistry, final String reason) {
+        return Counter.builder("scheduled.task.skipped")
+                .tag("task", name)
+                .tag("reason", reason)
+                .description("Runs skipped because the previous one was still running here (running) "
+                        + "or another instance held the lock (locked)")
+                .register(meterRegistry);
+    }
+
+    String name() {
+        return name;
+    }
+
+    Duration firstDelay() {
+        return initialDelay.plus(randomJitter());
+    }
+
+    Duration nextDelay() {
+        return interval.plus(randomJitter());
+    }
+
+    /**
+     * Runs the task unless it is still running on this instance or runs on another one.
+     */
+    void run() {
+        if (!inProgress.compareAndSet(false, true)) {
+            skippedRunning.increment();
+            log.debug("Skipping {}: previous run still in progress", name);
+            return;
+        }
+        try {
+            final boolean ran = lock.runIfAvailable(name, () -> runTimer.record(action));
+            if (!ran) {
+                skippedLocked.increment();
+                log.debug("Skipping {}: running on another instance", name);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Scheduled task {} failed: {}", name, e.getMessage(), e);
+        } finally {
+            inProgress.set(false);
+        }
+    }
+
+    private Duration randomJitter() {
+        final long bound = jitter.toMillis();
+        return bound <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound));
+    }
+}
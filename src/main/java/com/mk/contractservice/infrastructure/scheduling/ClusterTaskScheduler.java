@@ -0,0 +1,123 @@
+package com.mk.contractservice.infrastructure.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.EmbeddedValueResolverAware;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringValueResolver;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link ClusterScheduled} methods once per cadence across the whole cluster. Each firing is taken at a fixed
+ * rate plus jitter, so replicas started together drift apart, and runs on a virtual thread under the task's
+ * {@link ClusterLock}: the instance that gets the lock runs it, the others skip that firing. A firing that finds the
+ * previous run still in progress on this instance is skipped as well, so a slow run never piles up behind itself.
+ */
+@Component
+public class ClusterTaskScheduler implements BeanPostProcessor, EmbeddedValueResolverAware, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterTaskScheduler.class);
+
+    private final ObjectProvider<ClusterLock> lock;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private StringValueResolver resolver;
+    private ScheduledExecutorService timer;
+    private ExecutorService runner;
+    private volatile boolean running;
+
+    public ClusterTaskScheduler(final ObjectProvider<ClusterLock> lock, final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.lock = lock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void setEmbeddedValueResolver(final StringValueResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        final Class<?> targetClass = AopUtils.getTargetClass(bean);
+        final Map<Method, ClusterScheduled> annotated = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<ClusterScheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, ClusterScheduled.class));
+        annotated.forEach((method, scheduled) -> {
+            if (method.getParameterCount() > 0) {
+                throw new IllegalStateException("@ClusterScheduled method must not take arguments: " + method);
+            }
+            final Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+            registrations.add(new Registration(scheduled.name(), duration(scheduled.interval()),
+                    duration(scheduled.initialDelay()), duration(scheduled.jitter()),
+                    () -> ReflectionUtils.invokeMethod(invocable, bean)));
+        });
+        return bean;
+    }
+
+    @Override
+    public synchronized void start() {
+        final ClusterLock clusterLock = lock.getObject();
+        final MeterRegistry registry = meterRegistry.getObject();
+        timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("cluster-scheduler").factory());
+        runner = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cluster-task-", 0).factory());
+        running = true;
+        for (final Registration registration : registrations) {
+            final ClusterTask task = new ClusterTask(registration.name(), registration.interval(),
+                    registration.initialDelay(), registration.jitter(), registration.action(), clusterLock, registry);
+            fireAfter(task, task.firstDelay());
+        }
+        if (!registrations.isEmpty()) {
+            log.info("Cluster-scheduled tasks: {}", registrations.stream().map(Registration::name).toList());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (timer != null) {
+            timer.shutdownNow();
+            runner.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void fireAfter(final ClusterTask task, final Duration delay) {
+        timer.schedule(() -> {
+            if (!running) {
+                return;
+            }
+            fireAfter(task, task.nextDelay());
+            runner.execute(task::run);
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private Duration duration(final String value) {
+        return DurationStyle.detectAndParse(resolver.resolveStringValue(value));
+    }
+
+    private record Registration(String name, Duration interval, Duration initialDelay, Duration jitter,
+                                Runnable action) {
+    }
+}
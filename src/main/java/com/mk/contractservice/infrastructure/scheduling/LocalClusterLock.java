@@ -0,0 +1,18 @@
+package com.mk.contractservice.infrastructure.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * The in-memory adapter runs as a single instance, so there is nobody to exclude.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.persistence", name = "adapter", havingValue = "memory")
+public class LocalClusterLock implements ClusterLock {
+
+    @Override
+    public boolean runIfAvailable(final String name, final Runnable task) {
+        task.run();
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package com.mk.contractservice.infrastructure.version;
+
+import com.mk.contractservice.application.version.ClientVersionStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link ClientVersionStore} on the {@code contracts.client_version} table. A bump is a single upsert, so concurrent
+ * writers of one client queue on its row until the first commits and never lose an increment.
+ */
+@Repository
+@ConditionalOnExpression("'${app.persistence.adapter:jpa}' != 'memory'")
+public class PostgresClientVersionStore implements ClientVersionStore {
+
+    private static final String BUMP = """
+            INSERT INTO contracts.client_version (client_id, version)
+            VALUES (:clientId, 1)
+            ON CONFLICT (client_id) DO UPDATE SET version = client_version.version + 1
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public PostgresClientVersionStore(final NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void bump(final UUID clientId) {
+        jdbc.update(BUMP, new MapSqlParameterSource("clientId", clientId));
+    }
+
+    @Override
+    public void bumpAll(final Collection<UUID> clientIds) {
+        // In a fixed order, so that two batches touching the same clients cannot deadlock on their rows.
+        jdbc.batchUpdate(BUMP, clientIds.stream()
+                .distinct()
+                .sorted()
+                .map(clientId -> new MapSqlParameterSource("clientId", clientId))
+                .toArray(MapSqlParameterSource[]::new));
+    }
+
+    @Override
+    public Optional<Long> find(final UUID clientId) {
+        return jdbc.queryForList("SELECT version FROM contracts.client_version WHERE client_id = :clientId",
+                        new MapSqlParameterSource("clientId", clientId), Long.class)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void delete(final UUID clientId) {
+        jdbc.update("DELETE FROM contracts.client_version WHERE client_id = :clientId",
+                new MapSqlParameterSource("clientId", clientId));
+    }
+}
@@ -1,5 +1,8 @@
 package com.mk.contractservice.web.advice;
 
+import com.mk.contractservice.application.feed.ChangeCursorExpiredException;
+import com.mk.contractservice.application.idempotency.IdempotencyKeyInFlightException;
+import com.mk.contractservice.application.idempotency.IdempotencyKeyReusedException;
 import com.mk.contractservice.domain.exception.ClientAlreadyExistsException;
 import com.mk.contractservice.domain.exception.ClientNotFoundException;
 import com.mk.contractservice.domain.exception.ContractNotFoundException;
@@ -111,6 +114,33 @@ public class GlobalExceptionHandler {
         return respond(problemDetail);
     }
 
+    @ExceptionHandler(ChangeCursorExpiredException.class)
+    public ResponseEntity<ProblemDetail> handleChangeCursorExpired(ChangeCursorExpiredException ex) {
+        log.debug("Change cursor expired: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = problem(HttpStatus.GONE, "Change Cursor Expired",
+                ex.getMessage(), "changeCursorExpired");
+        return respond(problemDetail);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ProblemDetail> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex) {
+        log.warn("Idempotency key reused: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = problem(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency Key Reused",
+                ex.getMessage(), "idempotencyKeyReused");
+        return respond(problemDetail);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInFlightException.class)
+    public ResponseEntity<ProblemDetail> handleIdempotencyKeyInFlight(IdempotencyKeyInFlightException ex) {
+        log.debug("Idempotency key in flight: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = problem(HttpStatus.CONFLICT, "Request In Progress",
+                ex.getMessage(), "idempotencyKeyInFlight");
+        return respond(problemDetail);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProblemDetail> handleGenericException(Exception ex) {
         log.error("Unexpected error occurred", ex);
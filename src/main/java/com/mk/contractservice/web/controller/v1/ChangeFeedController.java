@@ -0,0 +1,82 @@
+package com.mk.contractservice.web.controller.v1;
+
+import com.mk.contractservice.application.ChangeFeedApplicationService;
+import com.mk.contractservice.application.feed.Change;
+import com.mk.contractservice.web.dto.change.ChangeFeedResponse;
+import com.mk.contractservice.web.dto.mapper.change.ChangeMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Tag(name = "Changes", description = "Global feed of client and contract changes")
+@RestController
+@RequestMapping("/v1/changes")
+public class ChangeFeedController {
+
+    private final ChangeFeedApplicationService changeFeedApplicationService;
+    private final ChangeMapper changeMapper;
+
+    public ChangeFeedController(final ChangeFeedApplicationService changeFeedApplicationService,
+                                final ChangeMapper changeMapper) {
+        this.changeFeedApplicationService = changeFeedApplicationService;
+        this.changeMapper = changeMapper;
+    }
+
+    @Operation(
+            summary = "Read the change feed, waiting for new changes",
+            description = "Returns the changes of all clients after the given sequence, oldest first. If there are "
+                    + "none yet, the request is held open until one arrives or 'wait' elapses, then answers with an "
+                    + "empty list. Resume with the returned 'next'. Replaces polling each client's contracts with "
+                    + "'updatedSince'."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes after the sequence, possibly none",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ChangeFeedResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Negative 'after' or 'wait', or non-positive 'limit'",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "Changes after 'after' were purged by retention; resynchronize, then follow from the "
+                            + "current head",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @GetMapping
+    public CompletableFuture<ChangeFeedResponse> changes(
+            @Parameter(description = "Last sequence already processed; 0 for the first change ever (410 once retention purged any)")
+            @RequestParam(defaultValue = "0") final long after,
+            @Parameter(description = "Maximum number of changes, capped by the server")
+            @RequestParam(defaultValue = "100") final int limit,
+            @Parameter(description = "How long to wait for a first change, as an ISO-8601 duration; capped by the server")
+            @RequestParam(defaultValue = "PT30S") final Duration wait
+    ) {
+        return changeFeedApplicationService.poll(after, limit, wait)
+                .thenApply(changes -> new ChangeFeedResponse(changeMapper.toDto(changes), next(after, changes)));
+    }
+
+    private static long next(final long after, final List<Change> changes) {
+        return changes.isEmpty() ? after : changes.getLast().sequence();
+    }
+}
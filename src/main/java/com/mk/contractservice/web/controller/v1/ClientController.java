@@ -1,31 +1,51 @@
 package com.mk.contractservice.web.controller.v1;
 
 import com.mk.contractservice.application.ClientApplicationService;
+import com.mk.contractservice.application.ClientDeletionJobService;
+import com.mk.contractservice.application.job.Job;
+import com.mk.contractservice.application.version.ResourceVersion;
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientField;
+import com.mk.contractservice.domain.exception.ClientNotFoundException;
 import com.mk.contractservice.domain.valueobject.ClientName;
 import com.mk.contractservice.domain.valueobject.Email;
 import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import com.mk.contractservice.web.dto.client.ClientBatchGetRequest;
+import com.mk.contractservice.web.dto.client.ClientBatchGetResponse;
 import com.mk.contractservice.web.dto.client.ClientResponse;
 import com.mk.contractservice.web.dto.client.UpdateClientRequest;
+import com.mk.contractservice.web.dto.job.JobResponse;
 import com.mk.contractservice.web.dto.mapper.client.ClientDtoMapper;
+import com.mk.contractservice.web.dto.mapper.job.JobMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Tag(name = "Clients", description = "Operations on clients (read, update, delete)")
@@ -35,16 +55,30 @@ public class ClientController {
 
     private final ClientApplicationService service;
     private final ClientDtoMapper clientDtoMapper;
+    private final ClientDeletionJobService deletionJobs;
+    private final JobMapper jobMapper;
+    private final int batchGetMaxSize;
+    private final MissingClientPolicy batchGetMissing;
 
-    public ClientController(final ClientApplicationService service, final ClientDtoMapper clientDtoMapper) {
+    public ClientController(final ClientApplicationService service, final ClientDtoMapper clientDtoMapper,
+                            final ClientDeletionJobService deletionJobs, final JobMapper jobMapper,
+                            @Value("${app.clients.batch-get.max-size:100}") final int batchGetMaxSize,
+                            @Value("${app.clients.batch-get.missing:report}") final MissingClientPolicy batchGetMissing) {
         this.service = service;
         this.clientDtoMapper = clientDtoMapper;
+        this.deletionJobs = deletionJobs;
+        this.jobMapper = jobMapper;
+        this.batchGetMaxSize = batchGetMaxSize;
+        this.batchGetMissing = batchGetMissing;
     }
 
     @Operation(
             summary = "Read a client with all fields",
             description = "Returns a client (Person or Company) with all its fields. "
-                    + "The response includes a 'type' discriminator field (PERSON or COMPANY)."
+                    + "The response includes a 'type' discriminator field (PERSON or COMPANY). "
+                    + "It carries an ETag: sent back in If-None-Match, it gets a 304 while the client is unchanged. "
+                    + "?fields=name,email sends only the listed properties (id, name, email, phone, birthDate, "
+                    + "companyIdentifier) besides 'type'."
     )
     @ApiResponses({
             @ApiResponse(
@@ -53,6 +87,10 @@ public class ClientController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ClientResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Client unchanged since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Client not found",
@@ -67,14 +105,75 @@ public class ClientController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ClientResponse> read(@PathVariable final UUID id, final Locale locale) {
+    public ResponseEntity<ClientResponse> read(@PathVariable final UUID id,
+                                               @RequestParam(required = false) final List<String> fields,
+                                               final Locale locale, final WebRequest request) {
+        final Set<ClientField> selected = SparseFieldsets.clientFields(fields);
+        final Optional<ResourceVersion> version = service.version(id)
+                .map(v -> selected == null ? v : v.including(selected));
+        if (version.isPresent() && ConditionalRequests.notModified(request, version.get())) {
+            return null;
+        }
         return service.findById(id)
                 .map(c -> ResponseEntity.ok()
                         .header(HttpHeaders.CONTENT_LANGUAGE, locale.toLanguageTag())
-                        .body(clientDtoMapper.toResponse(c)))
+                        .body(selected == null ? clientDtoMapper.toResponse(c) : clientDtoMapper.toResponse(c, selected)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Read several clients at once",
+            description = "Returns the clients (Person or Company, with the 'type' discriminator) in the order of "
+                    + "'clientIds', up to app.clients.batch-get.max-size of them. Clients not found are listed in "
+                    + "'notFound', or fail the request with 404 when app.clients.batch-get.missing is 'fail'."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Clients found, and the ids of those not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ClientBatchGetResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "More client ids than app.clients.batch-get.max-size",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Some clients were not found and app.clients.batch-get.missing is 'fail'",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "No client ids, or a null id",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PostMapping("/batch-get")
+    public ResponseEntity<ClientBatchGetResponse> batchGet(@Valid @RequestBody final ClientBatchGetRequest req,
+                                                           final Locale locale) {
+        if (req.clientIds().size() > batchGetMaxSize) {
+            throw new IllegalArgumentException("At most " + batchGetMaxSize + " client ids are allowed, got "
+                    + req.clientIds().size());
+        }
+        final Map<UUID, Client> clients = service.findAllById(req.clientIds());
+        final List<UUID> notFound = req.clientIds().stream()
+                .distinct()
+                .filter(id -> !clients.containsKey(id))
+                .toList();
+        if (!notFound.isEmpty() && batchGetMissing == MissingClientPolicy.FAIL) {
+            throw new ClientNotFoundException("Clients not found: " + notFound);
+        }
+        final List<ClientResponse> responses = clients.values().stream().map(clientDtoMapper::toResponse).toList();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_LANGUAGE, locale.toLanguageTag())
+                .body(new ClientBatchGetResponse(responses, notFound));
+    }
+
     @Operation(
             summary = "Update a client (all fields except birthDate/companyIdentifier)",
             description = "Updates the common fields of a client (name, email, phone). "
@@ -123,13 +222,25 @@ public class ClientController {
             summary = "Delete a client",
             description = "Deletes a client (and its Person or Company subtype via database cascade) "
                     + "and automatically closes their active contracts by setting endDate=now. "
-                    + "This ensures referential integrity and data consistency."
+                    + "This ensures referential integrity and data consistency. "
+                    + "With async=true, contracts are closed in chunks by a background job (retried on failure, "
+                    + "shared by all instances) and the client is deleted "
+                    + "at the end; the response points to a job resource reporting progress."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "204",
                     description = "Client deleted successfully (including Person/Company record and contract closure)"
             ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Asynchronous deletion accepted (async=true)",
+                    headers = {
+                            @Header(name = "Location", description = "URI of the job resource")
+                    },
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = JobResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Client not found",
@@ -144,7 +255,16 @@ public class ClientController {
             )
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable final UUID id) {
+    public ResponseEntity<?> delete(
+            @PathVariable final UUID id,
+            @RequestParam(defaultValue = "false") final boolean async,
+            final UriComponentsBuilder uriBuilder
+    ) {
+        if (async) {
+            final Job job = deletionJobs.submit(id);
+            final var location = uriBuilder.path("/v1/jobs/{jobId}").buildAndExpand(job.id()).toUri();
+            return ResponseEntity.accepted().location(location).body(jobMapper.toDto(job));
+        }
         final boolean ok = service.deleteClientAndCloseContracts(id);
         return ok ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
@@ -0,0 +1,68 @@
+package com.mk.contractservice.web.controller.v1;
+
+import com.mk.contractservice.application.version.ResourceVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Conditional GET support: checks {@code If-None-Match} against the ETag of a {@link ResourceVersion}, or
+ * {@code If-Modified-Since} against its last change when no ETag is sent. Either way the {@code ETag} and
+ * {@code Last-Modified} headers are set, and the response is already a 304 when this returns true: the handler then
+ * returns null without loading anything.
+ * <p>
+ * The version is read before the resource, so a write in between can only label a newer body with an older tag,
+ * which costs the client one more full response, never a stale one.
+ * <p>
+ * ETags are weak: Tomcat does not compress a response with a strong one. The same version is sent as JSON, CBOR or
+ * Smile depending on {@code Accept}, so the negotiated format is part of the tag and responses vary on that header.
+ * The format, not the raw header, goes into the tag: a wildcard, a missing header and {@code application/json} all
+ * get the same JSON body and must share its ETag for a cache or a client to revalidate it.
+ */
+final class ConditionalRequests {
+
+    private static final List<MediaType> REPRESENTATIONS = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"));
+
+    private ConditionalRequests() {
+    }
+
+    static boolean notModified(final WebRequest request, final ResourceVersion version) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        final ResourceVersion representation = version.including(negotiated(request.getHeader(HttpHeaders.ACCEPT)).toString());
+        final long lastModified = representation.lastModified() == null
+                ? -1
+                : representation.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return request.checkNotModified("W/\"" + representation.tag() + "\"", lastModified);
+    }
+
+    /**
+     * The representation Spring MVC writes for this {@code Accept} header: the first registered format compatible with
+     * the most specific acceptable type, JSON when nothing matches (the response is then JSON or a 406 anyway).
+     */
+    static MediaType negotiated(final String accept) {
+        final List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (final MediaType type : acceptable) {
+            for (final MediaType representation : REPRESENTATIONS) {
+                if (type.getQualityValue() > 0 && type.isCompatibleWith(representation)) {
+                    return representation;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
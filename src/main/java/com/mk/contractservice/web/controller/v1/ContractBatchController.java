@@ -0,0 +1,110 @@
+package com.mk.contractservice.web.controller.v1;
+
+import com.mk.contractservice.application.ContractApplicationService;
+import com.mk.contractservice.application.ContractBatchApplicationService;
+import com.mk.contractservice.application.batch.ContractOperationResult;
+import com.mk.contractservice.web.dto.contract.ContractBatchRequest;
+import com.mk.contractservice.web.dto.contract.ContractBatchResponse;
+import com.mk.contractservice.web.dto.contract.ContractSumsRequest;
+import com.mk.contractservice.web.dto.contract.ContractSumsResponse;
+import com.mk.contractservice.web.dto.mapper.contract.ContractOperationMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Tag(name = "Contracts", description = "Operations on contracts (create, read, update cost)")
+@RestController
+@RequestMapping("/v1/contracts")
+public class ContractBatchController {
+
+    private final ContractApplicationService contractApplicationService;
+    private final ContractBatchApplicationService contractBatchApplicationService;
+    private final ContractOperationMapper contractOperationMapper;
+
+    public ContractBatchController(final ContractApplicationService contractApplicationService,
+                                   final ContractBatchApplicationService contractBatchApplicationService,
+                                   final ContractOperationMapper contractOperationMapper) {
+        this.contractApplicationService = contractApplicationService;
+        this.contractBatchApplicationService = contractBatchApplicationService;
+        this.contractOperationMapper = contractOperationMapper;
+    }
+
+    @Operation(
+            summary = "Apply many contract writes in one request",
+            description = "Applies a list of 'create', 'updateCost' and 'close' operations, for one or many clients, "
+                    + "in transactional chunks of app.contract-batch.chunk-size operations. An operation that fails "
+                    + "validation does not affect the others; a chunk that fails as a whole is rolled back and "
+                    + "reported as such. Each result carries the status the single-contract endpoint would have "
+                    + "answered."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; see each result for its outcome",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ContractBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "More operations than app.contract-batch.max-operations",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "No operations, or a malformed one",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PostMapping("/batch")
+    public ContractBatchResponse batch(@Valid @RequestBody final ContractBatchRequest request) {
+        final List<ContractOperationResult> results = contractBatchApplicationService.apply(
+                request.operations().stream().map(contractOperationMapper::toOperation).toList());
+        return contractOperationMapper.toResponse(results);
+    }
+
+    @Operation(
+            summary = "Sum of costAmount of ACTIVE contracts for several clients",
+            description = "Returns the same sums as GET /v1/clients/{clientId}/contracts/sum for up to "
+                    + ContractSumsRequest.MAX_CLIENTS + " clients in one request. Unknown clients do not fail the "
+                    + "request; they are listed in 'notFound'."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Sums calculated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ContractSumsResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "No client ids, more than " + ContractSumsRequest.MAX_CLIENTS + ", or a null id",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PostMapping("/sums")
+    public ContractSumsResponse sumActive(@Valid @RequestBody final ContractSumsRequest request) {
+        final Map<UUID, BigDecimal> sums = contractApplicationService.sumActiveContractsForClients(request.clientIds());
+        final List<UUID> notFound = request.clientIds().stream()
+                .distinct()
+                .filter(clientId -> !sums.containsKey(clientId))
+                .toList();
+        return new ContractSumsResponse(sums, notFound);
+    }
+}
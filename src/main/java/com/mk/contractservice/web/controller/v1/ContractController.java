@@ -1,13 +1,22 @@
 package com.mk.contractservice.web.controller.v1;
 
 import com.mk.contractservice.application.ContractApplicationService;
+import com.mk.contractservice.application.version.ResourceVersion;
+import com.mk.contractservice.domain.contract.ArchivedContract;
 import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.contract.ContractField;
+import com.mk.contractservice.domain.contract.ContractProjection;
+import com.mk.contractservice.domain.exception.ClientNotFoundException;
+import com.mk.contractservice.web.dto.contract.ArchivedContractResponse;
 import com.mk.contractservice.web.dto.contract.ContractResponse;
 import com.mk.contractservice.web.dto.contract.CostUpdateRequest;
 import com.mk.contractservice.web.dto.contract.CreateContractRequest;
 import com.mk.contractservice.web.dto.contract.CreateContractResponse;
 import com.mk.contractservice.web.dto.contract.PagedContractResponse;
 import com.mk.contractservice.web.dto.mapper.contract.ContractMapper;
+import com.mk.contractservice.web.stream.ContractEventBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,11 +24,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,13 +41,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Tag(name = "Contracts", description = "Operations on contracts (create, read, update cost)")
@@ -42,13 +66,29 @@ import java.util.UUID;
 @RequestMapping("/v1/clients/{clientId}/contracts")
 public class ContractController {
 
+    public static final String CLIENT_VERSION = "Client-Version";
+
     private final ContractApplicationService contractApplicationService;
     private final ContractMapper contractMapper;
+    private final ContractEventBroadcaster contractEventBroadcaster;
+    private final ObjectWriter archivedContractWriter;
+    private final CacheControl activeCacheControl;
+    private final CacheControl expiredCacheControl;
 
     public ContractController(final ContractApplicationService contractApplicationService,
-                              final ContractMapper contractMapper) {
+                              final ContractMapper contractMapper,
+                              final ContractEventBroadcaster contractEventBroadcaster,
+                              final ObjectMapper objectMapper,
+                              @Value("${app.contracts.cache-control.active-max-age:0s}") final Duration activeMaxAge,
+                              @Value("${app.contracts.cache-control.expired-max-age:365d}") final Duration expiredMaxAge) {
         this.contractApplicationService = contractApplicationService;
         this.contractMapper = contractMapper;
+        this.contractEventBroadcaster = contractEventBroadcaster;
+        this.archivedContractWriter = objectMapper.writerFor(ArchivedContractResponse.class);
+        this.activeCacheControl = activeMaxAge.isZero()
+                ? CacheControl.noCache().cachePrivate()
+                : CacheControl.maxAge(activeMaxAge).cachePrivate().mustRevalidate();
+        this.expiredCacheControl = CacheControl.maxAge(expiredMaxAge).cachePrivate().immutable();
     }
 
     @Operation(
@@ -129,7 +169,11 @@ public class ContractController {
             description = "Returns all active contracts (current date < end date or endDate = null). "
                     + "Can be filtered by lastModified >= updatedSince. "
                     + "Supports pagination (default size: 20, max: 100). "
-                    + "Use query params: ?page=0&size=20&sort=lastModified,desc"
+                    + "Use query params: ?page=0&size=20&sort=lastModified,desc. "
+                    + "The ETag covers all the active contracts of the client, so any page can be revalidated "
+                    + "with If-None-Match. "
+                    + "?fields=id,costAmount reads and sends only the listed contract properties (id, clientId, "
+                    + "period, costAmount); the others are absent from the contracts."
     )
     @ApiResponses({
             @ApiResponse(
@@ -138,6 +182,10 @@ public class ContractController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PagedContractResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Active contracts unchanged since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid query parameters (e.g., invalid date format)",
@@ -162,11 +210,21 @@ public class ContractController {
             @PathVariable final UUID clientId,
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime updatedSince,
+            @RequestParam(required = false) final List<String> fields,
             final Pageable pageable,
-            final Locale locale
+            final Locale locale,
+            final WebRequest request
     ) {
-        final Page<Contract> contracts = contractApplicationService.getActiveContractsPageable(clientId, updatedSince, pageable);
-        final Page<ContractResponse> responsePage = contracts.map(contractMapper::toDto);
+        final Set<ContractField> selected = SparseFieldsets.contractFields(fields);
+        final ResourceVersion version = contractApplicationService.activeContractsVersion(clientId);
+        if (ConditionalRequests.notModified(request, selected == null ? version : version.including(selected))) {
+            return null;
+        }
+        final Page<ContractResponse> responsePage = selected == null
+                ? contractApplicationService.getActiveContractsPageable(clientId, updatedSince, pageable)
+                        .map(contractMapper::toDto)
+                : contractApplicationService.getActiveContractsPageable(clientId, updatedSince, selected, pageable)
+                        .map(contractMapper::toDto);
 
         final PagedContractResponse response = new PagedContractResponse(
                 responsePage.getContent(),
@@ -183,13 +241,121 @@ public class ContractController {
                 .body(response);
     }
 
+    @Operation(
+            summary = "Get the version of a client",
+            description = "Answers whether anything of the client or its contracts was written since a version "
+                    + "seen before, without a body and without reading any contract: the version is a counter "
+                    + "bumped by every write, cached for a moment on each instance. Contracts reaching their end "
+                    + "date are not writes and do not move it."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Version of the client, with no body",
+                    headers = @Header(name = CLIENT_VERSION, description = "Current version of the client",
+                            schema = @Schema(type = "integer", format = "int64"))
+            ),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    @RequestMapping(method = RequestMethod.HEAD)
+    public ResponseEntity<Void> version(@PathVariable final UUID clientId) {
+        final long version = contractApplicationService.clientVersion(clientId)
+                .orElseThrow(() -> new ClientNotFoundException("Client not found: " + clientId));
+        return ResponseEntity.ok()
+                .header(CLIENT_VERSION, Long.toString(version))
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    @Operation(
+            summary = "Stream the archived contracts of a client",
+            description = "Contracts expired for longer than the archive retention are moved out of the live table. "
+                    + "This endpoint streams them as newline-delimited JSON (one contract per line) straight "
+                    + "from the archive, without loading the whole history in memory."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Archived contracts, one JSON object per line",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = ArchivedContractResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Client not found",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @GetMapping(value = "/archived", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamArchived(
+            @PathVariable final UUID clientId,
+            final Locale locale
+    ) {
+        contractApplicationService.ensureClientExists(clientId);
+
+        final StreamingResponseBody body = out -> {
+            try {
+                contractApplicationService.forEachArchivedContract(clientId, contract -> writeLine(out, contract));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_LANGUAGE, locale.toLanguageTag())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Subscribe to the contract changes of a client (Server-Sent Events)",
+            description = "Opens an event stream that starts with the current sum, then carries 'contract-created', "
+                    + "'contract-cost-changed' and 'contracts-closed' events (data: the change as JSON, id: its "
+                    + "change feed sequence), each batch followed by the recomputed 'sum'. A subscriber too slow to "
+                    + "keep up gets a 'resync' event instead of the events it missed. 'client-deleted' ends the "
+                    + "stream; otherwise it ends after the stream timeout and the client reconnects. Comment frames "
+                    + "are sent as heartbeats while idle."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream opened",
+                    content = @Content(mediaType = "text/event-stream")
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Client not found",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable final UUID clientId) {
+        contractApplicationService.ensureClientExists(clientId);
+        return contractEventBroadcaster.subscribe(clientId);
+    }
+
+    private void writeLine(final OutputStream out, final ArchivedContract contract) {
+        try {
+            out.write(archivedContractWriter.writeValueAsBytes(contractMapper.toDto(contract)));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Operation(
             summary = "Get a specific contract by ID",
             description = "Retrieves a single contract by its ID. "
-                    + "Validates that the contract belongs to the specified client."
+                    + "Validates that the contract belongs to the specified client. "
+                    + "Supports If-None-Match and If-Modified-Since. Expired contracts never change again and are "
+                    + "sent as immutable, with a long max-age; active ones must be revalidated. "
+                    + "?fields=id,costAmount sends only the listed properties (id, clientId, period, costAmount)."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Contract found"),
+            @ApiResponse(responseCode = "304", description = "Contract unchanged since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "403", description = "Contract does not belong to this client"),
             @ApiResponse(responseCode = "404", description = "Contract not found")
     })
@@ -197,10 +363,26 @@ public class ContractController {
     public ResponseEntity<ContractResponse> getById(
             @PathVariable final UUID clientId,
             @PathVariable final UUID contractId,
-            final Locale locale
+            @RequestParam(required = false) final List<String> fields,
+            final Locale locale,
+            final WebRequest request,
+            final HttpServletResponse servletResponse
     ) {
+        final Set<ContractField> selected = SparseFieldsets.contractFields(fields);
+        final Optional<ResourceVersion> version = contractApplicationService.contractVersion(clientId, contractId)
+                .map(v -> selected == null ? v : v.including(selected));
+        if (version.isPresent()) {
+            // Set on the servlet response so that a 304 carries it too.
+            final CacheControl cacheControl = version.get().immutable() ? expiredCacheControl : activeCacheControl;
+            servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            if (ConditionalRequests.notModified(request, version.get())) {
+                return null;
+            }
+        }
         final Contract contract = contractApplicationService.getContractById(clientId, contractId);
-        final ContractResponse response = contractMapper.toDto(contract);
+        final ContractResponse response = selected == null
+                ? contractMapper.toDto(contract)
+                : contractMapper.toDto(ContractProjection.of(contract, selected));
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_LANGUAGE, locale.toLanguageTag())
@@ -210,7 +392,7 @@ public class ContractController {
     @Operation(
             summary = "Sum of costAmount of ACTIVE contracts for a client",
             description = "Returns the sum of costAmount for all active contracts of a client. "
-                    + "Returns 0.00 if no active contracts exist."
+                    + "Returns 0.00 if no active contracts exist. Supports If-None-Match."
     )
     @ApiResponses({
             @ApiResponse(
@@ -219,6 +401,10 @@ public class ContractController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = BigDecimal.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Sum unchanged since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Client not found",
@@ -235,8 +421,12 @@ public class ContractController {
     @GetMapping("/sum")
     public ResponseEntity<BigDecimal> sumActive(
             @PathVariable final UUID clientId,
-            final Locale locale
+            final Locale locale,
+            final WebRequest request
     ) {
+        if (ConditionalRequests.notModified(request, contractApplicationService.activeContractsVersion(clientId).including("sum"))) {
+            return null;
+        }
         final BigDecimal sum = contractApplicationService.sumActiveContracts(clientId);
 
         return ResponseEntity.ok()
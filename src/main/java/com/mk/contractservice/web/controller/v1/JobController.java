@@ -0,0 +1,53 @@
+package com.mk.contractservice.web.controller.v1;
+
+import com.mk.contractservice.application.JobApplicationService;
+import com.mk.contractservice.web.dto.job.JobResponse;
+import com.mk.contractservice.web.dto.mapper.job.JobMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@Tag(name = "Jobs", description = "Status of background jobs started by asynchronous requests")
+@RestController
+@RequestMapping("/v1/jobs")
+public class JobController {
+
+    private final JobApplicationService jobApplicationService;
+    private final JobMapper jobMapper;
+
+    public JobController(final JobApplicationService jobApplicationService, final JobMapper jobMapper) {
+        this.jobApplicationService = jobApplicationService;
+        this.jobMapper = jobMapper;
+    }
+
+    @Operation(
+            summary = "Get the status of a background job",
+            description = "Returns the status and progress of a job, e.g. one started by DELETE /v1/clients/{id}?async=true."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Job found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = JobResponse.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired job")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobResponse> get(@PathVariable final UUID jobId) {
+        return jobApplicationService.find(jobId)
+                .map(jobMapper::toDto)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
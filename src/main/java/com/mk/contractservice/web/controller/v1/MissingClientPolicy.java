@@ -0,0 +1,15 @@
+package com.mk.contractservice.web.controller.v1;
+
+/**
+ * What {@code POST /v1/clients/batch-get} answers when some of the requested clients do not exist.
+ */
+public enum MissingClientPolicy {
+    /**
+     * Return the clients found and list the others in {@code notFound}.
+     */
+    REPORT,
+    /**
+     * Fail the whole request with 404.
+     */
+    FAIL
+}
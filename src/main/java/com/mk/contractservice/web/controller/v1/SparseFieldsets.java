@@ -0,0 +1,46 @@
+package com.mk.contractservice.web.controller.v1;
+
+import com.mk.contractservice.domain.client.ClientField;
+import com.mk.contractservice.domain.contract.ContractField;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Parses the {@code fields} query parameter of the read endpoints: a comma-separated list of the properties to send,
+ * all of them when absent. An unknown property fails the request with 400.
+ * <p>
+ * The same resource version is then sent with different bodies, so the fields are part of its tag.
+ */
+final class SparseFieldsets {
+
+    private SparseFieldsets() {
+    }
+
+    /**
+     * @return the requested contract fields, or null when all of them are
+     */
+    static Set<ContractField> contractFields(final List<String> fields) {
+        return fields == null ? null : parse(fields, ContractField.class, ContractField::of);
+    }
+
+    /**
+     * @return the requested client fields, or null when all of them are
+     */
+    static Set<ClientField> clientFields(final List<String> fields) {
+        return fields == null ? null : parse(fields, ClientField.class, ClientField::of);
+    }
+
+    private static <E extends Enum<E>> Set<E> parse(final List<String> fields, final Class<E> type,
+                                                    final Function<String, E> of) {
+        final Set<E> parsed = EnumSet.noneOf(type);
+        for (final String field : fields) {
+            if (!field.isBlank()) {
+                parsed.add(of.apply(field.trim()));
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,15 @@
+package com.mk.contractservice.web.dto.change;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Page of the change feed")
+public record ChangeFeedResponse(
+        @Schema(description = "Changes after the requested sequence, oldest first; empty if none arrived in time")
+        List<ChangeResponse> changes,
+
+        @Schema(description = "Sequence to pass as 'after' on the next request", example = "1042")
+        long next
+) {
+}
@@ -0,0 +1,29 @@
+package com.mk.contractservice.web.dto.change;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Client or contract change, in commit order")
+public record ChangeResponse(
+        @Schema(description = "Position in the feed; pass the last one seen as 'after' to resume", example = "1042")
+        long sequence,
+
+        @Schema(description = "Event identifier, stable across redeliveries", example = "01923f5e-7b7a-7c1e-9a4e-2b8f0c6d1e2a")
+        UUID eventId,
+
+        @Schema(description = "Kind of change", example = "ContractCostChanged")
+        String type,
+
+        @Schema(description = "Client the change belongs to", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID clientId,
+
+        LocalDateTime occurredAt,
+
+        @Schema(description = "The event as JSON", example = "{\"contractId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"costAmount\": 12.50}")
+        @JsonRawValue
+        String payload
+) {
+}
@@ -0,0 +1,16 @@
+package com.mk.contractservice.web.dto.client;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ClientBatchGetRequest(
+        @NotEmpty(message = "Client ids are required")
+        @Schema(description = "Clients to read, at most app.clients.batch-get.max-size; duplicates are answered once",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        List<@NotNull(message = "Client id must not be null") UUID> clientIds
+) {
+}
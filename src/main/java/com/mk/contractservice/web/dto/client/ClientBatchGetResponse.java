@@ -0,0 +1,16 @@
+package com.mk.contractservice.web.dto.client;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Clients read in one request")
+public record ClientBatchGetResponse(
+        @Schema(description = "Existing clients, in request order")
+        List<ClientResponse> clients,
+
+        @Schema(description = "Requested clients that do not exist")
+        List<UUID> notFound
+) {
+}
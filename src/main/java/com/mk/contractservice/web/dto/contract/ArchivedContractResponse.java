@@ -0,0 +1,29 @@
+package com.mk.contractservice.web.dto.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Archived (long expired) contract, one per line of the NDJSON stream")
+public record ArchivedContractResponse(
+        @Schema(description = "Unique contract identifier", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID id,
+
+        @Schema(description = "Client identifier owning this contract", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID clientId,
+
+        @Schema(description = "Contract start date", example = "2023-01-01T00:00:00")
+        LocalDateTime startDate,
+
+        @Schema(description = "Contract end date", example = "2024-01-01T00:00:00")
+        LocalDateTime endDate,
+
+        @Schema(description = "Contract cost amount", example = "1500.00")
+        BigDecimal costAmount,
+
+        @Schema(description = "When the contract was moved to the archive", example = "2025-02-01T03:00:00")
+        LocalDateTime archivedAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.mk.contractservice.web.dto.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+@Schema(description = "Ends an active contract now")
+public record CloseContractOperationRequest(
+        @NotNull(message = "Client id is required")
+        @Schema(description = "Client owning the contract", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID clientId,
+
+        @NotNull(message = "Contract id is required")
+        @Schema(description = "Contract to close", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID contractId
+) implements ContractOperationRequest {
+}
@@ -0,0 +1,16 @@
+package com.mk.contractservice.web.dto.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record ContractBatchRequest(
+        @NotEmpty(message = "Operations are required")
+        @Schema(description = "Operations to apply in order, at most app.contract-batch.max-operations",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        List<@NotNull(message = "Operation must not be null") @Valid ContractOperationRequest> operations
+) {
+}
@@ -0,0 +1,18 @@
+package com.mk.contractservice.web.dto.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a contract batch")
+public record ContractBatchResponse(
+        @Schema(description = "Number of operations applied", example = "998")
+        int applied,
+
+        @Schema(description = "Number of operations that failed or were rolled back", example = "2")
+        int failed,
+
+        @Schema(description = "One result per operation, in request order")
+        List<ContractOperationResponse> results
+) {
+}
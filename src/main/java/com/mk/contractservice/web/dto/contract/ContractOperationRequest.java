@@ -0,0 +1,28 @@
+package com.mk.contractservice.web.dto.contract;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@JsonTypeInfo(
+        use = JsonTypeInfo.Id.NAME,
+        include = JsonTypeInfo.As.PROPERTY,
+        property = "op"
+)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = CreateContractOperationRequest.class, name = "create"),
+        @JsonSubTypes.Type(value = CostUpdateOperationRequest.class, name = "updateCost"),
+        @JsonSubTypes.Type(value = CloseContractOperationRequest.class, name = "close")
+})
+@Schema(
+        oneOf = {CreateContractOperationRequest.class, CostUpdateOperationRequest.class, CloseContractOperationRequest.class},
+        discriminatorProperty = "op",
+        description = "One contract write: 'create', 'updateCost' or 'close'"
+)
+public sealed interface ContractOperationRequest
+        permits CreateContractOperationRequest, CostUpdateOperationRequest, CloseContractOperationRequest {
+
+    UUID clientId();
+}
@@ -0,0 +1,24 @@
+package com.mk.contractservice.web.dto.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Outcome of one batch operation")
+public record ContractOperationResponse(
+        @Schema(description = "Position of the operation in the request", example = "0")
+        int index,
+
+        @Schema(description = "HTTP status the single-contract endpoint would have answered", example = "200")
+        int status,
+
+        @Schema(description = "Error code, as in problem details; null on success", example = "contractExpired")
+        String code,
+
+        @Schema(description = "Contract written, or targeted by a failed operation")
+        UUID contractId,
+
+        @Schema(description = "Why the operation failed; null on success")
+        String detail
+) {
+}
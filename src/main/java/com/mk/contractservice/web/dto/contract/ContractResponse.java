@@ -2,10 +2,12 @@ package com.mk.contractservice.web.dto.contract;
 
 import com.mk.contractservice.domain.valueobject.ContractCost;
 import com.mk.contractservice.domain.valueobject.ContractPeriod;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.UUID;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Contract details with period and cost information")
 public record ContractResponse(
         @Schema(description = "Unique contract identifier", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
@@ -0,0 +1,17 @@
+package com.mk.contractservice.web.dto.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ContractSumsRequest(
+        @NotNull(message = "Client ids are required")
+        @Size(min = 1, max = ContractSumsRequest.MAX_CLIENTS, message = "Between 1 and " + ContractSumsRequest.MAX_CLIENTS + " client ids are allowed")
+        @Schema(description = "Clients to sum; duplicates are answered once", requiredMode = Schema.RequiredMode.REQUIRED)
+        List<@NotNull(message = "Client id must not be null") UUID> clientIds
+) {
+    public static final int MAX_CLIENTS = 500;
+}
@@ -0,0 +1,18 @@
+package com.mk.contractservice.web.dto.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Schema(description = "Sums of the active contracts of several clients")
+public record ContractSumsResponse(
+        @Schema(description = "Sum of costAmount of the active contracts of each existing client, in request order; 0 if it has none")
+        Map<UUID, BigDecimal> sums,
+
+        @Schema(description = "Requested clients that do not exist")
+        List<UUID> notFound
+) {
+}
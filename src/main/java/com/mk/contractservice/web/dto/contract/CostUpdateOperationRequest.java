@@ -0,0 +1,27 @@
+package com.mk.contractservice.web.dto.contract;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Schema(description = "Changes the cost of an active contract, like PATCH /v1/clients/{clientId}/contracts/{contractId}/cost")
+public record CostUpdateOperationRequest(
+        @NotNull(message = "Client id is required")
+        @Schema(description = "Client owning the contract", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID clientId,
+
+        @NotNull(message = "Contract id is required")
+        @Schema(description = "Contract to update", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID contractId,
+
+        @NotNull(message = "Amount is required")
+        @Positive(message = "Cost amount must positive and greater than zero")
+        @Digits(integer = 12, fraction = 2, message = "Amount must have at most 12 digits and 2 decimal places")
+        @Schema(description = "New cost amount (must be positive, max 12 digits + 2 decimals)", example = "2500.00", minimum = "0.01", requiredMode = Schema.RequiredMode.REQUIRED)
+        BigDecimal amount
+) implements ContractOperationRequest {
+}
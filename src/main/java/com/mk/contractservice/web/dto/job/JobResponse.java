@@ -0,0 +1,39 @@
+package com.mk.contractservice.web.dto.job;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Schema(description = "Status and progress of a background job")
+public record JobResponse(
+        @Schema(description = "Job identifier", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID id,
+
+        @Schema(description = "Kind of job", example = "client-deletion")
+        String type,
+
+        @Schema(description = "PENDING, RUNNING, SUCCEEDED or FAILED", example = "RUNNING")
+        String status,
+
+        @Schema(description = "Runs so far, retries included", example = "1")
+        int attempts,
+
+        @Schema(description = "Input of the job", example = "{\"clientId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\"}")
+        Map<String, String> payload,
+
+        @Schema(description = "Progress counters reported by the job",
+                example = "{\"contractsTotal\": 250000, \"contractsClosed\": 120000}")
+        Map<String, Long> progress,
+
+        LocalDateTime createdAt,
+
+        LocalDateTime startedAt,
+
+        LocalDateTime finishedAt,
+
+        @Schema(description = "Failure reason of the last attempt")
+        String error
+) {
+}
@@ -0,0 +1,15 @@
+package com.mk.contractservice.web.dto.mapper.change;
+
+import com.mk.contractservice.application.feed.Change;
+import com.mk.contractservice.web.dto.change.ChangeResponse;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ChangeMapper {
+
+    ChangeResponse toDto(Change change);
+
+    List<ChangeResponse> toDto(List<Change> changes);
+}
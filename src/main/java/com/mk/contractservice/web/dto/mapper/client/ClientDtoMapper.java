@@ -1,13 +1,20 @@
 package com.mk.contractservice.web.dto.mapper.client;
 
 import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientField;
 import com.mk.contractservice.domain.client.Company;
 import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.valueobject.ClientName;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.domain.valueobject.PhoneNumber;
 import com.mk.contractservice.web.dto.client.ClientResponse;
 import com.mk.contractservice.web.dto.client.CompanyResponse;
 import com.mk.contractservice.web.dto.client.PersonResponse;
 import org.mapstruct.Mapper;
 
+import java.util.Set;
+import java.util.UUID;
+
 @Mapper(componentModel = "spring")
 public interface ClientDtoMapper {
 
@@ -29,4 +36,21 @@ public interface ClientDtoMapper {
             );
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Maps only the requested fields, leaving the others null; {@code birthDate} and {@code companyIdentifier} are
+     * ignored for the type that has no such field.
+     */
+    default ClientResponse toResponse(final Client client, final Set<ClientField> fields) {
+        final UUID id = fields.contains(ClientField.ID) ? client.getId() : null;
+        final ClientName name = fields.contains(ClientField.NAME) ? client.getName() : null;
+        final Email email = fields.contains(ClientField.EMAIL) ? client.getEmail() : null;
+        final PhoneNumber phone = fields.contains(ClientField.PHONE) ? client.getPhone() : null;
+        return switch (client) {
+            case final Person p -> new PersonResponse(id, name, email, phone,
+                    fields.contains(ClientField.BIRTH_DATE) ? p.getBirthDate() : null);
+            case final Company co -> new CompanyResponse(id, name, email, phone,
+                    fields.contains(ClientField.COMPANY_IDENTIFIER) ? co.getCompanyIdentifier() : null);
+        };
+    }
+}
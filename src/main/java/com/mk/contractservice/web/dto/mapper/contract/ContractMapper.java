@@ -1,6 +1,9 @@
 package com.mk.contractservice.web.dto.mapper.contract;
 
+import com.mk.contractservice.domain.contract.ArchivedContract;
 import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.contract.ContractProjection;
+import com.mk.contractservice.web.dto.contract.ArchivedContractResponse;
 import com.mk.contractservice.web.dto.contract.ContractResponse;
 import com.mk.contractservice.web.dto.mapper.common.ValueObjectMappers;
 import org.mapstruct.Mapper;
@@ -11,4 +14,8 @@ public interface ContractMapper {
 
     @Mapping(target = "clientId", expression = "java(c.getClient().getId())")
     ContractResponse toDto(Contract c);
+
+    ContractResponse toDto(ContractProjection c);
+
+    ArchivedContractResponse toDto(ArchivedContract c);
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.mk.contractservice.web.dto.mapper.contract;
+
+import com.mk.contractservice.application.batch.ContractOperation;
+import com.mk.contractservice.application.batch.ContractOperationResult;
+import com.mk.contractservice.web.dto.contract.CloseContractOperationRequest;
+import com.mk.contractservice.web.dto.contract.ContractBatchResponse;
+import com.mk.contractservice.web.dto.contract.ContractOperationRequest;
+import com.mk.contractservice.web.dto.contract.ContractOperationResponse;
+import com.mk.contractservice.web.dto.contract.CostUpdateOperationRequest;
+import com.mk.contractservice.web.dto.contract.CreateContractOperationRequest;
+import org.mapstruct.Mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ContractOperationMapper {
+
+    default ContractOperation toOperation(final ContractOperationRequest request) {
+        return switch (request) {
+            case final CreateContractOperationRequest create -> new ContractOperation.Create(
+                    create.clientId(), create.startDate(), create.endDate(), create.costAmount());
+            case final CostUpdateOperationRequest update -> new ContractOperation.UpdateCost(
+                    update.clientId(), update.contractId(), update.amount());
+            case final CloseContractOperationRequest close -> new ContractOperation.Close(
+                    close.clientId(), close.contractId());
+        };
+    }
+
+    /**
+     * Reports each result with the status and problem code the single-contract endpoint would have answered.
+     */
+    default ContractBatchResponse toResponse(final List<ContractOperationResult> results) {
+        final List<ContractOperationResponse> responses = new ArrayList<>(results.size());
+        int applied = 0;
+        for (int i = 0; i < results.size(); i++) {
+            final ContractOperationResult result = results.get(i);
+            final int status = switch (result.outcome()) {
+                case CREATED -> 201;
+                case COST_UPDATED, CLOSED -> 204;
+                case CLIENT_NOT_FOUND, CONTRACT_NOT_FOUND -> 404;
+                case NOT_OWNED -> 403;
+                case EXPIRED, INVALID -> 422;
+                case ROLLED_BACK -> 500;
+            };
+            final String code = switch (result.outcome()) {
+                case CREATED, COST_UPDATED, CLOSED -> null;
+                case CLIENT_NOT_FOUND -> "clientNotFound";
+                case CONTRACT_NOT_FOUND -> "contractNotFound";
+                case NOT_OWNED -> "contractAccessDenied";
+                case EXPIRED -> "contractExpired";
+                case INVALID -> result.code() != null ? result.code() : "domainValidationError";
+                case ROLLED_BACK -> "rolledBack";
+            };
+            if (result.outcome().applied()) {
+                applied++;
+            }
+            final String detail = result.outcome() == ContractOperationResult.Outcome.NOT_OWNED
+                    ? "You do not have permission to access this contract"
+                    : result.detail();
+            responses.add(new ContractOperationResponse(i, status, code, result.contractId(), detail));
+        }
+        return new ContractBatchResponse(applied, results.size() - applied, responses);
+    }
+}
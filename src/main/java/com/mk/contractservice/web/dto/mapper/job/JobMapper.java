@@ -0,0 +1,13 @@
+package com.mk.contractservice.web.dto.mapper.job;
+
+import com.mk.contractservice.application.job.Job;
+import com.mk.contractservice.web.dto.job.JobResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface JobMapper {
+
+    @Mapping(target = "error", source = "lastError")
+    JobResponse toDto(Job job);
+}
@@ -0,0 +1,207 @@
+package com.mk.contractservice.web.idempotency;
+
+import com.mk.contractservice.application.IdempotencyApplicationService;
+import com.mk.contractservice.application.idempotency.IdempotencyKeyInFlightException;
+import com.mk.contractservice.application.idempotency.IdempotencyKeyReusedException;
+import com.mk.contractservice.application.idempotency.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Makes the create endpoints (persons, companies, contracts) safe to retry: a POST carrying an
+ * {@code Idempotency-Key} header runs once and its response is replayed, with {@code Idempotent-Replayed: true}, to
+ * later requests with the same key and body. The same key with another body or endpoint is rejected with 422. POSTs
+ * without the header are not affected.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Pattern CREATE_PATHS = Pattern.compile(
+            "/v1/clients/(persons|companies|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}/contracts)/?");
+    private static final List<String> REPLAYED_HEADERS = List.of(HttpHeaders.LOCATION, HttpHeaders.CONTENT_LANGUAGE);
+
+    private final IdempotencyApplicationService idempotencyService;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public IdempotencyFilter(final IdempotencyApplicationService idempotencyService,
+                             @Qualifier("handlerExceptionResolver") final HandlerExceptionResolver exceptionResolver) {
+        this.idempotencyService = idempotencyService;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY) == null
+                || !CREATE_PATHS.matcher(request.getRequestURI().substring(request.getContextPath().length())).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain chain) throws ServletException, IOException {
+        final String key = request.getHeader(IDEMPOTENCY_KEY);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            exceptionResolver.resolveException(request, response, null, new IllegalArgumentException(
+                    IDEMPOTENCY_KEY + " must be between 1 and " + MAX_KEY_LENGTH + " characters"));
+            return;
+        }
+        final byte[] body = request.getInputStream().readAllBytes();
+        final HttpServletRequest replayable = new CachedBodyRequest(request, body);
+        final ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+        final boolean[] executed = new boolean[1];
+
+        final StoredResponse stored;
+        try {
+            stored = idempotencyService.execute(key, fingerprint(request, body), () -> {
+                executed[0] = true;
+                try {
+                    chain.doFilter(replayable, captured);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (ServletException e) {
+                    throw new ChainFailedException(e);
+                }
+                return capture(captured);
+            });
+        } catch (IdempotencyKeyReusedException | IdempotencyKeyInFlightException e) {
+            exceptionResolver.resolveException(request, response, null, e);
+            return;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (ChainFailedException e) {
+            throw e.getCause();
+        }
+
+        if (executed[0]) {
+            captured.copyBodyToResponse();
+        } else {
+            response.setStatus(stored.status());
+            stored.headers().forEach(response::setHeader);
+            response.setHeader(REPLAYED, "true");
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private static StoredResponse capture(final ContentCachingResponseWrapper response) {
+        final Map<String, String> headers = new LinkedHashMap<>();
+        for (final String name : REPLAYED_HEADERS) {
+            final String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        // Containers keep the content type apart from the other headers.
+        if (response.getContentType() != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, response.getContentType());
+        }
+        return new StoredResponse(response.getStatus(), headers, response.getContentAsByteArray());
+    }
+
+    private static String fingerprint(final HttpServletRequest request, final byte[] body) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ChainFailedException extends RuntimeException {
+
+        private ChainFailedException(final ServletException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized ServletException getCause() {
+            return (ServletException) super.getCause();
+        }
+    }
+
+    /**
+     * Request whose body was already read, served again from memory.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(final byte[] buffer, final int offset, final int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener listener) {
+                    // The body is already in memory: it can be read at once, and then all of it was.
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.mk.contractservice.web.stream;
+
+import com.mk.contractservice.application.ChangeFeedApplicationService;
+import com.mk.contractservice.application.ContractApplicationService;
+import com.mk.contractservice.application.feed.Change;
+import com.mk.contractservice.application.feed.ChangeCursorExpiredException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fans the change feed out to the SSE subscribers of each client. One virtual thread per instance long-polls the
+ * feed from its head, so the stream sees changes committed on any instance (once the outbox relay has passed them
+ * on); subscribers themselves hold no thread. After a batch that touched a client's contracts, the client's active
+ * sum is recomputed once on the primary, as the change may come from another instance whose writes neither this
+ * instance's sum cache nor a replica have seen yet, and sent to all of its subscribers.
+ */
+@Component
+public class ContractEventBroadcaster implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractEventBroadcaster.class);
+
+    private static final int BATCH = 1000;
+    private static final Duration FOLLOW_WAIT = Duration.ofSeconds(30);
+    private static final Duration RETRY_PAUSE = Duration.ofSeconds(1);
+
+    private static final Map<String, String> EVENT_NAMES = Map.of(
+            "ContractCreated", "contract-created",
+            "ContractCostChanged", "contract-cost-changed",
+            "ContractsClosed", "contracts-closed",
+            "ClientDeleted", "client-deleted");
+
+    private final ChangeFeedApplicationService changeFeedService;
+    private final ContractApplicationService contractService;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration timeout;
+    private final Map<UUID, Set<ContractEventSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter dropped;
+    private volatile boolean running;
+    private Thread follower;
+
+    public ContractEventBroadcaster(final ChangeFeedApplicationService changeFeedService,
+                                    final ContractApplicationService contractService,
+                                    @Value("${app.contract-stream.buffer-size:64}") final int bufferSize,
+                                    @Value("${app.contract-stream.overflow:coalesce}") final OverflowPolicy overflowPolicy,
+                                    @Value("${app.contract-stream.timeout:30m}") final Duration timeout,
+                                    final MeterRegistry meterRegistry) {
+        this.changeFeedService = changeFeedService;
+        this.contractService = contractService;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.timeout = timeout;
+        this.dropped = Counter.builder("contracts.stream.dropped")
+                .tag("policy", overflowPolicy.name().toLowerCase(Locale.ROOT))
+                .description("Contract stream events a slow subscriber did not receive")
+                .register(meterRegistry);
+        Gauge.builder("contracts.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open contract event streams on this instance")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of the client's contract events, starting with its current sum. It ends after
+     * {@code app.contract-stream.timeout}, when the client is deleted, or when the subscriber goes away; browsers'
+     * {@code EventSource} reconnects by itself.
+     */
+    public SseEmitter subscribe(final UUID clientId) {
+        final SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        final ContractEventSubscriber subscriber = new ContractEventSubscriber(emitter, bufferSize, overflowPolicy,
+                dropped::increment);
+        subscribers.computeIfAbsent(clientId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+
+        final Runnable unsubscribe = () -> unsubscribe(clientId, subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        sendSum(clientId, Set.of(subscriber), contractService::sumActiveContracts);
+        return emitter;
+    }
+
+    @Scheduled(fixedRateString = "${app.contract-stream.heartbeat:15s}")
+    public void heartbeat() {
+        subscribers.values().forEach(group -> group.forEach(ContractEventSubscriber::heartbeat));
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        follower = Thread.ofVirtual().name("contract-stream-follower").start(this::follow);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        follower.interrupt();
+        subscribers.values().forEach(group -> group.forEach(ContractEventSubscriber::completeWhenDrained));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    int subscribers() {
+        return subscriberCount.get();
+    }
+
+    private void follow() {
+        long after = -1;
+        while (running) {
+            try {
+                if (after < 0) {
+                    after = changeFeedService.head();
+                }
+                final List<Change> changes = changeFeedService.poll(after, BATCH, FOLLOW_WAIT).get();
+                if (!changes.isEmpty()) {
+                    dispatch(changes);
+                    after = changes.getLast().sequence();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ChangeCursorExpiredException e) {
+                log.warn("Contract stream fell behind the change feed retention; resuming from its head");
+                after = -1;
+            } catch (ExecutionException | RuntimeException e) {
+                log.warn("Following the change feed for contract streams failed: {}", e.getMessage());
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(final List<Change> changes) {
+        final Map<UUID, List<Change>> byClient = changes.stream()
+                .filter(change -> EVENT_NAMES.containsKey(change.type()) && subscribers.containsKey(change.clientId()))
+                .collect(Collectors.groupingBy(Change::clientId, LinkedHashMap::new, Collectors.toList()));
+        byClient.forEach((clientId, clientChanges) -> {
+            final Set<ContractEventSubscriber> group = subscribers.getOrDefault(clientId, Set.of());
+            for (final Change change : clientChanges) {
+                final ContractEventSubscriber.Frame frame = new ContractEventSubscriber.Frame(
+                        Long.toString(change.sequence()), EVENT_NAMES.get(change.type()), change.payload());
+                group.forEach(subscriber -> subscriber.offer(frame));
+            }
+            if (clientChanges.getLast().type().equals("ClientDeleted")) {
+                group.forEach(ContractEventSubscriber::completeWhenDrained);
+            } else {
+                sendSum(clientId, group, contractService::recomputeActiveContractsSum);
+            }
+        });
+    }
+
+    private void sendSum(final UUID clientId, final Set<ContractEventSubscriber> group,
+                         final Function<UUID, BigDecimal> sumOf) {
+        try {
+            final ContractEventSubscriber.Frame sum = new ContractEventSubscriber.Frame(null,
+                    ContractEventSubscriber.SUM, sumOf.apply(clientId).toPlainString());
+            group.forEach(subscriber -> subscriber.offer(sum));
+        } catch (RuntimeException e) {
+            log.warn("Recomputing the contract sum of client {} for its streams failed: {}", clientId, e.getMessage());
+        }
+    }
+
+    private void unsubscribe(final UUID clientId, final ContractEventSubscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(clientId, (id, group) -> {
+            if (group.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return group.isEmpty() ? null : group;
+        });
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(RETRY_PAUSE);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
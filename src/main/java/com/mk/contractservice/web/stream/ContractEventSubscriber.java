@@ -0,0 +1,157 @@
+package com.mk.contractservice.web.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.IntConsumer;
+
+/**
+ * One SSE connection and its bounded buffer. Offers never block: frames are written by a virtual thread started
+ * when the buffer stops being empty, so a slow subscriber only fills its own buffer and then loses events per
+ * {@link OverflowPolicy}. Sums are never buffered twice: a newer one replaces the one not sent yet.
+ */
+final class ContractEventSubscriber {
+
+    static final String RESYNC = "resync";
+    static final String SUM = "sum";
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final IntConsumer dropped;
+    private final Deque<Frame> buffer = new ArrayDeque<>();
+    private Frame pendingSum;
+    private boolean writing;
+    private boolean completeWhenDrained;
+    private boolean closed;
+
+    ContractEventSubscriber(final SseEmitter emitter, final int capacity, final OverflowPolicy policy,
+                            final IntConsumer dropped) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.dropped = dropped;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    synchronized void offer(final Frame frame) {
+        if (closed || completeWhenDrained) {
+            return;
+        }
+        if (SUM.equals(frame.name())) {
+            pendingSum = frame;
+        } else {
+            if (buffer.size() >= capacity) {
+                overflow();
+            }
+            buffer.addLast(frame);
+        }
+        startWriting();
+    }
+
+    /**
+     * Sends a comment frame if nothing else is on its way, which keeps proxies from closing an idle connection and
+     * surfaces a dead one on the next write.
+     */
+    synchronized void heartbeat() {
+        if (!closed && !writing) {
+            buffer.addLast(Frame.HEARTBEAT);
+            startWriting();
+        }
+    }
+
+    /**
+     * Completes the stream once the frames already buffered have been written.
+     */
+    synchronized void completeWhenDrained() {
+        completeWhenDrained = true;
+        if (!writing) {
+            closed = true;
+            emitter.complete();
+        }
+    }
+
+    synchronized void close() {
+        closed = true;
+        buffer.clear();
+        pendingSum = null;
+    }
+
+    private void overflow() {
+        switch (policy) {
+            case DROP_OLDEST -> {
+                buffer.removeFirst();
+                dropped.accept(1);
+            }
+            case COALESCE -> {
+                final int lost = RESYNC.equals(buffer.peekFirst().name()) ? buffer.size() - 1 : buffer.size();
+                buffer.clear();
+                buffer.addLast(new Frame(null, RESYNC, "{}"));
+                dropped.accept(lost);
+            }
+        }
+    }
+
+    private void startWriting() {
+        if (!writing) {
+            writing = true;
+            Thread.ofVirtual().name("contract-stream-writer").start(this::write);
+        }
+    }
+
+    private void write() {
+        while (true) {
+            final Frame next;
+            synchronized (this) {
+                next = closed ? null : nextFrame();
+                if (next == null) {
+                    writing = false;
+                    if (completeWhenDrained && !closed) {
+                        closed = true;
+                        emitter.complete();
+                    }
+                    return;
+                }
+            }
+            try {
+                emitter.send(next.toEvent());
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already ended; the container completes the request.
+                close();
+                return;
+            }
+        }
+    }
+
+    private Frame nextFrame() {
+        final Frame frame = buffer.pollFirst();
+        if (frame != null) {
+            return frame;
+        }
+        final Frame sum = pendingSum;
+        pendingSum = null;
+        return sum;
+    }
+
+    /**
+     * A named event with a JSON data line, or (without a name) a comment.
+     */
+    record Frame(String id, String name, String json) {
+
+        static final Frame HEARTBEAT = new Frame(null, null, null);
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            final SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON);
+            return id == null ? event : event.id(id);
+        }
+    }
+}
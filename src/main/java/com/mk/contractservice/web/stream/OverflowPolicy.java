@@ -0,0 +1,11 @@
+package com.mk.contractservice.web.stream;
+
+/**
+ * What a contract event stream does when a subscriber reads slower than its buffer fills.
+ */
+public enum OverflowPolicy {
+    /** Drop the oldest buffered event to make room; the subscriber silently misses it. */
+    DROP_OLDEST,
+    /** Replace everything buffered with one {@code resync} event, telling the subscriber to reload the list. */
+    COALESCE
+}
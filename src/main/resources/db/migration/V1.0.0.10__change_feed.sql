@@ -0,0 +1,23 @@
+-- Global change feed: relayed outbox events, numbered by a single writer (OutboxRelay under a table lock) so that
+-- sequence order is commit order and a reader resuming after a sequence never misses a later-committing row.
+CREATE TABLE contracts.change_feed
+(
+    sequence    BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_id    UUID        NOT NULL,
+    type        VARCHAR(64) NOT NULL,
+    client_id   UUID        NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    payload     JSONB       NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX ix_change_feed_created ON contracts.change_feed (created_at);
+
+-- Highest sequence removed by the retention purge; cursors below it can no longer be resumed.
+CREATE TABLE contracts.change_feed_horizon
+(
+    id             BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    purged_through BIGINT NOT NULL
+);
+
+INSERT INTO contracts.change_feed_horizon (purged_through) VALUES (0);
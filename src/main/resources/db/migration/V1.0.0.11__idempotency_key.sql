@@ -0,0 +1,14 @@
+-- Idempotency keys of create requests and the responses replayed to their retries. UNLOGGED: the table is skipped
+-- by the WAL, so writes cost little, at the price of being emptied after a crash and not reaching replicas; losing
+-- it only reopens the dedupe window of recent keys. A row whose expires_at has passed no longer holds its key.
+CREATE UNLOGGED TABLE contracts.idempotency_key
+(
+    key         VARCHAR(255) PRIMARY KEY,
+    fingerprint CHAR(64)    NOT NULL,
+    status      INTEGER,
+    headers     JSONB,
+    body        BYTEA,
+    expires_at  TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX ix_idempotency_key_expires ON contracts.idempotency_key (expires_at);
@@ -0,0 +1,12 @@
+-- Per-client change counter, bumped in the transaction of every write to the client or its contracts. There is no
+-- foreign key to contracts.client: the JPA adapter only inserts a new client when its transaction flushes, after
+-- the counter was already started; the row is deleted with its client instead.
+CREATE TABLE contracts.client_version
+(
+    client_id UUID PRIMARY KEY,
+    version   BIGINT NOT NULL
+);
+
+INSERT INTO contracts.client_version (client_id, version)
+SELECT id, 1
+FROM contracts.client;
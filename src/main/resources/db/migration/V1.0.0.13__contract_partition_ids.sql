@@ -0,0 +1,66 @@
+-- Identity of contracts in the hash-partitioned table (V1.0.0.5).
+--
+-- A unique index on a partitioned table must contain the partition key, so the database cannot enforce that id
+-- alone is unique: (id, client_id) only rules out duplicates within one client. Ids are unique because the
+-- application generates them as UUIDv7 (infrastructure.persistence.id.UuidV7: 48-bit millisecond timestamp,
+-- per-JVM sequence, 62 random bits) and never accepts one from a caller; a collision needs two instances to draw the
+-- same 62 random bits in the same millisecond. Rows inserted by hand fall back to gen_random_uuid().
+--
+-- Contracts whose client was deleted keep client_id NULL. Hash partitioning sends every NULL key to the
+-- REMAINDER 0 partition, contract_p_00, which therefore also holds all orphans until ContractOrphanReaper purges
+-- them. The index is rebuilt with NULLS NOT DISTINCT (PostgreSQL 15+) so that two orphans with the same id
+-- conflict instead of both being accepted as (id, NULL). Rebuilding it locks writes to the table for its duration.
+--
+-- By-id statements now carry the client, so that they read one partition instead of probing all sixteen: the
+-- mirror trigger deletes the old row from its own partition, and the backfill and cutover detect rows already
+-- copied through the unique index instead of an id-only NOT EXISTS.
+
+DO $$
+DECLARE
+    partitioned regclass := coalesce(to_regclass('contracts.contract_p'), 'contracts.contract'::regclass);
+BEGIN
+    EXECUTE format('CREATE UNIQUE INDEX ux_contract_p_id_client ON %s (id, client_id) NULLS NOT DISTINCT', partitioned);
+    DROP INDEX contracts.ux_contract_p_id;
+    ALTER INDEX contracts.ux_contract_p_id_client RENAME TO ux_contract_p_id;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION contracts.mirror_contract_to_partitioned() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF OLD.client_id IS NULL THEN
+            DELETE FROM contracts.contract_p WHERE id = OLD.id AND client_id IS NULL;
+        ELSE
+            DELETE FROM contracts.contract_p WHERE id = OLD.id AND client_id = OLD.client_id;
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO contracts.contract_p (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+        VALUES (NEW.id, NEW.client_id, NEW.start_date, NEW.end_date, NEW.cost_amount, NEW.last_modified, NEW.status);
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION contracts.cutover_contract_partitioning() RETURNS bigint
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    caught_up bigint;
+BEGIN
+    LOCK TABLE contracts.contract IN ACCESS EXCLUSIVE MODE;
+
+    INSERT INTO contracts.contract_p (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+    SELECT c.id, c.client_id, c.start_date, c.end_date, c.cost_amount, c.last_modified, c.status
+    FROM contracts.contract c
+    ON CONFLICT (id, client_id) DO NOTHING;
+    GET DIAGNOSTICS caught_up = ROW_COUNT;
+
+    DROP TRIGGER trg_contract_mirror_partitioned ON contracts.contract;
+    ALTER TABLE contracts.contract RENAME TO contract_unpartitioned;
+    ALTER TABLE contracts.contract_p RENAME TO contract;
+    RETURN caught_up;
+END
+$$;
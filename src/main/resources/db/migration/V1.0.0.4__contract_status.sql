@@ -0,0 +1,24 @@
+-- Materialized contract status: active reads walk a partial index of live rows instead of comparing end_date
+-- against now() over every contract of the client. The exact end_date check is still applied on top, so rows
+-- the expiry sweeper has not reached yet are never reported as active.
+ALTER TABLE contracts.contract
+    ADD COLUMN status VARCHAR(16) NOT NULL DEFAULT 'ACTIVE' CHECK (status IN ('ACTIVE', 'EXPIRED'));
+
+UPDATE contracts.contract
+SET status = 'EXPIRED'
+WHERE end_date <= now();
+
+-- Listing (default order last_modified DESC) and sum of a client's active contracts
+CREATE INDEX ix_contract_active_client
+    ON contracts.contract (client_id, last_modified DESC)
+    INCLUDE (end_date, cost_amount)
+    WHERE status = 'ACTIVE';
+
+-- Expiry sweeper: next active contracts to reach their end date
+CREATE INDEX ix_contract_active_end
+    ON contracts.contract (end_date)
+    WHERE status = 'ACTIVE' AND end_date IS NOT NULL;
+
+-- Superseded: both only covered open-ended contracts
+DROP INDEX IF EXISTS contracts.ix_contract_client_end_null;
+DROP INDEX IF EXISTS contracts.ix_contract_sum_performance;
@@ -0,0 +1,94 @@
+-- Hash partitioning of contracts by client_id. Every hot query (list, sum, close) is scoped to one client, so
+-- the planner prunes to a single partition, and each partition keeps indexes small enough to stay cached.
+--
+-- Online path for populated databases:
+--   1. this migration creates the partitioned shadow table contract_p and a trigger mirroring every write on
+--      contract into it;
+--   2. ContractPartitionMigrator (app.partitioning.backfill=true) copies existing rows in id order, in small
+--      batches that only lock the rows being copied;
+--   3. contracts.cutover_contract_partitioning() takes a short exclusive lock, copies the remaining rows and
+--      swaps the tables; the old table is kept as contract_unpartitioned until dropped by hand.
+-- Empty databases (fresh installs, tests) are cut over immediately at the end of this migration.
+
+CREATE TABLE contracts.contract_p (
+    id             UUID          NOT NULL DEFAULT gen_random_uuid(),
+    client_id      UUID          REFERENCES contracts.client(id) ON DELETE SET NULL,
+    start_date     TIMESTAMPTZ   NOT NULL,
+    end_date       TIMESTAMPTZ   NULL,
+    cost_amount    NUMERIC(12,2) NOT NULL CHECK (cost_amount > 0),
+    last_modified  TIMESTAMPTZ   NOT NULL,
+    status         VARCHAR(16)   NOT NULL DEFAULT 'ACTIVE' CHECK (status IN ('ACTIVE', 'EXPIRED'))
+) PARTITION BY HASH (client_id);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE contracts.contract_p_%s PARTITION OF contracts.contract_p '
+                       'FOR VALUES WITH (MODULUS 16, REMAINDER %s)', lpad(i::text, 2, '0'), i);
+    END LOOP;
+END
+$$;
+
+-- A unique index on a partitioned table must contain the partition key; ids are UUIDs, so (id, client_id) is
+-- unique in practice and still serves lookups by id (one probe per partition).
+CREATE UNIQUE INDEX ux_contract_p_id ON contracts.contract_p (id, client_id);
+
+CREATE INDEX ix_contract_p_client ON contracts.contract_p (client_id);
+
+CREATE INDEX ix_contract_p_active_client
+    ON contracts.contract_p (client_id, last_modified DESC)
+    INCLUDE (end_date, cost_amount)
+    WHERE status = 'ACTIVE';
+
+CREATE INDEX ix_contract_p_active_end
+    ON contracts.contract_p (end_date)
+    WHERE status = 'ACTIVE' AND end_date IS NOT NULL;
+
+CREATE FUNCTION contracts.mirror_contract_to_partitioned() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM contracts.contract_p WHERE id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO contracts.contract_p (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+        VALUES (NEW.id, NEW.client_id, NEW.start_date, NEW.end_date, NEW.cost_amount, NEW.last_modified, NEW.status);
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_contract_mirror_partitioned
+    AFTER INSERT OR UPDATE OR DELETE ON contracts.contract
+    FOR EACH ROW EXECUTE FUNCTION contracts.mirror_contract_to_partitioned();
+
+CREATE FUNCTION contracts.cutover_contract_partitioning() RETURNS bigint
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    caught_up bigint;
+BEGIN
+    LOCK TABLE contracts.contract IN ACCESS EXCLUSIVE MODE;
+
+    INSERT INTO contracts.contract_p (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+    SELECT c.id, c.client_id, c.start_date, c.end_date, c.cost_amount, c.last_modified, c.status
+    FROM contracts.contract c
+    WHERE NOT EXISTS (SELECT 1 FROM contracts.contract_p p WHERE p.id = c.id);
+    GET DIAGNOSTICS caught_up = ROW_COUNT;
+
+    DROP TRIGGER trg_contract_mirror_partitioned ON contracts.contract;
+    ALTER TABLE contracts.contract RENAME TO contract_unpartitioned;
+    ALTER TABLE contracts.contract_p RENAME TO contract;
+    RETURN caught_up;
+END
+$$;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM contracts.contract) THEN
+        PERFORM contracts.cutover_contract_partitioning();
+        DROP TABLE contracts.contract_unpartitioned;
+    END IF;
+END
+$$;
@@ -0,0 +1,30 @@
+-- Cold storage for contracts expired longer than app.archive.retention. Nothing reads it on the hot path, so it
+-- carries a single index for the per-client archive endpoint and no foreign key: archived rows outlive their
+-- client and must not slow down client deletes.
+CREATE TABLE contracts.contract_archive (
+    id             UUID          PRIMARY KEY,
+    client_id      UUID          NULL,
+    start_date     TIMESTAMPTZ   NOT NULL,
+    end_date       TIMESTAMPTZ   NULL,
+    cost_amount    NUMERIC(12,2) NOT NULL,
+    last_modified  TIMESTAMPTZ   NOT NULL,
+    archived_at    TIMESTAMPTZ   NOT NULL DEFAULT now()
+) WITH (fillfactor = 100);
+
+CREATE INDEX ix_contract_archive_client ON contracts.contract_archive (client_id, end_date DESC);
+
+-- Archiver: oldest expired contracts first
+CREATE INDEX ix_contract_expired_end
+    ON contracts.contract (end_date)
+    WHERE status = 'EXPIRED';
+
+-- Populated databases may still be backfilling into the partitioned shadow table (V1.0.0.5).
+DO $$
+BEGIN
+    IF to_regclass('contracts.contract_p') IS NOT NULL THEN
+        CREATE INDEX ix_contract_p_expired_end
+            ON contracts.contract_p (end_date)
+            WHERE status = 'EXPIRED';
+    END IF;
+END
+$$;
@@ -0,0 +1,22 @@
+-- Contracts whose client was deleted keep their row with client_id set to NULL (ON DELETE SET NULL) and are no
+-- longer reachable through any endpoint. orphaned_at records when ContractOrphanReaper first saw the row
+-- without an owner; the retention window for audit is counted from there.
+ALTER TABLE contracts.contract ADD COLUMN orphaned_at TIMESTAMPTZ NULL;
+
+CREATE INDEX ix_contract_orphaned
+    ON contracts.contract (orphaned_at)
+    WHERE client_id IS NULL;
+
+-- Populated databases may still be backfilling into the partitioned shadow table (V1.0.0.5). The mirror trigger
+-- does not copy orphaned_at: rows stamped before the cutover are stamped again afterwards, which only delays
+-- their purge.
+DO $$
+BEGIN
+    IF to_regclass('contracts.contract_p') IS NOT NULL THEN
+        ALTER TABLE contracts.contract_p ADD COLUMN orphaned_at TIMESTAMPTZ NULL;
+        CREATE INDEX ix_contract_p_orphaned
+            ON contracts.contract_p (orphaned_at)
+            WHERE client_id IS NULL;
+    END IF;
+END
+$$;
@@ -0,0 +1,37 @@
+-- Durable queue for background jobs (PostgresJobQueue / JobWorkerPool). Workers of every replica claim PENDING rows
+-- with FOR UPDATE SKIP LOCKED, own them through locked_by until lease_until and extend the lease with heartbeats;
+-- a RUNNING row whose lease expired is handed back to the queue.
+CREATE TABLE contracts.job
+(
+    id           UUID PRIMARY KEY,
+    type         VARCHAR(64)  NOT NULL,
+    status       VARCHAR(16)  NOT NULL DEFAULT 'PENDING'
+        CONSTRAINT ck_job_status CHECK (status IN ('PENDING', 'RUNNING', 'SUCCEEDED', 'FAILED')),
+    payload      JSONB        NOT NULL DEFAULT '{}',
+    progress     JSONB        NOT NULL DEFAULT '{}',
+    attempts     INT          NOT NULL DEFAULT 0,
+    max_attempts INT          NOT NULL,
+    run_at       TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    locked_by    VARCHAR(128) NULL,
+    lease_until  TIMESTAMPTZ  NULL,
+    heartbeat_at TIMESTAMPTZ  NULL,
+    last_error   TEXT         NULL,
+    created_at   TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    started_at   TIMESTAMPTZ  NULL,
+    finished_at  TIMESTAMPTZ  NULL
+);
+
+-- Claim path: oldest due job of a type.
+CREATE INDEX ix_job_ready
+    ON contracts.job (type, run_at)
+    WHERE status = 'PENDING';
+
+-- Lease recovery path.
+CREATE INDEX ix_job_lease
+    ON contracts.job (lease_until)
+    WHERE status = 'RUNNING';
+
+-- Purge of finished jobs past their retention.
+CREATE INDEX ix_job_finished
+    ON contracts.job (finished_at)
+    WHERE status IN ('SUCCEEDED', 'FAILED');
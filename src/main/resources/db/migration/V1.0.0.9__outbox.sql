@@ -0,0 +1,12 @@
+-- Transactional outbox: domain events are inserted in the transaction of the change they describe and drained by
+-- OutboxRelay in sequence order. No foreign key to client: events of deleted clients must still be delivered.
+CREATE TABLE contracts.outbox
+(
+    sequence    BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_id    UUID        NOT NULL,
+    type        VARCHAR(64) NOT NULL,
+    client_id   UUID        NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    payload     JSONB       NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
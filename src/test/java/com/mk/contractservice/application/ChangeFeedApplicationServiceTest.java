@@ -0,0 +1,134 @@
+package com.mk.contractservice.application;
+
+import com.mk.contractservice.application.feed.Change;
+import com.mk.contractservice.application.feed.ChangeCursorExpiredException;
+import com.mk.contractservice.application.feed.ChangeFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChangeFeedApplicationService - Unit Tests")
+class ChangeFeedApplicationServiceTest {
+
+    private static final UUID CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private FakeChangeFeed feed;
+    private ChangeFeedApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        feed = new FakeChangeFeed();
+        service = new ChangeFeedApplicationService(feed, 2, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("GIVEN changes after the cursor WHEN poll THEN they are returned at once, capped at the max limit")
+    void shouldReturnAvailableChangesImmediately() {
+        feed.append(3);
+
+        final CompletableFuture<List<Change>> result = service.poll(0, 10, Duration.ofSeconds(30));
+
+        assertThat(result).isCompleted();
+        assertThat(result.join()).extracting(Change::sequence).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("GIVEN no change after the cursor WHEN one is appended while waiting THEN the poll completes with it")
+    void shouldCompleteWaitingPollOnAppend() throws InterruptedException {
+        feed.append(1);
+        final CompletableFuture<List<Change>> first = service.poll(1, 10, Duration.ofSeconds(30));
+        final CompletableFuture<List<Change>> second = service.poll(1, 1, Duration.ofSeconds(30));
+        assertThat(first).isNotDone();
+
+        feed.append(2);
+
+        assertThat(first.orTimeout(5, TimeUnit.SECONDS).join()).extracting(Change::sequence).containsExactly(2L, 3L);
+        assertThat(second.orTimeout(5, TimeUnit.SECONDS).join()).extracting(Change::sequence).containsExactly(2L);
+        awaitNoWaiters();
+    }
+
+    @Test
+    @DisplayName("GIVEN no change WHEN the wait elapses THEN the poll completes empty and is forgotten")
+    void shouldCompleteEmptyAfterWait() throws InterruptedException {
+        final CompletableFuture<List<Change>> result = service.poll(0, 10, Duration.ofMillis(50));
+
+        assertThat(result.orTimeout(5, TimeUnit.SECONDS).join()).isEmpty();
+        awaitNoWaiters();
+    }
+
+    @Test
+    @DisplayName("GIVEN a zero wait WHEN poll finds nothing THEN it completes empty without waiting")
+    void shouldNotWaitWithZeroWait() {
+        assertThat(service.poll(0, 10, Duration.ZERO)).isCompletedWithValue(List.of());
+        assertThat(service.waiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("GIVEN a cursor below the purge horizon WHEN poll THEN throw ChangeCursorExpiredException")
+    void shouldRejectPurgedCursor() {
+        feed.purgedThrough = 5;
+
+        assertThatThrownBy(() -> service.poll(4, 10, Duration.ZERO)).isInstanceOf(ChangeCursorExpiredException.class);
+        assertThat(service.poll(5, 10, Duration.ZERO)).isCompleted();
+    }
+
+    @Test
+    @DisplayName("GIVEN a negative cursor or a non-positive limit WHEN poll THEN throw IllegalArgumentException")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> service.poll(-1, 10, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.poll(0, 0, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void awaitNoWaiters() throws InterruptedException {
+        for (int i = 0; i < 50 && service.waiting() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(service.waiting()).isZero();
+    }
+
+    private static final class FakeChangeFeed implements ChangeFeed {
+
+        private final List<Change> changes = new CopyOnWriteArrayList<>();
+        private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+        private volatile long purgedThrough;
+
+        void append(final int count) {
+            for (int i = 0; i < count; i++) {
+                changes.add(new Change(changes.size() + 1, UUID.randomUUID(), "ContractCreated", CLIENT_ID,
+                        LocalDateTime.now(), "{}"));
+            }
+            listeners.forEach(Runnable::run);
+        }
+
+        @Override
+        public List<Change> read(final long after, final int limit) {
+            return changes.stream().filter(change -> change.sequence() > after).limit(limit).toList();
+        }
+
+        @Override
+        public long head() {
+            return changes.size();
+        }
+
+        @Override
+        public long purgedThrough() {
+            return purgedThrough;
+        }
+
+        @Override
+        public void onAppend(final Runnable listener) {
+            listeners.add(listener);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.mk.contractservice.application;
 
+import com.mk.contractservice.application.consistency.ClientWriteRecorder;
+import com.mk.contractservice.application.version.ClientVersionStore;
+import com.mk.contractservice.application.version.ResourceVersion;
 import com.mk.contractservice.domain.client.Client;
 import com.mk.contractservice.domain.client.ClientRepository;
 import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.event.ClientDeleted;
+import com.mk.contractservice.domain.event.DomainEventPublisher;
 import com.mk.contractservice.domain.exception.ClientAlreadyExistsException;
 import com.mk.contractservice.domain.valueobject.ClientName;
 import com.mk.contractservice.domain.valueobject.Email;
@@ -14,9 +19,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,6 +36,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +51,18 @@ class ClientApplicationServiceTest {
     @Mock
     private ContractApplicationService contractApplicationService;
 
+    @Mock
+    private DomainEventPublisher events;
+
+    @Mock
+    private ClientVersionStore versions;
+
+    @Mock
+    private ClientWriteRecorder writes;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager("clients");
+
     @InjectMocks
     private ClientApplicationService service;
 
@@ -67,6 +90,25 @@ class ClientApplicationServiceTest {
             assertThat(result.getBirthDate().value()).isEqualTo(birthDate);
         }
 
+        @Test
+        @DisplayName("Should start the version of the created client")
+        void shouldBumpVersionOfCreatedClient() {
+            final UUID id = UUID.randomUUID();
+            when(clientRepository.existsByEmail(any(String.class))).thenReturn(false);
+            when(clientRepository.save(any(Person.class))).thenAnswer(invocation -> Person.builder()
+                    .id(id)
+                    .name(ClientName.of("John"))
+                    .email(Email.of("john@example.com"))
+                    .phone(PhoneNumber.of("+33123456789"))
+                    .birthDate(PersonBirthDate.of(LocalDate.of(1990, 1, 1)))
+                    .build());
+
+            service.createPerson("John", "john@example.com", "+33123456789", LocalDate.of(1990, 1, 1));
+
+            verify(versions).bump(id);
+            verify(writes).recordWrite(id);
+        }
+
         @Test
         @DisplayName("Should reject duplicate email to ensure unique clients")
         void shouldRejectDuplicateEmail() {
@@ -154,6 +196,77 @@ class ClientApplicationServiceTest {
             Person foundPerson = (Person) result.get();
             assertThat(foundPerson.getBirthDate()).isNotNull();
         }
+
+        @Test
+        @DisplayName("GIVEN cached and uncached ids WHEN findAllById THEN only uncached ids are loaded, in one call, and results keep the request order")
+        void shouldLoadOnlyUncachedClientsInOneCall() {
+            Person cached = person(UUID.randomUUID(), "cached@example.com");
+            Person loaded = person(UUID.randomUUID(), "loaded@example.com");
+            UUID unknownId = UUID.randomUUID();
+            cacheManager.getCache("clients").put(cached.getId(), cached);
+            when(clientRepository.findAllById(List.of(loaded.getId(), unknownId))).thenReturn(List.of(loaded));
+
+            Map<UUID, Client> result = service.findAllById(List.of(loaded.getId(), cached.getId(), unknownId, loaded.getId()));
+
+            assertThat(result).containsExactly(Map.entry(loaded.getId(), loaded), Map.entry(cached.getId(), cached));
+            assertThat(cacheManager.getCache("clients").get(loaded.getId(), Client.class)).isSameAs(loaded);
+            assertThat(cacheManager.getCache("clients").get(unknownId)).isNull();
+        }
+
+        @Test
+        @DisplayName("GIVEN every id is cached WHEN findAllById THEN the repository is not queried")
+        void shouldNotQueryWhenAllCached() {
+            Person cached = person(UUID.randomUUID(), "cached@example.com");
+            cacheManager.getCache("clients").put(cached.getId(), cached);
+
+            assertThat(service.findAllById(List.of(cached.getId()))).containsOnlyKeys(cached.getId());
+            verify(clientRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("GIVEN a client WHEN reading its version twice THEN it is loaded and cached once, with a stable tag")
+        void shouldVersionClientThroughCache() {
+            Person person = person(UUID.randomUUID(), "john@example.com");
+            when(clientRepository.findById(person.getId())).thenReturn(Optional.of(person));
+
+            Optional<ResourceVersion> first = service.version(person.getId());
+            Optional<ResourceVersion> second = service.version(person.getId());
+
+            assertThat(first).isPresent().isEqualTo(second);
+            assertThat(cacheManager.getCache("clients").get(person.getId(), Client.class)).isSameAs(person);
+            verify(clientRepository, times(1)).findById(person.getId());
+        }
+
+        @Test
+        @DisplayName("GIVEN a client whose fields changed WHEN reading its version THEN the tag changes")
+        void shouldChangeTagWithFields() {
+            Person before = person(UUID.randomUUID(), "john@example.com");
+            Person after = person(before.getId(), "johnny@example.com");
+            cacheManager.getCache("clients").put(before.getId(), before);
+            ResourceVersion first = service.version(before.getId()).orElseThrow();
+            cacheManager.getCache("clients").put(after.getId(), after);
+
+            assertThat(service.version(after.getId())).get().extracting(ResourceVersion::tag).isNotEqualTo(first.tag());
+        }
+
+        @Test
+        @DisplayName("GIVEN an unknown client WHEN reading its version THEN none is returned")
+        void shouldNotVersionUnknownClient() {
+            UUID unknownId = UUID.randomUUID();
+            when(clientRepository.findById(unknownId)).thenReturn(Optional.empty());
+
+            assertThat(service.version(unknownId)).isEmpty();
+        }
+
+        private static Person person(final UUID id, final String email) {
+            return Person.builder()
+                    .id(id)
+                    .name(ClientName.of("John Doe"))
+                    .email(Email.of(email))
+                    .phone(PhoneNumber.of("+33123456789"))
+                    .birthDate(PersonBirthDate.of(LocalDate.of(1990, 5, 15)))
+                    .build();
+        }
     }
 
     @Nested
@@ -183,6 +296,7 @@ class ClientApplicationServiceTest {
             assertThat(existingPerson.getName()).isEqualTo(newName);
             assertThat(existingPerson.getEmail()).isEqualTo(newEmail);
             assertThat(existingPerson.getPhone()).isEqualTo(newPhone);
+            verify(versions).bump(personId);
         }
 
         @Test
@@ -225,6 +339,7 @@ class ClientApplicationServiceTest {
             );
 
             assertThat(updated).isFalse();
+            verify(versions, never()).bump(any());
         }
     }
 
@@ -243,6 +358,9 @@ class ClientApplicationServiceTest {
 
             boolean deleted = service.deleteClientAndCloseContracts(personId);
             assertThat(deleted).isTrue();
+            verify(events).publish(any(ClientDeleted.class));
+            verify(versions).delete(personId);
+            verify(writes).recordWrite(personId);
         }
 
         @Test
@@ -0,0 +1,129 @@
+package com.mk.contractservice.application;
+
+import com.mk.contractservice.application.job.Job;
+import com.mk.contractservice.application.job.JobContext;
+import com.mk.contractservice.application.job.JobQueue;
+import com.mk.contractservice.application.job.JobStatus;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.exception.ClientNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClientDeletionJobService - Unit Tests")
+class ClientDeletionJobServiceTest {
+
+    private static final UUID CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID JOB_ID = UUID.fromString("00000000-0000-0000-0000-0000000000aa");
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private ClientApplicationService clientService;
+
+    @Mock
+    private ContractApplicationService contractService;
+
+    @Mock
+    private JobQueue jobQueue;
+
+    private ClientDeletionJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ClientDeletionJobService(clientRepository, clientService, contractService, jobQueue, 2);
+    }
+
+    @Test
+    @DisplayName("GIVEN an existing client WHEN submit THEN a client-deletion job is enqueued with its id")
+    void shouldEnqueueJob() {
+        final Job pending = new Job(JOB_ID, ClientDeletionJobService.TYPE, JobStatus.PENDING, 0,
+                Map.of("clientId", CLIENT_ID.toString()), Map.of(), null, LocalDateTime.now(), null, null);
+        when(clientRepository.existsById(CLIENT_ID)).thenReturn(true);
+        when(jobQueue.enqueue(ClientDeletionJobService.TYPE, Map.of("clientId", CLIENT_ID.toString()))).thenReturn(pending);
+
+        assertThat(service.submit(CLIENT_ID)).isEqualTo(pending);
+    }
+
+    @Test
+    @DisplayName("GIVEN unknown client WHEN submit THEN throw ClientNotFoundException and enqueue nothing")
+    void shouldRejectUnknownClient() {
+        when(clientRepository.existsById(CLIENT_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.submit(CLIENT_ID)).isInstanceOf(ClientNotFoundException.class);
+        verify(jobQueue, never()).enqueue(any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("GIVEN a client with contracts WHEN the job runs THEN contracts are closed in chunks before the client is deleted")
+    void shouldCloseInChunksThenDelete() {
+        when(contractService.countActiveContracts(CLIENT_ID)).thenReturn(5L);
+        when(contractService.closeActiveContractsChunk(CLIENT_ID, 2)).thenReturn(2, 2, 1);
+        final RecordingContext context = new RecordingContext();
+
+        service.handle(context);
+
+        final InOrder order = inOrder(contractService, clientService);
+        order.verify(contractService, times(3)).closeActiveContractsChunk(CLIENT_ID, 2);
+        order.verify(clientService).deleteClientAndCloseContracts(CLIENT_ID);
+        assertThat(context.progress).containsEntry("contractsTotal", 5L).containsEntry("contractsClosed", 5L);
+    }
+
+    @Test
+    @DisplayName("GIVEN a failing chunk WHEN the job runs THEN the failure propagates for a retry and the client is kept")
+    void shouldPropagateFailure() {
+        when(contractService.countActiveContracts(CLIENT_ID)).thenReturn(5L);
+        when(contractService.closeActiveContractsChunk(CLIENT_ID, 2)).thenReturn(2).thenThrow(new IllegalStateException("boom"));
+        final RecordingContext context = new RecordingContext();
+
+        assertThatThrownBy(() -> service.handle(context)).hasMessage("boom");
+        assertThat(context.progress).containsEntry("contractsClosed", 2L);
+        verify(clientService, never()).deleteClientAndCloseContracts(CLIENT_ID);
+    }
+
+    private static final class RecordingContext implements JobContext {
+
+        private final Map<String, Long> progress = new HashMap<>();
+
+        @Override
+        public UUID jobId() {
+            return JOB_ID;
+        }
+
+        @Override
+        public int attempt() {
+            return 1;
+        }
+
+        @Override
+        public Map<String, String> payload() {
+            return Map.of("clientId", CLIENT_ID.toString());
+        }
+
+        @Override
+        public void progress(final String key, final long value) {
+            progress.put(key, value);
+        }
+    }
+}
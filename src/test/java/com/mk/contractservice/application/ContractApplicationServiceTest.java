@@ -1,10 +1,27 @@
 package com.mk.contractservice.application;
 
+import com.mk.contractservice.application.batch.ContractOperation;
+import com.mk.contractservice.application.batch.ContractOperationResult;
+import com.mk.contractservice.application.batch.ContractOperationResult.Outcome;
+import com.mk.contractservice.application.consistency.ClientWriteRecorder;
+import com.mk.contractservice.application.version.ActiveContractsVersion;
+import com.mk.contractservice.application.version.ClientVersionStore;
+import com.mk.contractservice.application.version.ResourceVersion;
 import com.mk.contractservice.domain.client.Client;
 import com.mk.contractservice.domain.client.ClientRepository;
 import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.contract.ArchivedContract;
 import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.contract.ContractArchive;
+import com.mk.contractservice.domain.contract.ContractField;
+import com.mk.contractservice.domain.contract.ContractProjection;
 import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.domain.contract.ContractVersion;
+import com.mk.contractservice.domain.event.ContractCostChanged;
+import com.mk.contractservice.domain.event.ContractCreated;
+import com.mk.contractservice.domain.event.ContractsClosed;
+import com.mk.contractservice.domain.event.DomainEvent;
+import com.mk.contractservice.domain.event.DomainEventPublisher;
 import com.mk.contractservice.domain.exception.ClientNotFoundException;
 import com.mk.contractservice.domain.exception.ContractNotFoundException;
 import com.mk.contractservice.domain.exception.ContractNotOwnedByClientException;
@@ -23,24 +40,37 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -54,6 +84,25 @@ class ContractApplicationServiceTest {
     @Mock
     private ClientRepository clientRepository;
 
+    @Mock
+    private ContractArchive contractArchive;
+
+    @Mock
+    private DomainEventPublisher events;
+
+    @Mock
+    private ClientVersionStore versions;
+
+    @Mock
+    private ClientWriteRecorder writes;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager("contractSums", "expiredContracts",
+            "clientVersions", "activeContractsVersions");
+
     @InjectMocks
     private ContractApplicationService service;
 
@@ -95,6 +144,23 @@ class ContractApplicationServiceTest {
             assertThat(result.getCostAmount().value()).isEqualByComparingTo(amount);
         }
 
+        @Test
+        @DisplayName("GIVEN a created contract WHEN createForClient THEN a ContractCreated event is published")
+        void shouldPublishContractCreated() {
+            LocalDateTime start = LocalDateTime.now();
+            when(clientRepository.findById(JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(testClient));
+            when(contractRepository.save(any(Contract.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Contract result = service.createForClient(JOHN_DOE_CLIENT_ID, start, null, new BigDecimal("42.00"));
+
+            ArgumentCaptor<ContractCreated> captor = ArgumentCaptor.forClass(ContractCreated.class);
+            verify(events).publish(captor.capture());
+            assertThat(captor.getValue().clientId()).isEqualTo(JOHN_DOE_CLIENT_ID);
+            assertThat(captor.getValue().contractId()).isEqualTo(result.getId());
+            assertThat(captor.getValue().startDate()).isEqualTo(start);
+            assertThat(captor.getValue().costAmount()).isEqualByComparingTo("42.00");
+        }
+
         @Test
         @DisplayName("GIVEN null start date WHEN createForClient THEN use current date")
         void shouldUseCurrentDateWhenStartIsNull() {
@@ -174,12 +240,13 @@ class ContractApplicationServiceTest {
                     .build();
             BigDecimal newAmount = new BigDecimal("200.00");
 
-            when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+            when(contractRepository.findByIdAndClientId(contractId, JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(contract));
 
             service.updateCost(JOHN_DOE_CLIENT_ID, contractId, newAmount);
 
             assertThat(contract.getCostAmount().value()).isEqualByComparingTo(newAmount);
             verify(contractRepository).save(contract);
+            verify(events).publish(any(ContractCostChanged.class));
         }
 
         @Test
@@ -206,7 +273,7 @@ class ContractApplicationServiceTest {
             LocalDateTime initialLastModified = contract.getLastModified();
             Thread.sleep(10);
 
-            when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+            when(contractRepository.findByIdAndClientId(contractId, JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(contract));
 
             service.updateCost(JOHN_DOE_CLIENT_ID, contractId, new BigDecimal("250.00"));
 
@@ -244,7 +311,7 @@ class ContractApplicationServiceTest {
                     .costAmount(ContractCost.of(new BigDecimal("100.00")))
                     .build();
 
-            when(contractRepository.findById(contractId)).thenReturn(Optional.of(expiredContract));
+            when(contractRepository.findByIdAndClientId(contractId, JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(expiredContract));
 
             assertThatThrownBy(() -> service.updateCost(JOHN_DOE_CLIENT_ID, contractId, new BigDecimal("200.00")))
                     .isInstanceOf(ExpiredContractException.class)
@@ -268,12 +335,13 @@ class ContractApplicationServiceTest {
                     .costAmount(ContractCost.of(BigDecimal.valueOf(1000)))
                     .build();
 
-            when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+            when(contractRepository.findByIdAndClientId(contractId, JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(contract));
 
             Contract result = service.getContractById(JOHN_DOE_CLIENT_ID, contractId);
 
             assertThat(result).isEqualTo(contract);
-            verify(contractRepository).findById(contractId);
+            verify(contractRepository).findByIdAndClientId(contractId, JOHN_DOE_CLIENT_ID);
+            verify(contractRepository, never()).findById(any());
         }
 
         @Test
@@ -306,6 +374,61 @@ class ContractApplicationServiceTest {
                     .hasMessageContaining(contractId.toString())
                     .hasMessageContaining(differentClientId.toString());
         }
+
+        @Test
+        @DisplayName("GIVEN an expired contract WHEN read twice THEN it is loaded once in a read-only transaction and then served from the expired contracts cache")
+        void shouldCacheExpiredContract() {
+            UUID contractId = UUID.randomUUID();
+            Contract expired = expiredContract(contractId);
+            when(contractRepository.findByIdAndClientId(contractId, JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(expired));
+
+            Contract first = service.getContractById(JOHN_DOE_CLIENT_ID, contractId);
+            Contract second = service.getContractById(JOHN_DOE_CLIENT_ID, contractId);
+
+            assertThat(first).isSameAs(expired);
+            assertThat(second).isSameAs(expired);
+            verify(contractRepository, times(1)).findByIdAndClientId(contractId, JOHN_DOE_CLIENT_ID);
+            verify(transactionManager).getTransaction(argThat(definition -> definition != null && definition.isReadOnly()));
+        }
+
+        @Test
+        @DisplayName("GIVEN a cached expired contract WHEN read through another client THEN throw ContractNotOwnedByClientException")
+        void shouldCheckOwnerOfCachedContract() {
+            UUID contractId = UUID.randomUUID();
+            cacheManager.getCache("expiredContracts").put(contractId, expiredContract(contractId));
+
+            assertThatThrownBy(() -> service.getContractById(UUID.randomUUID(), contractId))
+                    .isInstanceOf(ContractNotOwnedByClientException.class);
+            verify(contractRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("GIVEN an active contract WHEN read twice THEN it is loaded each time")
+        void shouldNotCacheActiveContract() {
+            UUID contractId = UUID.randomUUID();
+            Contract active = Contract.builder()
+                    .id(contractId)
+                    .client(testClient)
+                    .period(ContractPeriod.of(LocalDateTime.now(), null))
+                    .costAmount(ContractCost.of(BigDecimal.valueOf(1000)))
+                    .build();
+            when(contractRepository.findByIdAndClientId(contractId, JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(active));
+
+            service.getContractById(JOHN_DOE_CLIENT_ID, contractId);
+            service.getContractById(JOHN_DOE_CLIENT_ID, contractId);
+
+            verify(contractRepository, times(2)).findByIdAndClientId(contractId, JOHN_DOE_CLIENT_ID);
+            assertThat(cacheManager.getCache("expiredContracts").get(contractId)).isNull();
+        }
+    }
+
+    private Contract expiredContract(final UUID contractId) {
+        return Contract.builder()
+                .id(contractId)
+                .client(testClient)
+                .period(ContractPeriod.of(LocalDateTime.now().minusDays(10), LocalDateTime.now().minusDays(1)))
+                .costAmount(ContractCost.of(BigDecimal.valueOf(1000)))
+                .build();
     }
 
     @Nested
@@ -347,6 +470,22 @@ class ContractApplicationServiceTest {
 
             assertThat(result.getContent()).isEmpty();
         }
+
+        @Test
+        @DisplayName("GIVEN requested fields WHEN getActiveContractsPageable THEN only those are read from the repository")
+        void shouldReturnActiveContractProjections() {
+            Set<ContractField> fields = EnumSet.of(ContractField.ID, ContractField.COST_AMOUNT);
+            ContractProjection projection = new ContractProjection(UUID.randomUUID(), null, null, ContractCost.of(BigDecimal.TEN));
+            Pageable pageable = PageRequest.of(0, 20);
+
+            when(contractRepository.findActiveProjectionsByClientIdPageable(eq(JOHN_DOE_CLIENT_ID), any(LocalDateTime.class), isNull(), eq(fields), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(projection)));
+
+            Page<ContractProjection> result = service.getActiveContractsPageable(JOHN_DOE_CLIENT_ID, null, fields, pageable);
+
+            assertThat(result.getContent()).containsExactly(projection);
+            verify(contractRepository, never()).findActiveByClientIdPageable(any(), any(), any(), any());
+        }
     }
 
     @Nested
@@ -383,6 +522,48 @@ class ContractApplicationServiceTest {
             service.sumActiveContracts(JOHN_DOE_CLIENT_ID);
             verify(contractRepository).sumActiveByClientId(eq(JOHN_DOE_CLIENT_ID), any(LocalDateTime.class));
         }
+
+        @Test
+        @DisplayName("GIVEN a cached sum WHEN recomputing it after a change THEN the repository is queried and the cache holds the new sum")
+        void shouldRecomputeSumPastCache() {
+            cacheManager.getCache("contractSums").put(JOHN_DOE_CLIENT_ID, new BigDecimal("100.00"));
+            when(contractRepository.sumActiveByClientId(eq(JOHN_DOE_CLIENT_ID), any(LocalDateTime.class)))
+                    .thenReturn(new BigDecimal("250.00"));
+
+            assertThat(service.recomputeActiveContractsSum(JOHN_DOE_CLIENT_ID)).isEqualByComparingTo("250.00");
+            assertThat(cacheManager.getCache("contractSums").get(JOHN_DOE_CLIENT_ID, BigDecimal.class))
+                    .isEqualByComparingTo("250.00");
+        }
+
+        @Test
+        @DisplayName("GIVEN cached and uncached clients WHEN summing them at once THEN only the uncached ones are queried, in one call")
+        void shouldQueryOnlyUncachedClientsInOneCall() {
+            final UUID cachedId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+            final UUID unknownId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+            cacheManager.getCache("contractSums").put(cachedId, new BigDecimal("42.00"));
+            when(contractRepository.sumActiveByClientIds(eq(List.of(JOHN_DOE_CLIENT_ID, unknownId)), any(LocalDateTime.class)))
+                    .thenReturn(Map.of(JOHN_DOE_CLIENT_ID, new BigDecimal("500.00")));
+
+            final Map<UUID, BigDecimal> sums = service.sumActiveContractsForClients(
+                    List.of(JOHN_DOE_CLIENT_ID, cachedId, unknownId, JOHN_DOE_CLIENT_ID));
+
+            assertThat(sums).containsExactly(
+                    Map.entry(JOHN_DOE_CLIENT_ID, new BigDecimal("500.00")),
+                    Map.entry(cachedId, new BigDecimal("42.00")));
+            assertThat(cacheManager.getCache("contractSums").get(JOHN_DOE_CLIENT_ID, BigDecimal.class))
+                    .isEqualByComparingTo("500.00");
+            assertThat(cacheManager.getCache("contractSums").get(unknownId)).isNull();
+        }
+
+        @Test
+        @DisplayName("GIVEN every client is cached WHEN summing them at once THEN the repository is not queried")
+        void shouldNotQueryWhenAllCached() {
+            cacheManager.getCache("contractSums").put(JOHN_DOE_CLIENT_ID, BigDecimal.TEN);
+
+            assertThat(service.sumActiveContractsForClients(List.of(JOHN_DOE_CLIENT_ID)))
+                    .containsExactly(Map.entry(JOHN_DOE_CLIENT_ID, BigDecimal.TEN));
+            verify(contractRepository, never()).sumActiveByClientIds(any(), any());
+        }
     }
 
     @Nested
@@ -396,6 +577,26 @@ class ContractApplicationServiceTest {
             verify(contractRepository).closeAllActiveByClientId(eq(JOHN_DOE_CLIENT_ID), any(LocalDateTime.class));
         }
 
+        @Test
+        @DisplayName("GIVEN contracts were closed WHEN closeActiveContractsByClientId THEN a ContractsClosed event carries the count")
+        void shouldPublishContractsClosed() {
+            when(contractRepository.closeAllActiveByClientId(eq(JOHN_DOE_CLIENT_ID), any(LocalDateTime.class))).thenReturn(3);
+
+            service.closeActiveContractsByClientId(JOHN_DOE_CLIENT_ID);
+
+            ArgumentCaptor<ContractsClosed> captor = ArgumentCaptor.forClass(ContractsClosed.class);
+            verify(events).publish(captor.capture());
+            assertThat(captor.getValue().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("GIVEN no active contract WHEN closeActiveContractsByClientId THEN no event is published")
+        void shouldNotPublishWhenNothingClosed() {
+            service.closeActiveContractsByClientId(JOHN_DOE_CLIENT_ID);
+
+            verify(events, never()).publish(any());
+        }
+
         @Test
         @DisplayName("GIVEN client deletion WHEN closeActiveContractsByClientId THEN use current date as end date")
         void shouldUseCurrentDateAsEndDate() {
@@ -410,7 +611,303 @@ class ContractApplicationServiceTest {
             assertThat(usedDate).isBetween(before, after);
         }
     }
-}
 
+    @Nested
+    @DisplayName("Apply Operations")
+    class ApplyOperationsTests {
 
+        @Test
+        @DisplayName("GIVEN mixed operations WHEN applyOperations THEN they are saved and published once and each gets its outcome")
+        void shouldApplyOperationsWithOneSaveAndOnePublish() {
+            final Contract updated = activeContract(UUID.randomUUID(), testClient);
+            final Contract closed = activeContract(UUID.randomUUID(), testClient);
+            final UUID createdId = UUID.randomUUID();
+            when(contractRepository.findAllByIdAndClientId(any(), eq(Set.of(JOHN_DOE_CLIENT_ID)))).thenReturn(List.of(updated, closed));
+            when(clientRepository.findAllById(any())).thenReturn(List.of(testClient));
+            when(contractRepository.saveAll(any())).thenAnswer(invocation -> {
+                final List<Contract> contracts = new ArrayList<>(invocation.getArgument(0));
+                final Contract created = contracts.removeLast();
+                contracts.add(Contract.builder().id(createdId).client(created.getClient())
+                        .period(created.getPeriod()).costAmount(created.getCostAmount()).build());
+                return contracts;
+            });
+
+            final List<ContractOperationResult> results = service.applyOperations(List.of(
+                    new ContractOperation.UpdateCost(JOHN_DOE_CLIENT_ID, updated.getId(), new BigDecimal("250.00")),
+                    new ContractOperation.Create(JOHN_DOE_CLIENT_ID, LocalDateTime.now(), null, new BigDecimal("30.00")),
+                    new ContractOperation.Close(JOHN_DOE_CLIENT_ID, closed.getId())));
+
+            assertThat(results).extracting(ContractOperationResult::outcome)
+                    .containsExactly(Outcome.COST_UPDATED, Outcome.CREATED, Outcome.CLOSED);
+            assertThat(results.get(1).contractId()).isEqualTo(createdId);
+            assertThat(updated.getCostAmount().value()).isEqualByComparingTo("250.00");
+            assertThat(closed.isActive()).isFalse();
+            verify(contractRepository).saveAll(any());
+            verify(contractRepository, never()).findAllById(any());
+            verify(versions).bumpAll(Set.of(JOHN_DOE_CLIENT_ID));
+            verify(writes).recordWrites(Set.of(JOHN_DOE_CLIENT_ID));
+
+            final ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.captor();
+            verify(events).publishAll(captor.capture());
+            assertThat(captor.getValue()).hasExactlyElementsOfTypes(
+                    ContractCostChanged.class, ContractCreated.class, ContractsClosed.class);
+        }
+
+        @Test
+        @DisplayName("GIVEN failing operations WHEN applyOperations THEN each failure is reported and the others are applied")
+        void shouldReportFailuresPerOperation() {
+            final Contract expired = Contract.builder()
+                    .id(UUID.randomUUID())
+                    .client(testClient)
+                    .period(ContractPeriod.of(LocalDateTime.now().minusDays(10), LocalDateTime.now().minusDays(1)))
+                    .costAmount(ContractCost.of(new BigDecimal("100.00")))
+                    .build();
+            final Contract active = activeContract(UUID.randomUUID(), testClient);
+            final UUID unknownContract = UUID.randomUUID();
+            final UUID unknownClient = UUID.randomUUID();
+            when(contractRepository.findAllByIdAndClientId(any(), any())).thenReturn(List.of(expired, active));
+            when(contractRepository.findAllById(List.of(unknownContract))).thenReturn(List.of());
+            when(clientRepository.findAllById(any())).thenReturn(List.of());
+            when(contractRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            final List<ContractOperationResult> results = service.applyOperations(List.of(
+                    new ContractOperation.Close(JOHN_DOE_CLIENT_ID, unknownContract),
+                    new ContractOperation.Close(UUID.randomUUID(), active.getId()),
+                    new ContractOperation.UpdateCost(JOHN_DOE_CLIENT_ID, expired.getId(), BigDecimal.TEN),
+                    new ContractOperation.UpdateCost(JOHN_DOE_CLIENT_ID, active.getId(), new BigDecimal("-1")),
+                    new ContractOperation.Create(unknownClient, LocalDateTime.now(), null, BigDecimal.TEN),
+                    new ContractOperation.Close(JOHN_DOE_CLIENT_ID, active.getId())));
+
+            assertThat(results).extracting(ContractOperationResult::outcome).containsExactly(
+                    Outcome.CONTRACT_NOT_FOUND, Outcome.NOT_OWNED, Outcome.EXPIRED, Outcome.INVALID,
+                    Outcome.CLIENT_NOT_FOUND, Outcome.CLOSED);
+            assertThat(results.getFirst().contractId()).isEqualTo(unknownContract);
+            assertThat(results.get(3).code()).isNotBlank();
+            verify(contractRepository).saveAll(List.of(active));
+        }
+
+        @Test
+        @DisplayName("GIVEN another client's contract WHEN not found through the operation's client THEN it is looked up by id and reported as not owned")
+        void shouldReportForeignContractFoundById() {
+            final Contract foreign = activeContract(UUID.randomUUID(), testClient);
+            final UUID otherClient = UUID.randomUUID();
+            when(contractRepository.findAllByIdAndClientId(Set.of(foreign.getId()), Set.of(otherClient))).thenReturn(List.of());
+            when(contractRepository.findAllById(List.of(foreign.getId()))).thenReturn(List.of(foreign));
+
+            final List<ContractOperationResult> results = service.applyOperations(List.of(
+                    new ContractOperation.Close(otherClient, foreign.getId())));
+
+            assertThat(results).extracting(ContractOperationResult::outcome).containsExactly(Outcome.NOT_OWNED);
+            assertThat(foreign.isActive()).isTrue();
+        }
+
+        private static Contract activeContract(final UUID id, final Client client) {
+            return Contract.builder()
+                    .id(id)
+                    .client(client)
+                    .period(ContractPeriod.of(LocalDateTime.now().minusDays(10), null))
+                    .costAmount(ContractCost.of(new BigDecimal("100.00")))
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Versions")
+    class VersionTests {
+
+        private final LocalDateTime modified = LocalDateTime.now().minusHours(1);
+
+        @Test
+        @DisplayName("GIVEN an unchanged client WHEN reading the version twice THEN the tag is stable and the second read runs no query")
+        void shouldReuseCachedVersion() {
+            when(versions.find(JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(4L));
+            when(contractRepository.findNextExpiryByClientId(eq(JOHN_DOE_CLIENT_ID), any()))
+                    .thenReturn(Optional.of(LocalDateTime.now().plusDays(1)));
+
+            final ResourceVersion first = service.activeContractsVersion(JOHN_DOE_CLIENT_ID);
+            final ResourceVersion second = service.activeContractsVersion(JOHN_DOE_CLIENT_ID);
+
+            assertThat(first).isEqualTo(second);
+            assertThat(first.tag()).hasSize(32);
+            verify(versions).find(JOHN_DOE_CLIENT_ID);
+            verify(contractRepository).findNextExpiryByClientId(eq(JOHN_DOE_CLIENT_ID), any());
+        }
+
+        @Test
+        @DisplayName("GIVEN a write through another instance WHEN the client version moved THEN the tag moves and the cached sum is dropped")
+        void shouldMoveTagWithClientVersion() {
+            when(versions.find(JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(4L));
+            when(contractRepository.findNextExpiryByClientId(eq(JOHN_DOE_CLIENT_ID), any())).thenReturn(Optional.empty());
+            final String before = service.activeContractsVersion(JOHN_DOE_CLIENT_ID).tag();
+            cacheManager.getCache("contractSums").put(JOHN_DOE_CLIENT_ID, new BigDecimal("100.00"));
+
+            cacheManager.getCache("clientVersions").put(JOHN_DOE_CLIENT_ID, 5L);
+
+            assertThat(service.activeContractsVersion(JOHN_DOE_CLIENT_ID).tag()).isNotEqualTo(before);
+            assertThat(cacheManager.getCache("contractSums").get(JOHN_DOE_CLIENT_ID)).isNull();
+        }
+
+        @Test
+        @DisplayName("GIVEN a contract ending WHEN its end date passed THEN the tag moves and the cached sum is dropped")
+        void shouldMoveTagOnExpiry() {
+            when(versions.find(JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(4L));
+            final LocalDateTime expired = LocalDateTime.now().minusSeconds(1);
+            cacheManager.getCache("activeContractsVersions").put(JOHN_DOE_CLIENT_ID, new ActiveContractsVersion(4L, expired));
+            cacheManager.getCache("contractSums").put(JOHN_DOE_CLIENT_ID, new BigDecimal("100.00"));
+            when(contractRepository.findNextExpiryByClientId(eq(JOHN_DOE_CLIENT_ID), any())).thenReturn(Optional.empty());
+
+            final ResourceVersion version = service.activeContractsVersion(JOHN_DOE_CLIENT_ID);
+
+            assertThat(version.tag()).isNotEqualTo(ResourceVersion.of(null, JOHN_DOE_CLIENT_ID, 4L, expired).tag());
+            assertThat(version.lastModified()).isNull();
+            assertThat(cacheManager.getCache("contractSums").get(JOHN_DOE_CLIENT_ID)).isNull();
+        }
+
+        @Test
+        @DisplayName("GIVEN an unknown client WHEN reading the version THEN it is at version 0 and nothing of it is cached")
+        void shouldVersionUnknownClientAtZero() {
+            when(versions.find(JOHN_DOE_CLIENT_ID)).thenReturn(Optional.empty());
+            when(contractRepository.findNextExpiryByClientId(eq(JOHN_DOE_CLIENT_ID), any())).thenReturn(Optional.empty());
+
+            assertThat(service.activeContractsVersion(JOHN_DOE_CLIENT_ID).tag())
+                    .isEqualTo(ResourceVersion.of(null, JOHN_DOE_CLIENT_ID, 0L, null).tag());
+            assertThat(cacheManager.getCache("clientVersions").get(JOHN_DOE_CLIENT_ID)).isNull();
+        }
+
+        @Test
+        @DisplayName("GIVEN a contract of the client WHEN reading its version THEN it is tagged by its last change")
+        void shouldVersionOwnedContract() {
+            final UUID contractId = UUID.randomUUID();
+            when(contractRepository.findVersionById(contractId, JOHN_DOE_CLIENT_ID))
+                    .thenReturn(Optional.of(new ContractVersion(JOHN_DOE_CLIENT_ID, modified, null)));
+
+            assertThat(service.contractVersion(JOHN_DOE_CLIENT_ID, contractId)).get().satisfies(version -> {
+                assertThat(version.lastModified()).isEqualTo(modified);
+                assertThat(version.immutable()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("GIVEN an expired contract WHEN reading its version THEN it is immutable and its end date is the last change")
+        void shouldVersionExpiredContractByEndDate() {
+            final UUID contractId = UUID.randomUUID();
+            final LocalDateTime end = modified.plusMinutes(30);
+            when(contractRepository.findVersionById(contractId, JOHN_DOE_CLIENT_ID))
+                    .thenReturn(Optional.of(new ContractVersion(JOHN_DOE_CLIENT_ID, modified, end)));
+
+            assertThat(service.contractVersion(JOHN_DOE_CLIENT_ID, contractId)).get().satisfies(version -> {
+                assertThat(version.lastModified()).isEqualTo(end);
+                assertThat(version.immutable()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("GIVEN a cached expired contract WHEN reading its version THEN no query is run")
+        void shouldVersionCachedExpiredContractWithoutQuery() {
+            final UUID contractId = UUID.randomUUID();
+            final Contract expired = expiredContract(contractId);
+            cacheManager.getCache("expiredContracts").put(contractId, expired);
+
+            assertThat(service.contractVersion(JOHN_DOE_CLIENT_ID, contractId)).get().satisfies(version -> {
+                assertThat(version.immutable()).isTrue();
+                assertThat(version.lastModified()).isEqualTo(expired.getPeriod().endDate());
+            });
+            assertThat(service.contractVersion(UUID.randomUUID(), contractId)).isEmpty();
+            verify(contractRepository, never()).findVersionById(any(), any());
+            verify(transactionManager, never()).getTransaction(any());
+        }
+
+        @Test
+        @DisplayName("GIVEN a contract of another client or none WHEN reading its version THEN none is returned")
+        void shouldNotVersionForeignOrMissingContract() {
+            final UUID foreign = UUID.randomUUID();
+            when(contractRepository.findVersionById(foreign, JOHN_DOE_CLIENT_ID)).thenReturn(Optional.empty());
+
+            assertThat(service.contractVersion(JOHN_DOE_CLIENT_ID, foreign)).isEmpty();
+            verify(contractRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Client Version")
+    class ClientVersionTests {
+
+        @Test
+        @DisplayName("GIVEN contract writes WHEN they succeed THEN each bumps the version of its client")
+        void shouldBumpVersionOnWrites() {
+            final Contract contract = Contract.builder()
+                    .id(UUID.randomUUID())
+                    .client(testClient)
+                    .period(ContractPeriod.of(LocalDateTime.now().minusDays(10), null))
+                    .costAmount(ContractCost.of(new BigDecimal("100.00")))
+                    .build();
+            when(clientRepository.findById(JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(testClient));
+            when(contractRepository.save(any(Contract.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(contractRepository.findByIdAndClientId(contract.getId(), JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(contract));
+
+            service.createForClient(JOHN_DOE_CLIENT_ID, LocalDateTime.now(), null, new BigDecimal("100.00"));
+            service.updateCost(JOHN_DOE_CLIENT_ID, contract.getId(), new BigDecimal("200.00"));
 
+            verify(versions, times(2)).bump(JOHN_DOE_CLIENT_ID);
+            verify(writes, times(2)).recordWrite(JOHN_DOE_CLIENT_ID);
+        }
+
+        @Test
+        @DisplayName("GIVEN closing active contracts WHEN none was active THEN the version is left as it is")
+        void shouldBumpVersionOnlyWhenContractsWereClosed() {
+            when(contractRepository.closeAllActiveByClientId(eq(JOHN_DOE_CLIENT_ID), any())).thenReturn(0);
+            when(contractRepository.closeActiveBatchByClientId(eq(JOHN_DOE_CLIENT_ID), any(), eq(10))).thenReturn(3);
+
+            service.closeActiveContractsByClientId(JOHN_DOE_CLIENT_ID);
+            verify(versions, never()).bump(any());
+            verify(writes, never()).recordWrite(any());
+
+            service.closeActiveContractsChunk(JOHN_DOE_CLIENT_ID, 10);
+            verify(versions).bump(JOHN_DOE_CLIENT_ID);
+        }
+
+        @Test
+        @DisplayName("GIVEN stored, missing and unknown versions WHEN reading them THEN a client without one is at 0")
+        void shouldReadClientVersion() {
+            final UUID unversioned = UUID.randomUUID();
+            when(versions.find(JOHN_DOE_CLIENT_ID)).thenReturn(Optional.of(7L));
+            when(versions.find(unversioned)).thenReturn(Optional.empty());
+            when(clientRepository.existsById(unversioned)).thenReturn(true);
+
+            assertThat(service.clientVersion(JOHN_DOE_CLIENT_ID)).contains(7L);
+            assertThat(service.clientVersion(unversioned)).contains(0L);
+            assertThat(service.clientVersion(UUID.randomUUID())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Archived Contracts")
+    class ArchivedContractsTests {
+
+        @Test
+        @DisplayName("GIVEN unknown client WHEN ensureClientExists THEN throw ClientNotFoundException")
+        void shouldRejectUnknownClient() {
+            when(clientRepository.existsById(JOHN_DOE_CLIENT_ID)).thenReturn(false);
+
+            assertThatThrownBy(() -> service.ensureClientExists(JOHN_DOE_CLIENT_ID))
+                    .isInstanceOf(ClientNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("GIVEN archived contracts WHEN forEachArchivedContract THEN each one is handed to the action")
+        void shouldStreamArchivedContracts() {
+            final ArchivedContract archived = new ArchivedContract(UUID.randomUUID(), JOHN_DOE_CLIENT_ID,
+                    LocalDateTime.now().minusYears(3), LocalDateTime.now().minusYears(2), new BigDecimal("10.00"),
+                    LocalDateTime.now().minusYears(2), LocalDateTime.now());
+            doAnswer(invocation -> {
+                invocation.<Consumer<ArchivedContract>>getArgument(1).accept(archived);
+                return null;
+            }).when(contractArchive).forEachByClientId(eq(JOHN_DOE_CLIENT_ID), any());
+
+            final List<ArchivedContract> received = new ArrayList<>();
+            service.forEachArchivedContract(JOHN_DOE_CLIENT_ID, received::add);
+
+            assertThat(received).containsExactly(archived);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.mk.contractservice.application;
+
+import com.mk.contractservice.application.batch.ContractOperation;
+import com.mk.contractservice.application.batch.ContractOperationResult;
+import com.mk.contractservice.application.batch.ContractOperationResult.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContractBatchApplicationService - Unit Tests")
+class ContractBatchApplicationServiceTest {
+
+    private static final UUID CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID OTHER_CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Mock
+    private ContractApplicationService contractService;
+
+    private CacheManager cacheManager;
+    private ContractBatchApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("contractSums", "clientVersions");
+        service = new ContractBatchApplicationService(contractService, cacheManager, 2, 5);
+    }
+
+    @Test
+    @DisplayName("GIVEN more operations than a chunk WHEN applying THEN each chunk is applied on its own and results keep their order")
+    void shouldApplyOperationsInChunks() {
+        final List<ContractOperation> operations = List.of(close(CLIENT_ID), close(CLIENT_ID), close(OTHER_CLIENT_ID));
+        when(contractService.applyOperations(any())).thenAnswer(invocation -> closed(invocation.getArgument(0)));
+
+        final List<ContractOperationResult> results = service.apply(operations);
+
+        assertThat(results).hasSize(3).allMatch(result -> result.outcome() == Outcome.CLOSED);
+        verify(contractService).applyOperations(operations.subList(0, 2));
+        verify(contractService).applyOperations(operations.subList(2, 3));
+    }
+
+    @Test
+    @DisplayName("GIVEN a chunk failing as a whole WHEN applying THEN its operations are rolled back and the next chunk still runs")
+    void shouldReportRolledBackChunk() {
+        final List<ContractOperation> operations = List.of(close(CLIENT_ID), close(CLIENT_ID), close(OTHER_CLIENT_ID));
+        when(contractService.applyOperations(operations.subList(0, 2))).thenThrow(new IllegalStateException("database down"));
+        when(contractService.applyOperations(operations.subList(2, 3))).thenAnswer(invocation -> closed(invocation.getArgument(0)));
+
+        final List<ContractOperationResult> results = service.apply(operations);
+
+        assertThat(results).extracting(ContractOperationResult::outcome)
+                .containsExactly(Outcome.ROLLED_BACK, Outcome.ROLLED_BACK, Outcome.CLOSED);
+    }
+
+    @Test
+    @DisplayName("GIVEN cached sums and versions WHEN a chunk is applied THEN only those of clients with applied operations are evicted")
+    void shouldEvictSumsOfTouchedClients() {
+        final Cache sums = cacheManager.getCache("contractSums");
+        sums.put(CLIENT_ID, BigDecimal.TEN);
+        sums.put(OTHER_CLIENT_ID, BigDecimal.ONE);
+        final Cache versions = cacheManager.getCache("clientVersions");
+        versions.put(CLIENT_ID, 3L);
+        versions.put(OTHER_CLIENT_ID, 5L);
+        final ContractOperation failing = close(OTHER_CLIENT_ID);
+        when(contractService.applyOperations(any())).thenReturn(List.of(
+                ContractOperationResult.applied(Outcome.CLOSED, UUID.randomUUID()),
+                ContractOperationResult.failed(Outcome.CONTRACT_NOT_FOUND, null, "Contract not found")));
+
+        service.apply(List.of(close(CLIENT_ID), failing));
+
+        assertThat(sums.get(CLIENT_ID)).isNull();
+        assertThat(sums.get(OTHER_CLIENT_ID)).isNotNull();
+        assertThat(versions.get(CLIENT_ID)).isNull();
+        assertThat(versions.get(OTHER_CLIENT_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN no operations or too many WHEN applying THEN throw IllegalArgumentException")
+    void shouldRejectEmptyOrOversizedBatch() {
+        assertThatThrownBy(() -> service.apply(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.apply(Collections.nCopies(6, close(CLIENT_ID))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("5");
+        verify(contractService, never()).applyOperations(any());
+    }
+
+    private static ContractOperation close(final UUID clientId) {
+        return new ContractOperation.Close(clientId, UUID.randomUUID());
+    }
+
+    private static List<ContractOperationResult> closed(final List<ContractOperation> operations) {
+        return operations.stream()
+                .map(operation -> ContractOperationResult.applied(Outcome.CLOSED, UUID.randomUUID()))
+                .toList();
+    }
+}
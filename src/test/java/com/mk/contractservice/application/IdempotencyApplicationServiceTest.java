@@ -0,0 +1,168 @@
+package com.mk.contractservice.application;
+
+import com.mk.contractservice.application.idempotency.IdempotencyKeyInFlightException;
+import com.mk.contractservice.application.idempotency.IdempotencyKeyReusedException;
+import com.mk.contractservice.application.idempotency.IdempotencyRecord;
+import com.mk.contractservice.application.idempotency.IdempotencyStore;
+import com.mk.contractservice.application.idempotency.StoredResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyApplicationService - Unit Tests")
+class IdempotencyApplicationServiceTest {
+
+    private static final String KEY = "key-1";
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration LEASE = Duration.ofSeconds(5);
+    private static final StoredResponse CREATED = response(201, "{\"id\":1}");
+
+    @Mock
+    private IdempotencyStore store;
+
+    private IdempotencyApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyApplicationService(store, new ConcurrentMapCacheManager("idempotency"), TTL, LEASE);
+    }
+
+    @Test
+    @DisplayName("GIVEN a new key WHEN executing twice THEN the action runs once and the second call replays from the cache")
+    void shouldRunOnceAndReplayFromCache() {
+        when(store.claim(KEY, "fp", LEASE)).thenReturn(Optional.empty());
+        final AtomicInteger runs = new AtomicInteger();
+
+        final StoredResponse first = service.execute(KEY, "fp", () -> {
+            runs.incrementAndGet();
+            return CREATED;
+        });
+        final StoredResponse second = service.execute(KEY, "fp", () -> {
+            runs.incrementAndGet();
+            return response(201, "{\"id\":2}");
+        });
+
+        assertThat(first).isSameAs(CREATED);
+        assertThat(second).isSameAs(CREATED);
+        assertThat(runs).hasValue(1);
+        verify(store).complete(KEY, "fp", CREATED, TTL);
+        verify(store, times(1)).claim(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("GIVEN a key completed on another instance WHEN executing THEN its stored response is replayed")
+    void shouldReplayStoredResponse() {
+        when(store.claim(KEY, "fp", LEASE)).thenReturn(Optional.of(new IdempotencyRecord("fp", CREATED)));
+
+        assertThat(service.execute(KEY, "fp", () -> {
+            throw new AssertionError("must not run");
+        })).isSameAs(CREATED);
+    }
+
+    @Test
+    @DisplayName("GIVEN a key used for another request WHEN executing THEN throw IdempotencyKeyReusedException")
+    void shouldRejectReusedKey() {
+        when(store.claim(KEY, "other", LEASE)).thenReturn(Optional.of(new IdempotencyRecord("fp", CREATED)));
+
+        assertThatThrownBy(() -> service.execute(KEY, "other", () -> CREATED))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN the same request running on another instance WHEN executing THEN throw IdempotencyKeyInFlightException")
+    void shouldRejectRequestInFlightElsewhere() {
+        when(store.claim(KEY, "fp", LEASE)).thenReturn(Optional.of(new IdempotencyRecord("fp", null)));
+
+        assertThatThrownBy(() -> service.execute(KEY, "fp", () -> CREATED))
+                .isInstanceOf(IdempotencyKeyInFlightException.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN a failing request WHEN executing THEN its key is released instead of storing the response")
+    void shouldReleaseKeyOfFailedRequest() {
+        when(store.claim(KEY, "fp", LEASE)).thenReturn(Optional.empty());
+        final StoredResponse conflict = response(409, "{}");
+
+        assertThat(service.execute(KEY, "fp", () -> conflict)).isSameAs(conflict);
+        assertThatThrownBy(() -> service.execute(KEY, "fp", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(store, times(2)).release(KEY, "fp");
+        verify(store, never()).complete(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GIVEN a store failing to keep the response WHEN executing THEN the response is still returned")
+    void shouldReturnResponseWhenStoreFails() {
+        when(store.claim(KEY, "fp", LEASE)).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("database down")).when(store).complete(KEY, "fp", CREATED, TTL);
+
+        assertThat(service.execute(KEY, "fp", () -> CREATED)).isSameAs(CREATED);
+    }
+
+    @Test
+    @DisplayName("GIVEN concurrent retries on this instance WHEN the first is running THEN the others wait for its response")
+    void shouldCoalesceConcurrentRetries() throws Exception {
+        when(store.claim(eq(KEY), eq("fp"), any())).thenReturn(Optional.empty());
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger runs = new AtomicInteger();
+
+        final CompletableFuture<StoredResponse> first = CompletableFuture.supplyAsync(() -> service.execute(KEY, "fp", () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+            return CREATED;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<StoredResponse> second = CompletableFuture.supplyAsync(() -> service.execute(KEY, "fp", () -> {
+            runs.incrementAndGet();
+            return response(201, "{\"id\":2}");
+        }));
+        assertThatThrownBy(() -> service.execute(KEY, "other", () -> CREATED))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(CREATED);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(CREATED);
+        assertThat(runs).hasValue(1);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static StoredResponse response(final int status, final String body) {
+        return new StoredResponse(status, Map.of("Content-Type", "application/json"), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -117,5 +117,19 @@ class ClientTest {
                     .hasMessageContaining("phone");
         }
     }
-}
 
+    @Nested
+    @DisplayName("ClientField - Fields a read can be narrowed to")
+    class FieldResolution {
+
+        @Test
+        @DisplayName("GIVEN a property name WHEN resolving the field THEN known names resolve and others are rejected")
+        void shouldResolveFieldsByProperty() {
+            assertThat(ClientField.of("companyIdentifier")).isEqualTo(ClientField.COMPANY_IDENTIFIER);
+            assertThat(ClientField.BIRTH_DATE.property()).isEqualTo("birthDate");
+            assertThatThrownBy(() -> ClientField.of("type"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown client field: type");
+        }
+    }
+}
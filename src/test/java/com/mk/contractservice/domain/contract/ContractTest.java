@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -150,6 +151,43 @@ class ContractTest {
         }
     }
 
+    @Nested
+    @DisplayName("close - End an active contract now")
+    class CloseValidation {
+
+        @Test
+        @DisplayName("GIVEN an open-ended contract WHEN closing it THEN it ends now and is no longer active")
+        void shouldEndContractNow() {
+            LocalDateTime start = LocalDateTime.now().minusDays(10);
+            Contract contract = Contract.builder()
+                    .client(testClient)
+                    .period(ContractPeriod.of(start, null))
+                    .costAmount(ContractCost.of(new BigDecimal("100.00")))
+                    .build();
+            LocalDateTime now = LocalDateTime.now();
+
+            contract.close(now);
+
+            assertThat(contract.getPeriod()).isEqualTo(ContractPeriod.of(start, now));
+            assertThat(contract.isActive()).isFalse();
+        }
+
+        @Test
+        @DisplayName("GIVEN a contract starting in the future WHEN closing it THEN the period is rejected and kept")
+        void shouldRejectClosingBeforeStart() {
+            ContractPeriod period = ContractPeriod.of(LocalDateTime.now().plusDays(1), null);
+            Contract contract = Contract.builder()
+                    .client(testClient)
+                    .period(period)
+                    .costAmount(ContractCost.of(new BigDecimal("100.00")))
+                    .build();
+
+            assertThatThrownBy(() -> contract.close(LocalDateTime.now()))
+                    .isInstanceOf(InvalidContractPeriodException.class);
+            assertThat(contract.getPeriod()).isEqualTo(period);
+        }
+    }
+
     @Nested
     @DisplayName("isActive - Subject requirement: Determine if contract is currently active")
     class IsActiveValidation {
@@ -198,6 +236,34 @@ class ContractTest {
     }
 
 
+    @Nested
+    @DisplayName("ContractProjection - Requested fields only")
+    class ProjectionValidation {
+
+        @Test
+        @DisplayName("GIVEN a contract WHEN projected on some fields THEN only those are kept")
+        void shouldKeepRequestedFieldsOnly() {
+            Contract contract = Contract.builder()
+                    .client(testClient)
+                    .period(ContractPeriod.of(LocalDateTime.now(), null))
+                    .costAmount(ContractCost.of(new BigDecimal("100.00")))
+                    .build();
+
+            ContractProjection projection = ContractProjection.of(contract, EnumSet.of(ContractField.PERIOD, ContractField.COST_AMOUNT));
+
+            assertThat(projection).isEqualTo(new ContractProjection(null, null, contract.getPeriod(), contract.getCostAmount()));
+        }
+
+        @Test
+        @DisplayName("GIVEN a property name WHEN resolving the field THEN known names resolve and others are rejected")
+        void shouldResolveFieldsByProperty() {
+            assertThat(ContractField.of("costAmount")).isEqualTo(ContractField.COST_AMOUNT);
+            assertThatThrownBy(() -> ContractField.of("cost"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown contract field: cost");
+        }
+    }
+
     @Nested
     @DisplayName("ContractPeriod - Subject requirement: Start/end dates, null end date allowed")
     class ContractPeriodValidation {
@@ -0,0 +1,66 @@
+package com.mk.contractservice.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache Config Tests")
+class CacheConfigTest {
+
+    private final CacheManager cacheManager = new CacheConfig()
+            .cacheManager(10, Duration.ofHours(1), 10, Duration.ofSeconds(2), 10, Duration.ofSeconds(3));
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN an open transaction WHEN a client version is evicted THEN it stays cached until the transaction commits")
+    void shouldEvictAfterCommit() {
+        final UUID clientId = UUID.randomUUID();
+        final Cache versions = cacheManager.getCache("clientVersions");
+        versions.put(clientId, 1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        versions.evict(clientId);
+        assertThat(versions.get(clientId, Long.class)).isEqualTo(1L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(versions.get(clientId, Long.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN the clients cache WHEN built THEN its entries expire after the clients ttl rather than the default five minutes")
+    void shouldExpireClientsAfterTheirTtl() {
+        final Cache clients = ((TransactionAwareCacheDecorator) cacheManager.getCache("clients")).getTargetCache();
+
+        assertThat(((CaffeineCache) clients).getNativeCache().policy().expireAfterWrite())
+                .hasValueSatisfying(expiry -> assertThat(expiry.getExpiresAfter()).isEqualTo(Duration.ofSeconds(3)));
+    }
+
+    @Test
+    @DisplayName("GIVEN no transaction WHEN a sum is evicted THEN it is dropped at once")
+    void shouldEvictAtOnceOutsideTransaction() {
+        final UUID clientId = UUID.randomUUID();
+        final Cache sums = cacheManager.getCache("contractSums");
+        sums.put(clientId, "100.00");
+
+        sums.evict(clientId);
+
+        assertThat(sums.get(clientId)).isNull();
+    }
+}
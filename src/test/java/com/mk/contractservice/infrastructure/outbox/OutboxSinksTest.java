@@ -0,0 +1,109 @@
+package com.mk.contractservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mk.contractservice.infrastructure.config.OutboxProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Outbox sinks - Unit Tests")
+class OutboxSinksTest {
+
+    private static final UUID CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger status = new AtomicInteger(204);
+    private HttpServer stub;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/events", exchange -> {
+            received.add(new String(exchange.getRequestBody().readAllBytes()));
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        stub.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    @DisplayName("GIVEN a batch WHEN delivered to the file sink THEN one JSON line per event is appended with the payload inlined")
+    void shouldAppendNdjson() throws IOException {
+        final Path file = directory.resolve("out/events.ndjson");
+        final FileOutboxSink sink = new FileOutboxSink(properties(file), objectMapper);
+
+        sink.deliver(List.of(event(1), event(2)));
+        sink.deliver(List.of(event(3)));
+
+        final List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        final JsonNode first = objectMapper.readTree(lines.getFirst());
+        assertThat(first.get("sequence").asLong()).isEqualTo(1);
+        assertThat(first.get("type").asText()).isEqualTo("ContractsClosed");
+        assertThat(first.get("payload").get("count").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN a local stub WHEN delivered over HTTP THEN the batch is posted as a JSON array")
+    void shouldPostBatch() throws IOException {
+        final HttpOutboxSink sink = new HttpOutboxSink(properties(directory.resolve("unused")), RestClient.builder());
+
+        sink.deliver(List.of(event(1), event(2)));
+
+        assertThat(received).hasSize(1);
+        final JsonNode batch = objectMapper.readTree(received.getFirst());
+        assertThat(batch.isArray()).isTrue();
+        assertThat(batch).extracting(node -> node.get("sequence").asLong()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("GIVEN the stub rejects the batch WHEN delivered over HTTP THEN delivery fails so the relay retries")
+    void shouldFailOnErrorStatus() {
+        status.set(503);
+        final HttpOutboxSink sink = new HttpOutboxSink(properties(directory.resolve("unused")), RestClient.builder());
+
+        assertThatThrownBy(() -> sink.deliver(List.of(event(1)))).isInstanceOf(RestClientException.class);
+    }
+
+    private OutboxProperties properties(final Path file) {
+        return new OutboxProperties(true, OutboxProperties.Sink.HTTP, 100, Duration.ofSeconds(1), file,
+                new OutboxProperties.Http(URI.create("http://localhost:" + stub.getAddress().getPort() + "/events"),
+                        Duration.ofSeconds(2)));
+    }
+
+    private static OutboxEvent event(final long sequence) {
+        return new OutboxEvent(sequence, UUID.randomUUID(), "ContractsClosed", CLIENT_ID,
+                LocalDateTime.of(2026, 1, 1, 12, 0), "{\"clientId\":\"" + CLIENT_ID + "\",\"count\":" + sequence + "}");
+    }
+}
@@ -0,0 +1,410 @@
+package com.mk.contractservice.infrastructure.persistence;
+
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.client.Company;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.contract.ContractField;
+import com.mk.contractservice.domain.contract.ContractProjection;
+import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.domain.valueobject.ClientName;
+import com.mk.contractservice.domain.valueobject.CompanyIdentifier;
+import com.mk.contractservice.domain.valueobject.ContractCost;
+import com.mk.contractservice.domain.valueobject.ContractPeriod;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.domain.valueobject.PersonBirthDate;
+import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Behaviour every {@link ClientRepository} / {@link ContractRepository} adapter must share, so that the JPA, JDBC and
+ * in-memory implementations stay interchangeable.
+ */
+public abstract class RepositoryAdapterContractTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    protected abstract ClientRepository clientRepository();
+
+    protected abstract ContractRepository contractRepository();
+
+    protected abstract void deleteAll();
+
+    /**
+     * Runs a bulk write the way the application services do; adapters that need a surrounding transaction override it.
+     */
+    protected void inTransaction(final Runnable action) {
+        action.run();
+    }
+
+    private Client person;
+
+    @BeforeEach
+    void setUpAdapter() {
+        deleteAll();
+        person = clientRepository().save(person("adapter.person@test.com"));
+    }
+
+    @Nested
+    @DisplayName("ClientRepository")
+    class Clients {
+
+        @Test
+        @DisplayName("GIVEN a new client WHEN saved THEN an id is assigned and the client can be read back")
+        void shouldAssignIdAndFindById() {
+            assertThat(person.getId()).isNotNull();
+            assertThat(clientRepository().findById(person.getId()))
+                    .get()
+                    .isInstanceOfSatisfying(Person.class, found -> {
+                        assertThat(found.getEmail().value()).isEqualTo("adapter.person@test.com");
+                        assertThat(found.getBirthDate().value()).isEqualTo(LocalDate.of(1990, 1, 1));
+                    });
+        }
+
+        @Test
+        @DisplayName("GIVEN a person and a company WHEN loading several ids THEN both subtypes come back and unknown ids are skipped")
+        void shouldFindAllByIdAcrossSubtypes() {
+            final Client company = clientRepository().save(company("adapter.batch@test.com", "CHE-111.222.333"));
+
+            final List<Client> found = clientRepository()
+                    .findAllById(List.of(company.getId(), UUID.randomUUID(), person.getId()));
+
+            assertThat(found).extracting(Client::getId).containsExactlyInAnyOrder(person.getId(), company.getId());
+            assertThat(found).hasAtLeastOneElementOfType(Person.class).hasAtLeastOneElementOfType(Company.class);
+        }
+
+        @Test
+        @DisplayName("GIVEN a saved company WHEN checking unique keys THEN email and identifier are indexed")
+        void shouldIndexUniqueKeys() {
+            clientRepository().save(company("adapter.company@test.com", "CHE-111.222.333"));
+
+            assertThat(clientRepository().existsByEmail(Email.of("adapter.company@test.com"))).isTrue();
+            assertThat(clientRepository().existsByCompanyIdentifier("CHE-111.222.333")).isTrue();
+            assertThat(clientRepository().existsByCompanyIdentifier("CHE-999.999.999")).isFalse();
+        }
+
+        @Test
+        @DisplayName("GIVEN an email already in use WHEN saving another client THEN the unique key is enforced")
+        void shouldRejectDuplicateEmail() {
+            assertThatThrownBy(() -> clientRepository().save(person("adapter.person@test.com")))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        @Test
+        @DisplayName("GIVEN a client whose email changes WHEN saved THEN the old email is released")
+        void shouldReleaseOldEmailOnUpdate() {
+            final Person updated = Person.builder()
+                    .id(person.getId())
+                    .name(person.getName())
+                    .email(Email.of("adapter.renamed@test.com"))
+                    .phone(person.getPhone())
+                    .birthDate(PersonBirthDate.of(LocalDate.of(1990, 1, 1)))
+                    .build();
+
+            clientRepository().save(updated);
+
+            assertThat(clientRepository().existsByEmail("adapter.renamed@test.com")).isTrue();
+            assertThat(clientRepository().existsByEmail("adapter.person@test.com")).isFalse();
+        }
+
+        @Test
+        @DisplayName("GIVEN a saved client WHEN deleted THEN it no longer exists")
+        void shouldDeleteClient() {
+            clientRepository().deleteById(person.getId());
+
+            assertThat(clientRepository().existsById(person.getId())).isFalse();
+            assertThat(clientRepository().existsByEmail("adapter.person@test.com")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("ContractRepository")
+    class Contracts {
+
+        @Test
+        @DisplayName("GIVEN a new contract WHEN saved THEN it can be read back with its client")
+        void shouldSaveAndFindById() {
+            final Contract saved = contractRepository().save(contract(NOW.minusDays(1), null, "100.00"));
+
+            assertThat(contractRepository().findById(saved.getId())).get().satisfies(found -> {
+                assertThat(found.getClient().getId()).isEqualTo(person.getId());
+                assertThat(found.getCostAmount().value()).isEqualByComparingTo("100.00");
+                assertThat(found.getPeriod().endDate()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("GIVEN active and expired contracts WHEN listing THEN only active ones are returned")
+        void shouldListOnlyActiveContracts() {
+            contractRepository().save(contract(NOW.minusDays(10), null, "10.00"));
+            contractRepository().save(contract(NOW.minusDays(10), NOW.plusDays(5), "20.00"));
+            contractRepository().save(contract(NOW.minusDays(10), NOW.minusDays(1), "40.00"));
+
+            final Page<Contract> page = contractRepository().findActiveByClientIdPageable(
+                    person.getId(), NOW, null, PageRequest.of(0, 10, Sort.by("costAmount")));
+
+            assertThat(page.getTotalElements()).isEqualTo(2);
+            assertThat(page.getContent()).extracting(c -> c.getCostAmount().value().intValue()).containsExactly(10, 20);
+        }
+
+        @Test
+        @DisplayName("GIVEN more active contracts than the page size WHEN listing THEN the page is sliced and counted")
+        void shouldPaginateActiveContracts() {
+            for (int i = 1; i <= 5; i++) {
+                contractRepository().save(contract(NOW.minusDays(1), null, i + ".00"));
+            }
+
+            final Page<Contract> page = contractRepository().findActiveByClientIdPageable(
+                    person.getId(), NOW, null, PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "costAmount")));
+
+            assertThat(page.getTotalElements()).isEqualTo(5);
+            assertThat(page.getContent()).extracting(c -> c.getCostAmount().value().intValue()).containsExactly(3, 2);
+        }
+
+        @Test
+        @DisplayName("GIVEN active contracts WHEN listing some fields THEN only those are read, sorted and paged like contracts")
+        void shouldListActiveProjections() {
+            final Contract first = contractRepository().save(contract(NOW.minusDays(10), null, "10.00"));
+            contractRepository().save(contract(NOW.minusDays(10), NOW.plusDays(5), "20.00"));
+            contractRepository().save(contract(NOW.minusDays(10), NOW.minusDays(1), "40.00"));
+
+            final Page<ContractProjection> page = contractRepository().findActiveProjectionsByClientIdPageable(
+                    person.getId(), NOW, null, EnumSet.of(ContractField.ID, ContractField.COST_AMOUNT),
+                    PageRequest.of(0, 1, Sort.by("costAmount")));
+
+            assertThat(page.getTotalElements()).isEqualTo(2);
+            assertThat(page.getContent()).singleElement().satisfies(projection -> {
+                assertThat(projection.id()).isEqualTo(first.getId());
+                assertThat(projection.costAmount().value()).isEqualByComparingTo("10.00");
+                assertThat(projection.clientId()).isNull();
+                assertThat(projection.period()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("GIVEN an active contract WHEN listing its client and period, or no field THEN those are read")
+        void shouldListOtherProjections() {
+            final Contract saved = contractRepository().save(contract(NOW.minusDays(10), NOW.plusDays(5), "10.00"));
+
+            final Page<ContractProjection> owned = contractRepository().findActiveProjectionsByClientIdPageable(
+                    person.getId(), NOW, NOW.minusDays(1), EnumSet.of(ContractField.CLIENT_ID, ContractField.PERIOD),
+                    PageRequest.of(0, 10));
+            final Page<ContractProjection> none = contractRepository().findActiveProjectionsByClientIdPageable(
+                    person.getId(), NOW, null, EnumSet.noneOf(ContractField.class), PageRequest.of(0, 10));
+
+            assertThat(owned.getContent()).containsExactly(new ContractProjection(null, person.getId(),
+                    saved.getPeriod(), null));
+            assertThat(none.getContent()).containsExactly(new ContractProjection(null, null, null, null));
+        }
+
+        @Test
+        @DisplayName("GIVEN active and expired contracts WHEN summing THEN only active costs are added")
+        void shouldSumActiveContracts() {
+            contractRepository().save(contract(NOW.minusDays(10), null, "100.50"));
+            contractRepository().save(contract(NOW.minusDays(10), NOW.plusDays(1), "200.00"));
+            contractRepository().save(contract(NOW.minusDays(10), NOW.minusDays(1), "999.00"));
+
+            assertThat(contractRepository().sumActiveByClientId(person.getId(), NOW)).isEqualByComparingTo("300.50");
+        }
+
+        @Test
+        @DisplayName("GIVEN a client without contracts WHEN summing THEN zero is returned")
+        void shouldSumToZeroWithoutContracts() {
+            assertThat(contractRepository().sumActiveByClientId(person.getId(), NOW)).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
+        @Test
+        @DisplayName("GIVEN several clients WHEN summing them at once THEN each existing client gets its sum and unknown ones are absent")
+        void shouldSumActiveContractsOfSeveralClients() {
+            final Client idle = clientRepository().save(person("adapter.idle@test.com"));
+            contractRepository().save(contract(NOW.minusDays(10), null, "100.50"));
+            contractRepository().save(contract(NOW.minusDays(10), NOW.minusDays(1), "999.00"));
+            final UUID unknown = UUID.randomUUID();
+
+            final Map<UUID, BigDecimal> sums = contractRepository()
+                    .sumActiveByClientIds(List.of(person.getId(), idle.getId(), unknown), NOW);
+
+            assertThat(sums).containsOnlyKeys(person.getId(), idle.getId());
+            assertThat(sums.get(person.getId())).isEqualByComparingTo("100.50");
+            assertThat(sums.get(idle.getId())).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
+        @Test
+        @DisplayName("GIVEN saved contracts WHEN finding several by id THEN the known ones are returned with their client")
+        void shouldFindAllContractsById() {
+            final Contract first = contractRepository().save(contract(NOW.minusDays(10), null, "10.00"));
+            final Contract second = contractRepository().save(contract(NOW.minusDays(5), null, "20.00"));
+
+            final List<Contract> found = contractRepository().findAllById(List.of(first.getId(), second.getId(), UUID.randomUUID()));
+
+            assertThat(found).extracting(Contract::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+            assertThat(found).allSatisfy(contract -> assertThat(contract.getClient().getId()).isEqualTo(person.getId()));
+        }
+
+        @Test
+        @DisplayName("GIVEN saved contracts WHEN finding several by id through clients THEN only those of the given clients are returned")
+        void shouldFindAllContractsByIdAndClientId() {
+            final Contract first = contractRepository().save(contract(NOW.minusDays(10), null, "10.00"));
+            final List<UUID> ids = List.of(first.getId(), UUID.randomUUID());
+
+            assertThat(contractRepository().findAllByIdAndClientId(ids, Set.of(person.getId(), UUID.randomUUID())))
+                    .extracting(Contract::getId).containsExactly(first.getId());
+            assertThat(contractRepository().findAllByIdAndClientId(ids, Set.of(UUID.randomUUID()))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("GIVEN a changed and a new contract WHEN saving all THEN both are stored in order and the new one gets an id")
+        void shouldSaveAllChangedAndNewContracts() {
+            final Contract existing = contractRepository().save(contract(NOW.minusDays(10), null, "10.00"));
+            existing.changeCost(ContractCost.of(new BigDecimal("15.00")));
+            final Contract created = contract(NOW.minusDays(1), null, "30.00");
+
+            final List<List<Contract>> saved = new ArrayList<>();
+            inTransaction(() -> saved.add(contractRepository().saveAll(List.of(existing, created))));
+
+            assertThat(saved.getFirst()).hasSize(2);
+            assertThat(saved.getFirst().get(0).getId()).isEqualTo(existing.getId());
+            assertThat(saved.getFirst().get(1).getId()).isNotNull();
+            assertThat(contractRepository().findById(existing.getId()))
+                    .get()
+                    .satisfies(contract -> assertThat(contract.getCostAmount().value()).isEqualByComparingTo("15.00"));
+            assertThat(contractRepository().sumActiveByClientId(person.getId(), NOW)).isEqualByComparingTo("45.00");
+        }
+
+        @Test
+        @DisplayName("GIVEN active contracts WHEN closing all THEN none stays active")
+        void shouldCloseAllActiveContracts() {
+            final Contract open = contractRepository().save(contract(NOW.minusDays(10), null, "10.00"));
+            contractRepository().save(contract(NOW.minusDays(10), NOW.plusDays(3), "20.00"));
+
+            final int[] count = new int[1];
+            inTransaction(() -> count[0] = contractRepository().closeAllActiveByClientId(person.getId(), NOW));
+
+            assertThat(count[0]).isEqualTo(2);
+            assertThat(contractRepository().sumActiveByClientId(person.getId(), NOW)).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(contractRepository().findById(open.getId()))
+                    .get()
+                    .satisfies(closed -> assertThat(closed.getPeriod().endDate()).isEqualTo(NOW));
+        }
+
+        @Test
+        @DisplayName("GIVEN more active contracts than the limit WHEN closing a batch THEN only the limit is closed")
+        void shouldCloseActiveContractsInBatches() {
+            for (int i = 1; i <= 5; i++) {
+                contractRepository().save(contract(NOW.minusDays(10), null, i + ".00"));
+            }
+            contractRepository().save(contract(NOW.minusDays(10), NOW.minusDays(1), "99.00"));
+
+            final int[] closed = new int[3];
+            inTransaction(() -> closed[0] = contractRepository().closeActiveBatchByClientId(person.getId(), NOW, 2));
+            inTransaction(() -> closed[1] = contractRepository().closeActiveBatchByClientId(person.getId(), NOW, 2));
+            inTransaction(() -> closed[2] = contractRepository().closeActiveBatchByClientId(person.getId(), NOW, 2));
+
+            assertThat(closed).containsExactly(2, 2, 1);
+            assertThat(contractRepository().sumActiveByClientId(person.getId(), NOW)).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
+        @Test
+        @DisplayName("GIVEN a saved contract WHEN its cost changes THEN the update replaces the stored row")
+        void shouldUpdateExistingContract() {
+            final Contract saved = contractRepository().save(contract(NOW.minusDays(1), null, "10.00"));
+            final Contract loaded = contractRepository().findByIdAndClientId(saved.getId(), person.getId()).orElseThrow();
+            loaded.changeCost(ContractCost.of(new BigDecimal("15.00")));
+
+            inTransaction(() -> contractRepository().save(loaded));
+
+            assertThat(contractRepository().sumActiveByClientId(person.getId(), NOW)).isEqualByComparingTo("15.00");
+            assertThat(contractRepository().findActiveByClientIdPageable(person.getId(), NOW, null, PageRequest.of(0, 10))
+                    .getTotalElements()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("GIVEN a saved contract WHEN reading its version THEN its owner, last modification and end date are returned")
+        void shouldFindContractVersionById() {
+            final Contract saved = contractRepository().save(contract(NOW.minusDays(10), NOW.minusDays(1), "10.00"));
+
+            assertThat(contractRepository().findVersionById(saved.getId(), person.getId())).get().satisfies(version -> {
+                assertThat(version.clientId()).isEqualTo(person.getId());
+                assertThat(version.lastModified()).isNotNull();
+                assertThat(version.endDate()).isEqualTo(NOW.minusDays(1));
+            });
+            assertThat(contractRepository().findVersionById(saved.getId(), UUID.randomUUID())).isEmpty();
+            assertThat(contractRepository().findVersionById(UUID.randomUUID(), person.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("GIVEN a saved contract WHEN looked up through a client THEN only its owner finds it")
+        void shouldFindByIdOnlyThroughOwner() {
+            final Contract saved = contractRepository().save(contract(NOW.minusDays(1), null, "100.00"));
+
+            assertThat(contractRepository().findByIdAndClientId(saved.getId(), person.getId())).get()
+                    .satisfies(found -> assertThat(found.getClient().getId()).isEqualTo(person.getId()));
+            assertThat(contractRepository().findByIdAndClientId(saved.getId(), UUID.randomUUID())).isEmpty();
+            assertThat(contractRepository().findByIdAndClientId(UUID.randomUUID(), person.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("GIVEN a client's contracts WHEN asking for the next expiry THEN the earliest future end date of the active ones is returned")
+        void shouldFindNextExpiry() {
+            assertThat(contractRepository().findNextExpiryByClientId(person.getId(), NOW)).isEmpty();
+            contractRepository().save(contract(NOW.minusDays(10), NOW.minusDays(1), "10.00"));
+            contractRepository().save(contract(NOW.minusDays(10), null, "20.00"));
+            assertThat(contractRepository().findNextExpiryByClientId(person.getId(), NOW)).isEmpty();
+
+            contractRepository().save(contract(NOW.minusDays(10), NOW.plusDays(3), "30.00"));
+            contractRepository().save(contract(NOW.minusDays(10), NOW.plusDays(1), "40.00"));
+
+            assertThat(contractRepository().findNextExpiryByClientId(person.getId(), NOW)).contains(NOW.plusDays(1));
+            assertThat(contractRepository().findNextExpiryByClientId(person.getId(), NOW.plusDays(2))).contains(NOW.plusDays(3));
+            assertThat(contractRepository().findNextExpiryByClientId(UUID.randomUUID(), NOW)).isEmpty();
+        }
+    }
+
+    private Contract contract(final LocalDateTime start, final LocalDateTime end, final String cost) {
+        return Contract.builder()
+                .client(person)
+                .period(ContractPeriod.of(start, end))
+                .costAmount(ContractCost.of(new BigDecimal(cost)))
+                .build();
+    }
+
+    private static Person person(final String email) {
+        return Person.builder()
+                .name(ClientName.of("Adapter Person"))
+                .email(Email.of(email))
+                .phone(PhoneNumber.of("+41791234567"))
+                .birthDate(PersonBirthDate.of(LocalDate.of(1990, 1, 1)))
+                .build();
+    }
+
+    private static Company company(final String email, final String identifier) {
+        return Company.builder()
+                .name(ClientName.of("Adapter Company"))
+                .email(Email.of(email))
+                .phone(PhoneNumber.of("+41791234567"))
+                .companyIdentifier(CompanyIdentifier.of(identifier))
+                .build();
+    }
+}
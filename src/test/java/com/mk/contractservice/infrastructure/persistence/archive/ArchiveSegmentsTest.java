@@ -0,0 +1,77 @@
+package com.mk.contractservice.infrastructure.persistence.archive;
+
+import com.mk.contractservice.domain.contract.ArchivedContract;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Archive segment files")
+class ArchiveSegmentsTest {
+
+    private static final LocalDateTime ARCHIVED_AT = LocalDateTime.of(2025, 3, 1, 3, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should read back exactly the rows of the requested client")
+    void shouldRoundTripRowsOfOneClient() throws IOException {
+        final UUID alice = UUID.randomUUID();
+        final UUID bob = UUID.randomUUID();
+        final ArchivedContract first = contract(alice, LocalDateTime.of(2023, 6, 30, 12, 0), "1500.00");
+        final ArchivedContract second = contract(alice, null, "0.01");
+        final ArchivedContract other = contract(bob, LocalDateTime.of(2022, 1, 1, 0, 0), "99.90");
+
+        ArchiveSegments.write(directory, List.of(first, other, second), ARCHIVED_AT);
+
+        final List<ArchivedContract> read = new ArrayList<>();
+        ArchiveSegments.read(ArchiveSegments.list(directory).getFirst(), alice, read::add);
+
+        assertThat(read).containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    @DisplayName("Should keep orphaned rows without matching them to any client")
+    void shouldKeepOrphanedRows() throws IOException {
+        final ArchivedContract orphan = contract(null, LocalDateTime.of(2022, 1, 1, 0, 0), "10.00");
+
+        ArchiveSegments.write(directory, List.of(orphan), ARCHIVED_AT);
+
+        final List<ArchivedContract> read = new ArrayList<>();
+        ArchiveSegments.read(ArchiveSegments.list(directory).getFirst(), UUID.randomUUID(), read::add);
+        assertThat(read).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should list complete segments oldest first and ignore temporary files")
+    void shouldListCompleteSegmentsInOrder() throws IOException {
+        final UUID client = UUID.randomUUID();
+        final Path older = ArchiveSegments.write(directory, List.of(contract(client, null, "1.00")), ARCHIVED_AT);
+        final Path newer = ArchiveSegments.write(directory, List.of(contract(client, null, "2.00")), ARCHIVED_AT);
+        Files.createFile(directory.resolve("contracts-partial" + ArchiveSegments.SUFFIX + ".tmp"));
+
+        assertThat(ArchiveSegments.list(directory)).containsExactly(older, newer);
+    }
+
+    @Test
+    @DisplayName("Should return no segments when the directory does not exist yet")
+    void shouldHandleMissingDirectory() throws IOException {
+        assertThat(ArchiveSegments.list(directory.resolve("missing"))).isEmpty();
+    }
+
+    private static ArchivedContract contract(final UUID clientId, final LocalDateTime endDate, final String cost) {
+        return new ArchivedContract(UUID.randomUUID(), clientId, LocalDateTime.of(2021, 1, 1, 8, 30, 15, 250_000_000),
+                endDate, new BigDecimal(cost), LocalDateTime.of(2021, 2, 1, 9, 0), ARCHIVED_AT);
+    }
+}
@@ -0,0 +1,48 @@
+package com.mk.contractservice.infrastructure.persistence.archive;
+
+import com.mk.contractservice.domain.contract.ArchivedContract;
+import com.mk.contractservice.infrastructure.config.ArchiveProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Segment file contract archive")
+class SegmentFileContractArchiveTest {
+
+    private static final LocalDateTime ARCHIVED_AT = LocalDateTime.of(2025, 3, 1, 3, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should send a contract archived again into a later segment only once")
+    void shouldSkipContractsWrittenToSeveralSegments() throws IOException {
+        final UUID client = UUID.randomUUID();
+        final ArchivedContract first = contract(client);
+        final ArchivedContract second = contract(client);
+        ArchiveSegments.write(directory, List.of(first), ARCHIVED_AT);
+        ArchiveSegments.write(directory, List.of(first, second), ARCHIVED_AT.plusHours(1));
+
+        final List<ArchivedContract> read = new ArrayList<>();
+        new SegmentFileContractArchive(new ArchiveProperties(true, ArchiveProperties.Storage.FILE, Duration.ofDays(30),
+                10, Duration.ZERO, Duration.ofHours(1), directory)).forEachByClientId(client, read::add);
+
+        assertThat(read).extracting(ArchivedContract::id).containsExactlyInAnyOrder(first.id(), second.id());
+    }
+
+    private static ArchivedContract contract(final UUID clientId) {
+        return new ArchivedContract(UUID.randomUUID(), clientId, LocalDateTime.of(2021, 1, 1, 8, 30),
+                LocalDateTime.of(2022, 1, 1, 0, 0), new BigDecimal("10.00"), LocalDateTime.of(2021, 2, 1, 9, 0), ARCHIVED_AT);
+    }
+}
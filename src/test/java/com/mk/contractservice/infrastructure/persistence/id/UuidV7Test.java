@@ -0,0 +1,54 @@
+package com.mk.contractservice.infrastructure.persistence.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UUIDv7 generation")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should set the version 7 and IETF variant bits")
+    void shouldSetVersionAndVariant() {
+        final UUID uuid = UuidV7.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should embed the current Unix time in milliseconds")
+    void shouldEmbedTimestamp() {
+        final long before = System.currentTimeMillis();
+        final UUID uuid = UuidV7.next();
+        final long after = System.currentTimeMillis();
+
+        assertThat(UuidV7.timestampMillis(uuid)).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("Should be strictly increasing even within the same millisecond")
+    void shouldBeMonotonic() {
+        final List<UUID> generated = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            generated.add(UuidV7.next());
+        }
+
+        for (int i = 1; i < generated.size(); i++) {
+            assertThat(generated.get(i).toString()).isGreaterThan(generated.get(i - 1).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject reading a timestamp from a random UUID")
+    void shouldRejectVersion4() {
+        assertThatThrownBy(() -> UuidV7.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,29 @@
+package com.mk.contractservice.infrastructure.persistence.memory;
+
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.infrastructure.persistence.RepositoryAdapterContractTest;
+import org.junit.jupiter.api.DisplayName;
+
+@DisplayName("In-memory repository adapters")
+class InMemoryRepositoryAdapterTest extends RepositoryAdapterContractTest {
+
+    private final InMemoryStore store = new InMemoryStore();
+    private final InMemoryClientRepository clientRepository = new InMemoryClientRepository(store);
+    private final InMemoryContractRepository contractRepository = new InMemoryContractRepository(store);
+
+    @Override
+    protected ClientRepository clientRepository() {
+        return clientRepository;
+    }
+
+    @Override
+    protected ContractRepository contractRepository() {
+        return contractRepository;
+    }
+
+    @Override
+    protected void deleteAll() {
+        store.clear();
+    }
+}
@@ -0,0 +1,145 @@
+package com.mk.contractservice.infrastructure.persistence.routing;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Read/write routing decisions")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final UUID CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+    private final ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, tracker);
+
+    @BeforeEach
+    void setUp() {
+        when(lagMonitor.isFresh()).thenReturn(true);
+        tracker.bind(CLIENT_ID, null, written -> {
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        tracker.unbind();
+    }
+
+    @Test
+    @DisplayName("GIVEN a read-only transaction and a fresh replica WHEN routing THEN the replica is used")
+    void shouldRouteReadOnlyToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.REPLICA);
+    }
+
+    @Test
+    @DisplayName("GIVEN a read-write transaction WHEN routing THEN the primary is used")
+    void shouldRouteWritesToPrimary() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("GIVEN a lagging replica WHEN routing a read-only transaction THEN it falls back to the primary")
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isFresh()).thenReturn(false);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("GIVEN a recent write for the current client WHEN routing a read-only transaction THEN it sticks to the primary")
+    void shouldStickToPrimaryAfterClientWrite() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        tracker.recordWrite(CLIENT_ID);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("GIVEN a recent write for another client by another caller WHEN routing a read-only transaction THEN the replica is used")
+    void shouldNotStickOtherClients() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        tracker.unbind();
+        tracker.recordWrite(UUID.randomUUID());
+        tracker.bind(CLIENT_ID, null, written -> {
+        });
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.REPLICA);
+    }
+
+    @Test
+    @DisplayName("GIVEN a caller whose last write is within the window WHEN routing a read-only transaction THEN it sticks to the primary")
+    void shouldStickToPrimaryAfterCallerWriteElsewhere() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        tracker.bind(null, Instant.now().minusSeconds(10), written -> {
+        });
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.PRIMARY);
+
+        tracker.bind(null, Instant.now().minus(Duration.ofMinutes(2)), written -> {
+        });
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.REPLICA);
+    }
+
+    @Test
+    @DisplayName("GIVEN a write while serving a request WHEN routing later reads of any client THEN they stick to the primary and the caller is told")
+    void shouldStickToPrimaryAfterWriteInRequest() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        final List<Instant> told = new ArrayList<>();
+        tracker.bind(null, null, told::add);
+
+        tracker.recordWrite(UUID.randomUUID());
+
+        assertThat(told).hasSize(1);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("GIVEN no request bound WHEN routing a read-only transaction THEN the replica is used")
+    void shouldRouteUnboundReadsToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        tracker.recordWrite(CLIENT_ID);
+        tracker.unbind();
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.REPLICA);
+    }
+
+    @Test
+    @DisplayName("GIVEN last-write cookies WHEN reading them THEN only a well-formed one is used")
+    void shouldReadLastWriteCookie() {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        assertThat(ReadYourWritesFilter.lastWriteIn(request)).isNull();
+
+        request.setCookies(new Cookie(ReadYourWritesFilter.LAST_WRITE_COOKIE, "1700000000000"));
+        assertThat(ReadYourWritesFilter.lastWriteIn(request)).isEqualTo(Instant.ofEpochMilli(1_700_000_000_000L));
+
+        request.setCookies(new Cookie(ReadYourWritesFilter.LAST_WRITE_COOKIE, "yesterday"));
+        assertThat(ReadYourWritesFilter.lastWriteIn(request)).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN request paths and Location headers WHEN extracting the client THEN only client resources match")
+    void shouldExtractClientIdFromPaths() {
+        assertThat(ReadYourWritesFilter.clientIdIn("/v1/clients/" + CLIENT_ID + "/contracts/sum")).isEqualTo(CLIENT_ID);
+        assertThat(ReadYourWritesFilter.clientIdIn("http://localhost:8080/v1/clients/" + CLIENT_ID)).isEqualTo(CLIENT_ID);
+        assertThat(ReadYourWritesFilter.clientIdIn("/v1/clients/persons")).isNull();
+    }
+}
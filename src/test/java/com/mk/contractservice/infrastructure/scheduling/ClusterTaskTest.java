@@ -0,0 +1,122 @@
+package com.mk.contractservice.infrastructure.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@DisplayName("ClusterTask - Unit Tests")
+class ClusterTaskTest {
+
+    private final AtomicInteger runs = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("GIVEN the lock is free WHEN the task fires THEN it runs and its duration is recorded")
+    void shouldRunWhenLockIsFree() {
+        final ClusterTask task = task(runs::incrementAndGet, (name, action) -> {
+            action.run();
+            return true;
+        });
+
+        task.run();
+
+        assertThat(runs).hasValue(1);
+        assertThat(meterRegistry.get("scheduled.task.run").tag("task", "test").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN another instance holds the lock WHEN the task fires THEN it is skipped as contention")
+    void shouldSkipWhenLockIsHeld() {
+        final ClusterTask task = task(runs::incrementAndGet, (name, action) -> false);
+
+        task.run();
+
+        assertThat(runs).hasValue(0);
+        assertThat(skipped("locked")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN the previous run is still in progress WHEN the task fires again THEN the new firing is skipped")
+    void shouldSkipWhilePreviousRunIsInProgress() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ClusterTask task = task(() -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+        }, (name, action) -> {
+            action.run();
+            return true;
+        });
+
+        final Thread first = Thread.ofVirtual().start(task::run);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        task.run();
+        release.countDown();
+        first.join();
+
+        assertThat(runs).hasValue(1);
+        assertThat(skipped("running")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN a failing task WHEN it fires THEN the failure is contained and the next firing runs")
+    void shouldContainFailures() {
+        final ClusterTask task = task(() -> {
+            if (runs.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+        }, (name, action) -> {
+            action.run();
+            return true;
+        });
+
+        assertThatCode(task::run).doesNotThrowAnyException();
+        task.run();
+
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN a jitter WHEN computing the next delay THEN it stays within interval and interval plus jitter")
+    void shouldApplyJitter() {
+        final ClusterTask task = new ClusterTask("test", Duration.ofSeconds(10), Duration.ZERO, Duration.ofSeconds(2),
+                () -> { }, (name, action) -> true, meterRegistry);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(task.nextDelay()).isBetween(Duration.ofSeconds(10), Duration.ofSeconds(12));
+            assertThat(task.firstDelay()).isLessThan(Duration.ofSeconds(2));
+        }
+    }
+
+    private ClusterTask task(final Runnable action, final ClusterLock lock) {
+        return new ClusterTask("test", Duration.ofSeconds(1), Duration.ZERO, Duration.ZERO, action, lock, meterRegistry);
+    }
+
+    private double skipped(final String reason) {
+        return meterRegistry.get("scheduled.task.skipped").tag("task", "test").tag("reason", reason).counter().count();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.valueobject.ClientName;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.domain.valueobject.PersonBirthDate;
+import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.matchesPattern;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.client-deletion.chunk-size=100", "app.jobs.poll-interval=50ms"})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Asynchronous client deletion Integration Tests")
+class AsyncClientDeletionIT {
+
+    private static final int CONTRACTS = 1_050;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        jdbcTemplate.execute("TRUNCATE contracts.job, contracts.contract, contracts.person, contracts.company, contracts.client");
+        client = clientRepository.save(Person.builder()
+                .name(ClientName.of("Large Book"))
+                .email(Email.of("large.book@test.com"))
+                .phone(PhoneNumber.of("+41791234567"))
+                .birthDate(PersonBirthDate.of(LocalDate.of(1980, 1, 1)))
+                .build());
+        jdbcTemplate.update("""
+                INSERT INTO contracts.contract (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+                SELECT gen_random_uuid(), ?, now() - interval '1 day', NULL, 10.00, now(), 'ACTIVE'
+                FROM generate_series(1, ?)
+                """, client.getId(), CONTRACTS);
+    }
+
+    @Test
+    @DisplayName("Should accept the deletion, close contracts in chunks and delete the client")
+    void shouldDeleteClientAsynchronously() throws InterruptedException {
+        final String location = given()
+                .when()
+                .delete("/v1/clients/{id}?async=true", client.getId())
+                .then()
+                .statusCode(202)
+                .header("Location", matchesPattern(".*/v1/jobs/[0-9a-f-]{36}"))
+                .body("type", equalTo("client-deletion"))
+                .body("status", equalTo("PENDING"))
+                .body("payload.clientId", equalTo(client.getId().toString()))
+                .extract().header("Location");
+
+        Response job = null;
+        for (int i = 0; i < 100; i++) {
+            job = given().when().get(location);
+            if (job.path("status").equals("SUCCEEDED") || job.path("status").equals("FAILED")) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+
+        assertThat(job).isNotNull();
+        assertThat(job.<String>path("status")).isEqualTo("SUCCEEDED");
+        assertThat(job.<Integer>path("progress.contractsTotal")).isEqualTo(CONTRACTS);
+        assertThat(job.<Integer>path("progress.contractsClosed")).isEqualTo(CONTRACTS);
+        assertThat(job.<Integer>path("attempts")).isEqualTo(1);
+        given().when().get("/v1/clients/{id}", client.getId()).then().statusCode(404);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM contracts.contract WHERE status = 'ACTIVE'", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown client or job")
+    void shouldRejectUnknownResources() {
+        given().when().delete("/v1/clients/{id}?async=true", UUID.randomUUID()).then().statusCode(404);
+        given().when().get("/v1/jobs/{id}", UUID.randomUUID()).then().statusCode(404);
+    }
+}
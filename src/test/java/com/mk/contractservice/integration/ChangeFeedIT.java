@@ -0,0 +1,160 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.application.ClientApplicationService;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.infrastructure.feed.PostgresChangeFeed;
+import com.mk.contractservice.infrastructure.outbox.OutboxRelay;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.outbox.enabled=true", "app.outbox.interval=1h", "app.changes.purge-interval=1h"})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Change feed Integration Tests")
+class ChangeFeedIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private PostgresChangeFeed changeFeed;
+
+    @Autowired
+    private ClientApplicationService clientService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long head;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        jdbcTemplate.execute("TRUNCATE contracts.outbox, contracts.contract, contracts.person, contracts.company, contracts.client");
+        jdbcTemplate.update("UPDATE contracts.change_feed_horizon SET purged_through = 0");
+        head = jdbcTemplate.queryForObject("SELECT coalesce(max(sequence), 0) FROM contracts.change_feed", Long.class);
+    }
+
+    @Test
+    @DisplayName("Should hold a poll open until a relayed change arrives, then answer with it")
+    void shouldWakeWaitingPollOnRelay() {
+        final CompletableFuture<Response> poll = CompletableFuture.supplyAsync(() -> given()
+                .queryParam("after", head)
+                .queryParam("wait", "PT20S")
+                .get("/v1/changes"));
+        pause(500);
+        assertThat(poll).isNotDone();
+
+        final Person person = createPerson("feed@test.com");
+        relay.relay();
+
+        final Response response = poll.orTimeout(10, TimeUnit.SECONDS).join();
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.jsonPath().getList("changes.type", String.class)).containsExactly("ClientCreated");
+        assertThat(response.jsonPath().getString("changes[0].clientId")).isEqualTo(person.getId().toString());
+        assertThat(response.jsonPath().getString("changes[0].payload.clientType")).isEqualTo("PERSON");
+        assertThat(response.jsonPath().getLong("next")).isEqualTo(response.jsonPath().getLong("changes[0].sequence"));
+    }
+
+    @Test
+    @DisplayName("Should page through relayed changes in order and answer empty once the wait elapses")
+    void shouldPageThroughChanges() {
+        createPerson("first@test.com");
+        createPerson("second@test.com");
+        createPerson("third@test.com");
+        relay.relay();
+
+        final Response firstPage = given().queryParam("after", head).queryParam("limit", 2).get("/v1/changes");
+        final long next = firstPage.jsonPath().getLong("next");
+        final Response secondPage = given().queryParam("after", next).queryParam("limit", 2).get("/v1/changes");
+        final Response empty = given()
+                .queryParam("after", secondPage.jsonPath().getLong("next"))
+                .queryParam("wait", "PT0.2S")
+                .get("/v1/changes");
+
+        final List<Long> sequences = firstPage.jsonPath().getList("changes.sequence", Long.class);
+        assertThat(sequences).hasSize(2).isSorted();
+        assertThat(next).isEqualTo(sequences.getLast());
+        assertThat(secondPage.jsonPath().getList("changes.sequence", Long.class)).containsExactly(next + 1);
+        assertThat(empty.statusCode()).isEqualTo(200);
+        assertThat(empty.jsonPath().getList("changes")).isEmpty();
+        assertThat(empty.jsonPath().getLong("next")).isEqualTo(next + 1);
+    }
+
+    @Test
+    @DisplayName("Should wake waiting polls on a NOTIFY from another instance")
+    void shouldWakeOnNotificationFromAnotherInstance() {
+        final CompletableFuture<Response> poll = CompletableFuture.supplyAsync(() -> given()
+                .queryParam("after", head)
+                .queryParam("wait", "PT20S")
+                .get("/v1/changes"));
+        pause(500);
+
+        jdbcTemplate.update("""
+                INSERT INTO contracts.change_feed (event_id, type, client_id, occurred_at, payload)
+                VALUES (?, 'ClientDeleted', ?, now(), '{}')
+                """, UUID.randomUUID(), UUID.randomUUID());
+        jdbcTemplate.execute("NOTIFY contract_changes");
+
+        final Response response = poll.orTimeout(10, TimeUnit.SECONDS).join();
+        assertThat(response.jsonPath().getList("changes.type", String.class)).containsExactly("ClientDeleted");
+    }
+
+    @Test
+    @DisplayName("Should purge changes past the retention and answer 410 to cursors below the purge horizon")
+    void shouldRejectCursorsBelowPurgeHorizon() {
+        createPerson("purged@test.com");
+        relay.relay();
+        jdbcTemplate.update("UPDATE contracts.change_feed SET created_at = now() - interval '30 days'");
+
+        changeFeed.purge();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.change_feed", Integer.class)).isZero();
+        given()
+                .queryParam("after", head)
+                .get("/v1/changes")
+                .then()
+                .statusCode(410);
+        given()
+                .queryParam("after", head + 1)
+                .queryParam("wait", "PT0S")
+                .get("/v1/changes")
+                .then()
+                .statusCode(200);
+    }
+
+    private Person createPerson(final String email) {
+        return clientService.createPerson("Feed Person", email, "+41791234567", LocalDate.of(1990, 1, 1));
+    }
+
+    private static void pause(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -31,9 +31,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -121,6 +124,55 @@ class ClientCrudIT {
                 .body("birthDate", nullValue());
     }
 
+    @Test
+    @DisplayName("SCENARIO: Batch read returns persons and companies in request order and lists unknown ids")
+    void shouldBatchGetClientsInRequestOrder() {
+        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        Person person = (Person) clientRepository.save(Person.builder()
+                .name(ClientName.of("Batch Person"))
+                .email(Email.of("batch.person." + uniqueId + "@example.com"))
+                .phone(PhoneNumber.of("+41791234567"))
+                .birthDate(PersonBirthDate.of(LocalDate.of(1990, 5, 15)))
+                .build());
+        Company company = (Company) clientRepository.save(Company.builder()
+                .name(ClientName.of("Batch Corp"))
+                .email(Email.of("batch.corp." + uniqueId + "@example.com"))
+                .phone(PhoneNumber.of("+41791234567"))
+                .companyIdentifier(CompanyIdentifier.of(String.format("CHE-%s.456.789", uniqueId.substring(0, 6))))
+                .build());
+        UUID fakeId = UUID.randomUUID();
+
+        given()
+                .when()
+                .get("/v1/clients/{id}", person.getId())
+                .then()
+                .statusCode(200);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(batchGet(company.getId(), fakeId, person.getId(), company.getId()))
+                .when()
+                .post("/v1/clients/batch-get")
+                .then()
+                .statusCode(200)
+                .body("clients.id", contains(company.getId().toString(), person.getId().toString()))
+                .body("clients.type", contains("COMPANY", "PERSON"))
+                .body("clients[1].birthDate", equalTo("1990-05-15"))
+                .body("notFound", contains(fakeId.toString()));
+    }
+
+    @Test
+    @DisplayName("SCENARIO: Batch read of more ids than allowed returns 400")
+    void shouldRejectOversizedBatchGet() {
+        given()
+                .contentType(ContentType.JSON)
+                .body(batchGet(Stream.generate(UUID::randomUUID).limit(101).toArray(UUID[]::new)))
+                .when()
+                .post("/v1/clients/batch-get")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     @DisplayName("SCENARIO: Read non-existent client returns 404")
     void shouldReturn404ForNonExistentClient() {
@@ -457,5 +509,10 @@ class ClientCrudIT {
                 .body("name", equalTo("Update 2"))
                 .body("email", containsString("update2"));
     }
-}
 
+    private static String batchGet(final UUID... ids) {
+        return Stream.of(ids)
+                .map(id -> "\"" + id + "\"")
+                .collect(Collectors.joining(", ", "{\"clientIds\": [", "]}"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.emptyString;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Client Version Integration Tests")
+class ClientVersionIT {
+
+    private static final String CLIENT_VERSION = "Client-Version";
+
+    @LocalServerPort
+    private int port;
+
+    private String clientId;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        clientId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"name": "Vera Sion", "email": "version.%s@example.com", "phone": "+41791234567", "birthDate": "1990-05-15"}
+                        """.formatted(UUID.randomUUID().toString().substring(0, 8)))
+                .when()
+                .post("/v1/clients/persons")
+                .then().statusCode(201)
+                .extract().path("id");
+    }
+
+    @Test
+    @DisplayName("GIVEN a new client WHEN it and its contracts are written THEN HEAD reports one more version per write")
+    void shouldBumpVersionOnEveryWrite() {
+        head(clientId).then().statusCode(200).header(CLIENT_VERSION, "1").body(emptyString());
+
+        final String location = given()
+                .contentType(ContentType.JSON)
+                .body("{\"costAmount\": 100.00}")
+                .when()
+                .post("/v1/clients/{clientId}/contracts", clientId)
+                .then().statusCode(201)
+                .extract().header("Location");
+        head(clientId).then().statusCode(200).header(CLIENT_VERSION, "2");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"amount\": 150.00}")
+                .when()
+                .patch(location + "/cost")
+                .then().statusCode(204);
+        head(clientId).then().statusCode(200).header(CLIENT_VERSION, "3");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"name": "Vera Sioned", "email": "version.updated.%s@example.com", "phone": "+41791234567"}
+                        """.formatted(UUID.randomUUID().toString().substring(0, 8)))
+                .when()
+                .put("/v1/clients/{id}", clientId)
+                .then().statusCode(204);
+        head(clientId).then().statusCode(200).header(CLIENT_VERSION, "4");
+    }
+
+    @Test
+    @DisplayName("GIVEN reads only WHEN HEAD is sent again THEN the version does not move")
+    void shouldKeepVersionOnReads() {
+        given().when().get("/v1/clients/{clientId}/contracts", clientId).then().statusCode(200);
+        given().when().get("/v1/clients/{clientId}/contracts/sum", clientId).then().statusCode(200);
+
+        head(clientId).then().statusCode(200).header(CLIENT_VERSION, "1");
+    }
+
+    @Test
+    @DisplayName("GIVEN an unknown or deleted client WHEN HEAD is sent THEN 404 is returned")
+    void shouldNotVersionUnknownOrDeletedClient() {
+        head(UUID.randomUUID().toString()).then().statusCode(404);
+
+        given().when().delete("/v1/clients/{id}", clientId).then().statusCode(204);
+        head(clientId).then().statusCode(404);
+    }
+
+    private static Response head(final String clientId) {
+        return given().when().head("/v1/clients/{clientId}/contracts", clientId);
+    }
+}
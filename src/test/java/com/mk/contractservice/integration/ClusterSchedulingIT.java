@@ -0,0 +1,76 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.infrastructure.scheduling.ClusterLock;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"app.expiry.interval=100ms", "app.scheduling.jitter=0s"})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Cluster scheduling Integration Tests")
+class ClusterSchedulingIT {
+
+    @Autowired
+    private ClusterLock clusterLock;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should let only one holder run under an advisory lock, then release it")
+    void shouldExcludeConcurrentHolders() throws InterruptedException {
+        final CountDownLatch holding = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread holder = Thread.ofVirtual().start(() -> clusterLock.runIfAvailable("it-lock", () -> {
+            holding.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(clusterLock.runIfAvailable("it-lock", () -> { })).isFalse();
+        assertThat(clusterLock.runIfAvailable("other-lock", () -> { })).isTrue();
+
+        release.countDown();
+        holder.join();
+        assertThat(clusterLock.runIfAvailable("it-lock", () -> { })).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should run the expiry sweep on its cadence and count contention while another holder has its lock")
+    void shouldScheduleSweepAndCountContention() {
+        awaitCount(() -> meterRegistry.get("scheduled.task.run").tag("task", "contract-expiry").timer().count() > 0);
+
+        clusterLock.runIfAvailable("contract-expiry", () -> awaitCount(() -> meterRegistry.get("scheduled.task.skipped")
+                .tag("task", "contract-expiry").tag("reason", "locked").counter().count() > 0));
+
+        assertThat(meterRegistry.get("scheduled.task.skipped").tag("task", "contract-expiry").tag("reason", "locked")
+                .counter().count()).isPositive();
+    }
+
+    private static void awaitCount(final BooleanSupplier condition) {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Conditional GET Integration Tests")
+class ConditionalGetIT {
+
+    private static final String WEAK_ETAG = "W/\"[0-9a-f]{32}\"";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String clientId;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        clientId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"name": "Etta Tag", "email": "etag.%s@example.com", "phone": "+41791234567", "birthDate": "1990-05-15"}
+                        """.formatted(UUID.randomUUID().toString().substring(0, 8)))
+                .when()
+                .post("/v1/clients/persons")
+                .then().statusCode(201)
+                .extract().path("id");
+    }
+
+    @Test
+    @DisplayName("GIVEN a read client WHEN read again with its ETag THEN 304 is returned until it is updated")
+    void shouldRevalidateClient() {
+        final String etag = get("/v1/clients/{id}", clientId, null).then()
+                .statusCode(200)
+                .header("ETag", matchesPattern(WEAK_ETAG))
+                .extract().header("ETag");
+
+        get("/v1/clients/{id}", clientId, etag).then().statusCode(304).body(emptyString());
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"name": "Etta Tagged", "email": "etag.updated.%s@example.com", "phone": "+41791234567"}
+                        """.formatted(UUID.randomUUID().toString().substring(0, 8)))
+                .when()
+                .put("/v1/clients/{id}", clientId)
+                .then().statusCode(204);
+        get("/v1/clients/{id}", clientId, etag).then()
+                .statusCode(200)
+                .header("ETag", not(etag));
+    }
+
+    @Test
+    @DisplayName("GIVEN a read contract WHEN read again with its ETag or Last-Modified THEN 304 is returned until its cost changes")
+    void shouldRevalidateContract() {
+        final String path = createContract("{\"costAmount\": 100.00}");
+
+        final Response first = get(path, null, null);
+        first.then().statusCode(200).header("ETag", matchesPattern(WEAK_ETAG)).header("Last-Modified", notNullValue());
+        get(path, null, first.header("ETag")).then().statusCode(304);
+        given().header("If-Modified-Since", first.header("Last-Modified")).when().get(path).then().statusCode(304);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"amount\": 150.00}")
+                .when()
+                .patch(path + "/cost")
+                .then().statusCode(204);
+        get(path, null, first.header("ETag")).then().statusCode(200).header("ETag", not(first.header("ETag")));
+    }
+
+    @Test
+    @DisplayName("GIVEN another client's ETag for a contract WHEN revalidating through the wrong client THEN 403 is returned, not 304")
+    void shouldNotRevalidateContractOfAnotherClient() {
+        final String path = createContract("{\"costAmount\": 100.00}");
+        final String etag = get(path, null, null).header("ETag");
+
+        get(path.replace(clientId, UUID.randomUUID().toString()), null, etag).then().statusCode(403);
+    }
+
+    @Test
+    @DisplayName("GIVEN a read list and sum WHEN a contract is added THEN their ETags change, and not before")
+    void shouldRevalidateListAndSum() {
+        createContract("{\"costAmount\": 100.00}");
+        final String list = "/v1/clients/" + clientId + "/contracts";
+        final String listTag = get(list, null, null).then().statusCode(200).extract().header("ETag");
+        final String sumTag = get(list + "/sum", null, null).then().statusCode(200).extract().header("ETag");
+
+        get(list, null, listTag).then().statusCode(304);
+        get(list + "?page=0&size=1", null, listTag).then().statusCode(304);
+        get(list + "/sum", null, sumTag).then().statusCode(304);
+
+        createContract("{\"costAmount\": 50.00}");
+        get(list, null, listTag).then().statusCode(200).header("ETag", not(listTag));
+        get(list + "/sum", null, sumTag).then().statusCode(200).header("ETag", not(sumTag));
+    }
+
+    @Test
+    @DisplayName("GIVEN a contract that expires without being written WHEN revalidating the list and sum THEN the ETags change")
+    void shouldChangeListTagOnExpiry() throws InterruptedException {
+        final LocalDateTime end = LocalDateTime.now().plusSeconds(2);
+        createContract("{\"endDate\": \"%s\", \"costAmount\": 100.00}".formatted(end));
+        final String list = "/v1/clients/" + clientId + "/contracts";
+        final String listTag = get(list, null, null).header("ETag");
+        final String sumTag = get(list + "/sum", null, null).header("ETag");
+        get(list + "/sum", null, sumTag).then().statusCode(304);
+
+        Thread.sleep(Duration.between(LocalDateTime.now(), end).plusMillis(100).toMillis());
+
+        get(list + "/sum", null, sumTag).then().statusCode(200).header("ETag", not(sumTag));
+        get(list, null, listTag).then().statusCode(200).header("ETag", not(listTag));
+    }
+
+    @Test
+    @DisplayName("GIVEN an expired contract WHEN read THEN it is sent as immutable and repeat reads are served from the local cache")
+    void shouldCacheExpiredContract() {
+        final String path = createContract("{\"costAmount\": 100.00}");
+        final String contractId = path.replaceAll(".*/", "");
+        get(path, null, null).then().statusCode(200).header("Cache-Control", containsString("no-cache"));
+
+        jdbcTemplate.update("UPDATE contracts.contract SET start_date = now() - interval '1 day', "
+                + "end_date = now() - interval '1 second' WHERE id = ?::uuid", contractId);
+        final String etag = get(path, null, null).then()
+                .statusCode(200)
+                .header("Cache-Control", allOf(containsString("immutable"), containsString("max-age=31536000")))
+                .extract().header("ETag");
+        // Gone from the table, the contract is still served: neither read below reaches Postgres.
+        jdbcTemplate.update("DELETE FROM contracts.contract WHERE id = ?::uuid", contractId);
+
+        get(path, null, null).then().statusCode(200).body("id", equalTo(contractId));
+        get(path, null, etag).then().statusCode(304).header("Cache-Control", containsString("immutable"));
+    }
+
+    private String createContract(final String body) {
+        final String location = given()
+                .contentType(ContentType.JSON)
+                .body(body)
+                .when()
+                .post("/v1/clients/{clientId}/contracts", clientId)
+                .then().statusCode(201)
+                .extract().header("Location");
+        return URI.create(location).getPath();
+    }
+
+    private static Response get(final String path, final String id, final String ifNoneMatch) {
+        final RequestSpecification request = ifNoneMatch == null ? given() : given().header("If-None-Match", ifNoneMatch);
+        return id == null ? request.when().get(path) : request.when().get(path, id);
+    }
+}
@@ -0,0 +1,165 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.valueobject.ClientName;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.domain.valueobject.PersonBirthDate;
+import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import com.mk.contractservice.infrastructure.config.ArchiveProperties;
+import com.mk.contractservice.infrastructure.persistence.archive.ContractArchiver;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.archive.enabled=true", "app.archive.storage=table", "app.archive.retention=30d",
+        "app.archive.batch-size=2", "app.archive.pause=0ms", "app.archive.interval=1h"})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Contract archiver Integration Tests")
+class ContractArchiverIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ContractArchiver archiver;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        jdbcTemplate.execute("TRUNCATE contracts.contract, contracts.contract_archive, contracts.person, contracts.company, contracts.client");
+        client = clientRepository.save(Person.builder()
+                .name(ClientName.of("Archive Client"))
+                .email(Email.of("archive@test.com"))
+                .phone(PhoneNumber.of("+41791234567"))
+                .birthDate(PersonBirthDate.of(LocalDate.of(1990, 1, 1)))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should move contracts expired beyond the retention into the archive table across several batches and drop them from the cache")
+    void shouldArchiveExpiredContractsBeyondRetention() {
+        for (int i = 0; i < 5; i++) {
+            insertContract(LocalDateTime.now().minusDays(60 + i), "EXPIRED");
+        }
+        final UUID cached = insertContract(LocalDateTime.now().minusDays(70), "EXPIRED");
+        final UUID recent = insertContract(LocalDateTime.now().minusDays(5), "EXPIRED");
+        insertContract(null, "ACTIVE");
+        cacheManager.getCache("expiredContracts").put(cached, "cached");
+        cacheManager.getCache("expiredContracts").put(recent, "cached");
+
+        archiver.archive();
+
+        assertThat(count("contracts.contract")).isEqualTo(2);
+        assertThat(count("contracts.contract_archive")).isEqualTo(6);
+        assertThat(cacheManager.getCache("expiredContracts").get(cached)).isNull();
+        assertThat(cacheManager.getCache("expiredContracts").get(recent)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should stream archived contracts of the client as NDJSON")
+    void shouldStreamArchivedContracts() {
+        final UUID archived = insertContract(LocalDateTime.now().minusDays(90), "EXPIRED");
+        archiver.archive();
+
+        given()
+                .when()
+                .get("/v1/clients/{clientId}/contracts/archived", client.getId())
+                .then()
+                .statusCode(200)
+                .contentType(startsWith("application/x-ndjson"))
+                .body(containsString("\"id\":\"" + archived + "\""));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when streaming the archive of an unknown client")
+    void shouldRejectUnknownClient() {
+        given()
+                .when()
+                .get("/v1/clients/{clientId}/contracts/archived", UUID.randomUUID())
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    @DisplayName("Should write archived contracts to segment files in file mode")
+    void shouldArchiveToSegmentFiles() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            insertContract(LocalDateTime.now().minusDays(60 + i), "EXPIRED");
+        }
+        final ArchiveProperties fileMode = new ArchiveProperties(true, ArchiveProperties.Storage.FILE, Duration.ofDays(30),
+                2, Duration.ZERO, Duration.ofHours(1), archiveDirectory);
+
+        new ContractArchiver(namedParameterJdbcTemplate, transactionManager, fileMode, cacheManager,
+                new SimpleMeterRegistry()).archive();
+
+        assertThat(count("contracts.contract")).isZero();
+        assertThat(count("contracts.contract_archive")).isZero();
+        try (Stream<Path> segments = Files.list(archiveDirectory)) {
+            assertThat(segments.filter(p -> p.toString().endsWith(".seg.gz"))).hasSize(2);
+        }
+    }
+
+    private UUID insertContract(final LocalDateTime endDate, final String status) {
+        final UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO contracts.contract (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+                VALUES (?, ?, now() - interval '400 days', ?, 10.00, now(), ?)
+                """, id, client.getId(), endDate, status);
+        return id;
+    }
+
+    private int count(final String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+}
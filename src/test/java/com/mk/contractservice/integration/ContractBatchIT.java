@@ -0,0 +1,144 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.application.ContractApplicationService;
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.domain.valueobject.ClientName;
+import com.mk.contractservice.domain.valueobject.ContractCost;
+import com.mk.contractservice.domain.valueobject.ContractPeriod;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.domain.valueobject.PersonBirthDate;
+import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.comparesEqualTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.contract-batch.chunk-size=2")
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Contract batch API Integration Tests")
+class ContractBatchIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private ContractApplicationService contractService;
+
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+
+        client = clientRepository.save(Person.builder()
+                .name(ClientName.of("Batch Person"))
+                .email(Email.of("batch." + UUID.randomUUID().toString().substring(0, 8) + "@example.com"))
+                .phone(PhoneNumber.of("+41791234567"))
+                .birthDate(PersonBirthDate.of(LocalDate.of(1990, 1, 1)))
+                .build());
+    }
+
+    @Test
+    @DisplayName("GIVEN mixed operations across chunks WHEN POST /v1/contracts/batch THEN each gets its status and the sum is refreshed")
+    void shouldApplyMixedOperations() {
+        final Contract repriced = save("100.00");
+        final Contract closed = save("50.00");
+        final UUID unknownContract = UUID.randomUUID();
+        assertThat(contractService.sumActiveContracts(client.getId()), comparesEqualTo(new BigDecimal("150.00")));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"operations": [
+                          {"op": "updateCost", "clientId": "%1$s", "contractId": "%2$s", "amount": 120.00},
+                          {"op": "close", "clientId": "%1$s", "contractId": "%3$s"},
+                          {"op": "create", "clientId": "%1$s", "costAmount": 40.00},
+                          {"op": "close", "clientId": "%1$s", "contractId": "%4$s"},
+                          {"op": "create", "clientId": "%5$s", "costAmount": 10.00}
+                        ]}
+                        """.formatted(client.getId(), repriced.getId(), closed.getId(), unknownContract, UUID.randomUUID()))
+                .when()
+                .post("/v1/contracts/batch")
+                .then()
+                .statusCode(200)
+                .body("applied", equalTo(3))
+                .body("failed", equalTo(2))
+                .body("results.status", contains(204, 204, 201, 404, 404))
+                .body("results.index", contains(0, 1, 2, 3, 4))
+                .body("results[2].contractId", notNullValue())
+                .body("results[3].code", equalTo("contractNotFound"))
+                .body("results[4].code", equalTo("clientNotFound"))
+                .body("results[0].code", nullValue());
+
+        assertThat(contractService.sumActiveContracts(client.getId()), comparesEqualTo(new BigDecimal("160.00")));
+    }
+
+    @Test
+    @DisplayName("GIVEN another client's contract WHEN POST /v1/contracts/batch THEN that operation is forbidden without leaking details")
+    void shouldReportContractOfAnotherClient() {
+        final Contract contract = save("100.00");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"operations\": [{\"op\": \"close\", \"clientId\": \"" + UUID.randomUUID() + "\", \"contractId\": \"" + contract.getId() + "\"}]}")
+                .when()
+                .post("/v1/contracts/batch")
+                .then()
+                .statusCode(200)
+                .body("results[0].status", equalTo(403))
+                .body("results[0].code", equalTo("contractAccessDenied"))
+                .body("results[0].detail", equalTo("You do not have permission to access this contract"));
+    }
+
+    @Test
+    @DisplayName("GIVEN no operations WHEN POST /v1/contracts/batch THEN 422 is returned")
+    void shouldRejectEmptyBatch() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"operations\": []}")
+                .when()
+                .post("/v1/contracts/batch")
+                .then()
+                .statusCode(422);
+    }
+
+    private Contract save(final String cost) {
+        return contractRepository.save(Contract.builder()
+                .client(client)
+                .period(ContractPeriod.of(LocalDateTime.now().minusDays(1), null))
+                .costAmount(ContractCost.of(new BigDecimal(cost)))
+                .build());
+    }
+}
@@ -0,0 +1,172 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.application.ClientApplicationService;
+import com.mk.contractservice.application.ContractApplicationService;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.infrastructure.outbox.OutboxRelay;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.outbox.enabled=true", "app.outbox.interval=1h", "app.contract-stream.heartbeat=1h"})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Contract event stream Integration Tests")
+class ContractEventStreamIT {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private ClientApplicationService clientService;
+
+    @Autowired
+    private ContractApplicationService contractService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Person person;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE contracts.outbox, contracts.contract, contracts.person, contracts.company, contracts.client");
+        person = clientService.createPerson("Stream Person", "stream@test.com", "+41791234567", LocalDate.of(1990, 1, 1));
+        relay.relay();
+    }
+
+    @Test
+    @DisplayName("Should stream the current sum, then contract events each followed by the recomputed sum")
+    void shouldStreamContractEventsAndSums() throws Exception {
+        try (EventStream stream = open(person.getId())) {
+            assertThat(stream.next()).isEqualTo(new Event("sum", "0"));
+
+            final Contract contract = contractService.createForClient(person.getId(), LocalDateTime.now().minusDays(1),
+                    null, new BigDecimal("100.00"));
+            contractService.updateCost(person.getId(), contract.getId(), new BigDecimal("120.00"));
+            relay.relay();
+
+            final Event created = stream.next();
+            final Event costChanged = stream.next();
+            final Event sum = stream.next();
+            assertThat(created.name()).isEqualTo("contract-created");
+            assertThat(created.data()).contains(contract.getId().toString());
+            assertThat(costChanged.name()).isEqualTo("contract-cost-changed");
+            assertThat(sum).isEqualTo(new Event("sum", "120.00"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should send closed events and end the stream when the client is deleted")
+    void shouldEndStreamOnClientDeletion() throws Exception {
+        contractService.createForClient(person.getId(), LocalDateTime.now().minusDays(1), null, new BigDecimal("10.00"));
+        relay.relay();
+
+        try (EventStream stream = open(person.getId())) {
+            assertThat(stream.next()).isEqualTo(new Event("sum", "10.00"));
+
+            clientService.deleteClientAndCloseContracts(person.getId());
+            relay.relay();
+
+            assertThat(stream.next().name()).isEqualTo("contracts-closed");
+            assertThat(stream.next().name()).isEqualTo("client-deleted");
+            assertThat(stream.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return 404 when subscribing to an unknown client")
+    void shouldRejectUnknownClient() throws Exception {
+        final HttpResponse<Void> response = httpClient.send(request(UUID.randomUUID()), HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(404);
+    }
+
+    private HttpRequest request(final UUID clientId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/clients/" + clientId + "/contracts/stream"))
+                .header("Accept", "text/event-stream")
+                .build();
+    }
+
+    private EventStream open(final UUID clientId) throws IOException, InterruptedException {
+        final HttpResponse<InputStream> response = httpClient.send(request(clientId), HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).get().asString().startsWith("text/event-stream");
+        return new EventStream(new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8)));
+    }
+
+    private record Event(String name, String data) {
+    }
+
+    /**
+     * Minimal SSE reader: one event per blank-line separated block, comments skipped.
+     */
+    private record EventStream(BufferedReader reader) implements AutoCloseable {
+
+        Event next() throws Exception {
+            return CompletableFuture.supplyAsync(this::readEvent).get(10, TimeUnit.SECONDS);
+        }
+
+        private Event readEvent() {
+            try {
+                String name = null;
+                final List<String> data = new ArrayList<>();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        if (name != null) {
+                            return new Event(name, String.join("\n", data));
+                        }
+                    } else if (line.startsWith("event:")) {
+                        name = line.substring("event:".length());
+                    } else if (line.startsWith("data:")) {
+                        data.add(line.substring("data:".length()));
+                    }
+                }
+                return null;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
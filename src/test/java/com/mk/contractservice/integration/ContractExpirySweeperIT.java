@@ -0,0 +1,96 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.domain.valueobject.ClientName;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.domain.valueobject.PersonBirthDate;
+import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import com.mk.contractservice.infrastructure.persistence.ContractExpirySweeper;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"app.expiry.batch-size=2", "app.expiry.interval=1h"})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Contract expiry sweeper Integration Tests")
+class ContractExpirySweeperIT {
+
+    @Autowired
+    private ContractExpirySweeper sweeper;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE contracts.contract, contracts.person, contracts.company, contracts.client");
+        client = clientRepository.save(Person.builder()
+                .name(ClientName.of("Sweeper Client"))
+                .email(Email.of("sweeper@test.com"))
+                .phone(PhoneNumber.of("+41791234567"))
+                .birthDate(PersonBirthDate.of(LocalDate.of(1990, 1, 1)))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should expire every ended contract across several batches and leave live ones active")
+    void shouldExpireEndedContractsInBatches() {
+        for (int i = 0; i < 5; i++) {
+            insertContract(LocalDateTime.now().minusHours(i + 1));
+        }
+        insertContract(LocalDateTime.now().plusDays(1));
+        insertContract(null);
+
+        sweeper.sweep();
+
+        assertThat(countByStatus("EXPIRED")).isEqualTo(5);
+        assertThat(countByStatus("ACTIVE")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not report contracts past their end date as active before the sweeper runs")
+    void shouldApplyExactTimeCheckBeforeSweep() {
+        insertContract(LocalDateTime.now().minusMinutes(1));
+        insertContract(null);
+
+        assertThat(countByStatus("ACTIVE")).isEqualTo(2);
+        assertThat(contractRepository.findActiveByClientIdPageable(client.getId(), LocalDateTime.now(), null,
+                Pageable.unpaged()).getTotalElements()).isEqualTo(1);
+    }
+
+    private void insertContract(final LocalDateTime endDate) {
+        jdbcTemplate.update("""
+                INSERT INTO contracts.contract (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+                VALUES (?, ?, now() - interval '30 days', ?, 10.00, now(), 'ACTIVE')
+                """, UUID.randomUUID(), client.getId(), endDate);
+    }
+
+    private int countByStatus(final String status) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.contract WHERE status = ?", Integer.class, status);
+    }
+}
@@ -0,0 +1,122 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.application.ClientApplicationService;
+import com.mk.contractservice.domain.client.Client;
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.valueobject.ClientName;
+import com.mk.contractservice.domain.valueobject.Email;
+import com.mk.contractservice.domain.valueobject.PersonBirthDate;
+import com.mk.contractservice.domain.valueobject.PhoneNumber;
+import com.mk.contractservice.infrastructure.config.OrphanProperties;
+import com.mk.contractservice.infrastructure.persistence.ContractOrphanReaper;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"app.orphans.mode=archive", "app.orphans.retention=1h", "app.orphans.batch-size=2",
+        "app.orphans.pause=0ms", "app.orphans.interval=1h"})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Orphaned contract reaper Integration Tests")
+class ContractOrphanReaperIT {
+
+    @Autowired
+    private ContractOrphanReaper reaper;
+
+    @Autowired
+    private ClientApplicationService clientApplicationService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private Client doomed;
+    private Client kept;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE contracts.contract, contracts.contract_archive, contracts.person, contracts.company, contracts.client");
+        doomed = saveClient("doomed@test.com");
+        kept = saveClient("kept@test.com");
+        for (int i = 0; i < 5; i++) {
+            insertContract(doomed.getId());
+        }
+        insertContract(kept.getId());
+        clientApplicationService.deleteClientAndCloseContracts(doomed.getId());
+    }
+
+    @Test
+    @DisplayName("Should keep orphans during the retention window, then archive them in batches")
+    void shouldArchiveOrphansAfterRetention() {
+        reaper.reap();
+
+        assertThat(countOrphans()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM contracts.contract WHERE client_id IS NULL AND orphaned_at IS NOT NULL", Integer.class))
+                .isEqualTo(5);
+
+        jdbcTemplate.update("UPDATE contracts.contract SET orphaned_at = orphaned_at - interval '2 hours' WHERE client_id IS NULL");
+        reaper.reap();
+
+        assertThat(countOrphans()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.contract", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM contracts.contract_archive WHERE client_id IS NULL", Integer.class)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should delete orphans outright in delete mode")
+    void shouldDeleteOrphansInDeleteMode() {
+        final ContractOrphanReaper deleting = new ContractOrphanReaper(namedParameterJdbcTemplate,
+                new OrphanProperties(true, OrphanProperties.Mode.DELETE, Duration.ZERO, 2, Duration.ZERO, Duration.ofHours(1)),
+                new SimpleMeterRegistry());
+
+        deleting.reap();
+        deleting.reap();
+
+        assertThat(countOrphans()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.contract_archive", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.contract WHERE client_id = ?",
+                Integer.class, kept.getId())).isEqualTo(1);
+    }
+
+    private Client saveClient(final String email) {
+        return clientRepository.save(Person.builder()
+                .name(ClientName.of("Orphan Test"))
+                .email(Email.of(email))
+                .phone(PhoneNumber.of("+41791234567"))
+                .birthDate(PersonBirthDate.of(LocalDate.of(1990, 1, 1)))
+                .build());
+    }
+
+    private void insertContract(final UUID clientId) {
+        jdbcTemplate.update("""
+                INSERT INTO contracts.contract (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+                VALUES (?, ?, now() - interval '30 days', NULL, 10.00, now(), 'ACTIVE')
+                """, UUID.randomUUID(), clientId);
+    }
+
+    private int countOrphans() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.contract WHERE client_id IS NULL", Integer.class);
+    }
+}
@@ -13,6 +13,8 @@ import com.mk.contractservice.domain.valueobject.PersonBirthDate;
 import com.mk.contractservice.domain.valueobject.PhoneNumber;
 import com.mk.contractservice.integration.config.TestcontainersConfiguration;
 import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,7 +33,10 @@ import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.comparesEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -291,5 +296,49 @@ class ContractSumRestAssuredIT {
                 .body(equalTo("800.00"))
                 .time(lessThan(MAX_CACHE_RESPONSE_TIME_MS));
     }
-}
 
+    @Test
+    @DisplayName("GIVEN several clients WHEN POST /v1/contracts/sums THEN each sum is returned and unknown clients are listed")
+    void shouldSumSeveralClientsAtOnce() {
+        final LocalDateTime now = LocalDateTime.now();
+        contractRepository.save(Contract.builder()
+                .client(testClient)
+                .period(ContractPeriod.of(now.minusDays(30), null))
+                .costAmount(ContractCost.of(new BigDecimal("1500.50")))
+                .build());
+        final Client idleClient = clientRepository.save(Person.builder()
+                .name(ClientName.of("Marie Idle"))
+                .email(Email.of("marie.idle." + UUID.randomUUID().toString().substring(0, 8) + "@example.com"))
+                .phone(PhoneNumber.of("+41791234567"))
+                .birthDate(PersonBirthDate.of(LocalDate.of(1985, 3, 1)))
+                .build());
+        final UUID unknownId = UUID.randomUUID();
+
+        final JsonPath response = given()
+                .contentType(ContentType.JSON)
+                .body("{\"clientIds\": [\"" + testClient.getId() + "\", \"" + unknownId + "\", \"" + idleClient.getId() + "\"]}")
+                .when()
+                .post("/v1/contracts/sums")
+                .then()
+                .statusCode(200)
+                .body("sums", aMapWithSize(2))
+                .body("notFound", contains(unknownId.toString()))
+                .extract()
+                .jsonPath();
+
+        assertThat(new BigDecimal(response.getString("sums." + testClient.getId())), comparesEqualTo(new BigDecimal("1500.50")));
+        assertThat(new BigDecimal(response.getString("sums." + idleClient.getId())), comparesEqualTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("GIVEN no client ids WHEN POST /v1/contracts/sums THEN 422 is returned")
+    void shouldRejectEmptyBatch() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"clientIds\": []}")
+                .when()
+                .post("/v1/contracts/sums")
+                .then()
+                .statusCode(422);
+    }
+}
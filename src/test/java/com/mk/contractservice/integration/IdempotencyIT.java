@@ -0,0 +1,170 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.application.idempotency.IdempotencyStore;
+import com.mk.contractservice.application.idempotency.StoredResponse;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Idempotency-Key Integration Tests")
+class IdempotencyIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private IdempotencyStore store;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        email = "idempotent." + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+    }
+
+    @Test
+    @DisplayName("GIVEN a created person WHEN the request is retried with the same key THEN the first response is replayed")
+    void shouldReplayCreatedPerson() {
+        final String key = UUID.randomUUID().toString();
+
+        final Response first = createPerson(key, email);
+        first.then().statusCode(201);
+        final Response retry = createPerson(key, email);
+
+        retry.then()
+                .statusCode(201)
+                .header("Idempotent-Replayed", "true")
+                .header("Location", first.header("Location"))
+                .body("id", equalTo(first.path("id")));
+        assertThat(countClientsWithEmail()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN a key kept only in the shared store WHEN the request is retried THEN the stored response is replayed")
+    void shouldReplayFromSharedStore() {
+        final String key = UUID.randomUUID().toString();
+        final Response first = createPerson(key, email);
+        cacheManager.getCache("idempotency").clear();
+
+        createPerson(key, email).then()
+                .statusCode(201)
+                .header("Idempotent-Replayed", "true")
+                .body("id", equalTo(first.path("id")));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM contracts.idempotency_key WHERE key = ?", Integer.class, key)).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("GIVEN a lease that expired and was taken over WHEN its first holder completes or releases it THEN the new holder's claim is left alone")
+    void shouldFenceCompleteAndReleaseOnTheClaim() {
+        final String key = UUID.randomUUID().toString();
+        final String first = "a".repeat(64);
+        final String second = "b".repeat(64);
+        assertThat(store.claim(key, first, Duration.ZERO)).isEmpty();
+        assertThat(store.claim(key, second, Duration.ofMinutes(1))).isEmpty();
+
+        store.complete(key, first, new StoredResponse(201, Map.of(), new byte[0]), Duration.ofHours(1));
+        store.release(key, first);
+
+        assertThat(store.claim(key, "c".repeat(64), Duration.ofMinutes(1)))
+                .hasValueSatisfying(holder -> {
+                    assertThat(holder.fingerprint()).isEqualTo(second);
+                    assertThat(holder.completed()).isFalse();
+                });
+    }
+
+    @Test
+    @DisplayName("GIVEN a used key WHEN it is sent with another body THEN 422 is returned and nothing is created")
+    void shouldRejectKeyReusedWithAnotherBody() {
+        final String key = UUID.randomUUID().toString();
+        createPerson(key, email).then().statusCode(201);
+
+        createPerson(key, "other." + email).then()
+                .statusCode(422)
+                .body("code", equalTo("idempotencyKeyReused"));
+    }
+
+    @Test
+    @DisplayName("GIVEN a failed request WHEN it is retried with the same key THEN it runs again")
+    void shouldRunAgainAfterFailure() {
+        final String key = UUID.randomUUID().toString();
+        final String clientId = createPerson(UUID.randomUUID().toString(), email).path("id");
+        final String contract = "{\"costAmount\": 0}";
+
+        createContract(key, clientId, contract).then().statusCode(422);
+        createContract(key, clientId, contract).then()
+                .statusCode(422)
+                .header("Idempotent-Replayed", nullValue());
+    }
+
+    @Test
+    @DisplayName("GIVEN a created contract WHEN the request is retried with the same key THEN no second contract is created")
+    void shouldNotDuplicateContract() {
+        final String key = UUID.randomUUID().toString();
+        final String clientId = createPerson(UUID.randomUUID().toString(), email).path("id");
+        final String contract = "{\"costAmount\": 100.00}";
+
+        final String contractId = createContract(key, clientId, contract).then().statusCode(201).extract().path("id");
+        createContract(key, clientId, contract).then()
+                .statusCode(201)
+                .body("id", equalTo(contractId));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.contract WHERE client_id = ?::uuid",
+                Integer.class, clientId)).isEqualTo(1);
+    }
+
+    private Response createPerson(final String key, final String email) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", key)
+                .body("""
+                        {"name": "Ida Potent", "email": "%s", "phone": "+41791234567", "birthDate": "1990-05-15"}
+                        """.formatted(email))
+                .when()
+                .post("/v1/clients/persons");
+    }
+
+    private Response createContract(final String key, final String clientId, final String body) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", key)
+                .body(body)
+                .when()
+                .post("/v1/clients/{clientId}/contracts", clientId);
+    }
+
+    private int countClientsWithEmail() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.client WHERE email = ?", Integer.class, email);
+    }
+}
@@ -0,0 +1,175 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.application.job.Job;
+import com.mk.contractservice.application.job.JobContext;
+import com.mk.contractservice.application.job.JobHandler;
+import com.mk.contractservice.application.job.JobStatus;
+import com.mk.contractservice.infrastructure.config.JobProperties;
+import com.mk.contractservice.infrastructure.job.JobWorkerPool;
+import com.mk.contractservice.infrastructure.job.PostgresJobQueue;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"app.jobs.poll-interval=50ms", "app.jobs.backoff-base=50ms", "app.jobs.max-attempts=3",
+        "app.jobs.heartbeat-interval=1h",
+        "app.jobs.concurrency.test-flaky=3"})
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, JobQueueIT.FlakyHandlerConfig.class})
+@DisplayName("Job queue Integration Tests")
+class JobQueueIT {
+
+    private static final String FLAKY = "test-flaky";
+
+    @Autowired
+    private PostgresJobQueue queue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JobWorkerPool workerPool;
+
+    @Autowired
+    private JobProperties properties;
+
+    @Autowired
+    private JobHandler flakyHandler;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE contracts.job");
+        FlakyHandlerConfig.RUNS.clear();
+    }
+
+    @Test
+    @DisplayName("Should retry a failing job with backoff until it succeeds, keeping its progress")
+    void shouldRetryFailingJob() throws InterruptedException {
+        final double retriedBefore = retried();
+        final Job job = queue.enqueue(FLAKY, Map.of("failures", "2"));
+
+        final Job done = awaitFinished(job.id());
+
+        assertThat(done.status()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(done.attempts()).isEqualTo(3);
+        assertThat(done.progress()).containsEntry("attempt", 3L);
+        assertThat(done.lastError()).isNull();
+        assertThat(retried() - retriedBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fail a job for good once its attempts are exhausted")
+    void shouldFailAfterMaxAttempts() throws InterruptedException {
+        final Job job = queue.enqueue(FLAKY, Map.of("failures", "5"));
+
+        final Job done = awaitFinished(job.id());
+
+        assertThat(done.status()).isEqualTo(JobStatus.FAILED);
+        assertThat(done.attempts()).isEqualTo(3);
+        assertThat(done.lastError()).isEqualTo("failure 3");
+    }
+
+    @Test
+    @DisplayName("Should hand a job whose worker stopped heart-beating back to the queue")
+    void shouldReleaseExpiredLease() {
+        final Job job = queue.enqueue("test-manual", Map.of());
+        jdbcTemplate.update("""
+                UPDATE contracts.job
+                SET status = 'RUNNING', attempts = 1, locked_by = 'crashed-worker', lease_until = now() - interval '1 second'
+                WHERE id = ?
+                """, job.id());
+
+        workerPool.maintain();
+
+        assertThat(queue.find(job.id())).get().satisfies(released -> {
+            assertThat(released.status()).isEqualTo(JobStatus.PENDING);
+            assertThat(released.lastError()).contains("crashed-worker");
+        });
+        assertThat(jdbcTemplate.queryForObject("SELECT locked_by FROM contracts.job WHERE id = ?", String.class, job.id()))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("Should run every job exactly once when two worker pools compete for the queue")
+    void shouldNotDoubleExecuteAcrossWorkers() throws InterruptedException {
+        final JobWorkerPool secondReplica = new JobWorkerPool(queue, properties, List.of(flakyHandler),
+                new SimpleMeterRegistry());
+        secondReplica.start();
+        try {
+            final List<UUID> ids = IntStream.range(0, 40)
+                    .mapToObj(i -> queue.enqueue(FLAKY, Map.of("failures", "0")).id())
+                    .toList();
+
+            for (final UUID id : ids) {
+                assertThat(awaitFinished(id).status()).isEqualTo(JobStatus.SUCCEEDED);
+            }
+            assertThat(jdbcTemplate.queryForObject("SELECT max(attempts) FROM contracts.job", Integer.class)).isEqualTo(1);
+            assertThat(FlakyHandlerConfig.RUNS).hasSize(40).allSatisfy((id, runs) -> assertThat(runs.get()).isEqualTo(1));
+        } finally {
+            secondReplica.stop();
+        }
+    }
+
+    private double retried() {
+        return meterRegistry.counter("jobs.completed", "type", FLAKY, "outcome", "retried").count();
+    }
+
+    private Job awaitFinished(final UUID jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            final Job job = queue.find(jobId).orElseThrow();
+            if (job.status().isFinished()) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        return queue.find(jobId).orElseThrow();
+    }
+
+    @TestConfiguration
+    static class FlakyHandlerConfig {
+
+        static final Map<UUID, AtomicInteger> RUNS = new ConcurrentHashMap<>();
+
+        @Bean
+        JobHandler flakyHandler() {
+            return new JobHandler() {
+
+                @Override
+                public String type() {
+                    return FLAKY;
+                }
+
+                @Override
+                public void handle(final JobContext context) {
+                    RUNS.computeIfAbsent(context.jobId(), id -> new AtomicInteger()).incrementAndGet();
+                    context.progress("attempt", context.attempt());
+                    if (context.attempt() <= Integer.parseInt(context.payload().get("failures"))) {
+                        throw new IllegalStateException("failure " + context.attempt());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.domain.contract.ContractRepository;
+import com.mk.contractservice.infrastructure.persistence.RepositoryAdapterContractTest;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("JPA repository adapters")
+class JpaRepositoryAdapterIT extends RepositoryAdapterContractTest {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    protected ClientRepository clientRepository() {
+        return clientRepository;
+    }
+
+    @Override
+    protected ContractRepository contractRepository() {
+        return contractRepository;
+    }
+
+    @Override
+    protected void deleteAll() {
+        jdbcTemplate.execute("TRUNCATE contracts.contract, contracts.person, contracts.company, contracts.client");
+    }
+
+    @Override
+    protected void inTransaction(final Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> action.run());
+    }
+}
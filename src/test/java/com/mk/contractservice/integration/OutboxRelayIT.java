@@ -0,0 +1,121 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.application.ClientApplicationService;
+import com.mk.contractservice.application.ContractApplicationService;
+import com.mk.contractservice.domain.client.Person;
+import com.mk.contractservice.domain.contract.Contract;
+import com.mk.contractservice.domain.exception.ClientAlreadyExistsException;
+import com.mk.contractservice.infrastructure.outbox.OutboxEvent;
+import com.mk.contractservice.infrastructure.outbox.OutboxRelay;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {"app.outbox.enabled=true", "app.outbox.sink=in-jvm", "app.outbox.interval=1h", "app.outbox.batch-size=2"})
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, OutboxRelayIT.RecordingSubscriber.class})
+@DisplayName("Outbox relay Integration Tests")
+class OutboxRelayIT {
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private ClientApplicationService clientService;
+
+    @Autowired
+    private ContractApplicationService contractService;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE contracts.outbox, contracts.contract, contracts.person, contracts.company, contracts.client");
+        subscriber.events.clear();
+        subscriber.failing.set(false);
+    }
+
+    @Test
+    @DisplayName("Should deliver the events of a client lifecycle in order, across several batches, and empty the outbox")
+    void shouldRelayEventsInOrder() {
+        final Person person = clientService.createPerson("Outbox Person", "outbox@test.com", "+41791234567",
+                LocalDate.of(1990, 1, 1));
+        final Contract contract = contractService.createForClient(person.getId(), LocalDateTime.now().minusDays(1), null,
+                new BigDecimal("10.00"));
+        contractService.updateCost(person.getId(), contract.getId(), new BigDecimal("12.50"));
+        clientService.deleteClientAndCloseContracts(person.getId());
+
+        relay.relay();
+
+        assertThat(subscriber.events).extracting(OutboxEvent::type).containsExactly(
+                "ClientCreated", "ContractCreated", "ContractCostChanged", "ContractsClosed", "ClientDeleted");
+        assertThat(subscriber.events).extracting(OutboxEvent::clientId).containsOnly(person.getId());
+        assertThat(subscriber.events).extracting(OutboxEvent::sequence).isSorted();
+        assertThat(subscriber.events.get(2).payload()).contains("\"costAmount\": 12.50");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.outbox", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not record events of a rolled back transaction")
+    void shouldDropEventsOfRolledBackTransactions() {
+        clientService.createPerson("First", "dup@test.com", "+41791234567", LocalDate.of(1990, 1, 1));
+        assertThatThrownBy(() -> clientService.createPerson("Second", "dup@test.com", "+41791234567",
+                LocalDate.of(1990, 1, 1))).isInstanceOf(ClientAlreadyExistsException.class);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.outbox", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep events in the outbox when delivery fails and deliver them on the next run")
+    void shouldRetryFailedDelivery() {
+        clientService.createPerson("Retry", "retry@test.com", "+41791234567", LocalDate.of(1990, 1, 1));
+        subscriber.failing.set(true);
+
+        relay.relay();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.outbox", Integer.class)).isEqualTo(1);
+
+        subscriber.failing.set(false);
+        relay.relay();
+
+        assertThat(subscriber.events).extracting(OutboxEvent::type).containsExactly("ClientCreated");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM contracts.outbox", Integer.class)).isZero();
+    }
+
+    @TestConfiguration
+    static class RecordingSubscriber {
+
+        final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+        final AtomicBoolean failing = new AtomicBoolean();
+
+        @EventListener
+        void on(final OutboxEvent event) {
+            if (failing.get()) {
+                throw new IllegalStateException("subscriber down");
+            }
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.domain.client.ClientRepository;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * The "replica" here is a second, independently migrated Postgres rather than a streaming standby: rows written
+ * to one side only make it obvious which data source answered.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers
+@DisplayName("Read replica routing Integration Tests")
+class ReadReplicaRoutingIT {
+
+    @Container
+    @SuppressWarnings("resource")
+    static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>(DockerImageName.parse("postgres:18.0-trixie"))
+            .withDatabaseName("contract_replica")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void replicaProperties(final DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replica.enabled", () -> "true");
+        registry.add("app.datasource.replica.url", REPLICA::getJdbcUrl);
+        registry.add("app.datasource.replica.username", REPLICA::getUsername);
+        registry.add("app.datasource.replica.password", REPLICA::getPassword);
+        registry.add("app.datasource.replica.lag-check-interval", () -> "100ms");
+        registry.add("app.datasource.replica.sticky-window", () -> "30s");
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())
+                .locations("classpath:db/migration")
+                .defaultSchema("contracts")
+                .load()
+                .migrate();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    @DisplayName("Should serve read-only transactions from the replica and read-write ones from the primary")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        final String email = "replica-only-" + UUID.randomUUID() + "@test.com";
+        insertPersonOnReplica(UUID.randomUUID(), email);
+
+        final TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        final TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        final Boolean seenByReadOnly = readOnly.execute(status -> clientRepository.existsByEmail(email));
+        final Boolean seenByReadWrite = readWrite.execute(status -> clientRepository.existsByEmail(email));
+
+        assertThat(seenByReadOnly).isTrue();
+        assertThat(seenByReadWrite).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should read a client's own writes from the primary within the stickiness window")
+    void shouldReadYourWritesFromPrimary() {
+        final String clientId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"name": "Sticky Reader", "email": "sticky-%s@test.com", "phone": "+41791234567", "birthDate": "1990-01-01"}
+                        """.formatted(UUID.randomUUID()))
+                .when()
+                .post("/v1/clients/persons")
+                .then()
+                .statusCode(201)
+                .extract().path("id");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"costAmount": "42.00"}
+                        """)
+                .when()
+                .post("/v1/clients/{id}/contracts", clientId)
+                .then()
+                .statusCode(201);
+
+        given()
+                .when()
+                .get("/v1/clients/{id}/contracts", clientId)
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(1));
+    }
+
+    @Test
+    @DisplayName("Should serve other clients' read-only requests from the replica")
+    void shouldServeUntouchedClientsFromReplica() {
+        final UUID clientId = UUID.randomUUID();
+        insertPersonOnReplica(clientId, "replica-reader-" + clientId + "@test.com");
+        new JdbcTemplate(replicaDataSource).update("""
+                INSERT INTO contracts.contract (id, client_id, start_date, end_date, cost_amount, last_modified)
+                VALUES (gen_random_uuid(), ?, now(), NULL, 10.00, now())
+                """, clientId);
+
+        given()
+                .when()
+                .get("/v1/clients/{id}/contracts", clientId)
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(1));
+    }
+
+    @Test
+    @DisplayName("Should hand the caller a last-write cookie on a batch write and serve its reads from the primary on any instance")
+    void shouldCarryStickinessInCookie() {
+        final UUID clientId = UUID.randomUUID();
+        insertPersonOnReplica(clientId, "replica-cookie-" + clientId + "@test.com");
+
+        final String lastWrite = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"operations": [{"op": "create", "clientId": "%s", "costAmount": 10.00}]}
+                        """.formatted(UUID.randomUUID()))
+                .when()
+                .post("/v1/contracts/batch")
+                .then()
+                .statusCode(200)
+                .extract().cookie("last-write");
+        assertThat(lastWrite).isNull();
+
+        final String created = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"name": "Cookie Writer", "email": "cookie-%s@test.com", "phone": "+41791234567", "birthDate": "1990-01-01"}
+                        """.formatted(UUID.randomUUID()))
+                .when()
+                .post("/v1/clients/persons")
+                .then()
+                .statusCode(201)
+                .extract().path("id");
+        final String cookie = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"operations": [{"op": "create", "clientId": "%s", "costAmount": 10.00}]}
+                        """.formatted(created))
+                .when()
+                .post("/v1/contracts/batch")
+                .then()
+                .statusCode(200)
+                .extract().cookie("last-write");
+        assertThat(cookie).isNotNull();
+
+        given()
+                .cookie("last-write", cookie)
+                .when()
+                .get("/v1/clients/{id}", clientId)
+                .then()
+                .statusCode(404);
+        given()
+                .when()
+                .get("/v1/clients/{id}", clientId)
+                .then()
+                .statusCode(200);
+    }
+
+    private void insertPersonOnReplica(final UUID id, final String email) {
+        final JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.update("INSERT INTO contracts.client (id, type, name, email, phone) VALUES (?, 'PERSON', 'Replica Only', ?, '+41791234567')",
+                id, email);
+        replica.update("INSERT INTO contracts.person (id, birth_date) VALUES (?, DATE '1990-01-01')", id);
+    }
+}
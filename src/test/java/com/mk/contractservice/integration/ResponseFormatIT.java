@@ -0,0 +1,145 @@
+package com.mk.contractservice.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.config.DecoderConfig.decoderConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.hamcrest.Matchers.startsWith;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Response Format Integration Tests")
+class ResponseFormatIT {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final ObjectMapper CBOR = new ObjectMapper(new CBORFactory());
+    private static final ObjectMapper SMILE = new ObjectMapper(new SmileFactory());
+
+    @LocalServerPort
+    private int port;
+
+    private String clientId;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        clientId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"name": "Bina Ry", "email": "format.%s@example.com", "phone": "+41791234567", "birthDate": "1990-05-15"}
+                        """.formatted(UUID.randomUUID().toString().substring(0, 8)))
+                .when()
+                .post("/v1/clients/persons")
+                .then().statusCode(201)
+                .extract().path("id");
+    }
+
+    @Test
+    @DisplayName("GIVEN a contract WHEN read as CBOR and Smile THEN both carry the same fields and values as the JSON")
+    void shouldNegotiateBinaryFormats() throws IOException {
+        final String path = createContract();
+        final JsonNode json = JSON.readTree(given().accept(ContentType.JSON).when().get(path).asByteArray());
+
+        final Response cbor = given().accept("application/cbor").when().get(path);
+        cbor.then().statusCode(200).contentType(startsWith("application/cbor"));
+        final Response smile = given().accept("application/x-jackson-smile").when().get(path);
+        smile.then().statusCode(200).contentType(startsWith("application/x-jackson-smile"));
+
+        for (final JsonNode binary : new JsonNode[]{CBOR.readTree(cbor.asByteArray()), SMILE.readTree(smile.asByteArray())}) {
+            // Binary formats carry UUIDs as their 16 raw bytes rather than as text.
+            final ByteBuffer id = ByteBuffer.wrap(binary.get("id").binaryValue());
+            assertThat(new UUID(id.getLong(), id.getLong())).hasToString(json.get("id").asText());
+            assertThat(binary.get("period")).isEqualTo(json.get("period"));
+            assertThat(binary.get("costAmount").decimalValue()).isEqualByComparingTo(json.get("costAmount").decimalValue());
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN one contract WHEN read as JSON and as CBOR THEN the ETags differ and responses vary on Accept")
+    void shouldTagEachFormatApart() {
+        final String path = createContract();
+        final Response json = given().accept(ContentType.JSON).when().get(path);
+        final Response cbor = given().accept("application/cbor").when().get(path);
+
+        json.then().header("Vary", containsStringIgnoringCase("accept"));
+        assertThat(cbor.header("ETag")).isNotEqualTo(json.header("ETag"));
+        given().accept("application/cbor").header("If-None-Match", json.header("ETag")).when().get(path)
+                .then().statusCode(200);
+        given().accept("application/cbor").header("If-None-Match", cbor.header("ETag")).when().get(path)
+                .then().statusCode(304);
+    }
+
+    @Test
+    @DisplayName("GIVEN a JSON ETag WHEN revalidated with another Accept header negotiating JSON THEN it is not modified")
+    void shouldTagTheNegotiatedFormatNotTheAcceptHeader() {
+        final String path = createContract();
+        final String etag = given().accept(ContentType.JSON).when().get(path).header("ETag");
+
+        for (final String accept : new String[]{"*/*", "application/json", "application/cbor;q=0.5, application/json"}) {
+            given().accept(accept).header("If-None-Match", etag).when().get(path)
+                    .then().statusCode(304).header("Vary", containsStringIgnoringCase("accept"));
+        }
+        given().header("If-None-Match", etag).when().get(path).then().statusCode(304);
+    }
+
+    @Test
+    @DisplayName("GIVEN a page above the size threshold WHEN gzip is accepted THEN it is compressed and still revalidates")
+    void shouldCompressLargePages() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            createContract();
+        }
+        final String list = "/v1/clients/" + clientId + "/contracts?size=20";
+
+        final Response gzipped = given()
+                .config(RestAssured.config().decoderConfig(decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip")
+                .when().get(list);
+        gzipped.then().statusCode(200).header("Content-Encoding", "gzip").header("ETag", startsWith("W/"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.asByteArray()))) {
+            assertThat(JSON.readTree(in).get("content")).hasSize(20);
+        }
+
+        given()
+                .config(RestAssured.config().decoderConfig(decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", gzipped.header("ETag"))
+                .when().get(list)
+                .then().statusCode(304);
+    }
+
+    private String createContract() {
+        final String location = given()
+                .contentType(ContentType.JSON)
+                .body("{\"costAmount\": 100.00}")
+                .when()
+                .post("/v1/clients/{clientId}/contracts", clientId)
+                .then().statusCode(201)
+                .extract().header("Location");
+        return URI.create(location).getPath();
+    }
+}
@@ -0,0 +1,115 @@
+package com.mk.contractservice.integration;
+
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Sparse Fieldsets Integration Tests")
+class SparseFieldsetsIT {
+
+    @LocalServerPort
+    private int port;
+
+    private String clientId;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        clientId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"name": "Spar Se", "email": "sparse.%s@example.com", "phone": "+41791234567", "birthDate": "1990-05-15"}
+                        """.formatted(UUID.randomUUID().toString().substring(0, 8)))
+                .when()
+                .post("/v1/clients/persons")
+                .then().statusCode(201)
+                .extract().path("id");
+    }
+
+    @Test
+    @DisplayName("GIVEN active contracts WHEN listed with fields THEN each contract carries only those, with its own ETag")
+    void shouldListRequestedFieldsOnly() {
+        final String contractId = createContract().replaceAll(".*/", "");
+        final String list = "/v1/clients/" + clientId + "/contracts";
+
+        final Map<String, Object> contract = given().when().get(list + "?fields=id,costAmount")
+                .then().statusCode(200)
+                .body("content", hasSize(1))
+                .body("totalElements", equalTo(1))
+                .extract().path("content[0]");
+
+        assertThat(contract).containsOnlyKeys("id", "costAmount").containsEntry("id", contractId);
+        final String fullTag = given().when().get(list).header("ETag");
+        final String sparseTag = given().when().get(list + "?fields=id,costAmount").header("ETag");
+        assertThat(sparseTag).isNotEqualTo(fullTag);
+        given().header("If-None-Match", sparseTag).when().get(list + "?fields=costAmount,id").then().statusCode(304);
+    }
+
+    @Test
+    @DisplayName("GIVEN a contract WHEN read with fields THEN only those are sent")
+    void shouldReadRequestedContractFieldsOnly() {
+        final String path = createContract();
+
+        final Map<String, Object> contract = given().when().get(path + "?fields=period")
+                .then().statusCode(200)
+                .body("period.startDate", containsString("2025-01-01"))
+                .extract().path("");
+
+        assertThat(contract).containsOnlyKeys("period");
+    }
+
+    @Test
+    @DisplayName("GIVEN a client WHEN read with fields THEN only those are sent besides its type")
+    void shouldReadRequestedClientFieldsOnly() {
+        final Map<String, Object> client = given().when().get("/v1/clients/{id}?fields=name,email", clientId)
+                .then().statusCode(200)
+                .body("type", equalTo("PERSON"))
+                .body("name", equalTo("Spar Se"))
+                .extract().path("");
+
+        assertThat(client).containsOnlyKeys("type", "name", "email");
+    }
+
+    @Test
+    @DisplayName("GIVEN an unknown field WHEN reading THEN 400 is returned")
+    void shouldRejectUnknownField() {
+        given().when().get("/v1/clients/{id}?fields=name,salary", clientId)
+                .then().statusCode(400)
+                .body("detail", containsString("salary"));
+        given().when().get("/v1/clients/{id}/contracts?fields=cost", clientId)
+                .then().statusCode(400)
+                .body("detail", containsString("Unknown contract field: cost"));
+    }
+
+    private String createContract() {
+        final String location = given()
+                .contentType(ContentType.JSON)
+                .body("{\"startDate\": \"2025-01-01T00:00:00\", \"costAmount\": 100.00}")
+                .when()
+                .post("/v1/clients/{clientId}/contracts", clientId)
+                .then().statusCode(201)
+                .extract().header("Location");
+        return URI.create(location).getPath();
+    }
+}
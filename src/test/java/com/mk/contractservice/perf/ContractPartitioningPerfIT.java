@@ -0,0 +1,162 @@
+package com.mk.contractservice.perf;
+
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Client-scoped reads on the hash-partitioned {@code contracts.contract} versus the same rows in a flat table
+ * carrying the pre-partitioning indexes. Replays the list (first page plus count) and sum queries for random
+ * clients against both and publishes p50 / p99 under the {@code partition} suite.
+ * <p>
+ * Only runs with {@code ./mvnw verify -Pperf}; {@code -Dperf.partition.clients} and
+ * {@code -Dperf.partition.contractsPerClient} size the book (500k x 100 = 50M rows by default).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Performance - hash-partitioned vs flat contract table")
+class ContractPartitioningPerfIT {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractPartitioningPerfIT.class);
+
+    private static final int CLIENTS = Integer.getInteger("perf.partition.clients", 500_000);
+    private static final int CONTRACTS_PER_CLIENT = Integer.getInteger("perf.partition.contractsPerClient", 100);
+    private static final int WARMUP_QUERIES = Integer.getInteger("perf.partition.warmupQueries", 500);
+    private static final int MEASURED_QUERIES = Integer.getInteger("perf.partition.queries", 5_000);
+    private static final long SEED = Long.getLong("perf.seed", 42L);
+
+    private static final String FLAT = "contracts.perf_contract_flat";
+    private static final String PARTITIONED = "contracts.contract";
+
+    private static final String ACTIVE = "client_id = ? AND status = 'ACTIVE' AND (end_date IS NULL OR end_date > ?)";
+    private static final String SUM = "SELECT COALESCE(SUM(cost_amount), 0) FROM %s WHERE " + ACTIVE;
+    private static final String PAGE = "SELECT id, start_date, end_date, cost_amount FROM %s WHERE " + ACTIVE
+            + " ORDER BY last_modified DESC LIMIT 20";
+    private static final String COUNT = "SELECT count(*) FROM %s WHERE " + ACTIVE;
+
+    private static final Pattern PARTITION = Pattern.compile("\"Relation Name\": \"(contract_p_\\d+)\"");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<UUID> clientIds;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + FLAT);
+        jdbcTemplate.execute("TRUNCATE contracts.contract, contracts.person, contracts.company, contracts.client");
+
+        jdbcTemplate.update("""
+                INSERT INTO contracts.client (id, type, name, email, phone)
+                SELECT gen_random_uuid(), 'PERSON', 'Perf Client ' || g, 'perf.partition.' || g || '@example.com', '+41791234567'
+                FROM generate_series(1, ?) g
+                """, CLIENTS);
+
+        // Same columns, no partitioning, and the indexes V1.0.0.4 left on the flat table.
+        jdbcTemplate.execute("CREATE TABLE " + FLAT + " (LIKE contracts.contract INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.update("""
+                INSERT INTO contracts.perf_contract_flat (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+                SELECT gen_random_uuid(), c.id, now() - interval '30 days',
+                       CASE g % 4 WHEN 0 THEN now() - interval '1 day'
+                                  WHEN 1 THEN now() + interval '365 days' END,
+                       (100 + g % 900)::numeric(12, 2),
+                       now() - make_interval(mins => g),
+                       CASE g % 4 WHEN 0 THEN 'EXPIRED' ELSE 'ACTIVE' END
+                FROM contracts.client c CROSS JOIN generate_series(1, ?) g
+                """, CONTRACTS_PER_CLIENT);
+        jdbcTemplate.execute("ALTER TABLE " + FLAT + " ADD PRIMARY KEY (id)");
+        jdbcTemplate.execute("CREATE INDEX ON " + FLAT + " (client_id)");
+        jdbcTemplate.execute("CREATE INDEX ON " + FLAT + " (client_id, last_modified DESC) INCLUDE (end_date, cost_amount)"
+                + " WHERE status = 'ACTIVE'");
+        jdbcTemplate.execute("CREATE INDEX ON " + FLAT + " (end_date) WHERE status = 'ACTIVE' AND end_date IS NOT NULL");
+
+        jdbcTemplate.update("""
+                INSERT INTO contracts.contract (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+                SELECT id, client_id, start_date, end_date, cost_amount, last_modified, status FROM contracts.perf_contract_flat
+                """);
+        jdbcTemplate.execute("VACUUM ANALYZE contracts.client");
+        jdbcTemplate.execute("VACUUM ANALYZE " + FLAT);
+        jdbcTemplate.execute("VACUUM ANALYZE " + PARTITIONED);
+
+        clientIds = jdbcTemplate.queryForList("SELECT id FROM contracts.client ORDER BY id", UUID.class);
+        log.info("Seeded {} clients x {} contracts into both tables", CLIENTS, CONTRACTS_PER_CLIENT);
+    }
+
+    @Test
+    @DisplayName("Client-scoped reads should prune to one partition and not regress against the flat table")
+    void shouldPruneClientScopedReadsToOnePartition() {
+        final Timestamp now = Timestamp.from(Instant.now());
+        final String explain = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + SUM.formatted(PARTITIONED),
+                String.class, clientIds.getFirst(), now);
+        assertThat(partitionsIn(explain)).hasSize(1);
+
+        final Map<String, LatencyRecorder.Snapshot> results = new LinkedHashMap<>();
+        for (String table : List.of(FLAT, PARTITIONED)) {
+            final String label = table.equals(FLAT) ? "flat" : "partitioned";
+            replay(table, now, WARMUP_QUERIES, new LatencyRecorder(WARMUP_QUERIES), new LatencyRecorder(WARMUP_QUERIES));
+
+            final LatencyRecorder list = new LatencyRecorder(MEASURED_QUERIES);
+            final LatencyRecorder sum = new LatencyRecorder(MEASURED_QUERIES);
+            final long elapsed = replay(table, now, MEASURED_QUERIES, list, sum);
+            results.put("list." + label, list.snapshot(elapsed));
+            results.put("sum." + label, sum.snapshot(elapsed));
+        }
+        results.forEach((operation, snapshot) -> log.info("{}: {}", operation, snapshot));
+
+        PerfBaseline.writeReport("partition", results);
+        if (!PerfBaseline.updateRequested()) {
+            assertThat(PerfBaseline.load().regressions("partition", results)).isEmpty();
+        }
+    }
+
+    private long replay(final String table, final Timestamp now, final int queries,
+                        final LatencyRecorder list, final LatencyRecorder sum) {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final String page = PAGE.formatted(table);
+        final String count = COUNT.formatted(table);
+        final String total = SUM.formatted(table);
+        final long start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            final UUID clientId = clientIds.get(random.nextInt(clientIds.size()));
+
+            long t0 = System.nanoTime();
+            jdbcTemplate.queryForList(page, clientId, now);
+            jdbcTemplate.queryForObject(count, Long.class, clientId, now);
+            list.record(System.nanoTime() - t0);
+
+            t0 = System.nanoTime();
+            jdbcTemplate.queryForObject(total, BigDecimal.class, clientId, now);
+            sum.record(System.nanoTime() - t0);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static Set<String> partitionsIn(final String plan) {
+        final Matcher matcher = PARTITION.matcher(plan);
+        return matcher.results().map(match -> match.group(1)).collect(Collectors.toSet());
+    }
+}
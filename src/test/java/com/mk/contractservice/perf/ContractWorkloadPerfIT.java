@@ -0,0 +1,239 @@
+package com.mk.contractservice.perf;
+
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression gate for the hot endpoints: seeds a realistic dataset, replays a fixed, seeded mix of
+ * create / list / sum / patch cost / read client calls and compares p50, p99 and throughput per
+ * operation against {@code src/test/resources/perf/baseline.properties}.
+ * <p>
+ * Runs against the default JPA adapter; {@link JdbcContractWorkloadPerfIT} replays the same workload on
+ * the JDBC adapter so both show up side by side in {@code target/perf}.
+ * <p>
+ * Only runs with {@code ./mvnw verify -Pperf}. Dataset and workload size are tunable through
+ * {@code perf.*} system properties (see the constants below).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Performance regression gate - contract workload")
+class ContractWorkloadPerfIT {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractWorkloadPerfIT.class);
+
+    private static final int CLIENTS = Integer.getInteger("perf.seed.clients", 1_000);
+    private static final int CONTRACTS_PER_CLIENT = Integer.getInteger("perf.seed.contractsPerClient", 100);
+    private static final int WARMUP_OPS = Integer.getInteger("perf.warmupOps", 2_000);
+    private static final int MEASURED_OPS = Integer.getInteger("perf.measuredOps", 20_000);
+    private static final int CONCURRENCY = Integer.getInteger("perf.concurrency", 16);
+    private static final long SEED = Long.getLong("perf.seed", 42L);
+
+    private static final String EMAIL_PREFIX = "perf.client.";
+
+    enum Operation {
+        CREATE(10), LIST(30), SUM(25), PATCH_COST(15), READ_CLIENT(20);
+
+        private final int weight;
+
+        Operation(final int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(final SplittableRandom random) {
+            int roll = random.nextInt(100);
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return READ_CLIENT;
+        }
+    }
+
+    private record ActiveContract(UUID clientId, UUID contractId) {
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private List<UUID> clientIds;
+    private List<ActiveContract> activeContracts;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE contracts.contract, contracts.person, contracts.company, contracts.client");
+
+        jdbcTemplate.update("""
+                INSERT INTO contracts.client (id, type, name, email, phone)
+                SELECT gen_random_uuid(), 'PERSON', 'Perf Client ' || g, ? || g || '@example.com', '+41791234567'
+                FROM generate_series(1, ?) g
+                """, EMAIL_PREFIX, CLIENTS);
+        jdbcTemplate.update("""
+                INSERT INTO contracts.person (id, birth_date)
+                SELECT id, DATE '1985-01-01' FROM contracts.client
+                """);
+        // A quarter of the book is expired, a quarter ends in the future, the rest is open-ended.
+        jdbcTemplate.update("""
+                INSERT INTO contracts.contract (id, client_id, start_date, end_date, cost_amount, last_modified, status)
+                SELECT gen_random_uuid(), c.id, now() - interval '30 days',
+                       CASE g % 4 WHEN 0 THEN now() - interval '1 day'
+                                  WHEN 1 THEN now() + interval '365 days' END,
+                       (100 + g % 900)::numeric(12, 2),
+                       now() - make_interval(mins => g),
+                       CASE g % 4 WHEN 0 THEN 'EXPIRED' ELSE 'ACTIVE' END
+                FROM contracts.client c CROSS JOIN generate_series(1, ?) g
+                """, CONTRACTS_PER_CLIENT);
+        jdbcTemplate.execute("ANALYZE contracts.client");
+        jdbcTemplate.execute("ANALYZE contracts.contract");
+
+        clientIds = jdbcTemplate.queryForList("SELECT id FROM contracts.client ORDER BY id", UUID.class);
+        activeContracts = jdbcTemplate.query(
+                "SELECT id, client_id FROM contracts.contract WHERE end_date IS NULL ORDER BY id LIMIT 10000",
+                (rs, i) -> new ActiveContract(rs.getObject("client_id", UUID.class), rs.getObject("id", UUID.class)));
+
+        log.info("Seeded {} clients x {} contracts", CLIENTS, CONTRACTS_PER_CLIENT);
+    }
+
+    @Test
+    @DisplayName("Workload mix stays within the committed latency and throughput budgets")
+    void workloadStaysWithinBudget() throws Exception {
+        run(WARMUP_OPS, newRecorders(WARMUP_OPS));
+
+        final Map<Operation, LatencyRecorder> recorders = newRecorders(MEASURED_OPS);
+        final long elapsed = run(MEASURED_OPS, recorders);
+
+        final Map<String, LatencyRecorder.Snapshot> results = new LinkedHashMap<>();
+        recorders.forEach((operation, recorder) -> results.put(operation.name().toLowerCase(Locale.ROOT), recorder.snapshot(elapsed)));
+        results.forEach((operation, snapshot) -> log.info("{}: {}", operation, snapshot));
+
+        final String suite = suiteName();
+        PerfBaseline.writeReport(suite, results);
+
+        assertThat(results.values()).allSatisfy(snapshot -> assertThat(snapshot.errors()).isZero());
+        if (!PerfBaseline.updateRequested()) {
+            assertThat(PerfBaseline.load().regressions(suite, results)).isEmpty();
+        }
+    }
+
+    protected String suiteName() {
+        return "workload.jpa";
+    }
+
+    private static Map<Operation, LatencyRecorder> newRecorders(final int capacity) {
+        final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder(capacity));
+        }
+        return recorders;
+    }
+
+    private long run(final int totalOps, final Map<Operation, LatencyRecorder> recorders) throws Exception {
+        final AtomicInteger remaining = new AtomicInteger(totalOps);
+        final long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Future<?>[] futures = new Future<?>[CONCURRENCY];
+            for (int w = 0; w < CONCURRENCY; w++) {
+                final SplittableRandom random = new SplittableRandom(SEED + w);
+                futures[w] = workers.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        final Operation operation = Operation.pick(random);
+                        final LatencyRecorder recorder = recorders.get(operation);
+                        final HttpRequest request = requestFor(operation, random);
+                        final long t0 = System.nanoTime();
+                        try {
+                            final HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 300) {
+                                recorder.recordError();
+                            } else {
+                                recorder.record(System.nanoTime() - t0);
+                            }
+                        } catch (IOException e) {
+                            recorder.recordError();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private HttpRequest requestFor(final Operation operation, final SplittableRandom random) {
+        final UUID clientId = clientIds.get(random.nextInt(clientIds.size()));
+        return switch (operation) {
+            case CREATE -> json(URI.create(base() + "/v1/clients/" + clientId + "/contracts"), "POST", """
+                    {"endDate": null, "costAmount": "%s"}
+                    """.formatted(amount(random)));
+            case LIST -> get(base() + "/v1/clients/" + clientId + "/contracts?page=0&size=20");
+            case SUM -> get(base() + "/v1/clients/" + clientId + "/contracts/sum");
+            case PATCH_COST -> {
+                final ActiveContract target = activeContracts.get(random.nextInt(activeContracts.size()));
+                yield json(URI.create(base() + "/v1/clients/" + target.clientId() + "/contracts/" + target.contractId() + "/cost"),
+                        "PATCH", "{\"amount\": \"%s\"}".formatted(amount(random)));
+            }
+            case READ_CLIENT -> get(base() + "/v1/clients/" + clientId);
+        };
+    }
+
+    private static String amount(final SplittableRandom random) {
+        return BigDecimal.valueOf(100 + random.nextInt(100_000), 2).toPlainString();
+    }
+
+    private static HttpRequest get(final String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static HttpRequest json(final URI uri, final String method, final String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String base() {
+        return "http://localhost:" + port;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mk.contractservice.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "app.persistence.adapter=jdbc")
+@DisplayName("Performance regression gate - contract workload (JDBC adapter)")
+class JdbcContractWorkloadPerfIT extends ContractWorkloadPerfIT {
+
+    @Override
+    protected String suiteName() {
+        return "workload.jdbc";
+    }
+}
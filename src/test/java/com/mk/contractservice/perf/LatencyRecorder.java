@@ -0,0 +1,57 @@
+package com.mk.contractservice.perf;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free recorder of per-operation latencies, sized up-front for the measured phase.
+ */
+final class LatencyRecorder {
+
+    private final long[] samplesNanos;
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicLong errors = new AtomicLong();
+
+    LatencyRecorder(final int capacity) {
+        this.samplesNanos = new long[capacity];
+    }
+
+    void record(final long nanos) {
+        final int index = count.getAndIncrement();
+        if (index < samplesNanos.length) {
+            samplesNanos[index] = nanos;
+        }
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    int count() {
+        return Math.min(count.get(), samplesNanos.length);
+    }
+
+    Snapshot snapshot(final long elapsedNanos) {
+        final int n = count();
+        final long[] sorted = Arrays.copyOf(samplesNanos, n);
+        Arrays.sort(sorted);
+        final double throughput = elapsedNanos == 0 ? 0 : n / (elapsedNanos / 1_000_000_000.0);
+        return new Snapshot(n, percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), throughput, errors.get());
+    }
+
+    private static double percentileMillis(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    record Snapshot(int samples, double p50Millis, double p99Millis, double throughputPerSecond, long errors) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.mk.contractservice.perf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Committed latency budgets for the perf suite, keyed by {@code <suite>.<operation>.<metric>}.
+ * <p>
+ * Latencies regress when they grow beyond {@code baseline * (1 + tolerance)}, throughput when it
+ * drops below {@code baseline * (1 - tolerance)}. Run with {@code -Dperf.updateBaseline=true} to
+ * rewrite the file from the current measurements.
+ */
+final class PerfBaseline {
+
+    static final Path BASELINE_FILE = Path.of(System.getProperty("perf.baseline", "src/test/resources/perf/baseline.properties"));
+    static final Path REPORT_DIR = Path.of(System.getProperty("perf.reportDir", "target/perf"));
+
+    private final Properties budgets;
+    private final double tolerance;
+
+    private PerfBaseline(final Properties budgets, final double tolerance) {
+        this.budgets = budgets;
+        this.tolerance = tolerance;
+    }
+
+    static PerfBaseline load() {
+        final Properties properties = new Properties();
+        if (Files.exists(BASELINE_FILE)) {
+            try (InputStream in = Files.newInputStream(BASELINE_FILE)) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new PerfBaseline(properties, Double.parseDouble(System.getProperty("perf.tolerance", "0.20")));
+    }
+
+    static boolean updateRequested() {
+        return Boolean.getBoolean("perf.updateBaseline");
+    }
+
+    List<String> regressions(final String suite, final Map<String, LatencyRecorder.Snapshot> results) {
+        final List<String> failures = new ArrayList<>();
+        results.forEach((operation, snapshot) -> {
+            final String prefix = suite + "." + operation;
+            checkUpperBound(prefix + ".p50.ms", snapshot.p50Millis(), failures);
+            checkUpperBound(prefix + ".p99.ms", snapshot.p99Millis(), failures);
+            checkLowerBound(prefix + ".throughput.rps", snapshot.throughputPerSecond(), failures);
+        });
+        return failures;
+    }
+
+    private void checkUpperBound(final String key, final double actual, final List<String> failures) {
+        final String budget = budgets.getProperty(key);
+        if (budget == null) {
+            return;
+        }
+        final double limit = Double.parseDouble(budget) * (1 + tolerance);
+        if (actual > limit) {
+            failures.add(String.format(Locale.ROOT, "%s = %.2f exceeds %.2f (baseline %s, tolerance %.0f%%)",
+                    key, actual, limit, budget, tolerance * 100));
+        }
+    }
+
+    private void checkLowerBound(final String key, final double actual, final List<String> failures) {
+        final String budget = budgets.getProperty(key);
+        if (budget == null) {
+            return;
+        }
+        final double limit = Double.parseDouble(budget) * (1 - tolerance);
+        if (actual < limit) {
+            failures.add(String.format(Locale.ROOT, "%s = %.2f is below %.2f (baseline %s, tolerance %.0f%%)",
+                    key, actual, limit, budget, tolerance * 100));
+        }
+    }
+
+    static void writeReport(final String suite, final Map<String, LatencyRecorder.Snapshot> results) {
+        publish(suite, toProperties(suite, results));
+    }
+
+    /**
+     * Publishes free-form measurements (sizes, rates) of a suite, keyed {@code <suite>.<name>}.
+     */
+    static void writeMeasurements(final String suite, final Map<String, Double> measurements) {
+        final Map<String, String> values = new TreeMap<>();
+        measurements.forEach((name, value) -> values.put(suite + "." + name, format(value)));
+        publish(suite, values);
+    }
+
+    private static void publish(final String suite, final Map<String, String> measured) {
+        store(REPORT_DIR.resolve(suite + ".properties"), measured, "Measured by " + suite);
+        if (updateRequested()) {
+            final Properties merged = new Properties();
+            if (Files.exists(BASELINE_FILE)) {
+                try (InputStream in = Files.newInputStream(BASELINE_FILE)) {
+                    merged.load(in);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            final Map<String, String> all = new TreeMap<>();
+            merged.stringPropertyNames().forEach(k -> all.put(k, merged.getProperty(k)));
+            all.putAll(measured);
+            store(BASELINE_FILE, all, "Perf baseline - regenerate with ./mvnw verify -Pperf -Dperf.updateBaseline=true");
+        }
+    }
+
+    private static Map<String, String> toProperties(final String suite, final Map<String, LatencyRecorder.Snapshot> results) {
+        final Map<String, String> values = new TreeMap<>();
+        results.forEach((operation, snapshot) -> {
+            final String prefix = suite + "." + operation;
+            values.put(prefix + ".p50.ms", format(snapshot.p50Millis()));
+            values.put(prefix + ".p99.ms", format(snapshot.p99Millis()));
+            values.put(prefix + ".throughput.rps", format(snapshot.throughputPerSecond()));
+        });
+        return values;
+    }
+
+    private static String format(final double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static void store(final Path file, final Map<String, String> values, final String comment) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            final StringBuilder content = new StringBuilder("# ").append(comment).append('\n');
+            values.forEach((k, v) -> content.append(k).append('=').append(v).append('\n'));
+            try (OutputStream out = Files.newOutputStream(file)) {
+                out.write(content.toString().getBytes(StandardCharsets.ISO_8859_1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
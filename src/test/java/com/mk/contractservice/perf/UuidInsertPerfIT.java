@@ -0,0 +1,114 @@
+package com.mk.contractservice.perf;
+
+import com.mk.contractservice.infrastructure.persistence.id.UuidV7;
+import com.mk.contractservice.integration.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Primary-key insert cost of random (v4) versus time-ordered (v7) UUIDs: loads the same number of rows into two
+ * identical tables with {@code COPY} and compares insert rate, primary-key index size and WAL volume.
+ * <p>
+ * Only runs with {@code ./mvnw verify -Pperf}; {@code -Dperf.uuid.rows} sets the row count (10M by default).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Performance - UUIDv4 vs UUIDv7 primary key inserts")
+class UuidInsertPerfIT {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidInsertPerfIT.class);
+
+    private static final int ROWS = Integer.getInteger("perf.uuid.rows", 10_000_000);
+    private static final int CHUNK = 100_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Time-ordered keys should produce a smaller index and less WAL than random keys")
+    void shouldInsertTimeOrderedKeysMoreCheaply() throws SQLException {
+        final Result random = load("uuid_v4", UUID::randomUUID);
+        final Result timeOrdered = load("uuid_v7", UuidV7::next);
+
+        final Map<String, Double> measurements = new LinkedHashMap<>();
+        random.into("v4", measurements);
+        timeOrdered.into("v7", measurements);
+        PerfBaseline.writeMeasurements("uuid.insert", measurements);
+        log.info("UUID insert benchmark ({} rows) - v4: {} / v7: {}", ROWS, random, timeOrdered);
+
+        assertThat(timeOrdered.indexBytes()).isLessThan(random.indexBytes());
+        assertThat(timeOrdered.walBytes()).isLessThan(random.walBytes());
+    }
+
+    private Result load(final String table, final Supplier<UUID> ids) throws SQLException {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS perf_" + table);
+        jdbcTemplate.execute("CREATE TABLE perf_" + table + " (id UUID PRIMARY KEY, payload INT NOT NULL)");
+        jdbcTemplate.execute("CHECKPOINT");
+
+        final String walStart = jdbcTemplate.queryForObject("SELECT pg_current_wal_insert_lsn()::text", String.class);
+        final long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            final CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+            final StringBuilder chunk = new StringBuilder(CHUNK * 48);
+            for (int loaded = 0; loaded < ROWS; loaded += CHUNK) {
+                chunk.setLength(0);
+                final int size = Math.min(CHUNK, ROWS - loaded);
+                for (int i = 0; i < size; i++) {
+                    chunk.append(ids.get()).append('\t').append(loaded + i).append('\n');
+                }
+                copy.copyIn("COPY perf_" + table + " (id, payload) FROM STDIN", new StringReader(chunk.toString()));
+            }
+        } catch (IOException e) {
+            throw new SQLException(e);
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+
+        final Long walBytes = jdbcTemplate.queryForObject(
+                "SELECT pg_wal_lsn_diff(pg_current_wal_insert_lsn(), ?::pg_lsn)::bigint", Long.class, walStart);
+        final Long indexBytes = jdbcTemplate.queryForObject(
+                "SELECT pg_relation_size('perf_" + table + "_pkey')", Long.class);
+        jdbcTemplate.execute("DROP TABLE perf_" + table);
+        return new Result(ROWS / seconds, indexBytes, walBytes);
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes, long walBytes) {
+
+        void into(final String prefix, final Map<String, Double> measurements) {
+            measurements.put(prefix + ".throughput.rps", rowsPerSecond);
+            measurements.put(prefix + ".index.mb", indexBytes / 1_048_576.0);
+            measurements.put(prefix + ".wal.mb", walBytes / 1_048_576.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%.0f rows/s, index %.1f MB, WAL %.1f MB",
+                    rowsPerSecond, indexBytes / 1_048_576.0, walBytes / 1_048_576.0);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.mk.contractservice.web.idempotency;
+
+import com.mk.contractservice.application.IdempotencyApplicationService;
+import com.mk.contractservice.application.idempotency.IdempotencyKeyReusedException;
+import com.mk.contractservice.application.idempotency.StoredResponse;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("IdempotencyFilter - Unit Tests")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"name\":\"Jane\"}";
+
+    @Mock
+    private IdempotencyApplicationService idempotencyService;
+
+    @Mock
+    private HandlerExceptionResolver exceptionResolver;
+
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(idempotencyService, exceptionResolver);
+    }
+
+    @Test
+    @DisplayName("GIVEN a new key WHEN a create request passes THEN it is executed once, with its body, and its response sent")
+    void shouldExecuteAndCaptureResponse() throws Exception {
+        when(idempotencyService.execute(eq("key-1"), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<StoredResponse>>getArgument(2).get());
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final EchoServlet servlet = new EchoServlet();
+
+        filter.doFilter(post("/v1/clients/persons", "key-1"), response, new MockFilterChain(servlet));
+
+        assertThat(servlet.received).isEqualTo(BODY);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader("Location")).isEqualTo("/v1/clients/1");
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED)).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN a completed key WHEN the request is retried THEN the stored response is replayed without running it")
+    void shouldReplayStoredResponse() throws Exception {
+        when(idempotencyService.execute(eq("key-1"), any(), any())).thenReturn(new StoredResponse(201,
+                Map.of("Location", "/v1/clients/1"), "{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final EchoServlet servlet = new EchoServlet();
+
+        filter.doFilter(post("/v1/clients/persons", "key-1"), response, new MockFilterChain(servlet));
+
+        assertThat(servlet.received).isNull();
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader("Location")).isEqualTo("/v1/clients/1");
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("GIVEN the same key and body on two endpoints WHEN filtered THEN their fingerprints differ")
+    void shouldFingerprintPathAndBody() throws Exception {
+        final ArgumentCaptor<String> fingerprints = ArgumentCaptor.forClass(String.class);
+        when(idempotencyService.execute(eq("key-1"), fingerprints.capture(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<StoredResponse>>getArgument(2).get());
+
+        filter.doFilter(post("/v1/clients/persons", "key-1"), new MockHttpServletResponse(), new MockFilterChain(new EchoServlet()));
+        filter.doFilter(post("/v1/clients/persons", "key-1"), new MockHttpServletResponse(), new MockFilterChain(new EchoServlet()));
+        filter.doFilter(post("/v1/clients/companies", "key-1"), new MockHttpServletResponse(), new MockFilterChain(new EchoServlet()));
+
+        assertThat(fingerprints.getAllValues()).hasSize(3);
+        assertThat(fingerprints.getAllValues().get(0)).isEqualTo(fingerprints.getAllValues().get(1))
+                .isNotEqualTo(fingerprints.getAllValues().get(2));
+    }
+
+    @Test
+    @DisplayName("GIVEN a reused key WHEN filtered THEN the exception is resolved into a problem response")
+    void shouldResolveReusedKey() throws Exception {
+        final IdempotencyKeyReusedException reused = new IdempotencyKeyReusedException("key-1");
+        when(idempotencyService.execute(eq("key-1"), any(), any())).thenThrow(reused);
+        final MockHttpServletRequest request = post("/v1/clients/persons", "key-1");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new EchoServlet()));
+
+        verify(exceptionResolver).resolveException(request, response, null, reused);
+    }
+
+    @Test
+    @DisplayName("GIVEN an oversized key WHEN filtered THEN it is rejected as a bad request")
+    void shouldRejectOversizedKey() throws Exception {
+        final MockHttpServletRequest request = post("/v1/clients/persons", "k".repeat(256));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new EchoServlet()));
+
+        verify(exceptionResolver).resolveException(eq(request), any(), isNull(), any(IllegalArgumentException.class));
+        verify(idempotencyService, never()).execute(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GIVEN requests without a key, other methods or other paths WHEN filtered THEN they pass through")
+    void shouldIgnoreOtherRequests() throws Exception {
+        final MockHttpServletRequest withoutKey = post("/v1/clients/persons", null);
+        final MockHttpServletRequest get = post("/v1/clients/persons", "key-1");
+        get.setMethod("GET");
+        final MockHttpServletRequest batch = post("/v1/contracts/batch", "key-1");
+
+        for (final MockHttpServletRequest request : new MockHttpServletRequest[]{withoutKey, get, batch}) {
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain(new EchoServlet()));
+            assertThat(response.getStatus()).isEqualTo(201);
+        }
+        verify(idempotencyService, never()).execute(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GIVEN a contract creation path WHEN filtered THEN it is covered")
+    void shouldCoverContractCreation() throws Exception {
+        when(idempotencyService.execute(eq("key-1"), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<StoredResponse>>getArgument(2).get());
+
+        filter.doFilter(post("/v1/clients/00000000-0000-0000-0000-000000000001/contracts", "key-1"),
+                new MockHttpServletResponse(), new MockFilterChain(new EchoServlet()));
+
+        verify(idempotencyService).execute(eq("key-1"), any(), any());
+    }
+
+    @Test
+    @DisplayName("GIVEN a replayable request WHEN its body is read without blocking THEN the listener gets all of it")
+    void shouldServeBodyToReadListener() throws Exception {
+        when(idempotencyService.execute(eq("key-1"), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<StoredResponse>>getArgument(2).get());
+        final StringBuilder received = new StringBuilder();
+        final boolean[] allRead = new boolean[1];
+        final HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+                final ServletInputStream in = request.getInputStream();
+                in.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        received.append(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        allRead[0] = true;
+                    }
+
+                    @Override
+                    public void onError(final Throwable t) {
+                        throw new AssertionError(t);
+                    }
+                });
+                response.setStatus(201);
+            }
+        };
+
+        filter.doFilter(post("/v1/clients/persons", "key-1"), new MockHttpServletResponse(), new MockFilterChain(servlet));
+
+        assertThat(received).hasToString(BODY);
+        assertThat(allRead[0]).isTrue();
+    }
+
+    private static MockHttpServletRequest post(final String path, final String key) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setContentType("application/json");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        }
+        return request;
+    }
+
+    /**
+     * Answers 201 with the request body, like a create endpoint echoing its resource.
+     */
+    private static final class EchoServlet extends HttpServlet {
+
+        private String received;
+
+        @Override
+        protected void service(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+            received = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            response.setStatus(201);
+            response.setHeader("Location", "/v1/clients/1");
+            response.setContentType("application/json");
+            response.getOutputStream().write(received.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.mk.contractservice.web.stream;
+
+import com.mk.contractservice.application.ChangeFeedApplicationService;
+import com.mk.contractservice.application.ContractApplicationService;
+import com.mk.contractservice.application.feed.Change;
+import com.mk.contractservice.application.feed.ChangeCursorExpiredException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ContractEventBroadcaster - Unit Tests")
+class ContractEventBroadcasterTest {
+
+    private static final UUID CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID OTHER_CLIENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Mock
+    private ChangeFeedApplicationService changeFeedService;
+
+    @Mock
+    private ContractApplicationService contractService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ContractEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new ContractEventBroadcaster(changeFeedService, contractService, 8, OverflowPolicy.COALESCE,
+                Duration.ofMinutes(1), meterRegistry);
+        when(contractService.sumActiveContracts(any())).thenReturn(new BigDecimal("10.00"));
+        when(contractService.recomputeActiveContractsSum(any())).thenReturn(new BigDecimal("20.00"));
+        when(changeFeedService.poll(anyLong(), anyInt(), any())).thenReturn(new CompletableFuture<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster.isRunning()) {
+            broadcaster.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN a new subscriber WHEN it subscribes THEN it is counted and sent the current sum")
+    void shouldSendCurrentSumOnSubscribe() {
+        broadcaster.subscribe(CLIENT_ID);
+
+        assertThat(broadcaster.subscribers()).isEqualTo(1);
+        assertThat(meterRegistry.get("contracts.stream.subscribers").gauge().value()).isEqualTo(1);
+        verify(contractService).sumActiveContracts(CLIENT_ID);
+    }
+
+    @Test
+    @DisplayName("GIVEN subscribers of one client WHEN the feed carries its contract changes THEN the sum is recomputed once per batch, bypassing the cache")
+    void shouldRecomputeSumOncePerBatch() {
+        broadcaster.subscribe(CLIENT_ID);
+        broadcaster.subscribe(CLIENT_ID);
+        when(changeFeedService.head()).thenReturn(5L);
+        when(changeFeedService.poll(eq(5L), anyInt(), any())).thenReturn(CompletableFuture.completedFuture(List.of(
+                change(6, CLIENT_ID, "ContractCreated"),
+                change(7, OTHER_CLIENT_ID, "ContractCreated"),
+                change(8, CLIENT_ID, "ContractCostChanged"))));
+
+        broadcaster.start();
+
+        verify(changeFeedService, timeout(5_000)).poll(eq(8L), anyInt(), any());
+        verify(contractService, times(2)).sumActiveContracts(CLIENT_ID);
+        verify(contractService, times(1)).recomputeActiveContractsSum(CLIENT_ID);
+        verify(contractService, never()).recomputeActiveContractsSum(OTHER_CLIENT_ID);
+    }
+
+    @Test
+    @DisplayName("GIVEN a client deletion in the feed WHEN dispatched THEN no sum is recomputed for that client")
+    void shouldNotRecomputeSumOfDeletedClient() {
+        broadcaster.subscribe(CLIENT_ID);
+        when(changeFeedService.head()).thenReturn(0L);
+        when(changeFeedService.poll(eq(0L), anyInt(), any())).thenReturn(CompletableFuture.completedFuture(List.of(
+                change(1, CLIENT_ID, "ContractsClosed"),
+                change(2, CLIENT_ID, "ClientDeleted"))));
+
+        broadcaster.start();
+
+        verify(changeFeedService, timeout(5_000)).poll(eq(2L), anyInt(), any());
+        verify(contractService, times(1)).sumActiveContracts(CLIENT_ID);
+        verify(contractService, never()).recomputeActiveContractsSum(any());
+    }
+
+    @Test
+    @DisplayName("GIVEN the follower fell behind the feed retention WHEN polling fails with an expired cursor THEN it resumes from the head")
+    void shouldResumeFromHeadWhenCursorExpired() {
+        when(changeFeedService.head()).thenReturn(3L, 40L);
+        when(changeFeedService.poll(eq(3L), anyInt(), any())).thenThrow(new ChangeCursorExpiredException(3, 10));
+
+        broadcaster.start();
+
+        verify(changeFeedService, timeout(5_000)).poll(eq(40L), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("GIVEN the feed is unavailable WHEN following THEN the follower retries instead of dying")
+    void shouldRetryWhenFeedFails() {
+        when(changeFeedService.head()).thenThrow(new IllegalStateException("database down")).thenReturn(1L);
+
+        broadcaster.start();
+
+        verify(changeFeedService, timeout(5_000)).poll(eq(1L), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("GIVEN a sum that cannot be computed WHEN subscribing THEN the stream is still opened")
+    void shouldOpenStreamWhenSumFails() {
+        when(contractService.sumActiveContracts(CLIENT_ID)).thenThrow(new IllegalStateException("database down"));
+
+        assertThat(broadcaster.subscribe(CLIENT_ID)).isNotNull();
+        broadcaster.heartbeat();
+
+        assertThat(broadcaster.subscribers()).isEqualTo(1);
+    }
+
+    private static Change change(final long sequence, final UUID clientId, final String type) {
+        return new Change(sequence, UUID.randomUUID(), type, clientId, LocalDateTime.now(), "{}");
+    }
+}
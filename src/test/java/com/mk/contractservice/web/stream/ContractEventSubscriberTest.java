@@ -0,0 +1,165 @@
+package com.mk.contractservice.web.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContractEventSubscriber - Unit Tests")
+class ContractEventSubscriberTest {
+
+    @Test
+    @DisplayName("GIVEN a fast subscriber WHEN events and sums are offered THEN all events and the latest sum are sent in order")
+    void shouldSendEventsThenLatestSum() throws InterruptedException {
+        final RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(0));
+        final ContractEventSubscriber subscriber = new ContractEventSubscriber(emitter, 8, OverflowPolicy.COALESCE,
+                lost -> { });
+
+        subscriber.offer(frame("1", "contract-created"));
+        subscriber.offer(frame("2", "contract-cost-changed"));
+        subscriber.offer(sum("30.00"));
+
+        emitter.awaitSent(3);
+        assertThat(emitter.sent).containsExactly("contract-created", "contract-cost-changed", "sum");
+    }
+
+    @Test
+    @DisplayName("GIVEN a stalled subscriber with COALESCE WHEN its buffer overflows THEN buffered events collapse into one resync")
+    void shouldCoalesceIntoResyncOnOverflow() throws InterruptedException {
+        final CountDownLatch stalled = new CountDownLatch(1);
+        final RecordingEmitter emitter = new RecordingEmitter(stalled);
+        final AtomicInteger dropped = new AtomicInteger();
+        final ContractEventSubscriber subscriber = new ContractEventSubscriber(emitter, 2, OverflowPolicy.COALESCE,
+                dropped::addAndGet);
+
+        subscriber.offer(frame("1", "contract-created"));
+        emitter.awaitStarted();
+        subscriber.offer(frame("2", "contract-created"));
+        subscriber.offer(frame("3", "contract-created"));
+        subscriber.offer(frame("4", "contract-cost-changed"));
+        subscriber.offer(sum("10.00"));
+        subscriber.offer(sum("20.00"));
+        stalled.countDown();
+
+        emitter.awaitSent(4);
+        assertThat(emitter.sent).containsExactly("contract-created", "resync", "contract-cost-changed", "sum");
+        assertThat(emitter.data.getLast()).isEqualTo("20.00");
+        assertThat(dropped).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN a stalled subscriber with DROP_OLDEST WHEN its buffer overflows THEN the oldest buffered events are dropped")
+    void shouldDropOldestOnOverflow() throws InterruptedException {
+        final CountDownLatch stalled = new CountDownLatch(1);
+        final RecordingEmitter emitter = new RecordingEmitter(stalled);
+        final AtomicInteger dropped = new AtomicInteger();
+        final ContractEventSubscriber subscriber = new ContractEventSubscriber(emitter, 2, OverflowPolicy.DROP_OLDEST,
+                dropped::addAndGet);
+
+        subscriber.offer(frame("1", "contract-created"));
+        emitter.awaitStarted();
+        subscriber.offer(frame("2", "contract-created"));
+        subscriber.offer(frame("3", "contract-cost-changed"));
+        subscriber.offer(frame("4", "contracts-closed"));
+        stalled.countDown();
+
+        emitter.awaitSent(3);
+        assertThat(emitter.sent).containsExactly("contract-created", "contract-cost-changed", "contracts-closed");
+        assertThat(dropped).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN a subscriber whose connection failed WHEN more events are offered THEN nothing more is sent")
+    void shouldStopAfterFailedSend() throws InterruptedException {
+        final RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(0));
+        emitter.failing = true;
+        final ContractEventSubscriber subscriber = new ContractEventSubscriber(emitter, 8, OverflowPolicy.COALESCE,
+                lost -> { });
+
+        subscriber.offer(frame("1", "contract-created"));
+        emitter.awaitAttempts(1);
+        subscriber.offer(frame("2", "contract-created"));
+        subscriber.heartbeat();
+
+        Thread.sleep(200);
+        assertThat(emitter.attempts).hasValue(1);
+    }
+
+    private static ContractEventSubscriber.Frame frame(final String id, final String name) {
+        return new ContractEventSubscriber.Frame(id, name, "{}");
+    }
+
+    private static ContractEventSubscriber.Frame sum(final String value) {
+        return new ContractEventSubscriber.Frame(null, ContractEventSubscriber.SUM, value);
+    }
+
+    /**
+     * Records event names instead of writing them; the first send blocks until {@code release} opens.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        final List<String> data = new CopyOnWriteArrayList<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release;
+        volatile boolean failing;
+
+        RecordingEmitter(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(final SseEventBuilder builder) throws IOException {
+            attempts.incrementAndGet();
+            started.countDown();
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final String frame = builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .reduce("", String::concat);
+            sent.add(frame.lines()
+                    .filter(line -> line.startsWith("event:"))
+                    .map(line -> line.substring("event:".length()))
+                    .findFirst()
+                    .orElse("comment"));
+            data.add(frame.lines()
+                    .filter(line -> line.startsWith("data:"))
+                    .map(line -> line.substring("data:".length()))
+                    .findFirst()
+                    .orElse(""));
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void awaitSent(final int count) throws InterruptedException {
+            for (int i = 0; i < 50 && sent.size() < count; i++) {
+                Thread.sleep(100);
+            }
+            assertThat(sent).hasSize(count);
+        }
+
+        void awaitAttempts(final int count) throws InterruptedException {
+            for (int i = 0; i < 50 && attempts.get() < count; i++) {
+                Thread.sleep(100);
+            }
+            assertThat(attempts).hasValue(count);
+        }
+    }
+}